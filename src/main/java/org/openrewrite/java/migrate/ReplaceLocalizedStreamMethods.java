@@ -21,10 +21,12 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Option;
+import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 
 @EqualsAndHashCode(callSuper = false)
@@ -60,7 +62,7 @@ public class ReplaceLocalizedStreamMethods extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new JavaVisitor<ExecutionContext>() {
+        return Preconditions.check(Preconditions.or(new UsesMethod<>(localizedInputStreamMethodMatcher), new UsesMethod<>(localizedOutputStreamMethodMatcher)), new JavaVisitor<ExecutionContext>() {
             private final MethodMatcher LocalizedInputStreamMethod = new MethodMatcher(localizedInputStreamMethodMatcher, false);
             private final MethodMatcher localizedOutputStreamMethod = new MethodMatcher(localizedOutputStreamMethodMatcher, false);
 
@@ -71,6 +73,6 @@ public class ReplaceLocalizedStreamMethods extends Recipe {
                 }
                 return super.visitMethodInvocation(mi, ctx);
             }
-        };
+        });
     }
 }
@@ -0,0 +1,566 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class MigrateTimerToScheduledExecutorService extends Recipe {
+    private static final String TIMER = "java.util.Timer";
+    private static final String TIMER_TASK = "java.util.TimerTask";
+    private static final String SCHEDULED_THREAD_POOL_EXECUTOR = "java.util.concurrent.ScheduledThreadPoolExecutor";
+    private static final String SCHEDULED_FUTURE = "java.util.concurrent.ScheduledFuture";
+    private static final String TIME_UNIT = "java.util.concurrent.TimeUnit";
+    private static final JavaType.FullyQualified SCHEDULED_THREAD_POOL_EXECUTOR_TYPE = JavaType.ShallowClass.build(SCHEDULED_THREAD_POOL_EXECUTOR);
+    private static final JavaType.FullyQualified SCHEDULED_FUTURE_TYPE = JavaType.ShallowClass.build(SCHEDULED_FUTURE);
+    private static final JavaType.FullyQualified RUNNABLE_TYPE = JavaType.ShallowClass.build("java.lang.Runnable");
+    private static final String TIMER_USES = "TIMER_USES";
+
+    @Option(displayName = "Use virtual threads",
+            description = "Run the tasks on a virtual thread on Java 21 or higher, instead of on a platform thread. As virtual " +
+                          "threads are daemon threads, a scheduler then no longer keeps the JVM running. The default value is false.",
+            example = "true",
+            required = false)
+    @Nullable
+    Boolean useVirtualThreads;
+
+    String displayName = "Use a `ScheduledExecutorService` instead of a `java.util.Timer`";
+
+    String description = "Replace private `java.util.Timer` fields with a single threaded `ScheduledThreadPoolExecutor`. A `Timer` " +
+            "runs all of its tasks on one thread, which dies for good when one of the tasks throws an exception, whereas an " +
+            "executor only stops running the failing task. Calls to `schedule` and `scheduleAtFixedRate` with a delay in " +
+            "milliseconds become `schedule`, `scheduleWithFixedDelay` and `scheduleAtFixedRate` with `TimeUnit.MILLISECONDS`, " +
+            "and `cancel()` discards the delayed tasks and calls `shutdown()`, which lets a running task finish instead of " +
+            "interrupting it, like `Timer#cancel()` does. Anonymous `TimerTask`s and private `TimerTask` subclasses become " +
+            "`Runnable`s, and private `TimerTask` fields that are cancelled hold the `ScheduledFuture` of the task instead. " +
+            "Named or daemon timers are only migrated on Java 21 or higher, where their threads are created with a " +
+            "`Thread.Builder`. Timers that are used in any other way, for instance to schedule at a `Date`, are left as is.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>(TIMER, false), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                boolean java21 = cu.getMarkers().findFirst(JavaVersion.class).filter(v -> v.getMajorVersion() >= 21).isPresent();
+                TimerUses uses = new TimerUses(java21, java21 && Boolean.TRUE.equals(useVirtualThreads));
+                new FindTimerDeclarations().visit(cu, uses);
+                if (uses.timers.isEmpty()) {
+                    return cu;
+                }
+                new ClassifyTimerUses().visit(cu, uses);
+                uses.resolve();
+                if (uses.timers.values().stream().allMatch(timer -> timer.disqualified)) {
+                    return cu;
+                }
+                getCursor().putMessage(TIMER_USES, uses);
+                return super.visitCompilationUnit(cu, ctx);
+            }
+
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                JLeftPadded<TypeTree> extendings = cd.getPadding().getExtends();
+                if (cd.getType() == null || extendings == null ||
+                    !uses().isConverted(uses().taskClasses, cd.getType().getFullyQualifiedName())) {
+                    return cd;
+                }
+                maybeRemoveImport(TIMER_TASK);
+                J.Identifier runnable = new J.Identifier(Tree.randomId(), extendings.getElement().getPrefix(), Markers.EMPTY,
+                        emptyList(), RUNNABLE_TYPE.getClassName(), RUNNABLE_TYPE, null);
+                return cd.getPadding().withExtends(null).getPadding().withImplements(
+                        JContainer.build(extendings.getBefore(), singletonList(JRightPadded.<TypeTree>build(runnable)), Markers.EMPTY));
+            }
+
+            @Override
+            public J visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.VariableDeclarations.NamedVariable variable = multiVariable.getVariables().get(0);
+                String key = WaitNotify.key(variable.getVariableType());
+                if (uses().isConverted(uses().futures, key)) {
+                    StringJoiner modifiers = new StringJoiner(" ");
+                    for (J.Modifier modifier : multiVariable.getModifiers()) {
+                        modifiers.add(modifier.getType().name().toLowerCase(Locale.ROOT));
+                    }
+                    maybeAddImport(SCHEDULED_FUTURE);
+                    maybeRemoveImport(TIMER_TASK);
+                    return JavaTemplate.builder(modifiers + " ScheduledFuture<?> " + variable.getSimpleName() + ";")
+                            .imports(SCHEDULED_FUTURE)
+                            .build()
+                            .apply(getCursor(), multiVariable.getCoordinates().replace());
+                }
+
+                J.VariableDeclarations vd = (J.VariableDeclarations) super.visitVariableDeclarations(multiVariable, ctx);
+                if (!uses().isConverted(uses().timers, key) || vd.getTypeExpression() == null) {
+                    return vd;
+                }
+                maybeAddImport(SCHEDULED_THREAD_POOL_EXECUTOR);
+                maybeRemoveImport(TIMER);
+                return vd
+                        .withTypeExpression(new J.Identifier(Tree.randomId(), vd.getTypeExpression().getPrefix(), Markers.EMPTY,
+                                emptyList(), SCHEDULED_THREAD_POOL_EXECUTOR_TYPE.getClassName(), SCHEDULED_THREAD_POOL_EXECUTOR_TYPE, null))
+                        .withVariables(singletonList(vd.getVariables().get(0).withType(SCHEDULED_THREAD_POOL_EXECUTOR_TYPE)));
+            }
+
+            @Override
+            public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                J.NewClass nc = (J.NewClass) super.visitNewClass(newClass, ctx);
+                TimerUses uses = uses();
+                if (uses.isConverted(uses.anonymousTasks, newClass.getId()) && nc.getClazz() != null) {
+                    maybeRemoveImport(TIMER_TASK);
+                    return nc.withClazz(new J.Identifier(Tree.randomId(), nc.getClazz().getPrefix(), Markers.EMPTY,
+                            emptyList(), RUNNABLE_TYPE.getClassName(), RUNNABLE_TYPE, null));
+                } else if (uses.isConverted(uses.timerCreations, newClass.getId())) {
+                    List<Expression> parameters = new ArrayList<>();
+                    String threadFactory = Objects.requireNonNull(threadFactory(nc, uses, parameters));
+                    maybeAddImport(SCHEDULED_THREAD_POOL_EXECUTOR);
+                    return JavaTemplate.builder("new ScheduledThreadPoolExecutor(1" + (threadFactory.isEmpty() ? "" : ", " + threadFactory) + ")")
+                            .imports(SCHEDULED_THREAD_POOL_EXECUTOR)
+                            .build()
+                            .apply(getCursor(), nc.getCoordinates().replace(), parameters.toArray());
+                }
+                return nc;
+            }
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                String key = WaitNotify.key(mi.getSelect());
+                if (mi.getSelect() == null || key == null) {
+                    return mi;
+                }
+
+                if (uses().isConverted(uses().futures, key) && "cancel".equals(mi.getSimpleName())) {
+                    return JavaTemplate.apply("#{any(" + SCHEDULED_FUTURE + ")}.cancel(false)", getCursor(),
+                            mi.getCoordinates().replace(), WaitNotify.retype(mi.getSelect(), SCHEDULED_FUTURE_TYPE));
+                } else if (!uses().isConverted(uses().timers, key)) {
+                    return mi;
+                }
+
+                if ("cancel".equals(mi.getSimpleName())) {
+                    // Replaced with two statements by the enclosing block
+                    return mi;
+                }
+
+                Expression executor = WaitNotify.retype(mi.getSelect(), SCHEDULED_THREAD_POOL_EXECUTOR_TYPE);
+                String any = "#{any(" + SCHEDULED_THREAD_POOL_EXECUTOR + ")}";
+                List<Expression> arguments = mi.getArguments();
+                String schedule = "scheduleAtFixedRate".equals(mi.getSimpleName()) ? "scheduleAtFixedRate" :
+                        arguments.size() == 3 ? "scheduleWithFixedDelay" : "schedule";
+                maybeAddImport(TIME_UNIT);
+                return JavaTemplate.builder(any + "." + schedule + "(#{any(java.lang.Runnable)}, #{any(long)}, " +
+                                            (arguments.size() == 3 ? "#{any(long)}, " : "") + "TimeUnit.MILLISECONDS)")
+                        .imports(TIME_UNIT)
+                        .build()
+                        .apply(getCursor(), mi.getCoordinates().replace(), ListUtils.insert(arguments, executor, 0).toArray());
+            }
+
+            @Override
+            public J visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = (J.Block) super.visitBlock(block, ctx);
+                TimerUses uses = getCursor().getNearestMessage(TIMER_USES);
+                if (uses == null) {
+                    return b;
+                }
+
+                // Unlike `shutdownNow()`, `shutdown()` does not interrupt a running task, but it runs the delayed
+                // tasks unless the executor is told to discard them first
+                for (Statement statement : new ArrayList<>(b.getStatements())) {
+                    if (statement instanceof J.MethodInvocation && "cancel".equals(((J.MethodInvocation) statement).getSimpleName()) &&
+                        uses.isConverted(uses.timers, WaitNotify.key(((J.MethodInvocation) statement).getSelect()))) {
+                        Expression executor = WaitNotify.retype(((J.MethodInvocation) statement).getSelect(), SCHEDULED_THREAD_POOL_EXECUTOR_TYPE);
+                        String any = "#{any(" + SCHEDULED_THREAD_POOL_EXECUTOR + ")}";
+                        b = JavaTemplate.apply(any + ".setExecuteExistingDelayedTasksAfterShutdownPolicy(false);\n" + any + ".shutdown();",
+                                new Cursor(getCursor().getParentOrThrow(), b), statement.getCoordinates().replace(), executor, executor.withId(Tree.randomId()));
+                    }
+                }
+
+                // Assign the future of a task that is scheduled right after it is assigned to a field
+                List<Statement> statements = new ArrayList<>(b.getStatements());
+                for (int i = 0; i < statements.size() - 1; i++) {
+                    if (!(statements.get(i) instanceof J.Assignment) || !(statements.get(i + 1) instanceof J.MethodInvocation)) {
+                        continue;
+                    }
+                    J.Assignment assignment = (J.Assignment) statements.get(i);
+                    J.MethodInvocation schedule = (J.MethodInvocation) statements.get(i + 1);
+                    String future = WaitNotify.key(assignment.getVariable());
+                    if (future != null && uses.isConverted(uses.futures, future) &&
+                        future.equals(WaitNotify.key(schedule.getArguments().get(0)))) {
+                        Expression task = assignment.getAssignment();
+                        statements.set(i, assignment
+                                .withAssignment(schedule
+                                        .withArguments(ListUtils.mapFirst(schedule.getArguments(), arg -> task.withPrefix(arg.getPrefix())))
+                                        .withPrefix(task.getPrefix()))
+                                .withType(SCHEDULED_FUTURE_TYPE));
+                        statements.remove(i + 1);
+                    }
+                }
+                return b.withStatements(statements);
+            }
+
+            private TimerUses uses() {
+                return getCursor().getNearestMessageOrThrow(TIMER_USES);
+            }
+        });
+    }
+
+    /**
+     * The thread factory to pass to the `ScheduledThreadPoolExecutor`, for a `Timer` that is created with
+     * a name or as a daemon thread, or `null` if the thread cannot be created the same way.
+     */
+    private static @Nullable String threadFactory(J.NewClass newTimer, TimerUses uses, List<Expression> parameters) {
+        Expression name = null;
+        Expression daemon = null;
+        for (Expression argument : newTimer.getArguments()) {
+            if (argument.getType() == JavaType.Primitive.Boolean) {
+                daemon = argument;
+            } else if (!(argument instanceof J.Empty)) {
+                name = argument;
+            }
+        }
+
+        if (uses.virtual) {
+            // Virtual threads are always daemon threads
+            if (name == null) {
+                return "Thread.ofVirtual().factory()";
+            }
+            parameters.add(name);
+            return "Thread.ofVirtual().name(#{any(java.lang.String)}).factory()";
+        }
+        boolean platformDaemon = daemon != null && !isBooleanLiteral(daemon, false);
+        if (name == null && !platformDaemon) {
+            return "";
+        } else if (!uses.java21) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder("Thread.ofPlatform()");
+        if (name != null) {
+            builder.append(".name(#{any(java.lang.String)})");
+            parameters.add(name);
+        }
+        if (platformDaemon && isBooleanLiteral(daemon, true)) {
+            builder.append(".daemon()");
+        } else if (platformDaemon) {
+            builder.append(".daemon(#{any(boolean)})");
+            parameters.add(daemon);
+        }
+        return builder.append(".factory()").toString();
+    }
+
+    private static boolean isBooleanLiteral(@Nullable Expression expression, boolean value) {
+        return expression instanceof J.Literal && Boolean.valueOf(value).equals(((J.Literal) expression).getValue());
+    }
+
+    private static boolean isNull(@Nullable Expression expression) {
+        return expression instanceof J.Literal && ((J.Literal) expression).getType() == JavaType.Primitive.Null;
+    }
+
+    /**
+     * Whether a task calls `cancel()` or `scheduledExecutionTime()` on itself, which a `Runnable` does not have.
+     */
+    private static boolean usesTimerTaskMethods(J tree) {
+        AtomicBoolean found = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean f) {
+                if (method.getMethodType() != null && TypeUtils.isOfClassType(method.getMethodType().getDeclaringType(), TIMER_TASK) &&
+                    WaitNotify.isThis(method.getSelect())) {
+                    f.set(true);
+                }
+                return super.visitMethodInvocation(method, f);
+            }
+        }.visit(tree, found);
+        return found.get();
+    }
+
+    /**
+     * A timer, `TimerTask` field or `TimerTask` subclass that is converted. As they are used together, they are only
+     * converted together, so a node that cannot be converted disqualifies all nodes that it is linked to.
+     */
+    private static class Node {
+        final Set<Node> linked = new HashSet<>();
+        boolean disqualified;
+
+        void link(Node other) {
+            linked.add(other);
+            other.linked.add(this);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class TimerUses {
+        final boolean java21;
+        final boolean virtual;
+        final Map<String, Node> timers = new HashMap<>();
+        final Map<String, Node> futures = new HashMap<>();
+        final Map<String, Node> taskClasses = new HashMap<>();
+        final Map<UUID, Node> anonymousTasks = new HashMap<>();
+        final Map<UUID, Node> timerCreations = new HashMap<>();
+
+        boolean isConverted(Map<?, Node> nodes, @Nullable Object key) {
+            Node node = key == null ? null : nodes.get(key);
+            return node != null && !node.disqualified;
+        }
+
+        /**
+         * Whether the expression creates a timer, or clears the field.
+         */
+        boolean creates(Expression expression, Node timer) {
+            if (isNull(expression)) {
+                return true;
+            } else if (!(expression instanceof J.NewClass) || ((J.NewClass) expression).getBody() != null ||
+                       !TypeUtils.isOfClassType(expression.getType(), TIMER) ||
+                       threadFactory((J.NewClass) expression, this, new ArrayList<>()) == null) {
+                return false;
+            }
+            timerCreations.put(expression.getId(), timer);
+            return true;
+        }
+
+        /**
+         * Whether the expression creates a task that can be converted into a `Runnable`, along with the timer or
+         * `TimerTask` field that it is scheduled through.
+         */
+        boolean createsTask(Expression task, Node owner) {
+            if (!(task instanceof J.NewClass)) {
+                return false;
+            }
+            J.NewClass newClass = (J.NewClass) task;
+            if (newClass.getBody() != null) {
+                if (newClass.getClazz() == null || !TypeUtils.isOfClassType(newClass.getClazz().getType(), TIMER_TASK) ||
+                    usesTimerTaskMethods(newClass.getBody())) {
+                    return false;
+                }
+                anonymousTasks.put(newClass.getId(), owner);
+                return true;
+            }
+            Node taskClass = newClass.getType() instanceof JavaType.FullyQualified ?
+                    taskClasses.get(((JavaType.FullyQualified) newClass.getType()).getFullyQualifiedName()) : null;
+            if (taskClass == null) {
+                return false;
+            }
+            owner.link(taskClass);
+            return true;
+        }
+
+        void resolve() {
+            Deque<Node> disqualified = new ArrayDeque<>();
+            for (Map<String, Node> nodes : Arrays.asList(timers, futures, taskClasses)) {
+                for (Node node : nodes.values()) {
+                    // A field or class that is not scheduled through any timer has nothing to be converted to
+                    node.disqualified |= nodes != timers && node.linked.isEmpty();
+                    if (node.disqualified) {
+                        disqualified.add(node);
+                    }
+                }
+            }
+            while (!disqualified.isEmpty()) {
+                for (Node linked : disqualified.pop().linked) {
+                    if (!linked.disqualified) {
+                        linked.disqualified = true;
+                        disqualified.add(linked);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Private `Timer` and `TimerTask` fields and private `TimerTask` subclasses, which can only be used in this
+     * compilation unit.
+     */
+    private static class FindTimerDeclarations extends JavaIsoVisitor<TimerUses> {
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, TimerUses uses) {
+            J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, uses);
+            if (cd.getType() != null && cd.getExtends() != null && TypeUtils.isOfClassType(cd.getExtends().getType(), TIMER_TASK)) {
+                Node taskClass = new Node();
+                taskClass.disqualified = !cd.hasModifier(J.Modifier.Type.Private) || cd.getImplements() != null ||
+                                         usesTimerTaskMethods(cd.getBody());
+                uses.taskClasses.put(cd.getType().getFullyQualifiedName(), taskClass);
+            }
+            return cd;
+        }
+
+        @Override
+        public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, TimerUses uses) {
+            J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, uses);
+            J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+            String key = WaitNotify.key(variable.getVariableType());
+            if (key == null) {
+                return vd;
+            }
+            boolean eligible = vd.getVariables().size() == 1 && vd.hasModifier(J.Modifier.Type.Private) &&
+                               vd.getLeadingAnnotations().isEmpty() && vd.getTypeExpression() != null;
+            if (TypeUtils.isOfClassType(vd.getType(), TIMER)) {
+                Node timer = new Node();
+                timer.disqualified = !eligible || variable.getInitializer() != null && !uses.creates(variable.getInitializer(), timer);
+                uses.timers.put(key, timer);
+            } else if (TypeUtils.isAssignableTo(TIMER_TASK, vd.getType())) {
+                Node future = new Node();
+                future.disqualified = !eligible || variable.getInitializer() != null && !isNull(variable.getInitializer());
+                uses.futures.put(key, future);
+            }
+            return vd;
+        }
+    }
+
+    /**
+     * Disqualifies timers and `TimerTask` fields that are used in any other way than the ones that have an
+     * equivalent on `ScheduledExecutorService` and `ScheduledFuture`, and links them to the tasks they schedule.
+     */
+    private static class ClassifyTimerUses extends JavaIsoVisitor<TimerUses> {
+        @Override
+        public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, TimerUses uses) {
+            // Skip the name of the declaration itself
+            if (variable.getInitializer() != null) {
+                visit(variable.getInitializer(), uses, new Cursor(getCursor(), variable));
+            }
+            return variable;
+        }
+
+        @Override
+        public J.NewClass visitNewClass(J.NewClass newClass, TimerUses uses) {
+            J.NewClass nc = super.visitNewClass(newClass, uses);
+            Node taskClass = nc.getBody() == null && nc.getType() instanceof JavaType.FullyQualified ?
+                    uses.taskClasses.get(((JavaType.FullyQualified) nc.getType()).getFullyQualifiedName()) : null;
+            if (taskClass != null) {
+                // Instances of a task class may only be scheduled, or assigned to a field that is scheduled
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                boolean scheduled = parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getArguments().get(0) == newClass &&
+                                    uses.timers.containsKey(WaitNotify.key(((J.MethodInvocation) parent).getSelect()));
+                boolean assigned = parent instanceof J.Assignment && ((J.Assignment) parent).getAssignment() == newClass &&
+                                   uses.futures.containsKey(WaitNotify.key(((J.Assignment) parent).getVariable()));
+                taskClass.disqualified |= !scheduled && !assigned;
+            }
+            return nc;
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, TimerUses uses) {
+            String key = WaitNotify.key(identifier.getFieldType());
+            Node timer = key == null ? null : uses.timers.get(key);
+            Node future = key == null ? null : uses.futures.get(key);
+            if (timer == null && future == null) {
+                return identifier;
+            }
+
+            Cursor parent = getCursor().getParentTreeCursor();
+            Expression reference = identifier;
+            if (parent.getValue() instanceof J.FieldAccess) {
+                if (WaitNotify.fieldOf(parent.getValue()) != identifier) {
+                    (timer == null ? future : timer).disqualified = true;
+                    return identifier;
+                }
+                reference = parent.getValue();
+                parent = parent.getParentTreeCursor();
+            }
+            if (timer != null) {
+                timer.disqualified |= !isTimerUse(reference, parent, timer, uses);
+            } else {
+                future.disqualified |= !isFutureUse(reference, parent, key, future, uses);
+            }
+            return identifier;
+        }
+
+        private static boolean isTimerUse(Expression reference, Cursor parent, Node timer, TimerUses uses) {
+            if (parent.getValue() instanceof J.Assignment && ((J.Assignment) parent.getValue()).getVariable() == reference) {
+                return uses.creates(((J.Assignment) parent.getValue()).getAssignment(), timer);
+            } else if (!(parent.getValue() instanceof J.MethodInvocation) || !isStatement(parent)) {
+                return false;
+            }
+
+            J.MethodInvocation method = parent.getValue();
+            JavaType.Method methodType = method.getMethodType();
+            if (method.getSelect() != reference || methodType == null || !TypeUtils.isOfClassType(methodType.getDeclaringType(), TIMER)) {
+                return false;
+            } else if ("cancel".equals(method.getSimpleName())) {
+                return true;
+            } else if (!"schedule".equals(method.getSimpleName()) && !"scheduleAtFixedRate".equals(method.getSimpleName()) ||
+                       methodType.getParameterTypes().size() < 2 || methodType.getParameterTypes().get(1) != JavaType.Primitive.Long) {
+                // Such as `purge()`, or scheduling at a `Date`
+                return false;
+            }
+
+            Expression task = method.getArguments().get(0);
+            String futureKey = WaitNotify.key(task);
+            Node future = futureKey == null ? null : uses.futures.get(futureKey);
+            if (future == null) {
+                return uses.createsTask(task, timer);
+            }
+            timer.link(future);
+            // The task needs to be assigned right before it is scheduled, so that the future can be assigned instead
+            J.Block block = parent.getParentTreeCursor().getValue();
+            int index = block.getStatements().indexOf(method);
+            Statement previous = index > 0 ? block.getStatements().get(index - 1) : null;
+            future.disqualified |= !(previous instanceof J.Assignment) ||
+                                   !futureKey.equals(WaitNotify.key(((J.Assignment) previous).getVariable()));
+            return true;
+        }
+
+        private static boolean isFutureUse(Expression reference, Cursor parent, String key, Node future, TimerUses uses) {
+            Object value = parent.getValue();
+            if (value instanceof J.MethodInvocation) {
+                J.MethodInvocation method = (J.MethodInvocation) value;
+                if (method.getSelect() == reference) {
+                    return "cancel".equals(method.getSimpleName()) && isStatement(parent);
+                }
+                // Linked to the timer when its use is classified
+                return method.getArguments().get(0) == reference && uses.timers.containsKey(WaitNotify.key(method.getSelect()));
+            } else if (value instanceof J.Binary) {
+                J.Binary binary = (J.Binary) value;
+                return (binary.getOperator() == J.Binary.Type.Equal || binary.getOperator() == J.Binary.Type.NotEqual) &&
+                       (isNull(binary.getLeft()) || isNull(binary.getRight()));
+            } else if (!(value instanceof J.Assignment) || ((J.Assignment) value).getVariable() != reference) {
+                return false;
+            }
+
+            Expression assigned = ((J.Assignment) value).getAssignment();
+            if (isNull(assigned)) {
+                return true;
+            } else if (!isStatement(parent)) {
+                return false;
+            }
+            J.Block block = parent.getParentTreeCursor().getValue();
+            int index = block.getStatements().indexOf(value);
+            Statement next = index + 1 < block.getStatements().size() ? block.getStatements().get(index + 1) : null;
+            return next instanceof J.MethodInvocation &&
+                   key.equals(WaitNotify.key(((J.MethodInvocation) next).getArguments().get(0))) &&
+                   uses.createsTask(assigned, future);
+        }
+
+        private static boolean isStatement(Cursor cursor) {
+            return cursor.getParentTreeCursor().getValue() instanceof J.Block;
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.search.SemanticallyEqual;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+public class UseBlockingQueueForWaitNotify extends Recipe {
+    private static final String BLOCKING_QUEUE = "java.util.concurrent.BlockingQueue";
+    private static final String ARRAY_BLOCKING_QUEUE = "java.util.concurrent.ArrayBlockingQueue";
+    private static final String LINKED_BLOCKING_QUEUE = "java.util.concurrent.LinkedBlockingQueue";
+    private static final JavaType.FullyQualified BLOCKING_QUEUE_TYPE = JavaType.ShallowClass.build(BLOCKING_QUEUE);
+    private static final JavaType.FullyQualified INTERRUPTED_EXCEPTION = JavaType.ShallowClass.build("java.lang.InterruptedException");
+    private static final List<String> QUEUE_TYPES = Arrays.asList("java.util.Queue", "java.util.Deque", "java.util.ArrayDeque", "java.util.LinkedList");
+    private static final List<String> ADD_METHODS = Arrays.asList("add", "offer", "addLast", "offerLast");
+    private static final List<String> REMOVE_METHODS = Arrays.asList("remove", "poll", "removeFirst", "pollFirst");
+    private static final String BUFFERS = "BUFFERS";
+
+    @Getter
+    final String displayName = "Use a `BlockingQueue` instead of a queue guarded by `wait()` and `notifyAll()`";
+
+    @Getter
+    final String description = "Replace a private queue field of a hand-made producer-consumer buffer with a `BlockingQueue`. " +
+            "Producers are `synchronized` methods that add their argument to the queue and call `notifyAll()`, optionally after " +
+            "`while (queue.size() == CAPACITY) wait();`, and consumers are `synchronized` methods that remove and return the head " +
+            "of the queue after `while (queue.isEmpty()) wait();` and call `notifyAll()`. A bounded buffer becomes an " +
+            "`ArrayBlockingQueue` and an unbounded one a `LinkedBlockingQueue`, and the methods call `put` or `add` and `take` " +
+            "without holding the monitor, so that every change no longer wakes up all waiting threads. Buffers whose queue is used in any " +
+            "other way than `size()` or `isEmpty()`, whose capacity is not a constant, or whose class also uses its monitor in " +
+            "other ways, are left as is. This assumes that other classes do not synchronize on instances of the class.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(WaitNotify.WAIT), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                Map<String, Buffer> buffers = findBuffers(classDecl);
+                if (!buffers.isEmpty()) {
+                    getCursor().putMessage(BUFFERS, buffers);
+                }
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+                Buffer buffer = buffer(variable.getVariableType());
+                if (buffer == null || !(vd.getTypeExpression() instanceof J.ParameterizedType) || variable.getInitializer() == null) {
+                    return vd;
+                }
+
+                Expression initializer = variable.getInitializer();
+                Expression newInitializer;
+                if (buffer.capacity == null) {
+                    newInitializer = JavaTemplate.builder("new LinkedBlockingQueue<>()")
+                            .imports(LINKED_BLOCKING_QUEUE)
+                            .build()
+                            .apply(new Cursor(getCursor(), initializer), initializer.getCoordinates().replace());
+                    maybeAddImport(LINKED_BLOCKING_QUEUE);
+                } else {
+                    newInitializer = JavaTemplate.builder("new ArrayBlockingQueue<>(#{any(int)})")
+                            .imports(ARRAY_BLOCKING_QUEUE)
+                            .build()
+                            .apply(new Cursor(getCursor(), initializer), initializer.getCoordinates().replace(), buffer.capacity);
+                    maybeAddImport(ARRAY_BLOCKING_QUEUE);
+                }
+                maybeAddImport(BLOCKING_QUEUE);
+                for (String queueType : QUEUE_TYPES) {
+                    maybeRemoveImport(queueType);
+                }
+
+                J.ParameterizedType typeExpression = (J.ParameterizedType) vd.getTypeExpression();
+                return vd
+                        .withTypeExpression(typeExpression
+                                .withClazz(new J.Identifier(Tree.randomId(), typeExpression.getClazz().getPrefix(), Markers.EMPTY,
+                                        emptyList(), BLOCKING_QUEUE_TYPE.getClassName(), BLOCKING_QUEUE_TYPE, null))
+                                .withType(buffer.type))
+                        .withVariables(singletonList(variable.withInitializer(newInitializer).withType(buffer.type)));
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                Map<String, Buffer> buffers = getCursor().getNearestMessage(BUFFERS);
+                if (buffers != null && method.getBody() != null) {
+                    for (Buffer buffer : buffers.values()) {
+                        Statement replacement = buffer.operations.get(method.getId());
+                        if (replacement != null) {
+                            Statement first = method.getBody().getStatements().get(0);
+                            return WaitNotify.withoutSynchronized(method.withBody(method.getBody()
+                                    .withStatements(singletonList(replacement.withPrefix(first.getPrefix())))));
+                        }
+                    }
+                }
+                return super.visitMethodDeclaration(method, ctx);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                Buffer buffer = mi.getSelect() == null ? null : buffer(WaitNotify.fieldOf(mi.getSelect()));
+                return buffer == null ? mi : mi.withSelect(WaitNotify.retype(mi.getSelect(), buffer.type));
+            }
+
+            private @Nullable Buffer buffer(J.@Nullable Identifier identifier) {
+                return identifier == null ? null : buffer(identifier.getFieldType());
+            }
+
+            private @Nullable Buffer buffer(JavaType.@Nullable Variable fieldType) {
+                Map<String, Buffer> buffers = getCursor().getNearestMessage(BUFFERS);
+                String key = WaitNotify.key(fieldType);
+                return buffers == null || key == null ? null : buffers.get(key);
+            }
+        });
+    }
+
+    private static Map<String, Buffer> findBuffers(J.ClassDeclaration classDecl) {
+        Map<String, Buffer> buffers = new HashMap<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (!(statement instanceof J.VariableDeclarations)) {
+                continue;
+            }
+            J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+            J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+            String key = WaitNotify.key(variable.getVariableType());
+            if (key != null && vd.getVariables().size() == 1 && vd.getType() instanceof JavaType.Parameterized &&
+                ((JavaType.Parameterized) vd.getType()).getTypeParameters().size() == 1 &&
+                vd.getTypeExpression() instanceof J.ParameterizedType &&
+                vd.hasModifier(J.Modifier.Type.Private) && vd.hasModifier(J.Modifier.Type.Final) &&
+                !vd.hasModifier(J.Modifier.Type.Static) && vd.getLeadingAnnotations().isEmpty() &&
+                QUEUE_TYPES.contains(((JavaType.Parameterized) vd.getType()).getFullyQualifiedName()) &&
+                variable.getInitializer() instanceof J.NewClass &&
+                ((J.NewClass) variable.getInitializer()).getBody() == null &&
+                ((J.NewClass) variable.getInitializer()).getArguments().get(0) instanceof J.Empty) {
+                buffers.put(key, new Buffer(new JavaType.Parameterized(null, BLOCKING_QUEUE_TYPE,
+                        ((JavaType.Parameterized) vd.getType()).getTypeParameters())));
+            }
+        }
+        if (buffers.isEmpty()) {
+            return buffers;
+        }
+
+        Set<UUID> converted = new HashSet<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.MethodDeclaration) {
+                J.MethodDeclaration method = (J.MethodDeclaration) statement;
+                if (method.hasModifier(J.Modifier.Type.Synchronized) && !method.hasModifier(J.Modifier.Type.Static) &&
+                    method.getBody() != null && !method.getBody().getStatements().isEmpty() &&
+                    (producer(method, buffers) || consumer(method, buffers))) {
+                    converted.add(method.getId());
+                }
+            }
+        }
+        if (WaitNotify.usesMonitorOutside(classDecl, converted)) {
+            return Collections.emptyMap();
+        }
+
+        new ClassifyQueueUses(converted).visit(classDecl.getBody(), buffers, new Cursor(null, classDecl));
+        buffers.values().removeIf(buffer -> buffer.disqualified || !buffer.produced || !buffer.consumed);
+        return buffers;
+    }
+
+    /**
+     * A method like `put(E item)` that adds its argument to the queue, after waiting for space when the buffer is bounded.
+     */
+    private static boolean producer(J.MethodDeclaration method, Map<String, Buffer> buffers) {
+        if (method.getParameters().size() != 1 || !(method.getParameters().get(0) instanceof J.VariableDeclarations)) {
+            return false;
+        }
+        String parameter = ((J.VariableDeclarations) method.getParameters().get(0)).getVariables().get(0).getSimpleName();
+        List<Statement> statements = new ArrayList<>(Objects.requireNonNull(method.getBody()).getStatements());
+        Expression capacity = null;
+        String fullQueue = null;
+        Expression condition = WaitNotify.waitLoopCondition(statements.get(0));
+        if (condition != null) {
+            if (!(condition instanceof J.Binary) || ((J.Binary) condition).getOperator() != J.Binary.Type.Equal &&
+                                                     ((J.Binary) condition).getOperator() != J.Binary.Type.GreaterThanOrEqual) {
+                return false;
+            }
+            fullQueue = queueCall(((J.Binary) condition).getLeft(), "size");
+            capacity = ((J.Binary) condition).getRight();
+            if (fullQueue == null || !isConstant(capacity)) {
+                return false;
+            }
+            statements.remove(0);
+        }
+        if (!WaitNotify.removeNotifyAll(statements) || statements.size() != 1 || !(statements.get(0) instanceof J.MethodInvocation)) {
+            return false;
+        }
+
+        J.MethodInvocation add = (J.MethodInvocation) statements.get(0);
+        Buffer buffer = buffers.get(WaitNotify.key(add.getSelect()));
+        if (buffer == null || !ADD_METHODS.contains(add.getSimpleName()) || add.getArguments().size() != 1 ||
+            !(add.getArguments().get(0) instanceof J.Identifier) ||
+            !parameter.equals(((J.Identifier) add.getArguments().get(0)).getSimpleName()) ||
+            fullQueue != null && !fullQueue.equals(WaitNotify.key(add.getSelect()))) {
+            return false;
+        }
+        if (buffer.produced && (capacity == null) != (buffer.capacity == null) ||
+            capacity != null && buffer.capacity != null && !SemanticallyEqual.areEqual(capacity, buffer.capacity)) {
+            // Producers that disagree on the capacity of the buffer
+            buffer.disqualified = true;
+            return false;
+        }
+        buffer.produced = true;
+        buffer.capacity = capacity;
+        // An unbounded queue never blocks to add an element, so `add` does not need to handle interruption like `put`
+        buffer.operations.put(method.getId(), toBlockingQueueCall(add, capacity == null ? "add" : "put", buffer));
+        return true;
+    }
+
+    /**
+     * A method like `E take()` that waits for the queue to have an element, and removes and returns its head.
+     */
+    private static boolean consumer(J.MethodDeclaration method, Map<String, Buffer> buffers) {
+        List<Statement> statements = new ArrayList<>(Objects.requireNonNull(method.getBody()).getStatements());
+        Expression condition = WaitNotify.waitLoopCondition(statements.get(0));
+        String emptyQueue = condition == null ? null : queueCall(condition, "isEmpty");
+        if (emptyQueue == null && condition instanceof J.Binary && ((J.Binary) condition).getOperator() == J.Binary.Type.Equal &&
+            isZero(((J.Binary) condition).getRight())) {
+            emptyQueue = queueCall(((J.Binary) condition).getLeft(), "size");
+        }
+        Buffer buffer = emptyQueue == null ? null : buffers.get(emptyQueue);
+        if (buffer == null) {
+            return false;
+        }
+        statements.remove(0);
+        if (!WaitNotify.removeNotifyAll(statements) || statements.isEmpty() ||
+            !(statements.get(statements.size() - 1) instanceof J.Return)) {
+            return false;
+        }
+
+        J.Return returned = (J.Return) statements.get(statements.size() - 1);
+        J.MethodInvocation remove;
+        if (statements.size() == 1 && returned.getExpression() instanceof J.MethodInvocation) {
+            remove = (J.MethodInvocation) returned.getExpression();
+        } else if (statements.size() == 2 && statements.get(0) instanceof J.VariableDeclarations &&
+                   ((J.VariableDeclarations) statements.get(0)).getVariables().size() == 1 &&
+                   ((J.VariableDeclarations) statements.get(0)).getVariables().get(0).getInitializer() instanceof J.MethodInvocation &&
+                   returned.getExpression() instanceof J.Identifier &&
+                   ((J.Identifier) returned.getExpression()).getSimpleName()
+                           .equals(((J.VariableDeclarations) statements.get(0)).getVariables().get(0).getSimpleName())) {
+            remove = (J.MethodInvocation) ((J.VariableDeclarations) statements.get(0)).getVariables().get(0).getInitializer();
+        } else {
+            return false;
+        }
+        if (!REMOVE_METHODS.contains(remove.getSimpleName()) || !(remove.getArguments().get(0) instanceof J.Empty) ||
+            !emptyQueue.equals(WaitNotify.key(remove.getSelect()))) {
+            return false;
+        }
+        buffer.consumed = true;
+        buffer.operations.put(method.getId(), returned.withExpression(toBlockingQueueCall(remove, "take", buffer)
+                .withPrefix(Objects.requireNonNull(returned.getExpression()).getPrefix())));
+        return true;
+    }
+
+    /**
+     * The queue field that the expression calls the method without arguments on.
+     */
+    private static @Nullable String queueCall(Expression expression, String name) {
+        if (!(expression instanceof J.MethodInvocation) || !name.equals(((J.MethodInvocation) expression).getSimpleName()) ||
+            !(((J.MethodInvocation) expression).getArguments().get(0) instanceof J.Empty)) {
+            return null;
+        }
+        return WaitNotify.key(((J.MethodInvocation) expression).getSelect());
+    }
+
+    /**
+     * A capacity that can already be evaluated in the initializer of the queue field.
+     */
+    private static boolean isConstant(Expression expression) {
+        if (expression instanceof J.Literal) {
+            return true;
+        }
+        J.Identifier identifier = expression instanceof J.FieldAccess ? ((J.FieldAccess) expression).getName() :
+                expression instanceof J.Identifier ? (J.Identifier) expression : null;
+        return identifier != null && identifier.getFieldType() != null &&
+               identifier.getFieldType().hasFlags(Flag.Static, Flag.Final);
+    }
+
+    private static boolean isZero(Expression expression) {
+        return expression instanceof J.Literal && Integer.valueOf(0).equals(((J.Literal) expression).getValue());
+    }
+
+    private static J.MethodInvocation toBlockingQueueCall(J.MethodInvocation method, String name, Buffer buffer) {
+        JavaType.Method methodType = method.getMethodType();
+        if (methodType != null) {
+            methodType = methodType.withName(name).withDeclaringType(BLOCKING_QUEUE_TYPE);
+            if (!"add".equals(name)) {
+                methodType = methodType.withThrownExceptions(singletonList(INTERRUPTED_EXCEPTION));
+            }
+        }
+        return method
+                .withSelect(WaitNotify.retype(Objects.requireNonNull(method.getSelect()), buffer.type))
+                .withName(method.getName().withSimpleName(name).withType(methodType))
+                .withMethodType(methodType);
+    }
+
+    @RequiredArgsConstructor
+    private static class Buffer {
+        final JavaType.Parameterized type;
+
+        /**
+         * The single statement that replaces the body of each producer and consumer method.
+         */
+        final Map<UUID, Statement> operations = new HashMap<>();
+
+        @Nullable
+        Expression capacity;
+
+        boolean produced;
+        boolean consumed;
+        boolean disqualified;
+    }
+
+    /**
+     * Disqualifies queues that are used in any other way than through `size()` and `isEmpty()`, as those are the only
+     * operations that keep their meaning when they are no longer performed while holding the monitor.
+     */
+    @RequiredArgsConstructor
+    private static class ClassifyQueueUses extends JavaIsoVisitor<Map<String, Buffer>> {
+        final Set<UUID> converted;
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Map<String, Buffer> buffers) {
+            return converted.contains(method.getId()) ? method : super.visitMethodDeclaration(method, buffers);
+        }
+
+        @Override
+        public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Map<String, Buffer> buffers) {
+            // Skip the name of the declaration itself
+            if (variable.getInitializer() != null) {
+                visit(variable.getInitializer(), buffers, new Cursor(getCursor(), variable));
+            }
+            return variable;
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, Map<String, Buffer> buffers) {
+            String key = WaitNotify.key(identifier.getFieldType());
+            Buffer buffer = key == null ? null : buffers.get(key);
+            if (buffer == null) {
+                return identifier;
+            }
+
+            Cursor parent = getCursor().getParentTreeCursor();
+            Expression select = identifier;
+            if (parent.getValue() instanceof J.FieldAccess) {
+                if (WaitNotify.fieldOf(parent.getValue()) != identifier) {
+                    buffer.disqualified = true;
+                    return identifier;
+                }
+                select = parent.getValue();
+                parent = parent.getParentTreeCursor();
+            }
+            if (!(parent.getValue() instanceof J.MethodInvocation) || ((J.MethodInvocation) parent.getValue()).getSelect() != select ||
+                !"size".equals(((J.MethodInvocation) parent.getValue()).getSimpleName()) &&
+                !"isEmpty".equals(((J.MethodInvocation) parent.getValue()).getSimpleName()) ||
+                !WaitNotify.isReadableWithoutMonitor(parent, select)) {
+                buffer.disqualified = true;
+            }
+            return identifier;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+public class UseCountDownLatchForWaitNotify extends Recipe {
+    private static final String COUNT_DOWN_LATCH = "java.util.concurrent.CountDownLatch";
+    private static final JavaType.FullyQualified COUNT_DOWN_LATCH_TYPE = JavaType.ShallowClass.build(COUNT_DOWN_LATCH);
+    private static final String LATCHES = "LATCHES";
+
+    @Getter
+    final String displayName = "Use a `CountDownLatch` instead of a flag guarded by `wait()` and `notifyAll()`";
+
+    @Getter
+    final String description = "Replace a private `boolean` field that threads wait for in a `synchronized` method consisting of " +
+            "`while (!flag) wait();`, and that is set in a `synchronized` method consisting of `flag = true; notifyAll();`, with " +
+            "a `CountDownLatch`. Waiting becomes `await()` and setting the flag `countDown()`, so that neither needs the monitor " +
+            "of the object anymore, and other reads of the flag check whether the count reached zero. Flags that are reset, or " +
+            "classes that also use their monitor in other ways, are left as is. This assumes that other classes do not " +
+            "synchronize on instances of the class.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(WaitNotify.WAIT), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                Map<String, Latch> latches = findLatches(classDecl);
+                if (!latches.isEmpty()) {
+                    getCursor().putMessage(LATCHES, latches);
+                }
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                Latch latch = latch(multiVariable.getVariables().get(0).getVariableType());
+                if (latch == null) {
+                    return super.visitVariableDeclarations(multiVariable, ctx);
+                }
+                maybeAddImport(COUNT_DOWN_LATCH);
+                return JavaTemplate.builder("private final CountDownLatch " + latch.field.getName() + " = new CountDownLatch(1);")
+                        .imports(COUNT_DOWN_LATCH)
+                        .build()
+                        .apply(getCursor(), multiVariable.getCoordinates().replace());
+            }
+
+            @Override
+            public J visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                Map<String, Latch> latches = getCursor().getNearestMessage(LATCHES);
+                if (latches != null) {
+                    for (Latch latch : latches.values()) {
+                        if (latch.awaits.contains(method.getId())) {
+                            return toLatchCall(method, latch, "await");
+                        } else if (latch.releases.contains(method.getId())) {
+                            return toLatchCall(method, latch, "countDown");
+                        }
+                    }
+                }
+                return super.visitMethodDeclaration(method, ctx);
+            }
+
+            @Override
+            public J visitUnary(J.Unary unary, ExecutionContext ctx) {
+                Latch latch = unary.getOperator() == J.Unary.Type.Not ? latch(WaitNotify.fieldOf(unary.getExpression())) : null;
+                return latch == null ? super.visitUnary(unary, ctx) : isReached(unary, latch, false);
+            }
+
+            @Override
+            public J visitFieldAccess(J.FieldAccess fieldAccess, ExecutionContext ctx) {
+                Latch latch = latch(WaitNotify.fieldOf(fieldAccess));
+                return latch == null ? super.visitFieldAccess(fieldAccess, ctx) : isReached(fieldAccess, latch, true);
+            }
+
+            @Override
+            public J visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+                Latch latch = latch(identifier);
+                return latch == null ? super.visitIdentifier(identifier, ctx) : isReached(identifier, latch, true);
+            }
+
+            private J.MethodDeclaration toLatchCall(J.MethodDeclaration method, Latch latch, String name) {
+                J.Block body = Objects.requireNonNull(method.getBody());
+                Statement first = body.getStatements().get(0);
+                Statement call = JavaTemplate.builder("#{any(" + COUNT_DOWN_LATCH + ")}." + name + "()")
+                        .build()
+                        .apply(new Cursor(new Cursor(getCursor(), body), first), first.getCoordinates().replace(), latch.reference());
+                return WaitNotify.withoutSynchronized(method.withBody(body.withStatements(singletonList(call))));
+            }
+
+            private Expression isReached(Expression read, Latch latch, boolean reached) {
+                String comparison = "#{any(" + COUNT_DOWN_LATCH + ")}.getCount() " + (reached ? "==" : "!=") + " 0";
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                if (parent instanceof J.Binary && ((J.Binary) parent).getOperator() != J.Binary.Type.And &&
+                    ((J.Binary) parent).getOperator() != J.Binary.Type.Or || parent instanceof J.Unary) {
+                    comparison = "(" + comparison + ")";
+                }
+                return JavaTemplate.builder(comparison)
+                        .build()
+                        .apply(getCursor(), read.getCoordinates().replace(), latch.reference());
+            }
+
+            private @Nullable Latch latch(J.@Nullable Identifier identifier) {
+                return identifier == null ? null : latch(identifier.getFieldType());
+            }
+
+            private @Nullable Latch latch(JavaType.@Nullable Variable fieldType) {
+                Map<String, Latch> latches = getCursor().getNearestMessage(LATCHES);
+                String key = WaitNotify.key(fieldType);
+                return latches == null || key == null ? null : latches.get(key);
+            }
+        });
+    }
+
+    private static Map<String, Latch> findLatches(J.ClassDeclaration classDecl) {
+        Map<String, Latch> latches = new HashMap<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (!(statement instanceof J.VariableDeclarations)) {
+                continue;
+            }
+            J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+            J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+            String key = WaitNotify.key(variable.getVariableType());
+            if (key != null && vd.getVariables().size() == 1 && vd.getType() == JavaType.Primitive.Boolean &&
+                vd.hasModifier(J.Modifier.Type.Private) && !vd.hasModifier(J.Modifier.Type.Static) &&
+                !vd.hasModifier(J.Modifier.Type.Final) && vd.getLeadingAnnotations().isEmpty() &&
+                (variable.getInitializer() == null || isBooleanLiteral(variable.getInitializer(), false))) {
+                latches.put(key, new Latch(Objects.requireNonNull(variable.getVariableType())));
+            }
+        }
+        if (latches.isEmpty()) {
+            return latches;
+        }
+
+        Set<UUID> converted = new HashSet<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (!(statement instanceof J.MethodDeclaration)) {
+                continue;
+            }
+            J.MethodDeclaration method = (J.MethodDeclaration) statement;
+            if (!method.hasModifier(J.Modifier.Type.Synchronized) || method.hasModifier(J.Modifier.Type.Static) ||
+                method.getBody() == null) {
+                continue;
+            }
+            List<Statement> statements = method.getBody().getStatements();
+            if (statements.size() == 1) {
+                Expression condition = WaitNotify.waitLoopCondition(statements.get(0));
+                if (condition instanceof J.Unary && ((J.Unary) condition).getOperator() == J.Unary.Type.Not) {
+                    Latch latch = latches.get(WaitNotify.key(((J.Unary) condition).getExpression()));
+                    if (latch != null && converted.add(method.getId())) {
+                        latch.awaits.add(method.getId());
+                    }
+                }
+            } else if (statements.size() == 2) {
+                for (int i = 0; i < 2; i++) {
+                    if (statements.get(i) instanceof J.Assignment &&
+                        WaitNotify.isCallOnThis(statements.get(1 - i), WaitNotify.NOTIFY_ALL)) {
+                        J.Assignment assignment = (J.Assignment) statements.get(i);
+                        Latch latch = latches.get(WaitNotify.key(assignment.getVariable()));
+                        if (latch != null && isBooleanLiteral(assignment.getAssignment(), true) && converted.add(method.getId())) {
+                            latch.releases.add(method.getId());
+                        }
+                    }
+                }
+            }
+        }
+        if (WaitNotify.usesMonitorOutside(classDecl, converted)) {
+            return Collections.emptyMap();
+        }
+
+        new ClassifyFlagUses(converted).visit(classDecl.getBody(), latches, new Cursor(null, classDecl));
+        latches.values().removeIf(latch -> latch.disqualified || latch.awaits.isEmpty() || latch.releases.isEmpty());
+        return latches;
+    }
+
+    private static boolean isBooleanLiteral(Expression expression, boolean value) {
+        return expression instanceof J.Literal && Boolean.valueOf(value).equals(((J.Literal) expression).getValue());
+    }
+
+    @RequiredArgsConstructor
+    private static class Latch {
+        final JavaType.Variable field;
+        final Set<UUID> awaits = new HashSet<>();
+        final Set<UUID> releases = new HashSet<>();
+        boolean disqualified;
+
+        J.Identifier reference() {
+            return new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), field.getName(),
+                    COUNT_DOWN_LATCH_TYPE, field.withType(COUNT_DOWN_LATCH_TYPE));
+        }
+    }
+
+    /**
+     * Disqualifies flags that are assigned outside the methods that are converted, read through another instance, or
+     * read in a `synchronized` block that may rely on the flag not changing.
+     */
+    @RequiredArgsConstructor
+    private static class ClassifyFlagUses extends JavaIsoVisitor<Map<String, Latch>> {
+        final Set<UUID> converted;
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Map<String, Latch> latches) {
+            return converted.contains(method.getId()) ? method : super.visitMethodDeclaration(method, latches);
+        }
+
+        @Override
+        public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Map<String, Latch> latches) {
+            // Skip the name of the declaration itself
+            if (variable.getInitializer() != null) {
+                visit(variable.getInitializer(), latches, new Cursor(getCursor(), variable));
+            }
+            return variable;
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, Map<String, Latch> latches) {
+            String key = WaitNotify.key(identifier.getFieldType());
+            Latch latch = key == null ? null : latches.get(key);
+            if (latch == null) {
+                return identifier;
+            }
+
+            Cursor parent = getCursor().getParentTreeCursor();
+            Expression read = identifier;
+            if (parent.getValue() instanceof J.FieldAccess) {
+                if (WaitNotify.fieldOf(parent.getValue()) != identifier) {
+                    latch.disqualified = true;
+                    return identifier;
+                }
+                read = parent.getValue();
+                parent = parent.getParentTreeCursor();
+            }
+            if (parent.getValue() instanceof J.Assignment && ((J.Assignment) parent.getValue()).getVariable() == read ||
+                parent.getValue() instanceof J.AssignmentOperation && ((J.AssignmentOperation) parent.getValue()).getVariable() == read ||
+                !WaitNotify.isReadableWithoutMonitor(parent, read)) {
+                latch.disqualified = true;
+            }
+            return identifier;
+        }
+    }
+}
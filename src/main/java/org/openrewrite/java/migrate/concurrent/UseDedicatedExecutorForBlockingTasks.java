@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.java.migrate.search.FindBlockingTasksOnCommonPool;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class UseDedicatedExecutorForBlockingTasks extends Recipe {
+    private static final String EXECUTOR_FIELD = "IO_EXECUTOR";
+    private static final String EXECUTORS = "java.util.concurrent.Executors";
+    private static final String EXECUTOR_SERVICE = "java.util.concurrent.ExecutorService";
+    private static final JavaType.FullyQualified EXECUTOR_TYPE = JavaType.ShallowClass.build("java.util.concurrent.Executor");
+
+    @Option(displayName = "Executor",
+            description = "The fully qualified name of a static `Executor` field that the blocking tasks are run on, so that " +
+                          "all classes share a single executor that is managed by the application. When no executor is " +
+                          "given, an executor is added to every class that runs blocking tasks.",
+            example = "com.example.AppExecutors.BLOCKING_IO",
+            required = false)
+    @Nullable
+    String executor;
+
+    String displayName = "Run blocking asynchronous tasks on a dedicated executor";
+
+    String description = "Pass an explicit executor to `CompletableFuture#supplyAsync`, `CompletableFuture#runAsync` " +
+            "and the other `*Async` methods whose task makes blocking calls such as JDBC, HTTP or file I/O, so that these " +
+            "no longer starve `ForkJoinPool.commonPool()`. The tasks run on the given shared executor, or otherwise on a " +
+            "`private static final ExecutorService IO_EXECUTOR` that is added to each top level class with blocking tasks. " +
+            "Such an executor is scoped to its class and is never shut down, so it only uses daemon threads, which do not " +
+            "keep the JVM running: a virtual thread per task on Java 21 or higher, and a cached pool of daemon threads on " +
+            "older versions.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new FindBlockingTasksOnCommonPool().getVisitor(), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                // A shared executor is referenced directly, rather than through a field of the class
+                if (executor != null ||
+                    !(getCursor().getParentTreeCursor().getValue() instanceof J.CompilationUnit) || classDecl.getType() == null ||
+                    classDecl.getKind() != J.ClassDeclaration.Kind.Type.Class && classDecl.getKind() != J.ClassDeclaration.Kind.Type.Record ||
+                    !hasBlockingTasks(classDecl)) {
+                    return super.visitClassDeclaration(classDecl, ctx);
+                }
+
+                J.ClassDeclaration cd = classDecl;
+                JavaType.Variable executorField = existingExecutor(cd);
+                if (executorField == null) {
+                    if (declaresField(cd)) {
+                        // A field by the same name is used for something else
+                        return super.visitClassDeclaration(classDecl, ctx);
+                    }
+                    boolean java21 = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class).getMarkers()
+                            .findFirst(JavaVersion.class).filter(v -> v.getMajorVersion() >= 21).isPresent();
+                    // The executor is never shut down, so its threads must not keep the JVM running
+                    J.Block body = JavaTemplate.builder("private static final ExecutorService " + EXECUTOR_FIELD + " = " +
+                                                        (java21 ? "Executors.newVirtualThreadPerTaskExecutor();" :
+                                                                "Executors.newCachedThreadPool(task -> {\n" +
+                                                                "    Thread thread = Executors.defaultThreadFactory().newThread(task);\n" +
+                                                                "    thread.setDaemon(true);\n" +
+                                                                "    return thread;\n" +
+                                                                "});"))
+                            .imports(EXECUTOR_SERVICE, EXECUTORS)
+                            .build()
+                            .apply(new Cursor(getCursor(), cd.getBody()), cd.getBody().getCoordinates().firstStatement());
+                    J.VariableDeclarations field = (J.VariableDeclarations) body.getStatements().get(0);
+                    J.VariableDeclarations.NamedVariable variable = field.getVariables().get(0);
+                    executorField = variable.getVariableType() == null ? null : variable.getVariableType().withOwner(cd.getType());
+                    if (executorField == null) {
+                        return super.visitClassDeclaration(classDecl, ctx);
+                    }
+                    JavaType.Variable fieldType = executorField;
+                    cd = cd.withBody(body.withStatements(ListUtils.mapFirst(body.getStatements(), f -> field.withVariables(
+                            ListUtils.mapFirst(field.getVariables(), v -> v.withName(v.getName().withFieldType(fieldType)))))));
+                    maybeAddImport(EXECUTOR_SERVICE);
+                    maybeAddImport(EXECUTORS);
+                }
+                getCursor().putMessage(EXECUTOR_FIELD, executorField);
+                return super.visitClassDeclaration(cd, ctx);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                JavaType.Method methodType = m.getMethodType();
+                if (methodType == null || FindBlockingTasksOnCommonPool.blockingCallOnCommonPool(method) == null) {
+                    return m;
+                }
+                Expression reference;
+                if (executor != null) {
+                    reference = sharedExecutor(executor);
+                    if (reference == null) {
+                        return m;
+                    }
+                    maybeAddImport(executor.substring(0, executor.lastIndexOf('.')));
+                } else {
+                    JavaType.Variable executorField = getCursor().getNearestMessage(EXECUTOR_FIELD);
+                    if (executorField == null) {
+                        return m;
+                    }
+                    reference = new J.Identifier(Tree.randomId(), Space.SINGLE_SPACE, Markers.EMPTY, emptyList(),
+                            executorField.getName(), executorField.getType(), executorField);
+                }
+                return m.withArguments(ListUtils.concat(m.getArguments(), reference))
+                        .withMethodType(methodType
+                                .withParameterNames(ListUtils.concat(methodType.getParameterNames(), "executor"))
+                                .withParameterTypes(ListUtils.concat(methodType.getParameterTypes(), EXECUTOR_TYPE)));
+            }
+        });
+    }
+
+    /**
+     * A reference to the static field with the given fully qualified name, qualified by its class.
+     */
+    private static J.@Nullable FieldAccess sharedExecutor(String executor) {
+        int separator = executor.lastIndexOf('.');
+        if (separator <= 0 || separator == executor.length() - 1) {
+            return null;
+        }
+        JavaType.FullyQualified owner = JavaType.ShallowClass.build(executor.substring(0, separator));
+        String name = executor.substring(separator + 1);
+        JavaType.Variable field = new JavaType.Variable(null, Flag.Static.getBitMask(), name, owner, EXECUTOR_TYPE, emptyList());
+        return new J.FieldAccess(Tree.randomId(), Space.SINGLE_SPACE, Markers.EMPTY,
+                new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), owner.getClassName(), owner, null),
+                JLeftPadded.build(new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), name, EXECUTOR_TYPE, field)),
+                EXECUTOR_TYPE);
+    }
+
+    private static boolean hasBlockingTasks(J.ClassDeclaration classDecl) {
+        AtomicBoolean found = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean f) {
+                if (FindBlockingTasksOnCommonPool.blockingCallOnCommonPool(method) != null) {
+                    f.set(true);
+                }
+                return super.visitMethodInvocation(method, f);
+            }
+        }.visit(classDecl, found);
+        return found.get();
+    }
+
+    /**
+     * An executor field by the same name, for instance added by an earlier run of this recipe.
+     */
+    private static JavaType.@Nullable Variable existingExecutor(J.ClassDeclaration classDecl) {
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations && ((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static)) {
+                for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) statement).getVariables()) {
+                    if (EXECUTOR_FIELD.equals(variable.getSimpleName()) && TypeUtils.isAssignableTo(EXECUTOR_TYPE, variable.getType())) {
+                        return variable.getVariableType();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean declaresField(J.ClassDeclaration classDecl) {
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations) {
+                for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) statement).getVariables()) {
+                    if (EXECUTOR_FIELD.equals(variable.getSimpleName())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
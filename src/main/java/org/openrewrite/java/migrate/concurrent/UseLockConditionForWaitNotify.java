@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+public class UseLockConditionForWaitNotify extends Recipe {
+    private static final String LOCK = "java.util.concurrent.locks.Lock";
+    private static final String REENTRANT_LOCK = "java.util.concurrent.locks.ReentrantLock";
+    private static final String CONDITION = "java.util.concurrent.locks.Condition";
+    private static final String TIME_UNIT = "java.util.concurrent.TimeUnit";
+    private static final JavaType.FullyQualified LOCK_TYPE = JavaType.ShallowClass.build(LOCK);
+    private static final JavaType.FullyQualified CONDITION_TYPE = JavaType.ShallowClass.build(CONDITION);
+    private static final String MONITORS = "MONITORS";
+
+    @Getter
+    final String displayName = "Use a `Lock` and `Condition` instead of `wait()` and `notify()` on a lock object";
+
+    @Getter
+    final String description = "Replace a private `Object` field that is only used as a lock in `synchronized` blocks and to " +
+            "`wait()` and `notify()` on, with a `ReentrantLock` and a `Condition` created from it. The `synchronized` blocks " +
+            "become `lock()`, `try` and `finally { unlock(); }`, `wait()` becomes `await()`, `notify()` becomes `signal()` and " +
+            "`notifyAll()` becomes `signalAll()`, so that waiting no longer pins the carrier of a virtual thread. Lock objects " +
+            "that are used in any other way, that are waited on with a timeout which is not a positive literal, or that are " +
+            "waited on outside of a `synchronized` block on the same lock, are left as is.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(WaitNotify.ANY_WAIT), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                Map<String, Monitor> monitors = findMonitors(classDecl);
+                if (monitors.isEmpty()) {
+                    return super.visitClassDeclaration(classDecl, ctx);
+                }
+                getCursor().putMessage(MONITORS, monitors);
+                J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+
+                Cursor bodyCursor = new Cursor(getCursor(), cd.getBody());
+                List<Statement> statements = new ArrayList<>();
+                for (Statement statement : cd.getBody().getStatements()) {
+                    Monitor monitor = statement instanceof J.VariableDeclarations ?
+                            monitors.get(WaitNotify.key(((J.VariableDeclarations) statement).getVariables().get(0).getVariableType())) :
+                            null;
+                    if (monitor == null) {
+                        statements.add(statement);
+                        continue;
+                    }
+                    J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+                    StringJoiner modifiers = new StringJoiner(" ");
+                    for (J.Modifier modifier : vd.getModifiers()) {
+                        modifiers.add(modifier.getType().name().toLowerCase(Locale.ROOT));
+                    }
+                    Cursor statementCursor = new Cursor(bodyCursor, statement);
+                    statements.add(JavaTemplate.builder(modifiers + " Lock " + monitor.field.getName() + " = new ReentrantLock();")
+                            .imports(LOCK, REENTRANT_LOCK)
+                            .build()
+                            .apply(statementCursor, statement.getCoordinates().replace()));
+                    Statement condition = JavaTemplate.builder(modifiers + " Condition " + monitor.condition + " = #{any(" + LOCK + ")}.newCondition();")
+                            .imports(CONDITION)
+                            .build()
+                            .apply(statementCursor, statement.getCoordinates().replace(), monitor.lockReference());
+                    String whitespace = statement.getPrefix().getWhitespace();
+                    statements.add(condition.withPrefix(Space.format("\n" + whitespace.substring(whitespace.lastIndexOf('\n') + 1))));
+                }
+                maybeAddImport(LOCK);
+                maybeAddImport(REENTRANT_LOCK);
+                maybeAddImport(CONDITION);
+                return cd.withBody(cd.getBody().withStatements(statements));
+            }
+
+            @Override
+            public J visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = (J.Block) super.visitBlock(block, ctx);
+                Map<String, Monitor> monitors = getCursor().getNearestMessage(MONITORS);
+                if (monitors == null) {
+                    return b;
+                }
+                List<Statement> statements = new ArrayList<>();
+                for (Statement statement : b.getStatements()) {
+                    Monitor monitor = statement instanceof J.Synchronized ?
+                            monitors.get(WaitNotify.key(((J.Synchronized) statement).getLock().getTree())) : null;
+                    if (monitor == null) {
+                        statements.add(statement);
+                    } else {
+                        statements.addAll(lockAndUnlock((J.Synchronized) statement, b, ctx));
+                    }
+                }
+                return b.withStatements(statements);
+            }
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                Map<String, Monitor> monitors = getCursor().getNearestMessage(MONITORS);
+                Monitor monitor = monitors == null || !WaitNotify.isMonitorMethod(mi) ? null : monitors.get(WaitNotify.key(mi.getSelect()));
+                if (monitor == null) {
+                    return mi;
+                }
+
+                Expression condition = monitor.conditionReference(Objects.requireNonNull(mi.getSelect()));
+                String any = "#{any(" + CONDITION + ")}";
+                if (WaitNotify.NOTIFY.matches(mi)) {
+                    return JavaTemplate.apply(any + ".signal()", getCursor(), mi.getCoordinates().replace(), condition);
+                } else if (WaitNotify.NOTIFY_ALL.matches(mi)) {
+                    return JavaTemplate.apply(any + ".signalAll()", getCursor(), mi.getCoordinates().replace(), condition);
+                } else if (WaitNotify.WAIT.matches(mi)) {
+                    return JavaTemplate.apply(any + ".await()", getCursor(), mi.getCoordinates().replace(), condition);
+                }
+                maybeAddImport(TIME_UNIT);
+                return JavaTemplate.builder(any + ".await(#{any(long)}, TimeUnit.MILLISECONDS)")
+                        .imports(TIME_UNIT)
+                        .build()
+                        .apply(getCursor(), mi.getCoordinates().replace(), condition, mi.getArguments().get(0));
+            }
+
+            private List<Statement> lockAndUnlock(J.Synchronized sync, J.Block block, ExecutionContext ctx) {
+                Cursor blockCursor = new Cursor(getCursor().getParentOrThrow(), block);
+                Expression lock = sync.getLock().getTree();
+                J.Block generated = JavaTemplate.builder(
+                                "{\n" +
+                                "    #{any(" + LOCK + ")}.lock();\n" +
+                                "    try {\n" +
+                                "    } finally {\n" +
+                                "        #{any(" + LOCK + ")}.unlock();\n" +
+                                "    }\n" +
+                                "}")
+                        .build()
+                        .apply(new Cursor(blockCursor, sync), sync.getCoordinates().replace(),
+                                WaitNotify.copy(lock, LOCK_TYPE), WaitNotify.copy(lock, LOCK_TYPE));
+
+                List<Statement> replacement = new ArrayList<>();
+                for (Statement statement : generated.getStatements()) {
+                    Statement s = autoFormat(statement.withPrefix(replacement.isEmpty() ? sync.getPrefix() : Space.format("\n")),
+                            ctx, blockCursor);
+                    if (s instanceof J.Try) {
+                        s = ((J.Try) s).withBody(sync.getBody());
+                    }
+                    replacement.add(s);
+                }
+                return replacement;
+            }
+        });
+    }
+
+    private static Map<String, Monitor> findMonitors(J.ClassDeclaration classDecl) {
+        Map<String, Monitor> monitors = new HashMap<>();
+        Set<String> names = new HashSet<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (!(statement instanceof J.VariableDeclarations)) {
+                continue;
+            }
+            J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+            for (J.VariableDeclarations.NamedVariable variable : vd.getVariables()) {
+                names.add(variable.getSimpleName());
+            }
+            J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+            String key = WaitNotify.key(variable.getVariableType());
+            if (key != null && vd.getVariables().size() == 1 && TypeUtils.isOfClassType(vd.getType(), "java.lang.Object") &&
+                vd.hasModifier(J.Modifier.Type.Private) && vd.hasModifier(J.Modifier.Type.Final) &&
+                vd.getLeadingAnnotations().isEmpty() && variable.getInitializer() instanceof J.NewClass &&
+                TypeUtils.isOfClassType(variable.getInitializer().getType(), "java.lang.Object") &&
+                ((J.NewClass) variable.getInitializer()).getBody() == null) {
+                monitors.put(key, new Monitor(Objects.requireNonNull(variable.getVariableType())));
+            }
+        }
+        if (monitors.isEmpty()) {
+            return monitors;
+        }
+
+        new ClassifyMonitorUses().visit(classDecl.getBody(), monitors, new Cursor(null, classDecl));
+        monitors.values().removeIf(monitor -> monitor.disqualified || !monitor.waitedOn);
+        for (Monitor monitor : monitors.values()) {
+            String name = monitor.field.getName();
+            String base = name.equals(name.toUpperCase(Locale.ROOT)) ? name + "_CONDITION" : name + "Condition";
+            String condition = base;
+            for (int i = 1; names.contains(condition); i++) {
+                condition = base + i;
+            }
+            names.add(condition);
+            monitor.condition = condition;
+        }
+        return monitors;
+    }
+
+    @RequiredArgsConstructor
+    private static class Monitor {
+        final JavaType.Variable field;
+        String condition = "condition";
+        boolean waitedOn;
+        boolean disqualified;
+
+        J.Identifier lockReference() {
+            return new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY,
+                    Collections.emptyList(), field.getName(), LOCK_TYPE, field.withType(LOCK_TYPE));
+        }
+
+        /**
+         * A reference to the condition, in the same form as the reference to the lock, as in `lock` or `this.lock`.
+         */
+        Expression conditionReference(Expression lock) {
+            Expression reference = WaitNotify.copy(lock, CONDITION_TYPE);
+            if (reference instanceof J.FieldAccess) {
+                J.FieldAccess fieldAccess = (J.FieldAccess) reference;
+                return fieldAccess.withName(fieldAccess.getName().withSimpleName(condition).withFieldType(null));
+            }
+            return ((J.Identifier) reference).withSimpleName(condition).withFieldType(null);
+        }
+    }
+
+    /**
+     * Disqualifies lock objects that are used in any other way than as the lock of a `synchronized` block, or to wait
+     * on and notify while holding that lock.
+     */
+    private static class ClassifyMonitorUses extends JavaIsoVisitor<Map<String, Monitor>> {
+        @Override
+        public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Map<String, Monitor> monitors) {
+            // Skip the name of the declaration itself
+            if (variable.getInitializer() != null) {
+                visit(variable.getInitializer(), monitors, new Cursor(getCursor(), variable));
+            }
+            return variable;
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, Map<String, Monitor> monitors) {
+            String key = WaitNotify.key(identifier.getFieldType());
+            Monitor monitor = key == null ? null : monitors.get(key);
+            if (monitor == null) {
+                return identifier;
+            }
+
+            Cursor parent = getCursor().getParentTreeCursor();
+            Expression reference = identifier;
+            if (parent.getValue() instanceof J.FieldAccess) {
+                if (WaitNotify.fieldOf(parent.getValue()) != identifier) {
+                    monitor.disqualified = true;
+                    return identifier;
+                }
+                reference = parent.getValue();
+                parent = parent.getParentTreeCursor();
+            }
+
+            if (parent.getValue() instanceof J.ControlParentheses && parent.getParentTreeCursor().getValue() instanceof J.Synchronized) {
+                // A `synchronized` statement is replaced by two statements
+                monitor.disqualified |= !(parent.getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.Block);
+            } else if (parent.getValue() instanceof J.MethodInvocation && ((J.MethodInvocation) parent.getValue()).getSelect() == reference &&
+                       WaitNotify.isMonitorMethod(parent.getValue())) {
+                J.MethodInvocation method = parent.getValue();
+                if (WaitNotify.ANY_WAIT.matches(method)) {
+                    monitor.waitedOn = true;
+                    monitor.disqualified |= !WaitNotify.WAIT.matches(method) && !isTimedWait(method, parent);
+                }
+                monitor.disqualified |= !isHoldingLock(parent, key);
+            } else {
+                monitor.disqualified = true;
+            }
+            return identifier;
+        }
+
+        /**
+         * A `wait(long)` with a positive literal timeout, as `await(0, MILLISECONDS)` does not wait at all, and whose
+         * result of `await` can be ignored.
+         */
+        private static boolean isTimedWait(J.MethodInvocation method, Cursor cursor) {
+            Expression timeout = method.getArguments().get(0);
+            return method.getArguments().size() == 1 && timeout instanceof J.Literal &&
+                   ((J.Literal) timeout).getValue() instanceof Number && ((Number) ((J.Literal) timeout).getValue()).longValue() > 0 &&
+                   cursor.getParentTreeCursor().getValue() instanceof J.Block;
+        }
+
+        /**
+         * Whether a call is made within a `synchronized` block on the same lock, and not deferred to a lambda or another class.
+         */
+        private static boolean isHoldingLock(Cursor cursor, String key) {
+            for (Cursor c = cursor.getParentTreeCursor(); !(c.getValue() instanceof J.ClassDeclaration); c = c.getParentTreeCursor()) {
+                Object value = c.getValue();
+                if (value instanceof J.Synchronized) {
+                    if (key.equals(WaitNotify.key(((J.Synchronized) value).getLock().getTree()))) {
+                        return true;
+                    }
+                } else if (value instanceof J.Lambda || value instanceof J.MethodDeclaration || value instanceof J.NewClass ||
+                           value instanceof J.MemberReference) {
+                    return false;
+                }
+            }
+            return false;
+        }
+    }
+}
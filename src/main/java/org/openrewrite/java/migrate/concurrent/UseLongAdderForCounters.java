@@ -0,0 +1,330 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.search.UsesJavaVersion;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+public class UseLongAdderForCounters extends Recipe {
+    private static final String ATOMIC_INTEGER = "java.util.concurrent.atomic.AtomicInteger";
+    private static final String ATOMIC_LONG = "java.util.concurrent.atomic.AtomicLong";
+    private static final String LONG_ADDER = "java.util.concurrent.atomic.LongAdder";
+    private static final String LONG_ACCUMULATOR = "java.util.concurrent.atomic.LongAccumulator";
+    private static final String COUNTERS = "COUNTERS";
+
+    @Getter
+    final String displayName = "Use `LongAdder` for contended counters";
+
+    @Getter
+    final String description = "Replace private final `AtomicLong` and `AtomicInteger` fields that are only updated " +
+            "through calls whose result is not used, such as `incrementAndGet()` or `addAndGet(long)`, with a `LongAdder`. " +
+            "Fields that are only updated through `accumulateAndGet` with `max`, `min` or `sum` become a `LongAccumulator`. " +
+            "Under contention these spread their updates over several cells, instead of having all threads compete for the " +
+            "same cache line. Reads are mapped to `sum()` or `get()`, and `getAndSet(0)` to `sumThenReset()`. Fields that " +
+            "are used in any other way, for instance by `compareAndSet` or by using the result of an update, are left as is.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(
+                        new UsesJavaVersion<>(8),
+                        Preconditions.or(new UsesType<>(ATOMIC_LONG, false), new UsesType<>(ATOMIC_INTEGER, false))),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        Map<String, Counter> counters = new HashMap<>();
+                        new FindCounterFields().visit(cu, counters);
+                        if (counters.isEmpty()) {
+                            return cu;
+                        }
+                        new ClassifyCounterUses().visit(cu, counters);
+                        counters.values().removeIf(counter -> !counter.isConvertible());
+                        if (counters.isEmpty()) {
+                            return cu;
+                        }
+                        getCursor().putMessage(COUNTERS, counters);
+                        return super.visitCompilationUnit(cu, ctx);
+                    }
+
+                    @Override
+                    public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                        J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+                        Counter counter = counter(variable.getName());
+                        if (counter == null || !(variable.getInitializer() instanceof J.NewClass) || vd.getTypeExpression() == null) {
+                            return vd;
+                        }
+
+                        J.NewClass initializer = (J.NewClass) variable.getInitializer();
+                        Expression initialValue = initializer.getArguments().get(0) instanceof J.Empty ? null : initializer.getArguments().get(0);
+                        String newType = counter.accumulator == null ? LONG_ADDER : LONG_ACCUMULATOR;
+                        JavaTemplate template;
+                        if (counter.accumulator == null) {
+                            template = JavaTemplate.builder("new LongAdder()").imports(LONG_ADDER).build();
+                        } else {
+                            template = JavaTemplate.builder("new LongAccumulator(" + counter.accumulator + ", " +
+                                                            (initialValue == null ? "0" : "#{any(long)}") + ")")
+                                    .imports(LONG_ACCUMULATOR)
+                                    .build();
+                        }
+                        Expression newInitializer = initialValue == null ?
+                                template.apply(new Cursor(getCursor(), initializer), initializer.getCoordinates().replace()) :
+                                template.apply(new Cursor(getCursor(), initializer), initializer.getCoordinates().replace(), initialValue);
+
+                        JavaType.ShallowClass type = JavaType.ShallowClass.build(newType);
+                        maybeAddImport(newType);
+                        maybeRemoveImport(counter.integer ? ATOMIC_INTEGER : ATOMIC_LONG);
+                        return vd
+                                .withTypeExpression(new J.Identifier(Tree.randomId(), vd.getTypeExpression().getPrefix(), Markers.EMPTY,
+                                        emptyList(), type.getClassName(), type, null))
+                                .withVariables(singletonList(variable.withInitializer(newInitializer).withType(type)));
+                    }
+
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                        Expression select = mi.getSelect();
+                        J.Identifier field = WaitNotify.fieldOf(select);
+                        Counter counter = field == null ? null : counter(field);
+                        if (select == null || counter == null) {
+                            return mi;
+                        }
+
+                        String type = counter.accumulator == null ? LONG_ADDER : LONG_ACCUMULATOR;
+                        Expression adder = WaitNotify.retype(select, JavaType.ShallowClass.build(type));
+                        String replacement;
+                        Expression argument = null;
+                        switch (mi.getSimpleName()) {
+                            case "incrementAndGet":
+                            case "getAndIncrement":
+                                replacement = "increment()";
+                                break;
+                            case "decrementAndGet":
+                            case "getAndDecrement":
+                                replacement = "decrement()";
+                                break;
+                            case "addAndGet":
+                            case "getAndAdd":
+                                replacement = "add(#{any(long)})";
+                                argument = mi.getArguments().get(0);
+                                break;
+                            case "accumulateAndGet":
+                                replacement = "accumulate(#{any(long)})";
+                                argument = mi.getArguments().get(0);
+                                break;
+                            case "get":
+                                replacement = counter.integer ? "intValue()" : counter.accumulator == null ? "sum()" : "get()";
+                                break;
+                            case "longValue":
+                                replacement = counter.accumulator == null ? "sum()" : "get()";
+                                break;
+                            case "getAndSet":
+                                replacement = "sumThenReset()";
+                                break;
+                            case "set":
+                                replacement = "reset()";
+                                break;
+                            default:
+                                // intValue(), doubleValue(), floatValue() and toString() keep their name
+                                return mi.withSelect(adder);
+                        }
+
+                        JavaTemplate template = JavaTemplate.builder("#{any(" + type + ")}." + replacement).build();
+                        return argument == null ?
+                                template.apply(getCursor(), mi.getCoordinates().replace(), adder) :
+                                template.apply(getCursor(), mi.getCoordinates().replace(), adder, argument);
+                    }
+
+                    private @Nullable Counter counter(J.Identifier identifier) {
+                        Map<String, Counter> counters = getCursor().getNearestMessage(COUNTERS);
+                        String key = WaitNotify.key(identifier.getFieldType());
+                        return counters == null || key == null ? null : counters.get(key);
+                    }
+                }
+        );
+    }
+
+    private static boolean isZero(Expression expression) {
+        return expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof Number &&
+               ((Number) ((J.Literal) expression).getValue()).longValue() == 0;
+    }
+
+    private static class Counter {
+        final boolean integer;
+        final boolean initiallyZero;
+
+        /**
+         * The function of `accumulateAndGet`, as a `LongBinaryOperator`.
+         */
+        @Nullable
+        String accumulator;
+
+        boolean added;
+        boolean reset;
+        boolean disqualified;
+
+        Counter(boolean integer, boolean initiallyZero) {
+            this.integer = integer;
+            this.initiallyZero = initiallyZero;
+        }
+
+        boolean isConvertible() {
+            if (disqualified) {
+                return false;
+            }
+            if (accumulator == null) {
+                // A `LongAdder` always starts from zero
+                return added && initiallyZero;
+            }
+            return !added && !reset;
+        }
+    }
+
+    /**
+     * Private final counter fields, which can only be used in this compilation unit.
+     */
+    private static class FindCounterFields extends JavaIsoVisitor<Map<String, Counter>> {
+        @Override
+        public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, Map<String, Counter> counters) {
+            J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, counters);
+            boolean integer = TypeUtils.isOfClassType(vd.getType(), ATOMIC_INTEGER);
+            if (!integer && !TypeUtils.isOfClassType(vd.getType(), ATOMIC_LONG) || vd.getVariables().size() != 1 ||
+                !vd.hasModifier(J.Modifier.Type.Private) || !vd.hasModifier(J.Modifier.Type.Final) ||
+                !(getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration)) {
+                return vd;
+            }
+            J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+            String key = WaitNotify.key(variable.getVariableType());
+            if (key != null && variable.getInitializer() instanceof J.NewClass &&
+                TypeUtils.isOfType(variable.getInitializer().getType(), vd.getType())) {
+                Expression initialValue = ((J.NewClass) variable.getInitializer()).getArguments().get(0);
+                counters.put(key, new Counter(integer, initialValue instanceof J.Empty || isZero(initialValue)));
+            }
+            return vd;
+        }
+    }
+
+    /**
+     * Decides for each use of a counter field whether it can be mapped onto a `LongAdder` or `LongAccumulator`.
+     */
+    private static class ClassifyCounterUses extends JavaIsoVisitor<Map<String, Counter>> {
+        @Override
+        public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Map<String, Counter> counters) {
+            // Skip the name of the declaration itself
+            if (variable.getInitializer() != null) {
+                visit(variable.getInitializer(), counters, new Cursor(getCursor(), variable));
+            }
+            return variable;
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, Map<String, Counter> counters) {
+            String key = WaitNotify.key(identifier.getFieldType());
+            Counter counter = key == null ? null : counters.get(key);
+            if (counter == null) {
+                return identifier;
+            }
+
+            Cursor parent = getCursor().getParentTreeCursor();
+            Object select = identifier;
+            if (parent.getValue() instanceof J.FieldAccess && WaitNotify.fieldOf((J.FieldAccess) parent.getValue()) == identifier) {
+                select = parent.getValue();
+                parent = parent.getParentTreeCursor();
+            }
+            if (!(parent.getValue() instanceof J.MethodInvocation) || ((J.MethodInvocation) parent.getValue()).getSelect() != select) {
+                counter.disqualified = true;
+                return identifier;
+            }
+
+            J.MethodInvocation method = parent.getValue();
+            boolean resultUnused = parent.getParentTreeCursor().getValue() instanceof J.Block;
+            switch (method.getSimpleName()) {
+                case "incrementAndGet":
+                case "getAndIncrement":
+                case "decrementAndGet":
+                case "getAndDecrement":
+                case "addAndGet":
+                case "getAndAdd":
+                    counter.added = true;
+                    counter.disqualified |= !resultUnused;
+                    break;
+                case "accumulateAndGet":
+                    String accumulator = accumulator(method.getArguments().get(1));
+                    if (!resultUnused || accumulator == null || counter.accumulator != null && !counter.accumulator.equals(accumulator)) {
+                        counter.disqualified = true;
+                    }
+                    counter.accumulator = accumulator;
+                    break;
+                case "getAndSet":
+                    counter.reset = true;
+                    counter.disqualified |= counter.integer || !isZero(method.getArguments().get(0));
+                    break;
+                case "set":
+                    counter.reset = true;
+                    counter.disqualified |= !resultUnused || !isZero(method.getArguments().get(0));
+                    break;
+                case "get":
+                case "intValue":
+                case "longValue":
+                case "doubleValue":
+                case "floatValue":
+                case "toString":
+                    break;
+                default:
+                    // Such as compareAndSet, which needs a single value to compare against
+                    counter.disqualified = true;
+            }
+            return identifier;
+        }
+
+        /**
+         * Only commutative and associative functions give the same result when applied per cell.
+         */
+        private static @Nullable String accumulator(Expression function) {
+            if (!(function instanceof J.MemberReference) || !(((J.MemberReference) function).getContaining() instanceof J.Identifier)) {
+                return null;
+            }
+            J.MemberReference reference = (J.MemberReference) function;
+            String containing = ((J.Identifier) reference.getContaining()).getSimpleName();
+            String name = reference.getReference().getSimpleName();
+            if (!"Math".equals(containing) && !"Long".equals(containing) && !"Integer".equals(containing)) {
+                return null;
+            }
+            if ("max".equals(name) || "min".equals(name)) {
+                return "Math::" + name;
+            }
+            return "sum".equals(name) && !"Math".equals(containing) ? "Long::sum" : null;
+        }
+    }
+}
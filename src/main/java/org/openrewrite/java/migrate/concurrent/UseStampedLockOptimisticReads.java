@@ -0,0 +1,525 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.RandomizeIdVisitor;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.search.UsesJavaVersion;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+public class UseStampedLockOptimisticReads extends Recipe {
+    private static final String REENTRANT_READ_WRITE_LOCK = "java.util.concurrent.locks.ReentrantReadWriteLock";
+    private static final String READ_WRITE_LOCK = "java.util.concurrent.locks.ReadWriteLock";
+    private static final String STAMPED_LOCK = "java.util.concurrent.locks.StampedLock";
+    private static final String LOCKS = "LOCKS";
+
+    @Getter
+    final String displayName = "Use `StampedLock` optimistic reads instead of a `ReentrantReadWriteLock`";
+
+    @Getter
+    final String description = "Replace a private `ReentrantReadWriteLock` field that is only used in `lock()`, " +
+            "`try` and `finally { unlock(); }` blocks with a `StampedLock`. Read blocks that only return a combination " +
+            "of fields use `tryOptimisticRead()` and `validate(long)`, and only fall back to the read lock when a write " +
+            "intervened, so that readers no longer write to the shared state of the lock. Other read and write blocks use the " +
+            "read and write lock of the `StampedLock`. As a `StampedLock` is not reentrant and has no `Condition`s, locks " +
+            "that are acquired while they are already held, or that are used with a `Condition`, are marked instead.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(new UsesJavaVersion<>(8), new UsesType<>(REENTRANT_READ_WRITE_LOCK, false)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        LockUses uses = new LockUses();
+                        new FindLockFields().visit(cu, uses.locks);
+                        if (uses.locks.isEmpty()) {
+                            return cu;
+                        }
+                        new ClassifyLockUses().visit(cu, uses);
+                        uses.findReentrantAcquisitions();
+                        uses.locks.values().removeIf(lock -> lock.skipReason == null && (lock.unsupported || lock.acquisitions.isEmpty()));
+                        if (uses.locks.isEmpty()) {
+                            return cu;
+                        }
+                        getCursor().putMessage(LOCKS, uses.locks);
+                        return super.visitCompilationUnit(cu, ctx);
+                    }
+
+                    @Override
+                    public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                        J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+                        GuardedLock lock = lock(variable.getName());
+                        if (lock == null || variable.getInitializer() == null || vd.getTypeExpression() == null) {
+                            return vd;
+                        }
+                        if (lock.skipReason != null) {
+                            return SearchResult.found(vd, lock.skipReason);
+                        }
+
+                        Expression initializer = JavaTemplate.builder("new StampedLock()")
+                                .imports(STAMPED_LOCK)
+                                .build()
+                                .apply(new Cursor(getCursor(), variable.getInitializer()), variable.getInitializer().getCoordinates().replace());
+                        JavaType.ShallowClass type = JavaType.ShallowClass.build(STAMPED_LOCK);
+                        maybeAddImport(STAMPED_LOCK);
+                        maybeRemoveImport(REENTRANT_READ_WRITE_LOCK);
+                        maybeRemoveImport(READ_WRITE_LOCK);
+                        return vd
+                                .withTypeExpression(new J.Identifier(Tree.randomId(), vd.getTypeExpression().getPrefix(), Markers.EMPTY,
+                                        emptyList(), type.getClassName(), type, null))
+                                .withVariables(singletonList(variable.withInitializer(initializer).withType(type)));
+                    }
+
+                    @Override
+                    public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = super.visitBlock(block, ctx);
+                        Map<String, GuardedLock> locks = getCursor().getNearestMessage(LOCKS);
+                        if (locks == null) {
+                            return b;
+                        }
+
+                        Set<String> declaredNames = new HashSet<>();
+                        List<Statement> statements = new ArrayList<>(b.getStatements());
+                        for (int i = 0; i < statements.size() - 1; i++) {
+                            Acquisition acquisition = Acquisition.of(statements.get(i), statements.get(i + 1));
+                            GuardedLock lock = acquisition == null ? null : locks.get(acquisition.lock);
+                            if (lock == null || lock.skipReason != null) {
+                                continue;
+                            }
+                            List<Statement> replacement = toStampedLock(acquisition, (J.MethodInvocation) statements.get(i),
+                                    (J.Try) statements.get(i + 1), declaredNames, b, ctx);
+                            statements.remove(i + 1);
+                            statements.remove(i);
+                            statements.addAll(i, replacement);
+                            i += replacement.size() - 1;
+                        }
+                        return b.withStatements(statements);
+                    }
+
+                    private List<Statement> toStampedLock(Acquisition acquisition, J.MethodInvocation lockStatement, J.Try tryFinally,
+                                                          Set<String> declaredNames, J.Block block, ExecutionContext ctx) {
+                        Cursor statementCursor = new Cursor(new Cursor(getCursor().getParentOrThrow(), block), lockStatement);
+                        String stamp = variableName("stamp", statementCursor, declaredNames);
+                        Expression lock = ((J.MethodInvocation) Objects.requireNonNull(lockStatement.getSelect())).getSelect();
+                        Expression returned = optimisticallyReadable(acquisition, tryFinally);
+                        String returnType = returned == null ? null : typeName(returned.getType());
+                        boolean optimistic = returned != null && returnType != null;
+
+                        J.Block generated;
+                        if (optimistic) {
+                            String result = variableName("result", statementCursor, declaredNames);
+                            String any = "#{any(" + (returned.getType() instanceof JavaType.FullyQualified ?
+                                    ((JavaType.FullyQualified) returned.getType()).getFullyQualifiedName() :
+                                    returned.getType() == JavaType.Primitive.String ? "java.lang.String" : returnType) + ")}";
+                            String stampedLock = "#{any(" + STAMPED_LOCK + ")}";
+                            JavaTemplate.Builder template = JavaTemplate.builder(
+                                    "{\n" +
+                                    "    long " + stamp + " = " + stampedLock + ".tryOptimisticRead();\n" +
+                                    "    " + returnType + " " + result + " = " + any + ";\n" +
+                                    "    if (!" + stampedLock + ".validate(" + stamp + ")) {\n" +
+                                    "        " + stamp + " = " + stampedLock + ".readLock();\n" +
+                                    "        try {\n" +
+                                    "            " + result + " = " + any + ";\n" +
+                                    "        } finally {\n" +
+                                    "            " + stampedLock + ".unlockRead(" + stamp + ");\n" +
+                                    "        }\n" +
+                                    "    }\n" +
+                                    "    return " + result + ";\n" +
+                                    "}");
+                            if (returned.getType() instanceof JavaType.FullyQualified) {
+                                template.imports(((JavaType.FullyQualified) returned.getType()).getFullyQualifiedName());
+                            }
+                            generated = template.build().apply(statementCursor, lockStatement.getCoordinates().replace(),
+                                    copy(lock), copy(returned), copy(lock), copy(lock), copy(returned), copy(lock));
+                        } else {
+                            String mode = acquisition.write ? "Write" : "Read";
+                            generated = JavaTemplate.builder(
+                                            "{\n" +
+                                            "    long " + stamp + " = #{any(" + STAMPED_LOCK + ")}." + mode.toLowerCase(Locale.ROOT) + "Lock();\n" +
+                                            "    try {\n" +
+                                            "    } finally {\n" +
+                                            "        #{any(" + STAMPED_LOCK + ")}.unlock" + mode + "(" + stamp + ");\n" +
+                                            "    }\n" +
+                                            "}")
+                                    .build()
+                                    .apply(statementCursor, lockStatement.getCoordinates().replace(), copy(lock), copy(lock));
+                        }
+
+                        Cursor blockCursor = new Cursor(getCursor().getParentOrThrow(), block);
+                        List<Statement> replacement = new ArrayList<>();
+                        for (Statement statement : generated.getStatements()) {
+                            Statement s = autoFormat(statement.withPrefix(replacement.isEmpty() ? lockStatement.getPrefix() : Space.format("\n")),
+                                    ctx, blockCursor);
+                            if (s instanceof J.Try && !optimistic) {
+                                s = ((J.Try) s).withBody(tryFinally.getBody()).withCatches(tryFinally.getCatches());
+                            }
+                            replacement.add(s);
+                        }
+                        return replacement;
+                    }
+
+                    private @Nullable GuardedLock lock(J.Identifier identifier) {
+                        Map<String, GuardedLock> locks = getCursor().getNearestMessage(LOCKS);
+                        String key = WaitNotify.key(identifier.getFieldType());
+                        return locks == null || key == null ? null : locks.get(key);
+                    }
+                }
+        );
+    }
+
+    private static String variableName(String name, Cursor cursor, Set<String> declaredNames) {
+        String candidate = VariableNameUtils.generateVariableName(name, cursor, VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER);
+        for (int i = 1; declaredNames.contains(candidate); i++) {
+            candidate = name + i;
+        }
+        declaredNames.add(candidate);
+        return candidate;
+    }
+
+    private static Expression copy(Expression expression) {
+        Expression copy = (Expression) new RandomizeIdVisitor<Integer>().visitNonNull(expression, 0);
+        return WaitNotify.fieldOf(copy) != null && isOfLockType(copy.getType()) ?
+                WaitNotify.retype(copy, JavaType.ShallowClass.build(STAMPED_LOCK)) : copy;
+    }
+
+    private static boolean isOfLockType(@Nullable JavaType type) {
+        return TypeUtils.isOfClassType(type, REENTRANT_READ_WRITE_LOCK) || TypeUtils.isOfClassType(type, READ_WRITE_LOCK);
+    }
+
+    private static @Nullable String typeName(@Nullable JavaType type) {
+        if (type instanceof JavaType.Primitive && type != JavaType.Primitive.Null && type != JavaType.Primitive.None &&
+            type != JavaType.Primitive.Void) {
+            return ((JavaType.Primitive) type).getKeyword();
+        } else if (type instanceof JavaType.Class && ((JavaType.Class) type).getTypeParameters().isEmpty() &&
+                   ((JavaType.Class) type).getOwningClass() == null) {
+            return ((JavaType.Class) type).getClassName();
+        }
+        return null;
+    }
+
+    /**
+     * The expression returned by a read block, if it can be evaluated without holding the lock. As the fields can
+     * change while it is evaluated, it may only read fields of this object and combine primitive values without
+     * any operations that can throw, have side effects or not terminate on inconsistent values.
+     */
+    private static @Nullable Expression optimisticallyReadable(Acquisition acquisition, J.Try tryFinally) {
+        if (acquisition.write || !tryFinally.getCatches().isEmpty() || tryFinally.getBody().getStatements().size() != 1 ||
+            !(tryFinally.getBody().getStatements().get(0) instanceof J.Return)) {
+            return null;
+        }
+        Expression returned = ((J.Return) tryFinally.getBody().getStatements().get(0)).getExpression();
+        if (returned == null) {
+            return null;
+        }
+        boolean singleField = returned instanceof J.Identifier ||
+                              returned instanceof J.FieldAccess && WaitNotify.isThis(((J.FieldAccess) returned).getTarget());
+        AtomicBoolean readable = new AtomicBoolean(true);
+        AtomicBoolean readsField = new AtomicBoolean();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public @Nullable J preVisit(J tree, Integer p) {
+                if (!(tree instanceof J.Identifier || tree instanceof J.FieldAccess || tree instanceof J.Literal ||
+                      tree instanceof J.Parentheses || tree instanceof J.Binary || tree instanceof J.Unary ||
+                      tree instanceof J.Ternary || tree instanceof J.InstanceOf || tree instanceof J.ControlParentheses)) {
+                    readable.set(false);
+                }
+                return super.preVisit(tree, p);
+            }
+
+            @Override
+            public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, Integer p) {
+                if (!WaitNotify.isThis(fieldAccess.getTarget())) {
+                    readable.set(false);
+                }
+                readsField.set(true);
+                return fieldAccess;
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                JavaType.Variable fieldType = identifier.getFieldType();
+                if (fieldType != null && fieldType.getOwner() instanceof JavaType.FullyQualified) {
+                    readsField.set(true);
+                }
+                if (!singleField && !(identifier.getType() instanceof JavaType.Primitive)) {
+                    // Unboxing a field that is being replaced could throw
+                    readable.set(false);
+                }
+                return identifier;
+            }
+
+            @Override
+            public J.Binary visitBinary(J.Binary binary, Integer p) {
+                if (binary.getOperator() == J.Binary.Type.Division || binary.getOperator() == J.Binary.Type.Modulo) {
+                    readable.set(false);
+                }
+                return super.visitBinary(binary, p);
+            }
+
+            @Override
+            public J.Unary visitUnary(J.Unary unary, Integer p) {
+                if (unary.getOperator().isModifying()) {
+                    readable.set(false);
+                }
+                return super.visitUnary(unary, p);
+            }
+        }.visit(returned, 0);
+        return readable.get() && readsField.get() ? returned : null;
+    }
+
+    private static @Nullable String signature(JavaType.@Nullable Method methodType) {
+        return methodType == null ? null :
+                methodType.getDeclaringType().getFullyQualifiedName() + "#" + methodType.getName() + methodType.getParameterTypes();
+    }
+
+    private static class GuardedLock {
+        final List<Acquisition> acquisitions = new ArrayList<>();
+        boolean unsupported;
+
+        @Nullable
+        String skipReason;
+    }
+
+    /**
+     * A `lock.readLock().lock()` or `lock.writeLock().lock()` statement, followed by a `try` statement that
+     * releases the lock again in its `finally` block.
+     */
+    @RequiredArgsConstructor
+    private static class Acquisition {
+        final String lock;
+        final boolean write;
+        final J.Identifier lockReference;
+        final J.Identifier unlockReference;
+        final J.Try tryFinally;
+
+        @Nullable
+        String enclosingMethod;
+
+        static @Nullable Acquisition of(Statement statement, Statement next) {
+            if (!(next instanceof J.Try) || ((J.Try) next).getResources() != null || ((J.Try) next).getFinally() == null ||
+                ((J.Try) next).getFinally().getStatements().size() != 1) {
+                return null;
+            }
+            J.Try tryFinally = (J.Try) next;
+            String lockMode = lockMode(statement, "lock");
+            String unlockMode = lockMode(tryFinally.getFinally().getStatements().get(0), "unlock");
+            if (lockMode == null || !lockMode.equals(unlockMode)) {
+                return null;
+            }
+            J.Identifier lockReference = lockReference(statement);
+            J.Identifier unlockReference = lockReference(tryFinally.getFinally().getStatements().get(0));
+            String lock = WaitNotify.key(lockReference.getFieldType());
+            if (lock == null || !lock.equals(WaitNotify.key(unlockReference.getFieldType()))) {
+                return null;
+            }
+            return new Acquisition(lock, "writeLock".equals(lockMode), lockReference, unlockReference, tryFinally);
+        }
+
+        /**
+         * For a `lock.readLock().lock()` call, the `readLock` or `writeLock` method it is called on.
+         */
+        private static @Nullable String lockMode(Statement statement, String name) {
+            if (!(statement instanceof J.MethodInvocation) || !name.equals(((J.MethodInvocation) statement).getSimpleName()) ||
+                !(((J.MethodInvocation) statement).getSelect() instanceof J.MethodInvocation)) {
+                return null;
+            }
+            J.MethodInvocation mode = (J.MethodInvocation) ((J.MethodInvocation) statement).getSelect();
+            if (!"readLock".equals(mode.getSimpleName()) && !"writeLock".equals(mode.getSimpleName()) ||
+                WaitNotify.fieldOf(mode.getSelect()) == null || !isOfLockType(mode.getSelect().getType())) {
+                return null;
+            }
+            return mode.getSimpleName();
+        }
+
+        private static J.Identifier lockReference(Statement statement) {
+            J.MethodInvocation mode = (J.MethodInvocation) Objects.requireNonNull(((J.MethodInvocation) statement).getSelect());
+            return Objects.requireNonNull(WaitNotify.fieldOf(mode.getSelect()));
+        }
+    }
+
+    /**
+     * Private final `ReentrantReadWriteLock` fields, which can only be used in this compilation unit. A
+     * `StampedLock` has no fairness policy, so only locks with the default policy are considered.
+     */
+    private static class FindLockFields extends JavaIsoVisitor<Map<String, GuardedLock>> {
+        @Override
+        public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, Map<String, GuardedLock> locks) {
+            J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, locks);
+            if (!isOfLockType(vd.getType()) || vd.getVariables().size() != 1 || !vd.hasModifier(J.Modifier.Type.Private) ||
+                !vd.hasModifier(J.Modifier.Type.Final) ||
+                !(getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration)) {
+                return vd;
+            }
+            J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+            String key = WaitNotify.key(variable.getVariableType());
+            if (key != null && variable.getInitializer() instanceof J.NewClass &&
+                TypeUtils.isOfClassType(variable.getInitializer().getType(), REENTRANT_READ_WRITE_LOCK) &&
+                ((J.NewClass) variable.getInitializer()).getArguments().get(0) instanceof J.Empty) {
+                locks.put(key, new GuardedLock());
+            }
+            return vd;
+        }
+    }
+
+    private static class LockUses {
+        final Map<String, GuardedLock> locks = new HashMap<>();
+
+        /**
+         * The methods called by each method of this compilation unit.
+         */
+        final Map<String, Set<String>> calls = new HashMap<>();
+
+        /**
+         * Acquiring a `StampedLock` that is already held by the same thread blocks forever. Look for acquisitions
+         * that contain another acquisition of the same lock, or call a method of this compilation unit that does.
+         */
+        void findReentrantAcquisitions() {
+            for (GuardedLock lock : locks.values()) {
+                Set<String> acquiringMethods = new HashSet<>();
+                for (Acquisition acquisition : lock.acquisitions) {
+                    if (acquisition.enclosingMethod != null) {
+                        acquiringMethods.add(acquisition.enclosingMethod);
+                    }
+                }
+                for (boolean changed = true; changed; ) {
+                    changed = false;
+                    for (Map.Entry<String, Set<String>> caller : calls.entrySet()) {
+                        if (!acquiringMethods.contains(caller.getKey()) && !Collections.disjoint(caller.getValue(), acquiringMethods)) {
+                            changed = acquiringMethods.add(caller.getKey());
+                        }
+                    }
+                }
+
+                Set<J.Identifier> lockReferences = new HashSet<>();
+                for (Acquisition acquisition : lock.acquisitions) {
+                    lockReferences.add(acquisition.lockReference);
+                }
+                for (Acquisition acquisition : lock.acquisitions) {
+                    AtomicBoolean reentrant = new AtomicBoolean();
+                    new JavaIsoVisitor<AtomicBoolean>() {
+                        @Override
+                        public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean r) {
+                            if (lockReferences.contains(identifier)) {
+                                r.set(true);
+                            }
+                            return identifier;
+                        }
+
+                        @Override
+                        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean r) {
+                            if (acquiringMethods.contains(signature(method.getMethodType()))) {
+                                r.set(true);
+                            }
+                            return super.visitMethodInvocation(method, r);
+                        }
+                    }.visit(acquisition.tryFinally.getBody(), reentrant);
+                    if (reentrant.get()) {
+                        lock.skipReason = "`StampedLock` is not reentrant, and this lock is acquired while it is already held";
+                    }
+                }
+            }
+        }
+    }
+
+    private static class ClassifyLockUses extends JavaIsoVisitor<LockUses> {
+        private final Set<J.Identifier> acquisitionReferences = new HashSet<>();
+
+        @Override
+        public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, LockUses uses) {
+            // Skip the name of the declaration itself
+            if (variable.getInitializer() != null) {
+                visit(variable.getInitializer(), uses, new Cursor(getCursor(), variable));
+            }
+            return variable;
+        }
+
+        @Override
+        public J.Block visitBlock(J.Block block, LockUses uses) {
+            for (int i = 0; i < block.getStatements().size() - 1; i++) {
+                Acquisition acquisition = Acquisition.of(block.getStatements().get(i), block.getStatements().get(i + 1));
+                GuardedLock lock = acquisition == null ? null : uses.locks.get(acquisition.lock);
+                if (lock != null) {
+                    J.MethodDeclaration method = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                    acquisition.enclosingMethod = method == null ? null : signature(method.getMethodType());
+                    lock.acquisitions.add(acquisition);
+                    acquisitionReferences.add(acquisition.lockReference);
+                    acquisitionReferences.add(acquisition.unlockReference);
+                }
+            }
+            return super.visitBlock(block, uses);
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, LockUses uses) {
+            J.MethodDeclaration caller = getCursor().firstEnclosing(J.MethodDeclaration.class);
+            String callerSignature = caller == null ? null : signature(caller.getMethodType());
+            String calleeSignature = signature(method.getMethodType());
+            if (callerSignature != null && calleeSignature != null) {
+                uses.calls.computeIfAbsent(callerSignature, k -> new HashSet<>()).add(calleeSignature);
+            }
+            return super.visitMethodInvocation(method, uses);
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, LockUses uses) {
+            String key = WaitNotify.key(identifier.getFieldType());
+            GuardedLock lock = key == null ? null : uses.locks.get(key);
+            if (lock == null || acquisitionReferences.contains(identifier)) {
+                return identifier;
+            }
+
+            Cursor parent = getCursor().getParentTreeCursor();
+            if (parent.getValue() instanceof J.FieldAccess && WaitNotify.fieldOf((J.FieldAccess) parent.getValue()) == identifier) {
+                parent = parent.getParentTreeCursor();
+            }
+            J.MethodInvocation method = parent.getValue() instanceof J.MethodInvocation ? parent.getValue() : null;
+            J.MethodInvocation chained = method != null && parent.getParentTreeCursor().getValue() instanceof J.MethodInvocation ?
+                    parent.getParentTreeCursor().getValue() : null;
+            String name = chained != null && chained.getSelect() == method ? chained.getSimpleName() :
+                    method != null ? method.getSimpleName() : "";
+            if ("newCondition".equals(name)) {
+                lock.skipReason = "`StampedLock` does not support `Condition`s";
+            } else if (name.endsWith("HoldCount") || name.endsWith("ByCurrentThread")) {
+                lock.skipReason = "`StampedLock` is not reentrant, and this lock is queried for its holds by the current thread";
+            } else {
+                lock.unsupported = true;
+            }
+            return identifier;
+        }
+    }
+}
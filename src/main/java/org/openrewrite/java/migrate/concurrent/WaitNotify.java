@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Recognizes threads that coordinate through the monitor of an object, with `wait()`, `notify()` and `notifyAll()`,
+ * and the references to fields that all recipes of this package use to track the fields they migrate.
+ */
+final class WaitNotify {
+    static final MethodMatcher WAIT = new MethodMatcher("java.lang.Object wait()");
+    static final MethodMatcher ANY_WAIT = new MethodMatcher("java.lang.Object wait(..)");
+    static final MethodMatcher NOTIFY = new MethodMatcher("java.lang.Object notify()");
+    static final MethodMatcher NOTIFY_ALL = new MethodMatcher("java.lang.Object notifyAll()");
+
+    private WaitNotify() {
+    }
+
+    static boolean isMonitorMethod(J.MethodInvocation method) {
+        return ANY_WAIT.matches(method) || NOTIFY.matches(method) || NOTIFY_ALL.matches(method);
+    }
+
+    /**
+     * The condition of a `while (condition) wait();` loop, which waits on the monitor of `this`.
+     */
+    static @Nullable Expression waitLoopCondition(Statement statement) {
+        if (!(statement instanceof J.WhileLoop)) {
+            return null;
+        }
+        J.WhileLoop loop = (J.WhileLoop) statement;
+        Statement body = loop.getBody();
+        if (body instanceof J.Block && ((J.Block) body).getStatements().size() == 1) {
+            body = ((J.Block) body).getStatements().get(0);
+        }
+        return isCallOnThis(body, WAIT) ? loop.getCondition().getTree() : null;
+    }
+
+    static boolean isCallOnThis(Statement statement, MethodMatcher matcher) {
+        return statement instanceof J.MethodInvocation && matcher.matches((J.MethodInvocation) statement) &&
+               isThis(((J.MethodInvocation) statement).getSelect());
+    }
+
+    /**
+     * Removes a single `notifyAll()` on `this` from the statements.
+     */
+    static boolean removeNotifyAll(List<Statement> statements) {
+        List<Statement> notifications = new ArrayList<>();
+        for (Statement statement : statements) {
+            if (isCallOnThis(statement, NOTIFY_ALL)) {
+                notifications.add(statement);
+            }
+        }
+        return notifications.size() == 1 && statements.remove(notifications.get(0));
+    }
+
+    /**
+     * Whether the class uses its own monitor outside the given methods, which can then not stop being `synchronized`.
+     * As instances of nested classes have a monitor of their own, their use is conservatively included.
+     */
+    static boolean usesMonitorOutside(J.ClassDeclaration classDecl, Set<UUID> methods) {
+        AtomicBoolean found = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, AtomicBoolean f) {
+                return methods.contains(method.getId()) ? method : super.visitMethodDeclaration(method, f);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean f) {
+                if (isMonitorMethod(method) && isThis(method.getSelect())) {
+                    f.set(true);
+                }
+                return super.visitMethodInvocation(method, f);
+            }
+
+            @Override
+            public J.Synchronized visitSynchronized(J.Synchronized sync, AtomicBoolean f) {
+                if (isThis(sync.getLock().getTree())) {
+                    f.set(true);
+                }
+                return super.visitSynchronized(sync, f);
+            }
+        }.visit(classDecl.getBody(), found);
+        return found.get();
+    }
+
+    /**
+     * Whether a read of a field that is turned into a concurrent data structure keeps its meaning. When it is read
+     * while holding the monitor, other code in the `synchronized` block may rely on the field not changing, unless
+     * the method does nothing else than returning it.
+     */
+    static boolean isReadableWithoutMonitor(Cursor cursor, Expression read) {
+        J.MethodDeclaration method = cursor.firstEnclosing(J.MethodDeclaration.class);
+        if (cursor.firstEnclosing(J.Synchronized.class) == null &&
+            (method == null || !method.hasModifier(J.Modifier.Type.Synchronized))) {
+            return true;
+        }
+        if (method == null || method.getBody() == null || method.getBody().getStatements().size() != 1 ||
+            !(method.getBody().getStatements().get(0) instanceof J.Return)) {
+            return false;
+        }
+        Expression returned = ((J.Return) method.getBody().getStatements().get(0)).getExpression();
+        return returned == read || returned instanceof J.MethodInvocation && ((J.MethodInvocation) returned).getSelect() == read;
+    }
+
+    static J.MethodDeclaration withoutSynchronized(J.MethodDeclaration method) {
+        List<J.Modifier> modifiers = new ArrayList<>(method.getModifiers());
+        int index = -1;
+        for (int i = 0; i < modifiers.size(); i++) {
+            if (modifiers.get(i).getType() == J.Modifier.Type.Synchronized) {
+                index = i;
+            }
+        }
+        if (index < 0) {
+            return method;
+        }
+        J.Modifier removed = modifiers.remove(index);
+        if (index > 0) {
+            return method.withModifiers(modifiers);
+        } else if (!modifiers.isEmpty()) {
+            modifiers.set(0, modifiers.get(0).withPrefix(removed.getPrefix()));
+            return method.withModifiers(modifiers);
+        }
+        J.TypeParameters typeParameters = method.getPadding().getTypeParameters();
+        if (typeParameters != null) {
+            return method.withModifiers(modifiers).getPadding().withTypeParameters(typeParameters.withPrefix(removed.getPrefix()));
+        }
+        TypeTree returnType = method.getReturnTypeExpression();
+        return returnType == null ? method.withModifiers(modifiers) :
+                method.withModifiers(modifiers).withReturnTypeExpression(returnType.withPrefix(removed.getPrefix()));
+    }
+
+    static boolean isThis(@Nullable Expression select) {
+        return select == null || select instanceof J.Identifier && "this".equals(((J.Identifier) select).getSimpleName());
+    }
+
+    /**
+     * The field referenced by `field` or `this.field`.
+     */
+    static J.@Nullable Identifier fieldOf(@Nullable Expression expression) {
+        if (expression instanceof J.Identifier) {
+            return (J.Identifier) expression;
+        } else if (expression instanceof J.FieldAccess && ((J.FieldAccess) expression).getTarget() instanceof J.Identifier &&
+                   "this".equals(((J.Identifier) ((J.FieldAccess) expression).getTarget()).getSimpleName())) {
+            return ((J.FieldAccess) expression).getName();
+        }
+        return null;
+    }
+
+    static @Nullable String key(@Nullable Expression expression) {
+        J.Identifier field = fieldOf(expression);
+        return field == null ? null : key(field.getFieldType());
+    }
+
+    static @Nullable String key(JavaType.@Nullable Variable fieldType) {
+        if (fieldType == null || !(fieldType.getOwner() instanceof JavaType.FullyQualified)) {
+            return null;
+        }
+        return ((JavaType.FullyQualified) fieldType.getOwner()).getFullyQualifiedName() + "#" + fieldType.getName();
+    }
+
+    /**
+     * Replaces the type of a reference to a field, as in `field` or `this.field`.
+     */
+    static Expression retype(Expression reference, JavaType type) {
+        if (reference instanceof J.FieldAccess) {
+            J.FieldAccess fieldAccess = (J.FieldAccess) reference;
+            return fieldAccess.withName((J.Identifier) retype(fieldAccess.getName(), type)).withType(type);
+        }
+        J.Identifier identifier = (J.Identifier) reference;
+        return identifier.withType(type)
+                .withFieldType(identifier.getFieldType() == null ? null : identifier.getFieldType().withType(type));
+    }
+
+    /**
+     * Retypes the reference with fresh ids, so that it can be used more than once.
+     */
+    static Expression copy(Expression reference, JavaType type) {
+        if (reference instanceof J.FieldAccess) {
+            J.FieldAccess fieldAccess = (J.FieldAccess) reference;
+            return fieldAccess.withId(Tree.randomId())
+                    .withTarget(fieldAccess.getTarget().withId(Tree.randomId()))
+                    .withName((J.Identifier) copy(fieldAccess.getName(), type))
+                    .withType(type);
+        }
+        return retype(reference, type).withId(Tree.randomId());
+    }
+}
@@ -61,7 +61,7 @@ public class NoMapsAndSetsWithExpectedSize extends Recipe {
                             maybeRemoveImport("com.google.common.collect.Maps");
                             maybeAddImport("java.util.HashMap");
                             JavaCoordinates coordinates = j.getCoordinates().replace();
-                            return JavaTemplate.builder("new HashMap<>(#{any()})")
+                            return JavaTemplate.builder("HashMap.newHashMap(#{any(int)})")
                                     .imports("java.util.HashMap")
                                     .build()
                                     .apply(getCursor(), coordinates, j.getArguments().toArray());
@@ -70,7 +70,7 @@ public class NoMapsAndSetsWithExpectedSize extends Recipe {
                             maybeRemoveImport("com.google.common.collect.Maps");
                             maybeAddImport("java.util.LinkedHashMap");
                             JavaCoordinates coordinates = j.getCoordinates().replace();
-                            return JavaTemplate.builder("new LinkedHashMap<>(#{any()})")
+                            return JavaTemplate.builder("LinkedHashMap.newLinkedHashMap(#{any(int)})")
                                     .imports("java.util.LinkedHashMap")
                                     .build()
                                     .apply(getCursor(), coordinates, j.getArguments().toArray());
@@ -79,7 +79,7 @@ public class NoMapsAndSetsWithExpectedSize extends Recipe {
                             maybeRemoveImport("com.google.common.collect.Sets");
                             maybeAddImport("java.util.HashSet");
                             JavaCoordinates coordinates = j.getCoordinates().replace();
-                            return JavaTemplate.builder("new HashSet<>(#{any()})")
+                            return JavaTemplate.builder("HashSet.newHashSet(#{any(int)})")
                                     .imports("java.util.HashSet")
                                     .build()
                                     .apply(getCursor(), coordinates, j.getArguments().toArray());
@@ -88,7 +88,7 @@ public class NoMapsAndSetsWithExpectedSize extends Recipe {
                             maybeRemoveImport("com.google.common.collect.Sets");
                             maybeAddImport("java.util.LinkedHashSet");
                             JavaCoordinates coordinates = j.getCoordinates().replace();
-                            return JavaTemplate.builder("new LinkedHashSet<>(#{any()})")
+                            return JavaTemplate.builder("LinkedHashSet.newLinkedHashSet(#{any(int)})")
                                     .imports("java.util.LinkedHashSet")
                                     .build()
                                     .apply(getCursor(), coordinates, j.getArguments().toArray());
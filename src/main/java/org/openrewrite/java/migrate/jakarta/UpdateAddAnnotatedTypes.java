@@ -17,11 +17,13 @@ package org.openrewrite.java.migrate.jakarta;
 
 import lombok.Getter;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 
 public class UpdateAddAnnotatedTypes extends Recipe {
@@ -33,7 +35,7 @@ public class UpdateAddAnnotatedTypes extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(new UsesMethod<>("*.enterprise.inject.spi.BeforeBeanDiscovery addAnnotatedType(..)"), new JavaIsoVisitor<ExecutionContext>() {
             private final MethodMatcher methodInputPattern = new MethodMatcher(
                     "*.enterprise.inject.spi.BeforeBeanDiscovery addAnnotatedType(*.enterprise.inject.spi.AnnotatedType)", false);
 
@@ -44,6 +46,6 @@ public class UpdateAddAnnotatedTypes extends Recipe {
                 }
                 return super.visitMethodInvocation(method, ctx);
             }
-        };
+        });
     }
 }
@@ -17,12 +17,14 @@ package org.openrewrite.java.migrate.jakarta;
 
 import lombok.Getter;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 
 public class UpdateGetRealPath extends Recipe {
@@ -34,7 +36,7 @@ public class UpdateGetRealPath extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new JavaVisitor<ExecutionContext>() {
+        return Preconditions.check(new UsesMethod<>("jakarta.servlet.ServletRequest* getRealPath(String)"), new JavaVisitor<ExecutionContext>() {
             private final MethodMatcher METHOD_PATTERN = new MethodMatcher("jakarta.servlet.ServletRequest* getRealPath(String)", false);
 
             @Override
@@ -50,6 +52,6 @@ public class UpdateGetRealPath extends Recipe {
                 }
                 return method;
             }
-        };
+        });
     }
 }
@@ -17,11 +17,13 @@ package org.openrewrite.java.migrate.lang;
 
 import lombok.Getter;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 
 import java.util.Set;
@@ -42,7 +44,7 @@ public class MigrateClassLoaderDefineClass extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(new UsesMethod<>(DEFINE_CLASS_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
             final JavaTemplate template = JavaTemplate.builder("null, #{anyArray(byte)}, #{any(int)}, #{any(int)}")
                     .contextSensitive()
                     .build();
@@ -61,6 +63,6 @@ public class MigrateClassLoaderDefineClass extends Recipe {
                 }
                 return m;
             }
-        };
+        });
     }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang;
+
+import lombok.Getter;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.search.UsesJavaVersion;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class MigrateDirectBufferCleanerToArena extends Recipe {
+    private static final MethodMatcher ALLOCATE_DIRECT = new MethodMatcher("java.nio.ByteBuffer allocateDirect(int)");
+    private static final MethodMatcher INVOKE_CLEANER = new MethodMatcher("sun.misc.Unsafe invokeCleaner(java.nio.ByteBuffer)");
+
+    /**
+     * Methods that only use a buffer until they return, and neither hold on to it nor hand it to another thread.
+     */
+    private static final List<MethodMatcher> SYNCHRONOUS_BUFFER_METHODS = Arrays.asList(
+            new MethodMatcher("java.nio.ByteBuffer *(..)"),
+            new MethodMatcher("java.nio.channels.ReadableByteChannel read(java.nio.ByteBuffer)", true),
+            new MethodMatcher("java.nio.channels.WritableByteChannel write(java.nio.ByteBuffer)", true),
+            new MethodMatcher("java.nio.channels.FileChannel read(java.nio.ByteBuffer, long)", true),
+            new MethodMatcher("java.nio.channels.FileChannel write(java.nio.ByteBuffer, long)", true),
+            new MethodMatcher("java.nio.channels.DatagramChannel receive(java.nio.ByteBuffer)", true),
+            new MethodMatcher("java.nio.channels.DatagramChannel send(java.nio.ByteBuffer, java.net.SocketAddress)", true),
+            new MethodMatcher("java.nio.charset.Charset decode(java.nio.ByteBuffer)"),
+            new MethodMatcher("java.nio.charset.CharsetDecoder decode(..)"),
+            new MethodMatcher("java.nio.charset.CharsetEncoder encode(..)"),
+            new MethodMatcher("java.security.MessageDigest update(java.nio.ByteBuffer)", true),
+            new MethodMatcher("java.util.zip.Checksum update(java.nio.ByteBuffer)", true)
+    );
+
+    @Getter
+    final String displayName = "Use an `Arena` instead of cleaning direct `ByteBuffer`s explicitly";
+
+    @Getter
+    final String description = "Replace a direct `ByteBuffer` that is allocated with `ByteBuffer#allocateDirect(int)` and " +
+            "explicitly freed in the `finally` block of the statement that follows, through `((DirectBuffer) buffer).cleaner().clean()` " +
+            "or `Unsafe#invokeCleaner(ByteBuffer)`, with a `ByteBuffer` view of a `MemorySegment` allocated from a confined `Arena` " +
+            "in a try-with-resources statement. The memory is then freed deterministically, without reflection or `--add-opens`. " +
+            "Buffers that might be used from other threads are left as is, such as buffers that are captured by lambdas or " +
+            "anonymous classes, or that are passed to any other methods than the ones that are known to be done with them " +
+            "when they return, like channel reads and writes.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(new UsesJavaVersion<>(22), new UsesMethod<>(ALLOCATE_DIRECT)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                        return ScopedAllocations.replaceScopedAllocations(super.visitBlock(block, ctx), (allocation, tryFinally) ->
+                                isExplicitlyCleaned(allocation, tryFinally) ? toTryWithResources(allocation, tryFinally) : null);
+                    }
+
+                    private J.Try toTryWithResources(J.VariableDeclarations allocation, J.Try tryFinally) {
+                        J.VariableDeclarations.NamedVariable buffer = allocation.getVariables().get(0);
+                        Expression capacity = ((J.MethodInvocation) buffer.getInitializer()).getArguments().get(0);
+                        String arena = VariableNameUtils.generateVariableName("arena", getCursor(),
+                                VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER);
+
+                        maybeAddImport("java.lang.foreign.Arena");
+                        maybeRemoveImport("sun.misc.Unsafe");
+                        maybeRemoveImport("sun.nio.ch.DirectBuffer");
+                        J.Try tryWithResources = JavaTemplate.builder(
+                                        "try (Arena #{} = Arena.ofConfined()) {\n" +
+                                        "    ByteBuffer #{} = #{}.allocate(#{any(long)}).asByteBuffer();\n" +
+                                        "}")
+                                .imports("java.lang.foreign.Arena", "java.nio.ByteBuffer")
+                                .build()
+                                .apply(new Cursor(getCursor(), allocation), allocation.getCoordinates().replace(),
+                                        arena, buffer.getSimpleName(), arena, capacity);
+                        return tryWithResources.withBody(tryWithResources.getBody().withStatements(
+                                ListUtils.concatAll(tryWithResources.getBody().getStatements(), tryFinally.getBody().getStatements())));
+                    }
+                }
+        );
+    }
+
+    /**
+     * A local direct buffer, followed by a try statement that does nothing but clean it again.
+     */
+    private static boolean isExplicitlyCleaned(J.VariableDeclarations allocation, J.Try tryFinally) {
+        if (!TypeUtils.isOfClassType(allocation.getType(), "java.nio.ByteBuffer") ||
+            !ALLOCATE_DIRECT.matches(allocation.getVariables().get(0).getInitializer())) {
+            return false;
+        }
+        String buffer = allocation.getVariables().get(0).getSimpleName();
+        return isClean(ScopedAllocations.release(tryFinally), buffer) &&
+               !ScopedAllocations.isShadowedIn(tryFinally.getBody(), buffer) &&
+               !mayEscapeThread(tryFinally.getBody(), buffer);
+    }
+
+    private static boolean isClean(Statement statement, String buffer) {
+        if (!(statement instanceof J.MethodInvocation)) {
+            return false;
+        }
+        J.MethodInvocation clean = (J.MethodInvocation) statement;
+        if (INVOKE_CLEANER.matches(clean)) {
+            return isBuffer(clean.getArguments().get(0), buffer);
+        }
+        // `sun.nio.ch.DirectBuffer` is not exported, so rely on the shape of the call rather than on its type
+        if (!"clean".equals(clean.getSimpleName()) || !hasNoArguments(clean) || !(clean.getSelect() instanceof J.MethodInvocation)) {
+            return false;
+        }
+        J.MethodInvocation cleaner = (J.MethodInvocation) clean.getSelect();
+        if (!"cleaner".equals(cleaner.getSimpleName()) || !hasNoArguments(cleaner)) {
+            return false;
+        }
+        Expression select = cleaner.getSelect();
+        while (select instanceof J.Parentheses) {
+            select = (Expression) ((J.Parentheses<?>) select).getTree();
+        }
+        if (!(select instanceof J.TypeCast)) {
+            return false;
+        }
+        J.TypeCast cast = (J.TypeCast) select;
+        TypeTree castType = cast.getClazz().getTree();
+        String castTypeName = castType instanceof J.FieldAccess ? ((J.FieldAccess) castType).getSimpleName() :
+                castType instanceof J.Identifier ? ((J.Identifier) castType).getSimpleName() : null;
+        return "DirectBuffer".equals(castTypeName) && isBuffer(cast.getExpression(), buffer);
+    }
+
+    private static boolean hasNoArguments(J.MethodInvocation method) {
+        return method.getArguments().isEmpty() || method.getArguments().get(0) instanceof J.Empty;
+    }
+
+    private static boolean isBuffer(Expression expression, String buffer) {
+        return expression instanceof J.Identifier && ((J.Identifier) expression).getSimpleName().equals(buffer);
+    }
+
+    /**
+     * The memory of a confined arena can only be accessed by the thread that created it, so the buffer may
+     * only be used directly, or passed to methods that are known to be done with it when they return.
+     */
+    private static boolean mayEscapeThread(J.Block body, String buffer) {
+        AtomicBoolean escapes = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean e) {
+                if (identifier.getSimpleName().equals(buffer) && identifier.getFieldType() != null) {
+                    Object parent = getCursor().getParentTreeCursor().getValue();
+                    if (ScopedAllocations.isInDeferredCode(getCursor())) {
+                        e.set(true);
+                    } else if (parent instanceof J.MethodInvocation) {
+                        J.MethodInvocation method = (J.MethodInvocation) parent;
+                        if (method.getSelect() != identifier && SYNCHRONOUS_BUFFER_METHODS.stream().noneMatch(m -> m.matches(method))) {
+                            e.set(true);
+                        }
+                    } else {
+                        // Such as being reassigned, assigned to another variable or field, returned or passed to a constructor
+                        e.set(true);
+                    }
+                }
+                return identifier;
+            }
+        }.visit(body, escapes);
+        return escapes.get();
+    }
+}
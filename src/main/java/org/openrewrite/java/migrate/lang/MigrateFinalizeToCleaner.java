@@ -0,0 +1,427 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.DeclaresMethod;
+import org.openrewrite.java.search.SemanticallyEqual;
+import org.openrewrite.java.search.UsesJavaVersion;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+
+public class MigrateFinalizeToCleaner extends Recipe {
+    private static final MethodMatcher FINALIZE = new MethodMatcher("java.lang.Object finalize()", true);
+    private static final MethodMatcher CLOSE = new MethodMatcher("java.lang.AutoCloseable close()", true);
+
+    private static final String CLEANER = "CLEANER";
+    private static final String CLEANABLE = "cleanable";
+    private static final String STATE = "State";
+
+    @Getter
+    final String displayName = "Replace `finalize()` with a `Cleaner` registration";
+
+    @Getter
+    final String description = "Replace a `finalize()` method that calls `close()`, or that releases the same resources as " +
+            "`close()`, with a registration at a shared `Cleaner`. The cleanup moves to a static state holder class that does " +
+            "not capture `this`, is registered at the end of each constructor and is run by `close()`. Objects with a " +
+            "`Cleaner` registration do not need an extra garbage collection cycle to be finalized, and their cleanup runs at " +
+            "most once. The cleanup may only use final fields of the class, and must not throw checked exceptions.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(new UsesJavaVersion<>(9), new DeclaresMethod<>(FINALIZE)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                        if (cd.getType() == null || !canDeclareStaticMembers(cd)) {
+                            return cd;
+                        }
+
+                        J.MethodDeclaration finalize = null;
+                        J.MethodDeclaration close = null;
+                        List<J.MethodDeclaration> constructors = new ArrayList<>();
+                        Map<String, J.VariableDeclarations> finalFields = new LinkedHashMap<>();
+                        for (Statement statement : cd.getBody().getStatements()) {
+                            if (statement instanceof J.MethodDeclaration) {
+                                J.MethodDeclaration method = (J.MethodDeclaration) statement;
+                                if (method.isConstructor()) {
+                                    constructors.add(method);
+                                } else if (FINALIZE.matches(method.getMethodType())) {
+                                    finalize = method;
+                                } else if (CLOSE.matches(method.getMethodType())) {
+                                    close = method;
+                                }
+                            } else if (statement instanceof J.VariableDeclarations) {
+                                J.VariableDeclarations field = (J.VariableDeclarations) statement;
+                                for (J.VariableDeclarations.NamedVariable variable : field.getVariables()) {
+                                    if (field.hasModifier(J.Modifier.Type.Final) && !field.hasModifier(J.Modifier.Type.Static) &&
+                                        variable.getDimensionsAfterName().isEmpty()) {
+                                        finalFields.put(variable.getSimpleName(), field);
+                                    }
+                                }
+                            }
+                        }
+                        if (finalize == null || finalize.getBody() == null || close == null || close.getBody() == null) {
+                            return cd;
+                        }
+
+                        // The generated members would clash with, or shadow, a member, an outer or an imported name
+                        Set<String> names = identifierNames(getCursor().firstEnclosingOrThrow(J.CompilationUnit.class));
+                        if (names.contains(CLEANER) || names.contains(CLEANABLE) || names.contains(STATE)) {
+                            return cd;
+                        }
+
+                        List<Statement> cleanup = cleanup(finalize.getBody(), close.getBody());
+                        Set<String> captured = cleanup == null || cleanup.isEmpty() ? null : capturedFields(cleanup, cd.getType());
+                        if (captured == null || !finalFields.keySet().containsAll(captured) ||
+                            !canRegisterCleanable(constructors, captured, finalFields)) {
+                            return cd;
+                        }
+
+                        List<String> state = new ArrayList<>(finalFields.keySet());
+                        state.retainAll(captured);
+                        String register = CLEANER + ".register(this, new " + STATE + "(" + String.join(", ", state) + "))";
+
+                        // Add the members first, so that the statements referring to them are type attributed
+                        UUID finalizeId = finalize.getId();
+                        J.Block body = cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(),
+                                statement -> statement.getId().equals(finalizeId) ? null : statement));
+                        body = JavaTemplate.builder("private static final Cleaner " + CLEANER + " = Cleaner.create();")
+                                .contextSensitive()
+                                .imports("java.lang.ref.Cleaner")
+                                .build()
+                                .apply(bodyCursor(cd, body), body.getCoordinates().firstStatement());
+                        body = addStateClass(cd, body, state, finalFields, cleanup, ctx);
+                        body = addCleanableField(cd, body, constructors.isEmpty() ? register : null);
+
+                        Cursor bodyCursor = bodyCursor(cd, body);
+                        UUID closeId = close.getId();
+                        Set<UUID> registering = new HashSet<>();
+                        for (J.MethodDeclaration constructor : constructors) {
+                            if (!delegatesToOtherConstructor(constructor)) {
+                                registering.add(constructor.getId());
+                            }
+                        }
+                        body = body.withStatements(ListUtils.map(body.getStatements(), statement -> {
+                            if (statement.getId().equals(closeId)) {
+                                return appendStatement((J.MethodDeclaration) statement, CLEANABLE + ".clean();", bodyCursor, true);
+                            } else if (registering.contains(statement.getId())) {
+                                return appendStatement((J.MethodDeclaration) statement, CLEANABLE + " = " + register + ";", bodyCursor, false);
+                            }
+                            return statement;
+                        }));
+
+                        maybeAddImport("java.lang.ref.Cleaner");
+                        return cd.withBody(body);
+                    }
+
+                    /**
+                     * Inner classes can not declare the static state holder class before Java 16, so only top-level
+                     * classes and static nested classes are rewritten, and no inner, local or anonymous classes.
+                     */
+                    private boolean canDeclareStaticMembers(J.ClassDeclaration classDecl) {
+                        Cursor parent = getCursor().getParentTreeCursor();
+                        if (parent.getValue() instanceof J.CompilationUnit) {
+                            return true;
+                        }
+                        Object owner = parent.getParentTreeCursor().getValue();
+                        return parent.getValue() instanceof J.Block && owner instanceof J.ClassDeclaration &&
+                               (classDecl.hasModifier(J.Modifier.Type.Static) ||
+                                ((J.ClassDeclaration) owner).getKind() == J.ClassDeclaration.Kind.Type.Interface ||
+                                ((J.ClassDeclaration) owner).getKind() == J.ClassDeclaration.Kind.Type.Annotation);
+                    }
+
+                    /**
+                     * A cursor to the body of the class, as it is being rewritten, for the context sensitive templates.
+                     */
+                    private Cursor bodyCursor(J.ClassDeclaration cd, J.Block body) {
+                        return new Cursor(new Cursor(getCursor().getParentOrThrow(), cd.withBody(body)), body);
+                    }
+
+                    private J.MethodDeclaration appendStatement(J.MethodDeclaration method, String statement, Cursor bodyCursor, boolean replaceBody) {
+                        J.Block methodBody = Objects.requireNonNull(method.getBody());
+                        if (replaceBody) {
+                            methodBody = methodBody.withStatements(emptyList());
+                        }
+                        return method.withBody(JavaTemplate.builder(statement)
+                                .contextSensitive()
+                                .imports("java.lang.ref.Cleaner")
+                                .build()
+                                .apply(new Cursor(new Cursor(bodyCursor, method), methodBody), methodBody.getCoordinates().lastStatement()));
+                    }
+
+                    private J.Block addCleanableField(J.ClassDeclaration cd, J.Block body, @Nullable String register) {
+                        J.Block b = JavaTemplate.builder("private final Cleaner.Cleanable " + CLEANABLE +
+                                                         (register == null ? "" : " = " + register) + ";")
+                                .contextSensitive()
+                                .imports("java.lang.ref.Cleaner")
+                                .build()
+                                .apply(bodyCursor(cd, body), body.getCoordinates().lastStatement());
+
+                        // Move the field next to the other fields, as it must be declared after the fields it captures
+                        List<Statement> statements = new ArrayList<>(b.getStatements());
+                        Statement cleanable = statements.remove(statements.size() - 1);
+                        int lastField = 0;
+                        for (int i = 0; i < statements.size(); i++) {
+                            if (statements.get(i) instanceof J.VariableDeclarations) {
+                                lastField = i;
+                            }
+                        }
+                        String indent = statements.get(lastField).getPrefix().getIndent();
+                        statements.add(lastField + 1, cleanable.withPrefix(Space.format("\n" + indent)));
+                        return b.withStatements(statements);
+                    }
+
+                    private J.Block addStateClass(J.ClassDeclaration cd, J.Block body, List<String> state,
+                                                  Map<String, J.VariableDeclarations> finalFields, List<Statement> cleanup,
+                                                  ExecutionContext ctx) {
+                        StringBuilder template = new StringBuilder("private static class " + STATE + " implements Runnable {\n");
+                        if (!state.isEmpty()) {
+                            StringJoiner parameters = new StringJoiner(", ", STATE + "(", ") {\n");
+                            StringBuilder assignments = new StringBuilder();
+                            for (String field : state) {
+                                String type = Objects.requireNonNull(finalFields.get(field).getTypeExpression()).printTrimmed(getCursor());
+                                template.append("private final ").append(type).append(' ').append(field).append(";\n");
+                                parameters.add(type + " " + field);
+                                assignments.append("this.").append(field).append(" = ").append(field).append(";\n");
+                            }
+                            template.append('\n').append(parameters).append(assignments).append("}\n\n");
+                        }
+                        template.append("@Override\npublic void run() {\n}\n}");
+
+                        J.Block b = JavaTemplate.builder(template.toString())
+                                .contextSensitive()
+                                .build()
+                                .apply(bodyCursor(cd, body), body.getCoordinates().lastStatement());
+                        J.ClassDeclaration stateClass = (J.ClassDeclaration) b.getStatements().get(b.getStatements().size() - 1);
+                        stateClass = stateClass.withBody(stateClass.getBody().withStatements(ListUtils.map(stateClass.getBody().getStatements(),
+                                statement -> statement instanceof J.MethodDeclaration && "run".equals(((J.MethodDeclaration) statement).getSimpleName()) ?
+                                        ((J.MethodDeclaration) statement).withBody(Objects.requireNonNull(((J.MethodDeclaration) statement).getBody()).withStatements(cleanup)) :
+                                        statement)));
+                        J.ClassDeclaration formatted = (J.ClassDeclaration) autoFormat(stateClass, ctx, bodyCursor(cd, b));
+                        return b.withStatements(ListUtils.mapLast(b.getStatements(), s -> formatted));
+                    }
+                }
+        );
+    }
+
+    private static Set<String> identifierNames(J tree) {
+        Set<String> names = new HashSet<>();
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Set<String> n) {
+                n.add(identifier.getSimpleName());
+                return identifier;
+            }
+        }.visit(tree, names);
+        return names;
+    }
+
+    /**
+     * The statements that release the resources, if `finalize()` either calls `close()` or does the same as it.
+     */
+    private static @Nullable List<Statement> cleanup(J.Block finalizeBody, J.Block closeBody) {
+        List<Statement> statements = finalizeBody.getStatements();
+        if (statements.size() == 1 && statements.get(0) instanceof J.Try) {
+            J.Try tryFinally = (J.Try) statements.get(0);
+            if (tryFinally.getResources() == null && tryFinally.getCatches().isEmpty() && tryFinally.getFinally() != null &&
+                isSuperFinalize(tryFinally.getFinally().getStatements())) {
+                statements = tryFinally.getBody().getStatements();
+            }
+        } else if (!statements.isEmpty() && isSuperFinalize(statements.subList(statements.size() - 1, statements.size()))) {
+            statements = statements.subList(0, statements.size() - 1);
+        }
+
+        if (statements.size() == 1 && isCloseCall(statements.get(0))) {
+            return closeBody.getStatements();
+        }
+        if (statements.size() != closeBody.getStatements().size()) {
+            return null;
+        }
+        for (int i = 0; i < statements.size(); i++) {
+            if (!SemanticallyEqual.areEqual(statements.get(i), closeBody.getStatements().get(i))) {
+                return null;
+            }
+        }
+        return closeBody.getStatements();
+    }
+
+    private static boolean isSuperFinalize(List<Statement> statements) {
+        if (statements.size() != 1 || !(statements.get(0) instanceof J.MethodInvocation)) {
+            return false;
+        }
+        J.MethodInvocation method = (J.MethodInvocation) statements.get(0);
+        return "finalize".equals(method.getSimpleName()) && method.getSelect() instanceof J.Identifier &&
+               "super".equals(((J.Identifier) method.getSelect()).getSimpleName());
+    }
+
+    private static boolean isCloseCall(Statement statement) {
+        if (!(statement instanceof J.MethodInvocation)) {
+            return false;
+        }
+        J.MethodInvocation method = (J.MethodInvocation) statement;
+        return CLOSE.matches(method) && (method.getSelect() == null ||
+                                         method.getSelect() instanceof J.Identifier && "this".equals(((J.Identifier) method.getSelect()).getSimpleName()));
+    }
+
+    /**
+     * The instance fields used by the cleanup, or null if it can not run without a reference to the object,
+     * which would keep the object reachable, or if it throws checked exceptions, which a `Runnable` can not.
+     */
+    private static @Nullable Set<String> capturedFields(List<Statement> cleanup, JavaType.FullyQualified classType) {
+        Set<String> captured = new LinkedHashSet<>();
+        AtomicBoolean movable = new AtomicBoolean(true);
+        JavaIsoVisitor<Set<String>> visitor = new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, Set<String> c) {
+                if (isThis(fieldAccess.getTarget())) {
+                    // `this.field` refers to the field of the same name in the state holder
+                    if (!isInstanceField(fieldAccess.getName())) {
+                        movable.set(false);
+                    }
+                    c.add(fieldAccess.getSimpleName());
+                    return fieldAccess;
+                }
+                return super.visitFieldAccess(fieldAccess, c);
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Set<String> c) {
+                if (isThis(identifier) || "super".equals(identifier.getSimpleName())) {
+                    movable.set(false);
+                } else if (isInstanceField(identifier)) {
+                    c.add(identifier.getSimpleName());
+                }
+                return identifier;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Set<String> c) {
+                JavaType.Method methodType = method.getMethodType();
+                if (methodType == null || method.getSelect() == null && !methodType.hasFlags(Flag.Static) ||
+                    throwsCheckedException(methodType)) {
+                    movable.set(false);
+                }
+                return super.visitMethodInvocation(method, c);
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, Set<String> c) {
+                if (newClass.getConstructorType() == null || throwsCheckedException(newClass.getConstructorType())) {
+                    movable.set(false);
+                }
+                return super.visitNewClass(newClass, c);
+            }
+
+            @Override
+            public J.Throw visitThrow(J.Throw thrown, Set<String> c) {
+                movable.set(false);
+                return thrown;
+            }
+
+            private boolean isInstanceField(J.Identifier identifier) {
+                JavaType.Variable fieldType = identifier.getFieldType();
+                return fieldType != null && !fieldType.hasFlags(Flag.Static) && TypeUtils.isOfType(fieldType.getOwner(), classType);
+            }
+        };
+        for (Statement statement : cleanup) {
+            visitor.visit(statement, captured);
+        }
+        return movable.get() ? captured : null;
+    }
+
+    private static boolean isThis(Expression expression) {
+        return expression instanceof J.Identifier && "this".equals(((J.Identifier) expression).getSimpleName());
+    }
+
+    private static boolean throwsCheckedException(JavaType.Method methodType) {
+        for (JavaType thrown : methodType.getThrownExceptions()) {
+            if (!TypeUtils.isAssignableTo("java.lang.RuntimeException", thrown) && !TypeUtils.isAssignableTo("java.lang.Error", thrown)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The cleanable is registered at the end of each constructor, after the captured fields are assigned, or
+     * in the initializer of its field when there are no constructors.
+     */
+    private static boolean canRegisterCleanable(List<J.MethodDeclaration> constructors, Set<String> captured,
+                                                Map<String, J.VariableDeclarations> finalFields) {
+        if (constructors.isEmpty()) {
+            for (String field : captured) {
+                for (J.VariableDeclarations.NamedVariable variable : finalFields.get(field).getVariables()) {
+                    if (variable.getSimpleName().equals(field) && variable.getInitializer() == null) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        AtomicBoolean returns = new AtomicBoolean();
+        for (J.MethodDeclaration constructor : constructors) {
+            if (constructor.getBody() == null) {
+                return false;
+            }
+            new JavaIsoVisitor<AtomicBoolean>() {
+                @Override
+                public J.Return visitReturn(J.Return retrn, AtomicBoolean r) {
+                    r.set(true);
+                    return retrn;
+                }
+
+                @Override
+                public J.Lambda visitLambda(J.Lambda lambda, AtomicBoolean r) {
+                    return lambda;
+                }
+
+                @Override
+                public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, AtomicBoolean r) {
+                    return classDecl;
+                }
+
+                @Override
+                public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean r) {
+                    return newClass;
+                }
+            }.visit(constructor.getBody(), returns);
+        }
+        return !returns.get();
+    }
+
+    private static boolean delegatesToOtherConstructor(J.MethodDeclaration constructor) {
+        List<Statement> statements = Objects.requireNonNull(constructor.getBody()).getStatements();
+        return !statements.isEmpty() && statements.get(0) instanceof J.MethodInvocation &&
+               "this".equals(((J.MethodInvocation) statements.get(0)).getSimpleName());
+    }
+}
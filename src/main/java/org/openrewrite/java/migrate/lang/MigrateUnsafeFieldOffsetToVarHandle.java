@@ -0,0 +1,435 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesJavaVersion;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+
+public class MigrateUnsafeFieldOffsetToVarHandle extends Recipe {
+    private static final MethodMatcher OBJECT_FIELD_OFFSET = new MethodMatcher("sun.misc.Unsafe objectFieldOffset(java.lang.reflect.Field)");
+    private static final MethodMatcher GET_DECLARED_FIELD = new MethodMatcher("java.lang.Class getDeclaredField(java.lang.String)");
+    private static final MethodMatcher UNSAFE_FIELD_ACCESS = new MethodMatcher("sun.misc.Unsafe *(java.lang.Object, long, ..)");
+    private static final Pattern UNSAFE_FIELD_ACCESS_NAME = Pattern.compile(
+            "(compareAndSwap|getAndAdd|getAndSet|putOrdered|get|put)(Boolean|Byte|Short|Char|Int|Long|Float|Double|Object)(Volatile)?");
+
+    private static final List<String> NO_SUCH_FIELD_EXCEPTION_TYPES = Arrays.asList(
+            "java.lang.NoSuchFieldException", "java.lang.ReflectiveOperationException", "java.lang.Exception", "java.lang.Throwable");
+    private static final List<String> ILLEGAL_ACCESS_EXCEPTION_TYPES = Arrays.asList(
+            "java.lang.IllegalAccessException", "java.lang.ReflectiveOperationException", "java.lang.Exception", "java.lang.Throwable");
+
+    private static final JavaType.FullyQualified VAR_HANDLE = JavaType.ShallowClass.build("java.lang.invoke.VarHandle");
+
+    @Getter
+    final String displayName = "Use `VarHandle` instead of `sun.misc.Unsafe` field offsets";
+
+    @Getter
+    final String description = "Replace `private static final long` field offsets obtained through `Unsafe#objectFieldOffset(Field)` " +
+            "with `VarHandle` constants, and the `Unsafe` compare-and-swap, volatile, ordered and plain accesses using those offsets " +
+            "with the equivalent `VarHandle` access modes. An offset is only migrated when it is initialized in a static initializer " +
+            "that already handles `ReflectiveOperationException`, and every use of it can be converted.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(new UsesJavaVersion<>(9), new UsesMethod<>(OBJECT_FIELD_OFFSET)),
+                new JavaVisitor<ExecutionContext>() {
+                    Map<String, OffsetField> offsets = emptyMap();
+
+                    @Override
+                    public J visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        offsets = findConvertibleOffsetFields(cu);
+                        if (offsets.isEmpty()) {
+                            return cu;
+                        }
+                        return super.visitCompilationUnit(cu, ctx);
+                    }
+
+                    @Override
+                    public J visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J.VariableDeclarations mv = (J.VariableDeclarations) super.visitVariableDeclarations(multiVariable, ctx);
+                        TypeTree typeExpression = mv.getTypeExpression();
+                        if (typeExpression != null && mv.getVariables().size() == 1 &&
+                            offsets.containsKey(key(mv.getVariables().get(0).getVariableType()))) {
+                            maybeAddImport("java.lang.invoke.VarHandle");
+                            return mv.withTypeExpression(new J.Identifier(Tree.randomId(), typeExpression.getPrefix(),
+                                            typeExpression.getMarkers(), emptyList(), "VarHandle", VAR_HANDLE, null))
+                                    .withVariables(ListUtils.map(mv.getVariables(), v -> v.getVariableType() == null ? v :
+                                            v.withVariableType(v.getVariableType().withType(VAR_HANDLE))));
+                        }
+                        return mv;
+                    }
+
+                    @Override
+                    public J visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+                        J.Identifier i = (J.Identifier) super.visitIdentifier(identifier, ctx);
+                        JavaType.Variable fieldType = i.getFieldType();
+                        if (fieldType != null && offsets.containsKey(key(fieldType))) {
+                            return i.withType(VAR_HANDLE).withFieldType(fieldType.withType(VAR_HANDLE));
+                        }
+                        return i;
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        Object parent = getCursor().getParentTreeCursor().getValue();
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+
+                        if (OBJECT_FIELD_OFFSET.matches(m) && parent instanceof J.Assignment &&
+                            ((J.Assignment) parent).getVariable() instanceof J.Identifier) {
+                            OffsetField offset = offsets.get(key(((J.Identifier) ((J.Assignment) parent).getVariable()).getFieldType()));
+                            if (offset != null && offset.accessedFieldType != null) {
+                                return findVarHandle(m, offset.accessedFieldType);
+                            }
+                        } else if (UNSAFE_FIELD_ACCESS.matches(m) && m.getArguments().get(1) instanceof J.Identifier &&
+                                   offsets.containsKey(key(((J.Identifier) m.getArguments().get(1)).getFieldType()))) {
+                            return accessThroughVarHandle(m);
+                        }
+                        return m;
+                    }
+
+                    private J findVarHandle(J.MethodInvocation objectFieldOffset, JavaType accessedFieldType) {
+                        J.MethodInvocation getDeclaredField = (J.MethodInvocation) objectFieldOffset.getArguments().get(0);
+                        maybeAddImport("java.lang.invoke.MethodHandles");
+                        if (accessedFieldType instanceof JavaType.Primitive) {
+                            return JavaTemplate.builder("MethodHandles.lookup().findVarHandle(#{any(java.lang.Class)}, #{any(java.lang.String)}, " +
+                                                        ((JavaType.Primitive) accessedFieldType).getKeyword() + ".class)")
+                                    .imports("java.lang.invoke.MethodHandles")
+                                    .build()
+                                    .apply(getCursor(), objectFieldOffset.getCoordinates().replace(),
+                                            getDeclaredField.getSelect(), getDeclaredField.getArguments().get(0));
+                        }
+                        return JavaTemplate.builder("MethodHandles.lookup().findVarHandle(#{any(java.lang.Class)}, #{any(java.lang.String)}, #{any(java.lang.Class)})")
+                                .imports("java.lang.invoke.MethodHandles")
+                                .build()
+                                .apply(getCursor(), objectFieldOffset.getCoordinates().replace(),
+                                        getDeclaredField.getSelect(), getDeclaredField.getArguments().get(0),
+                                        classLiteral(requireClassType(accessedFieldType)));
+                    }
+
+                    private J.FieldAccess classLiteral(JavaType.FullyQualified type) {
+                        JavaType.FullyQualified outermost = type;
+                        while (outermost.getOwningClass() != null) {
+                            outermost = outermost.getOwningClass();
+                        }
+                        maybeAddImport(outermost.getFullyQualifiedName());
+                        JavaType.Parameterized classType = new JavaType.Parameterized(null,
+                                JavaType.ShallowClass.build("java.lang.Class"), singletonList(type));
+                        return new J.FieldAccess(Tree.randomId(), Space.EMPTY, Markers.EMPTY,
+                                new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), type.getClassName(), type, null),
+                                JLeftPadded.build(new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), "class", classType, null)),
+                                classType);
+                    }
+
+                    private J accessThroughVarHandle(J.MethodInvocation access) {
+                        Matcher accessName = UNSAFE_FIELD_ACCESS_NAME.matcher(access.getSimpleName());
+                        if (!accessName.matches()) {
+                            return access;
+                        }
+                        String varHandleMethod = varHandleMethod(accessName);
+                        List<Expression> arguments = access.getArguments();
+
+                        // The offset argument becomes the receiver, and the object holding the field the first coordinate
+                        List<Object> parameters = new ArrayList<>();
+                        parameters.add(arguments.get(1));
+                        parameters.add(arguments.get(0));
+                        parameters.addAll(arguments.subList(2, arguments.size()));
+                        StringJoiner coordinatesAndValues = new StringJoiner(", ");
+                        for (int i = 1; i < parameters.size(); i++) {
+                            coordinatesAndValues.add("#{any(java.lang.Object)}");
+                        }
+                        String template = "#{any(java.lang.invoke.VarHandle)}." + varHandleMethod + "(" + coordinatesAndValues + ")";
+
+                        // VarHandle access modes are signature polymorphic, so a primitive result needs a cast to keep its type,
+                        // but a cast is not a valid statement, so a result that is discarded is left without one
+                        String accessedType = accessName.group(2);
+                        if (varHandleMethod.startsWith("get") && !"Object".equals(accessedType) &&
+                            !isStatement(getCursor().getParentTreeCursor(), access)) {
+                            template = "(" + accessedType.toLowerCase(Locale.ROOT) + ") " + template;
+                        }
+                        return JavaTemplate.builder(template)
+                                .build()
+                                .apply(getCursor(), access.getCoordinates().replace(), parameters.toArray());
+                    }
+                }
+        );
+    }
+
+    /**
+     * Whether the expression is evaluated for its side effects only, so its result is discarded.
+     */
+    private static boolean isStatement(Cursor parentCursor, Expression expression) {
+        Object parent = parentCursor.getValue();
+        if (parent instanceof J.Case) {
+            // The body of a rule in a switch expression is the value of the switch
+            J body = ((J.Case) parent).getBody();
+            return body == null || !body.getId().equals(expression.getId()) ||
+                   !(parentCursor.getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.SwitchExpression);
+        } else if (parent instanceof J.Block || parent instanceof J.Label ||
+            parent instanceof J.If || parent instanceof J.If.Else ||
+            parent instanceof J.WhileLoop || parent instanceof J.DoWhileLoop ||
+            parent instanceof J.ForLoop || parent instanceof J.ForEachLoop) {
+            return true;
+        } else if (parent instanceof J.ForLoop.Control) {
+            return ((J.ForLoop.Control) parent).getUpdate().contains(expression) ||
+                   ((J.ForLoop.Control) parent).getInit().contains(expression);
+        } else if (parent instanceof J.Lambda) {
+            // An expression body of a lambda for a functional interface returning void is a statement too
+            JavaType.FullyQualified functionalInterface = TypeUtils.asFullyQualified(((J.Lambda) parent).getType());
+            if (functionalInterface != null) {
+                for (JavaType.Method method : functionalInterface.getMethods()) {
+                    if (method.hasFlags(Flag.Abstract) && !method.hasFlags(Flag.Default)) {
+                        return method.getReturnType() == JavaType.Primitive.Void;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String varHandleMethod(Matcher accessName) {
+        boolean isVolatile = accessName.group(3) != null;
+        switch (accessName.group(1)) {
+            case "compareAndSwap":
+                return "compareAndSet";
+            case "putOrdered":
+                return "setRelease";
+            case "get":
+                return isVolatile ? "getVolatile" : "get";
+            case "put":
+                return isVolatile ? "setVolatile" : "set";
+            default:
+                // getAndAdd and getAndSet keep their names
+                return accessName.group(1);
+        }
+    }
+
+    private static JavaType.FullyQualified requireClassType(JavaType type) {
+        JavaType.FullyQualified fq = Objects.requireNonNull(TypeUtils.asFullyQualified(type));
+        return fq instanceof JavaType.Parameterized ? ((JavaType.Parameterized) fq).getType() : fq;
+    }
+
+    private static @Nullable String key(JavaType.@Nullable Variable variable) {
+        if (variable == null) {
+            return null;
+        }
+        JavaType.FullyQualified owner = TypeUtils.asFullyQualified(variable.getOwner());
+        return owner == null ? null : owner.getFullyQualifiedName() + '#' + variable.getName();
+    }
+
+    @RequiredArgsConstructor
+    private static class OffsetField {
+        final String owner;
+
+        /**
+         * The type of the field the offset points to, once a supported initialization has been found.
+         */
+        @Nullable
+        JavaType accessedFieldType;
+
+        int initializations;
+        int references;
+        final List<String> accessedTypes = new ArrayList<>();
+
+        boolean isConvertible() {
+            if (accessedFieldType == null || initializations != 1 || references != accessedTypes.size()) {
+                return false;
+            }
+            for (String accessedType : accessedTypes) {
+                if ("Object".equals(accessedType) ?
+                        accessedFieldType instanceof JavaType.Primitive :
+                        accessedFieldType != JavaType.Primitive.fromKeyword(accessedType.toLowerCase(Locale.ROOT))) {
+                    // Unsafe tolerates accessing a field as a different type, but a VarHandle does not
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static Map<String, OffsetField> findConvertibleOffsetFields(J.CompilationUnit cu) {
+        Map<String, OffsetField> offsets = new HashMap<>();
+        new JavaIsoVisitor<Map<String, OffsetField>>() {
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, Map<String, OffsetField> o) {
+                // Only private offsets can be proven to be used nowhere but in this compilation unit
+                if (multiVariable.getVariables().size() == 1 &&
+                    multiVariable.getType() == JavaType.Primitive.Long &&
+                    multiVariable.hasModifier(J.Modifier.Type.Private) &&
+                    multiVariable.hasModifier(J.Modifier.Type.Static) &&
+                    multiVariable.hasModifier(J.Modifier.Type.Final) &&
+                    multiVariable.getVariables().get(0).getInitializer() == null &&
+                    getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration) {
+                    JavaType.Variable variable = multiVariable.getVariables().get(0).getVariableType();
+                    String key = key(variable);
+                    if (key != null) {
+                        o.put(key, new OffsetField(TypeUtils.asFullyQualified(variable.getOwner()).getFullyQualifiedName()));
+                    }
+                }
+                return super.visitVariableDeclarations(multiVariable, o);
+            }
+        }.visit(cu, offsets);
+        if (offsets.isEmpty()) {
+            return offsets;
+        }
+
+        new JavaIsoVisitor<Map<String, OffsetField>>() {
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, Map<String, OffsetField> o) {
+                if (assignment.getVariable() instanceof J.Identifier) {
+                    OffsetField offset = o.get(key(((J.Identifier) assignment.getVariable()).getFieldType()));
+                    if (offset != null) {
+                        offset.initializations++;
+                        J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                        if (classDecl != null && classDecl.getType() != null &&
+                            offset.owner.equals(classDecl.getType().getFullyQualifiedName()) &&
+                            isInStaticInitializerHandlingReflection(getCursor())) {
+                            offset.accessedFieldType = accessedFieldType(assignment.getAssignment(), classDecl.getType());
+                        }
+                    }
+                }
+                return super.visitAssignment(assignment, o);
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Map<String, OffsetField> o) {
+                OffsetField offset = o.get(key(identifier.getFieldType()));
+                if (offset != null) {
+                    Object parent = getCursor().getParentTreeCursor().getValue();
+                    if (!(parent instanceof J.VariableDeclarations.NamedVariable) &&
+                        !(parent instanceof J.Assignment && ((J.Assignment) parent).getVariable() == identifier)) {
+                        offset.references++;
+                    }
+                }
+                return super.visitIdentifier(identifier, o);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Map<String, OffsetField> o) {
+                if (UNSAFE_FIELD_ACCESS.matches(method) && method.getArguments().get(1) instanceof J.Identifier) {
+                    OffsetField offset = o.get(key(((J.Identifier) method.getArguments().get(1)).getFieldType()));
+                    Matcher accessName = UNSAFE_FIELD_ACCESS_NAME.matcher(method.getSimpleName());
+                    if (offset != null && accessName.matches()) {
+                        offset.accessedTypes.add(accessName.group(2));
+                    }
+                }
+                return super.visitMethodInvocation(method, o);
+            }
+        }.visit(cu, offsets);
+
+        offsets.values().removeIf(offset -> !offset.isConvertible());
+        return offsets;
+    }
+
+    /**
+     * {@code MethodHandles.Lookup#findVarHandle} throws {@code IllegalAccessException} on top of the
+     * {@code NoSuchFieldException} that {@code Class#getDeclaredField} throws, so the try statement
+     * around the initialization has to handle both.
+     */
+    private static boolean isInStaticInitializerHandlingReflection(Cursor cursor) {
+        boolean handled = false;
+        Object previous = cursor.getValue();
+        for (Iterator<Object> path = cursor.getPath(); path.hasNext(); ) {
+            Object value = path.next();
+            if (!(value instanceof J)) {
+                continue;
+            }
+            if (value instanceof J.Try && ((J.Try) value).getBody() == previous) {
+                handled |= catchesReflectiveOperationException((J.Try) value);
+            } else if (value instanceof J.Block && ((J.Block) value).isStatic()) {
+                return handled;
+            } else if (value instanceof J.MethodDeclaration || value instanceof J.Lambda ||
+                       value instanceof J.ClassDeclaration || value instanceof J.NewClass) {
+                return false;
+            }
+            previous = value;
+        }
+        return false;
+    }
+
+    private static boolean catchesReflectiveOperationException(J.Try tryStatement) {
+        boolean noSuchField = false;
+        boolean illegalAccess = false;
+        for (J.Try.Catch aCatch : tryStatement.getCatches()) {
+            JavaType type = aCatch.getParameter().getTree().getType();
+            List<JavaType> caughtTypes = type instanceof JavaType.MultiCatch ?
+                    ((JavaType.MultiCatch) type).getThrowableTypes() : singletonList(type);
+            for (JavaType caught : caughtTypes) {
+                for (String exceptionType : NO_SUCH_FIELD_EXCEPTION_TYPES) {
+                    noSuchField |= TypeUtils.isOfClassType(caught, exceptionType);
+                }
+                for (String exceptionType : ILLEGAL_ACCESS_EXCEPTION_TYPES) {
+                    illegalAccess |= TypeUtils.isOfClassType(caught, exceptionType);
+                }
+            }
+        }
+        return noSuchField && illegalAccess;
+    }
+
+    private static @Nullable JavaType accessedFieldType(Expression initializer, JavaType.FullyQualified declaringType) {
+        if (!OBJECT_FIELD_OFFSET.matches(initializer)) {
+            return null;
+        }
+        Expression field = ((J.MethodInvocation) initializer).getArguments().get(0);
+        if (!GET_DECLARED_FIELD.matches(field)) {
+            return null;
+        }
+        J.MethodInvocation getDeclaredField = (J.MethodInvocation) field;
+        Expression fieldName = getDeclaredField.getArguments().get(0);
+        if (!(getDeclaredField.getSelect() instanceof J.FieldAccess) || !(fieldName instanceof J.Literal) ||
+            !(((J.Literal) fieldName).getValue() instanceof String)) {
+            return null;
+        }
+        // A lookup from this class only has private access to fields of this class
+        J.FieldAccess classLiteral = (J.FieldAccess) getDeclaredField.getSelect();
+        if (!"class".equals(classLiteral.getSimpleName()) || !TypeUtils.isOfType(classLiteral.getTarget().getType(), declaringType)) {
+            return null;
+        }
+        // A VarHandle for a final field is read-only, while Unsafe can write to it
+        for (JavaType.Variable member : declaringType.getMembers()) {
+            if (member.getName().equals(((J.Literal) fieldName).getValue()) && !member.hasFlags(Flag.Static) &&
+                !member.hasFlags(Flag.Final)) {
+                JavaType type = member.getType();
+                if (type instanceof JavaType.Primitive || type instanceof JavaType.Class || type instanceof JavaType.Parameterized) {
+                    return type;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang;
+
+import lombok.Getter;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.search.UsesJavaVersion;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+public class MigrateUnsafeOffHeapMemoryToMemorySegment extends Recipe {
+    private static final MethodMatcher ALLOCATE_MEMORY = new MethodMatcher("sun.misc.Unsafe allocateMemory(long)");
+    private static final MethodMatcher FREE_MEMORY = new MethodMatcher("sun.misc.Unsafe freeMemory(long)");
+    private static final MethodMatcher ADDRESS_ACCESS = new MethodMatcher("sun.misc.Unsafe *(long, ..)");
+    private static final Pattern ADDRESS_ACCESS_NAME = Pattern.compile("(get|put)(Byte|Short|Char|Int|Long|Float|Double)");
+
+    private static final JavaType.FullyQualified MEMORY_SEGMENT = JavaType.ShallowClass.build("java.lang.foreign.MemorySegment");
+
+    @Getter
+    final String displayName = "Use `MemorySegment` instead of `sun.misc.Unsafe` off-heap memory";
+
+    @Getter
+    final String description = "Replace memory that is allocated with `Unsafe#allocateMemory(long)` and released with " +
+            "`Unsafe#freeMemory(long)` in the `finally` block of the statement that follows, with a `MemorySegment` allocated " +
+            "from a confined `Arena` in a try-with-resources statement. Reads and writes at the base address, optionally plus " +
+            "an offset, become `MemorySegment#get` and `MemorySegment#set` calls with unaligned `ValueLayout` accessors, " +
+            "matching the semantics of `Unsafe`. The memory is left as is when its address is used in any other way, or in a " +
+            "lambda or class body that may run on another thread.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(new UsesJavaVersion<>(22), new UsesMethod<>(ALLOCATE_MEMORY)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                        return ScopedAllocations.replaceScopedAllocations(super.visitBlock(block, ctx), (allocation, tryFinally) ->
+                                isScopedAllocation(allocation, tryFinally) ? toTryWithResources(allocation, tryFinally) : null);
+                    }
+
+                    private J.Try toTryWithResources(J.VariableDeclarations allocation, J.Try tryFinally) {
+                        J.VariableDeclarations.NamedVariable address = allocation.getVariables().get(0);
+                        Expression size = ((J.MethodInvocation) address.getInitializer()).getArguments().get(0);
+                        String arena = VariableNameUtils.generateVariableName("arena", getCursor(),
+                                VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER);
+
+                        maybeAddImport("java.lang.foreign.Arena");
+                        maybeAddImport("java.lang.foreign.MemorySegment");
+                        maybeAddImport("java.lang.foreign.ValueLayout");
+                        J.Try tryWithResources = JavaTemplate.builder(
+                                        "try (Arena #{} = Arena.ofConfined()) {\n" +
+                                        "    MemorySegment #{} = #{}.allocate(#{any(long)});\n" +
+                                        "}")
+                                .imports("java.lang.foreign.Arena", "java.lang.foreign.MemorySegment")
+                                .build()
+                                .apply(new Cursor(getCursor(), allocation), allocation.getCoordinates().replace(),
+                                        arena, address.getSimpleName(), arena, size);
+
+                        J.Block body = (J.Block) new AddressAccessToMemorySegment(address.getSimpleName())
+                                .visitNonNull(tryFinally.getBody(), 0, new Cursor(getCursor(), tryFinally));
+                        return tryWithResources.withBody(tryWithResources.getBody().withStatements(
+                                ListUtils.concatAll(tryWithResources.getBody().getStatements(), body.getStatements())));
+                    }
+                }
+        );
+    }
+
+    /**
+     * A local variable holding freshly allocated memory, followed by a try statement that does nothing
+     * but free it again, while only reading and writing the memory at that address.
+     */
+    private static boolean isScopedAllocation(J.VariableDeclarations allocation, J.Try tryFinally) {
+        if (!ALLOCATE_MEMORY.matches(allocation.getVariables().get(0).getInitializer())) {
+            return false;
+        }
+        String address = allocation.getVariables().get(0).getSimpleName();
+        Statement free = ScopedAllocations.release(tryFinally);
+        if (!(free instanceof J.MethodInvocation) || !FREE_MEMORY.matches((J.MethodInvocation) free) ||
+            !isAddress(((J.MethodInvocation) free).getArguments().get(0), address)) {
+            return false;
+        }
+        return !ScopedAllocations.isShadowedIn(tryFinally.getBody(), address) && onlyAccessedAtAddress(tryFinally.getBody(), address);
+    }
+
+    private static boolean onlyAccessedAtAddress(J.Block body, String address) {
+        AtomicBoolean accessedOtherwise = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean otherwise) {
+                if (identifier.getSimpleName().equals(address) && identifier.getFieldType() != null) {
+                    Cursor parent = getCursor().getParentTreeCursor();
+                    if (ScopedAllocations.isInDeferredCode(getCursor())) {
+                        // The segment of a confined arena can only be accessed by the thread that owns it
+                        otherwise.set(true);
+                    } else if (parent.getValue() instanceof J.Binary) {
+                        J.Binary binary = parent.getValue();
+                        if (binary.getOperator() != J.Binary.Type.Addition || binary.getLeft() != identifier ||
+                            !isAccessedAt(parent.getParentTreeCursor().getValue(), binary)) {
+                            otherwise.set(true);
+                        }
+                    } else if (!isAccessedAt(parent.getValue(), identifier)) {
+                        otherwise.set(true);
+                    }
+                }
+                return identifier;
+            }
+        }.visit(body, accessedOtherwise);
+        return !accessedOtherwise.get();
+    }
+
+    private static boolean isAccessedAt(Object parent, Expression addressArgument) {
+        return parent instanceof J.MethodInvocation &&
+               ADDRESS_ACCESS.matches((J.MethodInvocation) parent) &&
+               ADDRESS_ACCESS_NAME.matcher(((J.MethodInvocation) parent).getSimpleName()).matches() &&
+               ((J.MethodInvocation) parent).getArguments().get(0) == addressArgument;
+    }
+
+    private static boolean isAddress(Expression expression, String address) {
+        return expression instanceof J.Identifier && ((J.Identifier) expression).getSimpleName().equals(address);
+    }
+
+    private static class AddressAccessToMemorySegment extends JavaVisitor<Integer> {
+        private final String address;
+
+        AddressAccessToMemorySegment(String address) {
+            this.address = address;
+        }
+
+        @Override
+        public J visitIdentifier(J.Identifier identifier, Integer p) {
+            J.Identifier i = (J.Identifier) super.visitIdentifier(identifier, p);
+            if (i.getSimpleName().equals(address) && i.getFieldType() != null) {
+                return i.withType(MEMORY_SEGMENT).withFieldType(i.getFieldType().withType(MEMORY_SEGMENT));
+            }
+            return i;
+        }
+
+        @Override
+        public J visitMethodInvocation(J.MethodInvocation method, Integer p) {
+            J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, p);
+            if (!ADDRESS_ACCESS.matches(m) || !ADDRESS_ACCESS_NAME.matcher(m.getSimpleName()).matches()) {
+                return m;
+            }
+            Expression addressArgument = m.getArguments().get(0);
+            Expression segment = addressArgument instanceof J.Binary ? ((J.Binary) addressArgument).getLeft() : addressArgument;
+            if (!isAddress(segment, address)) {
+                return m;
+            }
+
+            String offset = addressArgument instanceof J.Binary ? "#{any(long)}" : "0L";
+            String layout = layout(m.getSimpleName().substring(3));
+            List<Object> parameters = new ArrayList<>();
+            parameters.add(segment);
+            if (addressArgument instanceof J.Binary) {
+                parameters.add(((J.Binary) addressArgument).getRight());
+            }
+            String template;
+            if (m.getSimpleName().startsWith("get")) {
+                template = "#{any(java.lang.foreign.MemorySegment)}.get(ValueLayout." + layout + ", " + offset + ")";
+            } else {
+                template = "#{any(java.lang.foreign.MemorySegment)}.set(ValueLayout." + layout + ", " + offset + ", #{any()})";
+                parameters.add(m.getArguments().get(1));
+            }
+            return JavaTemplate.builder(template)
+                    .imports("java.lang.foreign.ValueLayout")
+                    .build()
+                    .apply(getCursor(), m.getCoordinates().replace(), parameters.toArray());
+        }
+
+        /**
+         * {@code Unsafe} reads and writes native byte order at any alignment, so use the unaligned
+         * native order layouts to keep behaving the same.
+         */
+        private static String layout(String accessedType) {
+            return "Byte".equals(accessedType) ? "JAVA_BYTE" : "JAVA_" + accessedType.toUpperCase(Locale.ROOT) + "_UNALIGNED";
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.Statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+/**
+ * Recognizes memory that is allocated into a local variable right before a try statement that does nothing but
+ * release it again, which the recipes that migrate to a confined {@code Arena} turn into a try-with-resources statement.
+ */
+final class ScopedAllocations {
+
+    private ScopedAllocations() {
+    }
+
+    /**
+     * Replaces each allocation and the try statement that follows it with the try-with-resources statement that
+     * {@code toTryWithResources} returns for them, or leaves them as is when it returns {@code null}. Allocations
+     * that are still referenced after the try statement are always left as is.
+     */
+    static J.Block replaceScopedAllocations(J.Block block,
+                                            BiFunction<J.VariableDeclarations, J.Try, J.@Nullable Try> toTryWithResources) {
+        J.Block b = block;
+        List<Statement> statements = b.getStatements();
+        for (int i = 0; i < statements.size() - 1; i++) {
+            if (!(statements.get(i) instanceof J.VariableDeclarations) || !(statements.get(i + 1) instanceof J.Try)) {
+                continue;
+            }
+            J.VariableDeclarations allocation = (J.VariableDeclarations) statements.get(i);
+            J.Try tryFinally = (J.Try) statements.get(i + 1);
+            if (allocation.getVariables().size() != 1 || !isTryFinally(tryFinally) ||
+                isReferencedIn(allocation.getVariables().get(0).getSimpleName(), statements.subList(i + 2, statements.size()))) {
+                continue;
+            }
+            J.Try tryWithResources = toTryWithResources.apply(allocation, tryFinally);
+            if (tryWithResources == null) {
+                continue;
+            }
+
+            List<Statement> newStatements = new ArrayList<>(statements);
+            newStatements.set(i, tryWithResources);
+            newStatements.remove(i + 1);
+            b = b.withStatements(newStatements);
+            statements = b.getStatements();
+        }
+        return b;
+    }
+
+    /**
+     * The statement in the finally block of the try statement that releases the allocation.
+     */
+    static Statement release(J.Try tryFinally) {
+        //noinspection DataFlowIssue
+        return tryFinally.getFinally().getStatements().get(0);
+    }
+
+    /**
+     * Whether a variable with the same name is declared in the tree, which shadows the allocation and is too
+     * confusing to follow.
+     */
+    static boolean isShadowedIn(J tree, String name) {
+        AtomicBoolean shadowed = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, AtomicBoolean s) {
+                if (variable.getSimpleName().equals(name)) {
+                    s.set(true);
+                }
+                return super.visitVariable(variable, s);
+            }
+        }.visit(tree, shadowed);
+        return shadowed.get();
+    }
+
+    /**
+     * Whether the tree at the cursor is part of a lambda, member reference or class body, which may run after the
+     * allocation is released, or on another thread than the one that owns the confined {@code Arena}.
+     */
+    static boolean isInDeferredCode(Cursor cursor) {
+        J.NewClass newClass = cursor.firstEnclosing(J.NewClass.class);
+        return cursor.firstEnclosing(J.Lambda.class) != null ||
+               cursor.firstEnclosing(J.MemberReference.class) != null ||
+               cursor.firstEnclosing(J.ClassDeclaration.class) != null ||
+               newClass != null && newClass.getBody() != null;
+    }
+
+    /**
+     * A try statement without resources or catch clauses, and a finally block with a single statement.
+     */
+    private static boolean isTryFinally(J.Try tryFinally) {
+        return tryFinally.getResources() == null && tryFinally.getCatches().isEmpty() && tryFinally.getFinally() != null &&
+               tryFinally.getFinally().getStatements().size() == 1;
+    }
+
+    private static boolean isReferencedIn(String name, List<Statement> statements) {
+        AtomicBoolean referenced = new AtomicBoolean();
+        for (Statement statement : statements) {
+            new JavaIsoVisitor<AtomicBoolean>() {
+                @Override
+                public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean r) {
+                    if (identifier.getSimpleName().equals(name) && identifier.getFieldType() != null) {
+                        r.set(true);
+                    }
+                    return identifier;
+                }
+            }.visit(statement, referenced);
+        }
+        return referenced.get();
+    }
+}
@@ -20,7 +20,9 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Option;
+import org.openrewrite.Preconditions;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.search.UsesMethod;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
@@ -45,11 +47,11 @@ public class UseCommonsLog extends UseLogRecipeTemplate {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new LogVisitor(
+        return Preconditions.check(new UsesMethod<>("org.apache.commons.logging.LogFactory getLog(..)"), new LogVisitor(
                 "org.apache.commons.logging.Log",
                 "org.apache.commons.logging.LogFactory getLog(..)",
                 "lombok.extern.apachecommons.CommonsLog",
-                fieldName);
+                fieldName));
     }
 
 }
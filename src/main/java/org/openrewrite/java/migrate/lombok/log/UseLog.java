@@ -20,7 +20,9 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Option;
+import org.openrewrite.Preconditions;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.search.UsesMethod;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
@@ -45,7 +47,7 @@ public class UseLog extends UseLogRecipeTemplate {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new LogVisitor(
+        return Preconditions.check(new UsesMethod<>("java.util.logging.Logger getLogger(String)"), new LogVisitor(
                 "java.util.logging.Logger",
                 "java.util.logging.Logger getLogger(String)",
                 "lombok.extern.java.Log",
@@ -55,6 +57,6 @@ public class UseLog extends UseLogRecipeTemplate {
             protected String getFactoryParameter(String className) {
                 return className + ".class.getName()";
             }
-        };
+        });
     }
 }
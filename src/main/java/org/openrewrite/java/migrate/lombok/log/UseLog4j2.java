@@ -20,7 +20,9 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Option;
+import org.openrewrite.Preconditions;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.search.UsesMethod;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
@@ -45,11 +47,11 @@ public class UseLog4j2 extends UseLogRecipeTemplate {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new LogVisitor(
+        return Preconditions.check(new UsesMethod<>("org.apache.logging.log4j.LogManager getLogger(..)"), new LogVisitor(
                 "org.apache.logging.log4j.Logger",
                 "org.apache.logging.log4j.LogManager getLogger(..)",
                 "lombok.extern.log4j.Log4j2",
-                fieldName);
+                fieldName));
     }
 
 }
@@ -20,7 +20,9 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Option;
+import org.openrewrite.Preconditions;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.search.UsesMethod;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
@@ -45,10 +47,10 @@ public class UseSlf4j extends UseLogRecipeTemplate {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new LogVisitor("org.slf4j.Logger",
+        return Preconditions.check(new UsesMethod<>("org.slf4j.LoggerFactory getLogger(..)"), new LogVisitor("org.slf4j.Logger",
                 "org.slf4j.LoggerFactory getLogger(..)",
                 "lombok.extern.slf4j.Slf4j",
-                fieldName);
+                fieldName));
     }
 
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class FindBlockingTasksOnCommonPool extends Recipe {
+    private static final MethodMatcher STATIC_ASYNC = new MethodMatcher("java.util.concurrent.CompletableFuture *Async(..)");
+    private static final MethodMatcher STAGE_ASYNC = new MethodMatcher("java.util.concurrent.CompletionStage *Async(..)", true);
+
+    private static final List<MethodMatcher> BLOCKING_METHODS = Arrays.asList(
+            new MethodMatcher("java.lang.Thread sleep(..)"),
+            new MethodMatcher("java.lang.Thread join(..)"),
+            new MethodMatcher("java.lang.Object wait(..)"),
+            new MethodMatcher("java.lang.Process waitFor(..)"),
+            new MethodMatcher("java.util.concurrent.Future get(..)", true),
+            new MethodMatcher("java.util.concurrent.CompletableFuture join()"),
+            new MethodMatcher("java.util.concurrent.BlockingQueue put(..)", true),
+            new MethodMatcher("java.util.concurrent.BlockingQueue take()", true),
+            new MethodMatcher("java.util.concurrent.CountDownLatch await(..)"),
+            new MethodMatcher("java.util.concurrent.Semaphore acquire(..)"),
+            new MethodMatcher("java.sql.DriverManager getConnection(..)"),
+            new MethodMatcher("javax.sql.DataSource getConnection(..)", true),
+            new MethodMatcher("java.sql.Statement execute*(..)", true),
+            new MethodMatcher("java.sql.ResultSet next()", true),
+            new MethodMatcher("java.net.http.HttpClient send(..)", true),
+            new MethodMatcher("java.net.URL openStream()"),
+            new MethodMatcher("java.net.URLConnection connect()", true),
+            new MethodMatcher("java.net.URLConnection get*Stream()", true),
+            new MethodMatcher("java.net.Socket connect(..)", true),
+            new MethodMatcher("java.net.ServerSocket accept()", true),
+            new MethodMatcher("java.io.InputStream read*(..)", true),
+            new MethodMatcher("java.io.Reader read*(..)", true),
+            new MethodMatcher("java.io.BufferedReader readLine()", true),
+            new MethodMatcher("java.io.OutputStream write(..)", true),
+            new MethodMatcher("java.io.OutputStream flush()", true),
+            new MethodMatcher("java.io.Writer write(..)", true),
+            new MethodMatcher("java.nio.file.Files *(..)"),
+            new MethodMatcher("java.nio.channels.FileChannel *(..)", true),
+            new MethodMatcher("java.io.FileInputStream <constructor>(..)"),
+            new MethodMatcher("java.io.FileOutputStream <constructor>(..)"),
+            new MethodMatcher("java.io.FileReader <constructor>(..)"),
+            new MethodMatcher("java.io.FileWriter <constructor>(..)"),
+            new MethodMatcher("java.io.RandomAccessFile <constructor>(..)"),
+            new MethodMatcher("java.net.Socket <constructor>(..)")
+    );
+
+    /**
+     * Streams that are backed by memory, which are subtypes of the blocking stream types.
+     */
+    private static final List<String> IN_MEMORY_STREAMS = Arrays.asList(
+            "java.io.ByteArrayInputStream",
+            "java.io.ByteArrayOutputStream",
+            "java.io.CharArrayReader",
+            "java.io.CharArrayWriter",
+            "java.io.StringReader",
+            "java.io.StringWriter"
+    );
+
+    @Getter
+    final String displayName = "Find blocking tasks on the common `ForkJoinPool`";
+
+    @Getter
+    final String description = "Find calls to `CompletableFuture#supplyAsync`, `CompletableFuture#runAsync` and the other " +
+            "`*Async` methods without an `Executor` argument, whose task makes blocking calls such as JDBC, HTTP or file I/O. " +
+            "These tasks run on `ForkJoinPool.commonPool()`, which only has as many threads as there are processors, so a " +
+            "few blocked tasks stall all other asynchronous tasks and parallel streams in the JVM.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(new UsesMethod<>(STATIC_ASYNC), new UsesMethod<>(STAGE_ASYNC)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                        String blockingCall = blockingCallOnCommonPool(m);
+                        return blockingCall == null ? m :
+                                SearchResult.found(m, "Blocks a thread of the common pool on `" + blockingCall + "`");
+                    }
+                }
+        );
+    }
+
+    /**
+     * The first blocking call in the task of an asynchronous {@code CompletableFuture} method that runs on the
+     * common pool, as in {@code DriverManager#getConnection}, or {@code null} if the task does not block or runs
+     * on an explicit executor.
+     */
+    public static @Nullable String blockingCallOnCommonPool(J.MethodInvocation method) {
+        JavaType.Method methodType = method.getMethodType();
+        if (methodType == null || !STATIC_ASYNC.matches(method) && !STAGE_ASYNC.matches(method) ||
+            methodType.getParameterTypes().isEmpty() || method.getArguments().size() != methodType.getParameterTypes().size()) {
+            return null;
+        }
+        List<JavaType> parameterTypes = methodType.getParameterTypes();
+        if (TypeUtils.isAssignableTo("java.util.concurrent.Executor", parameterTypes.get(parameterTypes.size() - 1))) {
+            return null;
+        }
+
+        Expression task = method.getArguments().get(method.getArguments().size() - 1);
+        if (!(task instanceof J.Lambda) && !(task instanceof J.MemberReference) &&
+            !(task instanceof J.NewClass && ((J.NewClass) task).getBody() != null)) {
+            // The task is created elsewhere, where it cannot be inspected
+            return null;
+        }
+        return blockingCall(task);
+    }
+
+    /**
+     * The first blocking call in the tree, as in {@code DriverManager#getConnection}, or {@code null} if there is none.
+     */
+    public static @Nullable String blockingCall(J tree) {
+        AtomicReference<@Nullable String> blockingCall = new AtomicReference<>();
+        new JavaIsoVisitor<AtomicReference<@Nullable String>>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicReference<@Nullable String> found) {
+                record(method.getMethodType(), found);
+                return super.visitMethodInvocation(method, found);
+            }
+
+            @Override
+            public J.MemberReference visitMemberReference(J.MemberReference memberRef, AtomicReference<@Nullable String> found) {
+                record(memberRef.getMethodType(), found);
+                return super.visitMemberReference(memberRef, found);
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, AtomicReference<@Nullable String> found) {
+                record(newClass.getConstructorType(), found);
+                return super.visitNewClass(newClass, found);
+            }
+        }.visit(tree, blockingCall);
+        return blockingCall.get();
+    }
+
+    private static void record(JavaType.@Nullable Method methodType, AtomicReference<@Nullable String> found) {
+        if (methodType == null || found.get() != null ||
+            IN_MEMORY_STREAMS.contains(methodType.getDeclaringType().getFullyQualifiedName())) {
+            return;
+        }
+        for (MethodMatcher matcher : BLOCKING_METHODS) {
+            if (matcher.matches(methodType)) {
+                String className = methodType.getDeclaringType().getClassName();
+                found.set(methodType.isConstructor() ? "new " + className : className + "#" + methodType.getName());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.migrate.table.JniBindings;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FindJniBindings extends Recipe {
+    private static final MethodMatcher LOAD_LIBRARY = new MethodMatcher("java.lang.System loadLibrary(java.lang.String)");
+    private static final MethodMatcher LOAD = new MethodMatcher("java.lang.System load(java.lang.String)");
+
+    transient JniBindings jniBindings = new JniBindings(this);
+
+    String displayName = "Find JNI bindings";
+
+    String description = "Find `native` methods bound through JNI, along with their signature and the libraries loaded by " +
+            "their class. This helps to plan a migration of JNI bindings to downcalls through the Foreign Function & Memory API.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new HasNativeMethod(), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                JavaType.Method methodType = m.getMethodType();
+                if (m.hasModifier(J.Modifier.Type.Native) && methodType != null) {
+                    J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                    jniBindings.insertRow(ctx, new JniBindings.Row(
+                            getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                            methodType.getDeclaringType().getFullyQualifiedName(),
+                            m.getSimpleName(),
+                            signature(methodType),
+                            classDecl == null ? null : loadedLibraries(classDecl)
+                    ));
+                    return SearchResult.found(m);
+                }
+                return m;
+            }
+        });
+    }
+
+    private static String signature(JavaType.Method methodType) {
+        StringJoiner parameters = new StringJoiner(", ", methodType.getName() + "(", ")");
+        for (JavaType parameterType : methodType.getParameterTypes()) {
+            parameters.add(typeName(parameterType));
+        }
+        return typeName(methodType.getReturnType()) + " " + parameters;
+    }
+
+    private static String typeName(JavaType type) {
+        if (type instanceof JavaType.Primitive) {
+            return ((JavaType.Primitive) type).getKeyword();
+        } else if (type instanceof JavaType.FullyQualified) {
+            return ((JavaType.FullyQualified) type).getFullyQualifiedName();
+        } else if (type instanceof JavaType.Array) {
+            return typeName(((JavaType.Array) type).getElemType()) + "[]";
+        }
+        return String.valueOf(type);
+    }
+
+    private static @Nullable String loadedLibraries(J.ClassDeclaration classDecl) {
+        Set<String> libraries = new TreeSet<>();
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Set<String> l) {
+                if ((LOAD_LIBRARY.matches(method) || LOAD.matches(method)) &&
+                    method.getArguments().get(0) instanceof J.Literal) {
+                    l.add(String.valueOf(((J.Literal) method.getArguments().get(0)).getValue()));
+                }
+                return super.visitMethodInvocation(method, l);
+            }
+        }.visit(classDecl.getBody(), libraries);
+        return libraries.isEmpty() ? null : String.join(", ", libraries);
+    }
+
+    private static class HasNativeMethod extends JavaIsoVisitor<ExecutionContext> {
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+            // Skip the method bodies, as native methods are only declared in class bodies
+            return method.hasModifier(J.Modifier.Type.Native) ? SearchResult.found(method) : method;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.migrate.table.SunMiscUnsafeUses;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.marker.SearchResult;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FindSunMiscUnsafeUsage extends Recipe {
+    private static final MethodMatcher UNSAFE_METHODS = new MethodMatcher("sun.misc.Unsafe *(..)");
+
+    transient SunMiscUnsafeUses unsafeUses = new SunMiscUnsafeUses(this);
+
+    String displayName = "Find uses of `sun.misc.Unsafe`";
+
+    String description = "Find calls to `sun.misc.Unsafe`, whose memory-access methods are deprecated for removal " +
+               "and warn at run time as of Java 24. Each call is reported along with the supported API to migrate it to, " +
+               "which is `VarHandle` for on-heap and `MemorySegment` for off-heap memory access.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(UNSAFE_METHODS), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                if (UNSAFE_METHODS.matches(m)) {
+                    String replacement = replacement(m);
+                    unsafeUses.insertRow(ctx, new SunMiscUnsafeUses.Row(
+                            getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                            m.getSimpleName(),
+                            replacement
+                    ));
+                    return SearchResult.found(m, replacement);
+                }
+                return m;
+            }
+        });
+    }
+
+    private static @Nullable String replacement(J.MethodInvocation method) {
+        String name = method.getSimpleName();
+        switch (name) {
+            case "objectFieldOffset":
+            case "staticFieldOffset":
+            case "staticFieldBase":
+                return "java.lang.invoke.MethodHandles.Lookup#findVarHandle";
+            case "arrayBaseOffset":
+            case "arrayIndexScale":
+                return "java.lang.invoke.MethodHandles#arrayElementVarHandle";
+            case "loadFence":
+            case "storeFence":
+            case "fullFence":
+                return "java.lang.invoke.VarHandle#" + name;
+            case "allocateMemory":
+            case "reallocateMemory":
+            case "freeMemory":
+            case "setMemory":
+            case "copyMemory":
+                return "java.lang.foreign.MemorySegment";
+            case "park":
+            case "unpark":
+                return "java.util.concurrent.locks.LockSupport";
+            case "getUnsafe":
+                return null;
+        }
+        if (name.startsWith("compareAndSwap") || name.startsWith("getAndAdd") || name.startsWith("getAndSet") ||
+            name.startsWith("putOrdered") || name.endsWith("Volatile")) {
+            return "java.lang.invoke.VarHandle";
+        }
+        if (name.startsWith("get") || name.startsWith("put")) {
+            JavaType.Method methodType = method.getMethodType();
+            // Accessors taking just an address operate on off-heap memory, those taking an object and offset on the heap
+            if (methodType != null && !methodType.getParameterTypes().isEmpty() &&
+                methodType.getParameterTypes().get(0) == JavaType.Primitive.Long) {
+                return "java.lang.foreign.MemorySegment";
+            }
+            return "java.lang.invoke.VarHandle";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.marker.SearchResult;
+
+public class FindWaitNotifyCoordination extends Recipe {
+    private static final MethodMatcher WAIT = new MethodMatcher("java.lang.Object wait(..)");
+    private static final MethodMatcher NOTIFY = new MethodMatcher("java.lang.Object notify()");
+    private static final MethodMatcher NOTIFY_ALL = new MethodMatcher("java.lang.Object notifyAll()");
+
+    @Getter
+    final String displayName = "Find threads coordinating through `wait()` and `notify()`";
+
+    @Getter
+    final String description = "Find calls to `Object#wait`, `Object#notify()` and `Object#notifyAll()`. Waiting on a monitor " +
+            "pins the carrier of a virtual thread, and `notifyAll()` wakes up every waiting thread on each change. These calls " +
+            "were not recognized as a producer-consumer buffer, a latch, or a lock object that can be migrated automatically, " +
+            "and should be replaced by hand with a `BlockingQueue`, a `CountDownLatch` or a `Lock` and `Condition`.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(new UsesMethod<>(WAIT), new UsesMethod<>(NOTIFY), new UsesMethod<>(NOTIFY_ALL)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                        if (WAIT.matches(m)) {
+                            J.WhileLoop loop = getCursor().firstEnclosing(J.WhileLoop.class);
+                            return SearchResult.found(m, loop == null ?
+                                    "Waits without re-checking its condition in a loop" :
+                                    "Use `Condition#await()`, `BlockingQueue#take()` or `CountDownLatch#await()`");
+                        } else if (NOTIFY.matches(m)) {
+                            return SearchResult.found(m, "Wakes up an arbitrary waiting thread, use `Condition#signal()` per condition");
+                        } else if (NOTIFY_ALL.matches(m)) {
+                            return SearchResult.found(m, "Wakes up all waiting threads, use `Condition#signal()` per condition");
+                        }
+                        return m;
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.Comment;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TextComment;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.openrewrite.PathUtils.separatorsToUnix;
+
+/**
+ * Marks Java sources that look hand-written, so that cosmetic recipes can use it as a precondition
+ * and skip generated code such as JAXB/WSDL stubs, ANTLR parsers and protobuf classes, which are
+ * rarely worth modernizing and tend to dominate the run time of those recipes.
+ */
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class IsLikelyNotGenerated extends Recipe {
+
+    private static final int DEFAULT_MAX_NODE_COUNT = 50_000;
+
+    private static final List<String> GENERATED_PATH_SEGMENTS = Arrays.asList(
+            "/generated-sources/",
+            "/generated-test-sources/",
+            "/build/generated/",
+            "/build/generated-src/"
+    );
+
+    private static final Pattern GENERATED_HEADER = Pattern.compile("(?i)do not edit|generated (by|from)\\b");
+
+    @Option(displayName = "Maximum node count",
+            description = "Sources containing more LST elements than this are treated as generated. " +
+                          "Defaults to 50,000, which corresponds to a few thousand lines of code.",
+            example = "50000",
+            required = false)
+    @Nullable
+    Integer maxNodeCount;
+
+    String displayName = "Find sources that are likely not generated";
+
+    String description = "Marks Java sources that are not annotated with `@Generated`, are not located in a " +
+                         "`generated-sources` or `build/generated` directory, do not carry a \"generated\" header " +
+                         "comment and do not exceed a configurable size. Intended as a precondition to keep " +
+                         "cosmetic recipes away from generated code.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        int maxNodes = maxNodeCount == null ? DEFAULT_MAX_NODE_COUNT : maxNodeCount;
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                if (isInGeneratedDirectory(cu) ||
+                    hasGeneratedHeader(cu) ||
+                    hasGeneratedAnnotation(cu) ||
+                    exceedsNodeCount(cu, maxNodes)) {
+                    return cu;
+                }
+                return SearchResult.found(cu);
+            }
+        };
+    }
+
+    private static boolean isInGeneratedDirectory(J.CompilationUnit cu) {
+        String path = "/" + separatorsToUnix(cu.getSourcePath().toString());
+        for (String segment : GENERATED_PATH_SEGMENTS) {
+            if (path.contains(segment)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasGeneratedHeader(J.CompilationUnit cu) {
+        for (Comment comment : cu.getComments()) {
+            if (comment instanceof TextComment && GENERATED_HEADER.matcher(((TextComment) comment).getText()).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasGeneratedAnnotation(J.CompilationUnit cu) {
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+                // Covers `javax.annotation.Generated`, `javax.annotation.processing.Generated`,
+                // `jakarta.annotation.Generated` and the various tool-specific variants
+                if ("Generated".equals(annotation.getSimpleName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean exceedsNodeCount(J.CompilationUnit cu, int maxNodes) {
+        AtomicInteger count = new AtomicInteger();
+        new JavaIsoVisitor<AtomicInteger>() {
+            @Override
+            public @Nullable J preVisit(J tree, AtomicInteger c) {
+                if (c.incrementAndGet() > maxNodes) {
+                    stopAfterPreVisit();
+                }
+                return tree;
+            }
+        }.visit(cu, count);
+        return count.get() > maxNodes;
+    }
+}
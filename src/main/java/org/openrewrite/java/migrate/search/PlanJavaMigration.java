@@ -15,76 +15,240 @@
  */
 package org.openrewrite.java.migrate.search;
 
-import lombok.Getter;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
+import org.openrewrite.config.Environment;
 import org.openrewrite.java.marker.JavaVersion;
 import org.openrewrite.java.migrate.table.JavaVersionMigrationPlan;
+import org.openrewrite.java.migrate.table.RecipeCostEstimates;
 import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.marker.BuildTool;
 import org.openrewrite.marker.Markers;
+import org.openrewrite.marker.SearchResult;
 
 import java.io.File;
-import java.util.Collection;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.emptyList;
 
-public class PlanJavaMigration extends ScanningRecipe<JavaVersionMigrationPlan.Row.Builder> {
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class PlanJavaMigration extends ScanningRecipe<PlanJavaMigration.Accumulator> {
     transient JavaVersionMigrationPlan plan = new JavaVersionMigrationPlan(this);
+    transient RecipeCostEstimates costEstimates = new RecipeCostEstimates(this);
 
-    @Getter
-    final String displayName = "Plan a Java version migration";
+    @Option(displayName = "Estimate recipe",
+            description = "Optionally estimate the cost of running this recipe. Only the preconditions of the recipes " +
+                          "it is composed of are evaluated, so no code is changed and no templates are applied.",
+            example = "org.openrewrite.java.migrate.UpgradeToJava21",
+            required = false)
+    @Nullable
+    String estimateRecipe;
 
-    @Getter
-    final String description = "Study the set of Java versions and associated tools in " +
-            "use across many repositories.";
+    String displayName = "Plan a Java version migration";
+
+    String description = "Study the set of Java versions and associated tools in " +
+            "use across many repositories. Optionally estimate the cost of a migration recipe per repository.";
+
+    public static class Accumulator {
+        final JavaVersionMigrationPlan.Row.Builder plan = JavaVersionMigrationPlan.Row.builder();
+        final List<Estimate> estimates = new ArrayList<>();
+    }
+
+    @RequiredArgsConstructor
+    static class Estimate {
+        final Recipe recipe;
+
+        /**
+         * The visitor of the recipe, which is only asked whether it accepts a source file and never visits one.
+         */
+        final TreeVisitor<?, ExecutionContext> visitor;
+
+        /**
+         * The preconditions of the declarative recipes that include the recipe, which must all match too.
+         */
+        final List<TreeVisitor<?, ExecutionContext>> declarativePreconditions;
+
+        /**
+         * The precondition of the recipe, or {@code null} when the recipe does not declare one
+         * and is therefore considered to apply to every source file it accepts.
+         */
+        final @Nullable TreeVisitor<?, ExecutionContext> precondition;
+
+        int sourceFiles;
+        int preconditionMatches;
+
+        boolean hasPrecondition() {
+            return precondition != null || !declarativePreconditions.isEmpty();
+        }
+    }
 
     @Override
-    public JavaVersionMigrationPlan.Row.Builder getInitialValue(ExecutionContext ctx) {
-        return JavaVersionMigrationPlan.Row.builder();
+    public Validated<Object> validate(ExecutionContext ctx) {
+        Validated<Object> validated = super.validate(ctx);
+        if (estimateRecipe != null) {
+            validated = validated.and(Validated.test("estimateRecipe", "must be the name of a recipe on the classpath",
+                    estimateRecipe, name -> environment().listRecipes().stream().anyMatch(r -> r.getName().equals(name))));
+        }
+        return validated;
+    }
+
+    private static Environment environment() {
+        return Environment.builder()
+                .scanRuntimeClasspath()
+                .build();
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getScanner(JavaVersionMigrationPlan.Row.Builder acc) {
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        Accumulator acc = new Accumulator();
+        if (estimateRecipe != null) {
+            Recipe recipe = environment().activateRecipes(estimateRecipe);
+            Map<String, Estimate> leaves = new LinkedHashMap<>();
+            collectLeafRecipes(recipe, emptyList(), leaves, ctx);
+            acc.estimates.addAll(leaves.values());
+        }
+        return acc;
+    }
+
+    private static void collectLeafRecipes(Recipe recipe, List<TreeVisitor<?, ExecutionContext>> declarativePreconditions,
+                                           Map<String, Estimate> leaves, ExecutionContext ctx) {
+        Recipe r = recipe;
+        List<TreeVisitor<?, ExecutionContext>> preconditions = declarativePreconditions;
+        while (r instanceof DelegatingRecipe) {
+            // Declarative recipes decorate the recipes in their list with their own preconditions
+            TreeVisitor<?, ExecutionContext> precondition = precondition(visitor(r, ctx));
+            if (precondition != null) {
+                preconditions = new ArrayList<>(preconditions);
+                preconditions.add(precondition);
+            }
+            r = ((DelegatingRecipe) r).getDelegate();
+        }
+        List<Recipe> recipeList = r.getRecipeList();
+        if (!recipeList.isEmpty()) {
+            for (Recipe child : recipeList) {
+                collectLeafRecipes(child, preconditions, leaves, ctx);
+            }
+        } else if (!r.getClass().getName().startsWith("org.openrewrite.config.") && !leaves.containsKey(r.getName())) {
+            // Skip the bookkeeping recipes that declarative recipes use to evaluate their own preconditions
+            TreeVisitor<?, ExecutionContext> visitor = visitor(r, ctx);
+            leaves.put(r.getName(), new Estimate(r, visitor, preconditions, precondition(visitor)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TreeVisitor<?, ExecutionContext> visitor(Recipe recipe, ExecutionContext ctx) {
+        if (recipe instanceof ScanningRecipe) {
+            ScanningRecipe<Object> scanning = (ScanningRecipe<Object>) recipe;
+            return scanning.getVisitor(scanning.getInitialValue(ctx));
+        }
+        return recipe.getVisitor();
+    }
+
+    private static @Nullable TreeVisitor<?, ExecutionContext> precondition(TreeVisitor<?, ExecutionContext> visitor) {
+        return visitor instanceof Preconditions.Check ? ((Preconditions.Check) visitor).getCheck() : null;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
         return new TreeVisitor<Tree, ExecutionContext>() {
 
             @Override
             public Tree preVisit(Tree tree, ExecutionContext ctx) {
+                stopAfterPreVisit();
                 if (tree instanceof SourceFile) {
                     File sourceFile = ((SourceFile) tree).getSourcePath().toFile();
                     if (sourceFile.getName().contains("build.gradle")) {
-                        acc.hasGradleBuild(true);
+                        acc.plan.hasGradleBuild(true);
                     } else if (sourceFile.getName().contains("pom.xml")) {
-                        acc.hasMavenPom(true);
+                        acc.plan.hasMavenPom(true);
                     }
+                    estimate((SourceFile) tree, ctx);
                 }
 
                 if (tree instanceof JavaSourceFile) {
-                    acc.hasJava(true);
+                    acc.plan.hasJava(true);
                     Markers markers = tree.getMarkers();
                     markers.findFirst(JavaVersion.class).ifPresent(javaVersion -> {
-                        acc.sourceCompatibility(javaVersion.getSourceCompatibility());
-                        acc.majorVersionSourceCompatibility(javaVersion.getMajorVersion());
-                        acc.targetCompatibility(javaVersion.getTargetCompatibility());
+                        acc.plan.sourceCompatibility(javaVersion.getSourceCompatibility());
+                        acc.plan.majorVersionSourceCompatibility(javaVersion.getMajorVersion());
+                        acc.plan.targetCompatibility(javaVersion.getTargetCompatibility());
                     });
                     markers.findFirst(BuildTool.class).ifPresent(buildTool -> {
                         switch (buildTool.getType()) {
                             case Gradle:
-                                acc.gradleVersion(buildTool.getVersion());
+                                acc.plan.gradleVersion(buildTool.getVersion());
                                 break;
                             case Maven:
-                                acc.mavenVersion(buildTool.getVersion());
+                                acc.plan.mavenVersion(buildTool.getVersion());
                                 break;
                         }
                     });
                 }
                 return tree;
             }
+
+            private void estimate(SourceFile sourceFile, ExecutionContext ctx) {
+                for (Estimate estimate : acc.estimates) {
+                    if (!estimate.visitor.isAcceptable(sourceFile, ctx) ||
+                        !estimate.declarativePreconditions.stream().allMatch(p -> matches(p, sourceFile, ctx))) {
+                        continue;
+                    }
+                    if (estimate.precondition == null) {
+                        estimate.sourceFiles++;
+                    } else {
+                        Tree checked = estimate.precondition.visit(sourceFile, ctx);
+                        if (checked != sourceFile && checked != null) {
+                            estimate.sourceFiles++;
+                            estimate.preconditionMatches += countSearchResults(checked);
+                        }
+                    }
+                }
+            }
+
+            private boolean matches(TreeVisitor<?, ExecutionContext> precondition, SourceFile sourceFile, ExecutionContext ctx) {
+                if (!precondition.isAcceptable(sourceFile, ctx)) {
+                    return false;
+                }
+                Tree checked = precondition.visit(sourceFile, ctx);
+                return checked != sourceFile && checked != null;
+            }
         };
     }
 
+    private static int countSearchResults(Tree tree) {
+        AtomicInteger count = new AtomicInteger();
+        new TreeVisitor<Tree, AtomicInteger>() {
+            @Override
+            public Tree preVisit(Tree t, AtomicInteger c) {
+                if (t.getMarkers().findFirst(SearchResult.class).isPresent()) {
+                    c.incrementAndGet();
+                }
+                return t;
+            }
+        }.visit(tree, count);
+        return count.get();
+    }
+
     @Override
-    public Collection<? extends SourceFile> generate(JavaVersionMigrationPlan.Row.Builder acc, ExecutionContext ctx) {
-        plan.insertRow(ctx, acc.build());
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        plan.insertRow(ctx, acc.plan.build());
+        for (Estimate estimate : acc.estimates) {
+            Duration effort = estimate.recipe.getEstimatedEffortPerOccurrence();
+            long occurrences = Math.max(estimate.sourceFiles, estimate.preconditionMatches);
+            costEstimates.insertRow(ctx, new RecipeCostEstimates.Row(
+                    estimate.recipe.getName(),
+                    estimate.hasPrecondition(),
+                    estimate.sourceFiles,
+                    estimate.precondition == null ? null : estimate.preconditionMatches,
+                    effort == null ? 0 : effort.getSeconds() * occurrences
+            ));
+        }
         return emptyList();
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.table;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class JniBindings extends DataTable<JniBindings.Row> {
+
+    public JniBindings(Recipe recipe) {
+        super(recipe,
+                "JNI bindings",
+                "The `native` methods that are bound through JNI, and the libraries their classes load.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file declaring the native method.")
+        String sourcePath;
+
+        @Column(displayName = "Class name",
+                description = "The fully qualified name of the class declaring the native method.")
+        String className;
+
+        @Column(displayName = "Method name",
+                description = "The name of the native method.")
+        String methodName;
+
+        @Column(displayName = "Signature",
+                description = "The return and parameter types of the native method.")
+        String signature;
+
+        @Column(displayName = "Library",
+                description = "The libraries loaded by the class declaring the native method through `System#loadLibrary` " +
+                              "or `System#load`, if any.")
+        @Nullable
+        String library;
+    }
+}
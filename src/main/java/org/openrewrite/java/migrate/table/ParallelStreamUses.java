@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.table;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class ParallelStreamUses extends DataTable<ParallelStreamUses.Row> {
+
+    public ParallelStreamUses(Recipe recipe) {
+        super(recipe,
+                "Parallel streams",
+                "Calls to `parallelStream()` and `parallel()`, classified by their source, shared state and blocking calls.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file containing the call.")
+        String sourcePath;
+
+        @Column(displayName = "Method name",
+                description = "Either `parallelStream` or `parallel`.")
+        String methodName;
+
+        @Column(displayName = "Source type",
+                description = "The type of the collection or the method that the stream is created from.")
+        String sourceType;
+
+        @Column(displayName = "Shared state",
+                description = "A field or captured variable that is not thread safe, and that the functions of the pipeline mutate.")
+        @Nullable
+        String sharedState;
+
+        @Column(displayName = "Blocking call",
+                description = "A blocking call that the functions of the pipeline make.")
+        @Nullable
+        String blockingCall;
+
+        @Column(displayName = "Verdict",
+                description = "One of `UNSAFE`, `BLOCKING`, `UNPROFITABLE` or `REVIEW` when nothing speaks against running in parallel.")
+        String verdict;
+
+        @Column(displayName = "Reason",
+                description = "Why the stream got its verdict.")
+        String reason;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.table;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class RecipeCostEstimates extends DataTable<RecipeCostEstimates.Row> {
+
+    public RecipeCostEstimates(Recipe recipe) {
+        super(
+                recipe,
+                "Recipe cost estimates",
+                "A per-repository estimate of how many source files each recipe of a migration would consider, " +
+                "based on evaluating only the recipe preconditions."
+        );
+    }
+
+    @Value
+    public static class Row {
+
+        @Column(displayName = "Recipe name",
+                description = "The fully qualified name of the recipe that is part of the estimated migration.")
+        String recipeName;
+
+        @Column(displayName = "Has precondition",
+                description = "Whether the recipe, or a declarative recipe that includes it, declares a precondition. " +
+                              "Recipes without one are assumed to apply to every source file they accept.")
+        boolean hasPrecondition;
+
+        @Column(displayName = "Source files",
+                description = "The number of source files that pass the recipe precondition.")
+        int sourceFiles;
+
+        @Column(displayName = "Precondition matches",
+                description = "The number of search results the precondition produced across those source files, " +
+                              "if the recipe declares a precondition.")
+        @Nullable
+        Integer preconditionMatches;
+
+        @Column(displayName = "Estimated effort (seconds)",
+                description = "The number of matching source files multiplied by the estimated effort per occurrence " +
+                              "of the recipe.")
+        long estimatedEffortSeconds;
+    }
+}
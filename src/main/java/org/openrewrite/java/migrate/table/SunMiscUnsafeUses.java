@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.table;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class SunMiscUnsafeUses extends DataTable<SunMiscUnsafeUses.Row> {
+
+    public SunMiscUnsafeUses(Recipe recipe) {
+        super(recipe,
+                "Uses of `sun.misc.Unsafe`",
+                "Calls to `sun.misc.Unsafe` that could not be migrated automatically, with the supported API to migrate to by hand.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file containing the call.")
+        String sourcePath;
+
+        @Column(displayName = "Method name",
+                description = "The name of the `sun.misc.Unsafe` method that is called.")
+        String methodName;
+
+        @Column(displayName = "Replacement",
+                description = "The supported API that replaces the method, if there is one.")
+        @Nullable
+        String replacement;
+    }
+}
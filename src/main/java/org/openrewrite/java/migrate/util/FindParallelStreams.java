@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.migrate.table.ParallelStreamUses;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.marker.SearchResult;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FindParallelStreams extends Recipe {
+
+    transient ParallelStreamUses parallelStreamUses = new ParallelStreamUses(this);
+
+    String displayName = "Find parallel streams";
+
+    String description = "Find calls to `parallelStream()` and `parallel()`, and classify them by the source of the stream, " +
+            "by whether the functions of the pipeline mutate state that is not thread safe, and by whether they block. " +
+            "Streams over poorly splitting sources such as a `LinkedList`, or over small sources such as `List.of(..)` with " +
+            "functions that do little work per element, are unprofitable, as splitting and joining the work costs more " +
+            "than it saves. Streams that add to a captured `ArrayList` are unsafe, and streams that block stall the common " +
+            "`ForkJoinPool` for the whole JVM.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(new UsesMethod<>(ParallelStreams.PARALLEL_STREAM), new UsesMethod<>(ParallelStreams.PARALLEL)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        ParallelStreams.Classification classification = ParallelStreams.classify(getCursor());
+                        J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                        if (classification == null) {
+                            return m;
+                        }
+                        parallelStreamUses.insertRow(ctx, new ParallelStreamUses.Row(
+                                getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                                m.getSimpleName(),
+                                classification.getSourceType(),
+                                classification.getSharedState(),
+                                classification.getBlockingCall(),
+                                classification.getVerdict().name(),
+                                classification.getReason()
+                        ));
+                        return SearchResult.found(m, classification.getReason());
+                    }
+                }
+        );
+    }
+}
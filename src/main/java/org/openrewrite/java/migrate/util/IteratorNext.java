@@ -30,8 +30,8 @@ import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
 
 public class IteratorNext extends Recipe {
-    private static final MethodMatcher ITERATOR_MATCHER = new MethodMatcher("java.util.Collection iterator()", true);
-    private static final MethodMatcher NEXT_MATCHER = new MethodMatcher("java.util.Iterator next()", true);
+    static final MethodMatcher ITERATOR_MATCHER = new MethodMatcher("java.util.Collection iterator()", true);
+    static final MethodMatcher NEXT_MATCHER = new MethodMatcher("java.util.Iterator next()", true);
 
     @Getter
     final String displayName = "Replace `iterator().next()` with `getFirst()`";
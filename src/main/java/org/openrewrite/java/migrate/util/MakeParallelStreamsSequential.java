@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+public class MakeParallelStreamsSequential extends Recipe {
+
+    @Getter
+    final String displayName = "Make unsafe and unprofitable parallel streams sequential";
+
+    @Getter
+    final String description = "Replace `parallelStream()` with `stream()`, and remove `parallel()` from pipelines, when the " +
+            "functions of the pipeline mutate a captured collection that is not thread safe, or when the source of the stream " +
+            "splits too poorly to gain from running in parallel, such as `Stream.iterate(..)` or a `LinkedList`. Streams over " +
+            "a small source, such as `List.of(..)` or `IntStream.range(0, 100)`, are only made sequential when their functions " +
+            "call no methods and contain no loops, as the work per element may otherwise still pay off. Parallel streams " +
+            "that block, but are otherwise safe, are left as is, as they may run in parallel to overlap their I/O.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(new UsesMethod<>(ParallelStreams.PARALLEL_STREAM), new UsesMethod<>(ParallelStreams.PARALLEL)),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        ParallelStreams.Classification classification = ParallelStreams.classify(getCursor());
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (classification == null || !classification.shouldBeSequential() || !(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        JavaType.Method methodType = m.getMethodType();
+                        if (ParallelStreams.PARALLEL_STREAM.matches(m) && methodType != null) {
+                            JavaType.Method stream = methodType.withName("stream");
+                            return m.withName(m.getName().withSimpleName("stream").withType(stream)).withMethodType(stream);
+                        } else if (m.getSelect() != null) {
+                            return m.getSelect().withPrefix(m.getPrefix());
+                        }
+                        return m;
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.SemanticallyEqual;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+
+/**
+ * Recognizes the separate {@code containsKey}, {@code get} and {@code put} calls on one key of a map that the
+ * {@code computeIfAbsent}, {@code merge} and {@code getOrDefault} recipes fold into a single lookup.
+ */
+final class MapLookups {
+    static final MethodMatcher CONTAINS_KEY = new MethodMatcher("java.util.Map containsKey(java.lang.Object)", true);
+    static final MethodMatcher GET = new MethodMatcher("java.util.Map get(java.lang.Object)", true);
+    static final MethodMatcher GET_OR_DEFAULT = new MethodMatcher("java.util.Map getOrDefault(java.lang.Object, ..)", true);
+    static final MethodMatcher PUT = new MethodMatcher("java.util.Map put(..)", true);
+
+    private MapLookups() {
+    }
+
+    /**
+     * Whether the expression is a call of the matched method on the given map, with the given key as first argument.
+     */
+    static boolean isCall(@Nullable Expression expression, MethodMatcher matcher, Expression map, Expression key) {
+        if (!(expression instanceof J.MethodInvocation) || !matcher.matches((J.MethodInvocation) expression)) {
+            return false;
+        }
+        J.MethodInvocation method = (J.MethodInvocation) expression;
+        return method.getSelect() != null && SemanticallyEqual.areEqual(method.getSelect(), map) &&
+               SemanticallyEqual.areEqual(method.getArguments().get(0), key);
+    }
+
+    /**
+     * Whether the expression reads a variable, a field of a variable or a literal, so evaluating it more or fewer
+     * times, or in a different order, has no side effects.
+     */
+    static boolean isPure(@Nullable Expression expression) {
+        if (expression instanceof J.Parentheses) {
+            return isPure((Expression) ((J.Parentheses<?>) expression).getTree());
+        } else if (expression instanceof J.FieldAccess) {
+            return isPure(((J.FieldAccess) expression).getTarget());
+        }
+        return expression instanceof J.Identifier || expression instanceof J.Literal;
+    }
+
+    /**
+     * Whether the expression creates a new object from literals only, so it can become the body of a lambda that is
+     * called at most once, under the lock of a concurrent map.
+     */
+    static boolean isCreation(@Nullable Expression expression) {
+        if (!(expression instanceof J.NewClass) || ((J.NewClass) expression).getBody() != null) {
+            return false;
+        }
+        for (Expression argument : ((J.NewClass) expression).getArguments()) {
+            if (!(argument instanceof J.Empty) && !(argument instanceof J.Literal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.java.search.SemanticallyEqual;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.openrewrite.java.VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER;
+
+public class MergeStreamReductions extends Recipe {
+    private static final MethodMatcher MAP_TO_PRIMITIVE = new MethodMatcher("java.util.stream.Stream mapTo*(..)");
+    private static final MethodMatcher MIN = new MethodMatcher("java.util.stream.*Stream min()");
+    private static final MethodMatcher MAX = new MethodMatcher("java.util.stream.*Stream max()");
+    private static final MethodMatcher AVERAGE = new MethodMatcher("java.util.stream.*Stream average()");
+    private static final MethodMatcher SUM = new MethodMatcher("java.util.stream.*Stream sum()");
+    private static final MethodMatcher COUNT = new MethodMatcher("java.util.stream.*Stream count()");
+    private static final MethodMatcher COLLECT = new MethodMatcher("java.util.stream.Stream collect(java.util.stream.Collector)");
+    private static final MethodMatcher OR_ELSE = new MethodMatcher("java.util.Optional* orElse(..)");
+
+    @Getter
+    final String displayName = "Merge repeated reductions over the same stream source";
+
+    @Getter
+    final String description = "Merge two or more adjacent local variables that each reduce the same pipeline over the same " +
+            "variable, as in `int min = list.stream().mapToInt(f).min().orElse(0)` followed by " +
+            "`int max = list.stream().mapToInt(f).max().orElse(0)`, into a single pass that collects an " +
+            "`IntSummaryStatistics`, `LongSummaryStatistics` or `DoubleSummaryStatistics`. Sums, counts, minimums, maximums " +
+            "and averages are merged this way. On Java 12 or higher, two adjacent `collect` calls over the same pipeline are " +
+            "merged with `Collectors.teeing`. A minimum, maximum or average that is read with `getAsInt()` is left as is, as it " +
+            "throws on an empty stream, where the statistics would not.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>("java.util.stream.BaseStream", false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = super.visitBlock(block, ctx);
+                boolean teeing = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class).getMarkers()
+                        .findFirst(JavaVersion.class).filter(v -> v.getMajorVersion() >= 12).isPresent();
+                for (int i = 0; i < b.getStatements().size(); i++) {
+                    List<Reduction> statistics = statisticsGroup(b.getStatements(), i);
+                    if (statistics.size() > 1) {
+                        b = mergeIntoStatistics(b, i, statistics);
+                        i += statistics.size();
+                        continue;
+                    }
+                    List<Reduction> collected = teeingGroup(b.getStatements(), i);
+                    if (teeing && collected.size() == 2) {
+                        b = mergeIntoTeeing(b, i, collected.get(0), collected.get(1));
+                        i += 2;
+                    }
+                }
+                return b;
+            }
+
+            private J.Block mergeIntoStatistics(J.Block block, int index, List<Reduction> group) {
+                String kind = null;
+                Expression mapper = null;
+                for (Reduction reduction : group) {
+                    if (reduction.getKind() != null) {
+                        kind = reduction.getKind();
+                        mapper = mapper == null ? reduction.getMapper() : mapper;
+                    }
+                }
+                String statisticsType = "java.util." + kind + "SummaryStatistics";
+                Expression pipeline = group.get(0).getPipeline();
+                String name = VariableNameUtils.generateVariableName(sourceName(pipeline) + "Statistics",
+                        new Cursor(new Cursor(getCursor().getParentOrThrow(), block), block.getStatements().get(index)), INCREMENT_NUMBER);
+                String code = kind + "SummaryStatistics " + name + " = " + (mapper == null ?
+                        "#{any(java.util.stream." + kind + "Stream)}.summaryStatistics();" :
+                        "#{any(java.util.stream.Stream)}.mapTo" + kind + "(#{any()}).summaryStatistics();");
+                J.Block b = JavaTemplate.builder(code)
+                        .imports(statisticsType)
+                        .build()
+                        .apply(new Cursor(getCursor().getParentOrThrow(), block),
+                                block.getStatements().get(index).getCoordinates().before(),
+                                mapper == null ? new Object[]{pipeline} : new Object[]{pipeline, mapper});
+                maybeAddImport(statisticsType);
+                J.Identifier statistics = ((J.VariableDeclarations) b.getStatements().get(index)).getVariables().get(0).getName();
+
+                for (int k = 0; k < group.size(); k++) {
+                    Reduction reduction = group.get(k);
+                    Expression initializer = ((J.VariableDeclarations) b.getStatements().get(index + 1 + k))
+                            .getVariables().get(0).getInitializer();
+                    String s = "#{any(" + statisticsType + ")}";
+                    String replacement;
+                    Object[] parameters = {statistics};
+                    if ("sum".equals(reduction.getOperation())) {
+                        // Narrowing the long sum overflows the same way as summing ints
+                        replacement = ("Int".equals(kind) ? "(int) " : "") + s + ".getSum()";
+                    } else if ("count".equals(reduction.getOperation())) {
+                        replacement = s + ".getCount()";
+                    } else if ("average".equals(reduction.getOperation()) && isZero(reduction.getOrElse())) {
+                        // The average of an empty stream is zero as well
+                        replacement = s + ".getAverage()";
+                    } else {
+                        replacement = s + ".getCount() == 0 ? #{any()} : " + s + ".get" +
+                                      StringUtils.capitalize(reduction.getOperation()) + "()";
+                        parameters = new Object[]{statistics, reduction.getOrElse(), statistics};
+                    }
+                    //noinspection DataFlowIssue
+                    b = JavaTemplate.apply(replacement, new Cursor(getCursor().getParentOrThrow(), b),
+                            initializer.getCoordinates().replace(), parameters);
+                }
+                return b;
+            }
+
+            private J.Block mergeIntoTeeing(J.Block block, int index, Reduction first, Reduction second) {
+                J.VariableDeclarations firstDeclaration = first.getDeclaration();
+                J.VariableDeclarations secondDeclaration = second.getDeclaration();
+                String firstName = firstDeclaration.getVariables().get(0).getSimpleName();
+                String secondName = secondDeclaration.getVariables().get(0).getSimpleName();
+                String name = VariableNameUtils.generateVariableName(firstName + "And" + StringUtils.capitalize(secondName),
+                        new Cursor(new Cursor(getCursor().getParentOrThrow(), block), block.getStatements().get(index)), INCREMENT_NUMBER);
+                //noinspection DataFlowIssue
+                String code = "Map.Entry<" + firstDeclaration.getTypeExpression().printTrimmed(getCursor()) + ", " +
+                              secondDeclaration.getTypeExpression().printTrimmed(getCursor()) + "> " + name +
+                              " = #{any(java.util.stream.Stream)}.collect(Collectors.teeing(#{any(java.util.stream.Collector)}, " +
+                              "#{any(java.util.stream.Collector)}, AbstractMap.SimpleImmutableEntry::new));";
+                J.Block b = JavaTemplate.builder(code)
+                        .contextSensitive()
+                        .imports("java.util.AbstractMap", "java.util.Map", "java.util.stream.Collectors")
+                        .build()
+                        .apply(new Cursor(getCursor().getParentOrThrow(), block),
+                                block.getStatements().get(index).getCoordinates().before(),
+                                first.getPipeline(), first.getCollector(), second.getCollector());
+                maybeAddImport("java.util.AbstractMap");
+                maybeAddImport("java.util.Map");
+                maybeAddImport("java.util.stream.Collectors");
+                J.Identifier entry = ((J.VariableDeclarations) b.getStatements().get(index)).getVariables().get(0).getName();
+
+                for (int k = 0; k < 2; k++) {
+                    Expression initializer = ((J.VariableDeclarations) b.getStatements().get(index + 1 + k))
+                            .getVariables().get(0).getInitializer();
+                    //noinspection DataFlowIssue
+                    b = JavaTemplate.apply("#{any(java.util.Map.Entry)}." + (k == 0 ? "getKey()" : "getValue()"),
+                            new Cursor(getCursor().getParentOrThrow(), b), initializer.getCoordinates().replace(), entry);
+                }
+                return b;
+            }
+        });
+    }
+
+    /**
+     * The adjacent declarations from the index on, which reduce the same pipeline to a number that a summary
+     * statistics object also holds.
+     */
+    private static List<Reduction> statisticsGroup(List<Statement> statements, int index) {
+        List<Reduction> group = new ArrayList<>();
+        String kind = null;
+        Expression mapper = null;
+        for (int i = index; i < statements.size(); i++) {
+            Reduction reduction = Reduction.of(statements.get(i));
+            if (reduction == null || reduction.getCollector() != null ||
+                !group.isEmpty() && !SemanticallyEqual.areEqual(group.get(0).getPipeline(), reduction.getPipeline())) {
+                break;
+            }
+            if (reduction.getKind() != null) {
+                if (kind != null && (!kind.equals(reduction.getKind()) || !sameMapper(mapper, reduction.getMapper()))) {
+                    break;
+                }
+                kind = reduction.getKind();
+                mapper = reduction.getMapper();
+            }
+            group.add(reduction);
+        }
+        return kind == null ? new ArrayList<>() : group;
+    }
+
+    /**
+     * Two adjacent declarations from the index on, which collect the same pipeline with collectors that do not
+     * refer to either variable.
+     */
+    private static List<Reduction> teeingGroup(List<Statement> statements, int index) {
+        List<Reduction> group = new ArrayList<>();
+        for (int i = index; i < statements.size() && group.size() < 2; i++) {
+            Reduction reduction = Reduction.of(statements.get(i));
+            if (reduction == null || reduction.getCollector() == null ||
+                !group.isEmpty() && !SemanticallyEqual.areEqual(group.get(0).getPipeline(), reduction.getPipeline())) {
+                break;
+            }
+            TypeTree typeExpression = reduction.getDeclaration().getTypeExpression();
+            if (typeExpression == null || typeExpression instanceof J.Primitive ||
+                typeExpression instanceof J.Identifier && "var".equals(((J.Identifier) typeExpression).getSimpleName())) {
+                break;
+            }
+            group.add(reduction);
+        }
+        if (group.size() == 2 && (refersTo(group.get(1).getCollector(), group.get(0).getDeclaration()) ||
+                                  refersTo(group.get(0).getCollector(), group.get(1).getDeclaration()))) {
+            group.clear();
+        }
+        return group;
+    }
+
+    private static boolean sameMapper(@Nullable Expression mapper, @Nullable Expression other) {
+        return mapper == null ? other == null : other != null && SemanticallyEqual.areEqual(mapper, other);
+    }
+
+    private static boolean refersTo(@Nullable Expression expression, J.VariableDeclarations declaration) {
+        String name = declaration.getVariables().get(0).getSimpleName();
+        AtomicBoolean found = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean f) {
+                if (name.equals(identifier.getSimpleName())) {
+                    f.set(true);
+                }
+                return identifier;
+            }
+        }.visit(expression, found);
+        return found.get();
+    }
+
+    private static boolean isZero(@Nullable Expression expression) {
+        return expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof Number &&
+               ((Number) ((J.Literal) expression).getValue()).doubleValue() == 0;
+    }
+
+    private static String sourceName(Expression pipeline) {
+        Expression e = pipeline;
+        while (e instanceof J.MethodInvocation) {
+            J.MethodInvocation method = (J.MethodInvocation) e;
+            e = method.getMethodType() != null && method.getMethodType().hasFlags(Flag.Static) ?
+                    method.getArguments().get(0) : method.getSelect();
+        }
+        if (e instanceof J.FieldAccess) {
+            return ((J.FieldAccess) e).getSimpleName();
+        }
+        return e instanceof J.Identifier ? ((J.Identifier) e).getSimpleName() : "stream";
+    }
+
+    /**
+     * Whether the pipeline starts from a variable, rather than from a method call that could return something else
+     * each time, as in {@code list.stream().filter(p)} or {@code Arrays.stream(array)}.
+     */
+    private static boolean isVariableSource(Expression pipeline) {
+        Expression e = pipeline;
+        while (e instanceof J.MethodInvocation) {
+            J.MethodInvocation method = (J.MethodInvocation) e;
+            if (method.getMethodType() != null && method.getMethodType().hasFlags(Flag.Static)) {
+                return method.getArguments().size() == 1 && isVariable(method.getArguments().get(0));
+            }
+            e = method.getSelect();
+        }
+        return isVariable(e);
+    }
+
+    private static boolean isVariable(@Nullable Expression expression) {
+        if (expression instanceof J.FieldAccess) {
+            return ((J.FieldAccess) expression).getName().getFieldType() != null &&
+                   (((J.FieldAccess) expression).getTarget() instanceof J.Identifier);
+        }
+        return expression instanceof J.Identifier && ((J.Identifier) expression).getFieldType() != null;
+    }
+
+    private static boolean isConstant(Expression expression) {
+        if (expression instanceof J.Unary && ((J.Unary) expression).getOperator() == J.Unary.Type.Negative) {
+            return isConstant(((J.Unary) expression).getExpression());
+        }
+        return expression instanceof J.Literal || isVariable(expression);
+    }
+
+    @Value
+    private static class Reduction {
+        J.VariableDeclarations declaration;
+
+        /**
+         * The stream that is reduced, without the {@code mapToInt(f)} that turns it into a primitive stream.
+         */
+        Expression pipeline;
+
+        /**
+         * {@code Int}, {@code Long} or {@code Double}, or {@code null} for a count of objects or a collection.
+         */
+        @Nullable
+        String kind;
+
+        @Nullable
+        Expression mapper;
+
+        String operation;
+
+        @Nullable
+        Expression orElse;
+
+        @Nullable
+        Expression collector;
+
+        static @Nullable Reduction of(Statement statement) {
+            if (!(statement instanceof J.VariableDeclarations) || ((J.VariableDeclarations) statement).getVariables().size() != 1) {
+                return null;
+            }
+            J.VariableDeclarations declaration = (J.VariableDeclarations) statement;
+            Expression initializer = declaration.getVariables().get(0).getInitializer();
+            if (!(initializer instanceof J.MethodInvocation)) {
+                return null;
+            }
+            J.MethodInvocation terminal = (J.MethodInvocation) initializer;
+            Expression orElse = null;
+            if (OR_ELSE.matches(terminal) && (MIN.matches(terminal.getSelect()) || MAX.matches(terminal.getSelect()) ||
+                                              AVERAGE.matches(terminal.getSelect()))) {
+                orElse = terminal.getArguments().get(0);
+                terminal = (J.MethodInvocation) terminal.getSelect();
+                if (!isConstant(orElse)) {
+                    return null;
+                }
+            } else if (!SUM.matches(terminal) && !COUNT.matches(terminal) && !COLLECT.matches(terminal)) {
+                return null;
+            }
+            Expression stream = terminal.getSelect();
+            JavaType.Method methodType = terminal.getMethodType();
+            if (stream == null || methodType == null || !isVariableSource(stream)) {
+                return null;
+            }
+
+            if (COLLECT.matches(terminal)) {
+                return new Reduction(declaration, stream, null, null, "collect", null, terminal.getArguments().get(0));
+            }
+            String streamType = methodType.getDeclaringType().getClassName();
+            if ("Stream".equals(streamType)) {
+                return new Reduction(declaration, stream, null, null, "count", null, null);
+            }
+            String kind = streamType.substring(0, streamType.length() - "Stream".length());
+            if (MAP_TO_PRIMITIVE.matches(stream) && ((J.MethodInvocation) stream).getSelect() != null) {
+                J.MethodInvocation mapTo = (J.MethodInvocation) stream;
+                if (!mapTo.getSimpleName().equals("mapTo" + kind)) {
+                    return null;
+                }
+                return new Reduction(declaration, mapTo.getSelect(), kind, mapTo.getArguments().get(0),
+                        terminal.getSimpleName(), orElse, null);
+            }
+            return new Reduction(declaration, stream, kind, null, terminal.getSimpleName(), orElse, null);
+        }
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.migrate.search.FindBlockingTasksOnCommonPool;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Classifies calls to {@code parallelStream()} and {@code parallel()} by the source of the stream, by whether the
+ * functions of the pipeline mutate shared state, and by whether they block.
+ */
+final class ParallelStreams {
+    static final MethodMatcher PARALLEL_STREAM = new MethodMatcher("java.util.Collection parallelStream()", true);
+    static final MethodMatcher PARALLEL = new MethodMatcher("java.util.stream.BaseStream parallel()", true);
+
+    private static final MethodMatcher COLLECTION_STREAM = new MethodMatcher("java.util.Collection stream()", true);
+    private static final List<MethodMatcher> FIXED_SIZE_SOURCES = Arrays.asList(
+            new MethodMatcher("java.util.List of(..)"),
+            new MethodMatcher("java.util.Set of(..)"),
+            new MethodMatcher("java.util.Arrays asList(..)"),
+            new MethodMatcher("java.util.stream.Stream of(..)"),
+            new MethodMatcher("java.util.stream.IntStream of(..)"),
+            new MethodMatcher("java.util.stream.LongStream of(..)"),
+            new MethodMatcher("java.util.stream.DoubleStream of(..)")
+    );
+    private static final MethodMatcher ARRAYS_STREAM = new MethodMatcher("java.util.Arrays stream(..)");
+    private static final MethodMatcher RANGE = new MethodMatcher("java.util.stream.*Stream range*(..)");
+    private static final List<MethodMatcher> SEQUENTIAL_SOURCES = Arrays.asList(
+            new MethodMatcher("java.util.stream.*Stream iterate(..)"),
+            new MethodMatcher("java.util.stream.*Stream generate(..)"),
+            new MethodMatcher("java.io.BufferedReader lines()"),
+            new MethodMatcher("java.nio.file.Files lines(..)")
+    );
+    private static final List<String> SEQUENTIAL_COLLECTIONS = Arrays.asList(
+            "java.util.LinkedList",
+            "java.util.LinkedHashSet",
+            "java.util.concurrent.ConcurrentLinkedQueue",
+            "java.util.concurrent.LinkedBlockingQueue",
+            "java.util.concurrent.LinkedBlockingDeque"
+    );
+    static final Set<String> MUTATING_METHODS = new HashSet<>(Arrays.asList(
+            "add", "addAll", "addFirst", "addLast", "append", "clear", "compute", "computeIfAbsent", "computeIfPresent",
+            "insert", "merge", "offer", "poll", "pop", "push", "put", "putAll", "putIfAbsent", "remove", "removeAll",
+            "removeIf", "replaceAll", "retainAll", "set", "sort"
+    ));
+
+    /**
+     * Below this many elements, the cost of splitting the work and joining the results exceeds what the parallel
+     * execution saves, when the functions of the pipeline do little work per element.
+     */
+    private static final int SMALL_SOURCE = 1_000;
+
+    private ParallelStreams() {
+    }
+
+    enum Verdict {
+        /**
+         * The functions mutate shared state that is not thread safe, so the parallel stream has a race condition.
+         */
+        UNSAFE,
+        /**
+         * The functions block a thread of the common pool.
+         */
+        BLOCKING,
+        /**
+         * The source cannot be split, or is small and the functions do little work per element, so that running in
+         * parallel costs more than it saves.
+         */
+        UNPROFITABLE,
+        /**
+         * Nothing is known against running in parallel, which depends on the size of the source at run time.
+         */
+        REVIEW
+    }
+
+    @Value
+    static class Classification {
+        String sourceType;
+
+        @Nullable
+        String sourceProblem;
+
+        @Nullable
+        String sharedState;
+
+        @Nullable
+        String blockingCall;
+
+        Verdict getVerdict() {
+            if (sharedState != null) {
+                return Verdict.UNSAFE;
+            } else if (blockingCall != null) {
+                return Verdict.BLOCKING;
+            }
+            return sourceProblem == null ? Verdict.REVIEW : Verdict.UNPROFITABLE;
+        }
+
+        /**
+         * Whether the stream should run sequentially. A blocking stream that is safe may be parallel on purpose, to
+         * overlap its I/O, so it is only reported.
+         */
+        boolean shouldBeSequential() {
+            return getVerdict() == Verdict.UNSAFE || getVerdict() == Verdict.UNPROFITABLE;
+        }
+
+        String getReason() {
+            switch (getVerdict()) {
+                case UNSAFE:
+                    return "Mutates " + sharedState + " from several threads";
+                case BLOCKING:
+                    return "Blocks a thread of the common pool on `" + blockingCall + "`";
+                case UNPROFITABLE:
+                    return "`" + sourceType + "` " + sourceProblem;
+                default:
+                    return "Only profitable on large sources of `" + sourceType + "`";
+            }
+        }
+    }
+
+    /**
+     * @param cursor The cursor of a call to {@code parallelStream()} or {@code parallel()}.
+     */
+    static @Nullable Classification classify(Cursor cursor) {
+        J.MethodInvocation parallel = cursor.getValue();
+        boolean parallelStream = PARALLEL_STREAM.matches(parallel);
+        if (!parallelStream && !PARALLEL.matches(parallel)) {
+            return null;
+        }
+
+        // The functions of all operations in the pipeline, which all run in parallel
+        List<Expression> functions = new ArrayList<>();
+        Cursor operation = cursor;
+        while (operation.getParentTreeCursor().getValue() instanceof J.MethodInvocation &&
+               ((J.MethodInvocation) operation.getParentTreeCursor().getValue()).getSelect() == operation.getValue()) {
+            operation = operation.getParentTreeCursor();
+            functions.addAll(((J.MethodInvocation) operation.getValue()).getArguments());
+        }
+        Expression source = parallel.getSelect();
+        while (!parallelStream && source instanceof J.MethodInvocation && isIntermediateOperation((J.MethodInvocation) source)) {
+            functions.addAll(((J.MethodInvocation) source).getArguments());
+            source = ((J.MethodInvocation) source).getSelect();
+        }
+        if (source instanceof J.MethodInvocation && COLLECTION_STREAM.matches(source)) {
+            source = ((J.MethodInvocation) source).getSelect();
+        }
+
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(source == null ? null : source.getType());
+        if (source == null && parallel.getMethodType() != null) {
+            type = parallel.getMethodType().getDeclaringType();
+        }
+        String sourceType = type == null ? "unknown" : type.getFullyQualifiedName();
+        String sourceProblem = null;
+        if (source instanceof J.MethodInvocation && ((J.MethodInvocation) source).getMethodType() != null) {
+            J.MethodInvocation call = (J.MethodInvocation) source;
+            Integer size = size(call);
+            if (size != null && size < SMALL_SOURCE && isCheap(functions)) {
+                sourceType = call.getMethodType().getDeclaringType().getClassName() + "." + call.getSimpleName();
+                sourceProblem = "has only " + size + (size == 1 ? " element" : " elements");
+            } else if (SEQUENTIAL_SOURCES.stream().anyMatch(matcher -> matcher.matches(call))) {
+                sourceType = call.getMethodType().getDeclaringType().getClassName() + "." + call.getSimpleName();
+                sourceProblem = "cannot be split";
+            }
+        }
+        if (sourceProblem == null && SEQUENTIAL_COLLECTIONS.contains(sourceType)) {
+            sourceProblem = "cannot be split efficiently";
+        }
+
+        String sharedState = null;
+        String blockingCall = null;
+        for (Expression function : functions) {
+            if (function instanceof J.Lambda || function instanceof J.MemberReference ||
+                function instanceof J.NewClass && ((J.NewClass) function).getBody() != null) {
+                sharedState = sharedState == null ? sharedState(function) : sharedState;
+                blockingCall = blockingCall == null ? FindBlockingTasksOnCommonPool.blockingCall(function) : blockingCall;
+            }
+        }
+        return new Classification(sourceType, sourceProblem, sharedState, blockingCall);
+    }
+
+    private static boolean isIntermediateOperation(J.MethodInvocation method) {
+        return method.getMethodType() != null && !method.getMethodType().hasFlags(Flag.Static) && method.getSelect() != null &&
+               TypeUtils.isAssignableTo("java.util.stream.BaseStream", method.getSelect().getType());
+    }
+
+    /**
+     * The number of elements of a source whose size is known at compile time.
+     */
+    private static @Nullable Integer size(J.MethodInvocation source) {
+        List<Expression> arguments = source.getArguments();
+        if (FIXED_SIZE_SOURCES.stream().anyMatch(matcher -> matcher.matches(source))) {
+            if (arguments.size() == 1 && (arguments.get(0) instanceof J.Empty || arguments.get(0).getType() instanceof JavaType.Array)) {
+                return arguments.get(0) instanceof J.Empty ? 0 : null;
+            }
+            return arguments.size();
+        } else if (ARRAYS_STREAM.matches(source) && arguments.size() == 1 && arguments.get(0) instanceof J.NewArray &&
+                   ((J.NewArray) arguments.get(0)).getInitializer() != null) {
+            List<Expression> initializer = ((J.NewArray) arguments.get(0)).getInitializer();
+            return initializer.size() == 1 && initializer.get(0) instanceof J.Empty ? 0 : initializer.size();
+        } else if (RANGE.matches(source) && arguments.size() == 2 &&
+                   arguments.get(0) instanceof J.Literal && ((J.Literal) arguments.get(0)).getValue() instanceof Number &&
+                   arguments.get(1) instanceof J.Literal && ((J.Literal) arguments.get(1)).getValue() instanceof Number) {
+            long from = ((Number) ((J.Literal) arguments.get(0)).getValue()).longValue();
+            long to = ((Number) ((J.Literal) arguments.get(1)).getValue()).longValue();
+            return (int) Math.max(0, Math.min(Integer.MAX_VALUE, to - from + ("rangeClosed".equals(source.getSimpleName()) ? 1 : 0)));
+        }
+        return null;
+    }
+
+    /**
+     * Whether the functions of the pipeline do so little work per element that the size of the source alone tells
+     * whether running in parallel pays off, as they call no methods and contain no loops.
+     */
+    private static boolean isCheap(List<Expression> functions) {
+        AtomicBoolean expensive = new AtomicBoolean();
+        for (Expression function : functions) {
+            if (function instanceof J.MemberReference || function instanceof J.NewClass && ((J.NewClass) function).getBody() != null ||
+                (function instanceof J.Identifier || function instanceof J.FieldAccess) && !(function.getType() instanceof JavaType.Primitive)) {
+                // A method, or a function whose body is not known here
+                return false;
+            } else if (function instanceof J.Lambda) {
+                new JavaIsoVisitor<AtomicBoolean>() {
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean e) {
+                        e.set(true);
+                        return method;
+                    }
+
+                    @Override
+                    public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean e) {
+                        e.set(true);
+                        return newClass;
+                    }
+
+                    @Override
+                    public J.MemberReference visitMemberReference(J.MemberReference memberRef, AtomicBoolean e) {
+                        e.set(true);
+                        return memberRef;
+                    }
+
+                    @Override
+                    public J.ForLoop visitForLoop(J.ForLoop forLoop, AtomicBoolean e) {
+                        e.set(true);
+                        return forLoop;
+                    }
+
+                    @Override
+                    public J.ForEachLoop visitForEachLoop(J.ForEachLoop forLoop, AtomicBoolean e) {
+                        e.set(true);
+                        return forLoop;
+                    }
+
+                    @Override
+                    public J.WhileLoop visitWhileLoop(J.WhileLoop whileLoop, AtomicBoolean e) {
+                        e.set(true);
+                        return whileLoop;
+                    }
+
+                    @Override
+                    public J.DoWhileLoop visitDoWhileLoop(J.DoWhileLoop doWhileLoop, AtomicBoolean e) {
+                        e.set(true);
+                        return doWhileLoop;
+                    }
+                }.visit(function, expensive);
+            }
+        }
+        return !expensive.get();
+    }
+
+    /**
+     * A description of the state that is not thread safe and shared between the invocations of the function, such
+     * as a captured {@code ArrayList} that elements are added to, or {@code null} if there is none.
+     */
+    private static @Nullable String sharedState(Expression function) {
+        // Variables that are declared by the function itself are not shared
+        Set<String> declared = new HashSet<>();
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Set<String> names) {
+                names.add(variable.getSimpleName());
+                return super.visitVariable(variable, names);
+            }
+        }.visit(function, declared);
+
+        AtomicReference<@Nullable String> shared = new AtomicReference<>();
+        new JavaIsoVisitor<AtomicReference<@Nullable String>>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicReference<@Nullable String> found) {
+                if (MUTATING_METHODS.contains(method.getSimpleName()) && isShared(method.getSelect(), declared) &&
+                    isNotThreadSafe(method.getSelect().getType())) {
+                    found.compareAndSet(null, "`" + name(method.getSelect()) + "`");
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+
+            @Override
+            public J.MemberReference visitMemberReference(J.MemberReference memberRef, AtomicReference<@Nullable String> found) {
+                if (MUTATING_METHODS.contains(memberRef.getReference().getSimpleName()) &&
+                    isShared(memberRef.getContaining(), declared) && isNotThreadSafe(memberRef.getContaining().getType())) {
+                    found.compareAndSet(null, "`" + name(memberRef.getContaining()) + "`");
+                }
+                return super.visitMemberReference(memberRef, found);
+            }
+
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, AtomicReference<@Nullable String> found) {
+                if (isSharedVariable(assignment.getVariable(), declared)) {
+                    found.compareAndSet(null, "`" + name(assignment.getVariable()) + "`");
+                }
+                return super.visitAssignment(assignment, found);
+            }
+
+            @Override
+            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, AtomicReference<@Nullable String> found) {
+                if (isSharedVariable(assignOp.getVariable(), declared)) {
+                    found.compareAndSet(null, "`" + name(assignOp.getVariable()) + "`");
+                }
+                return super.visitAssignmentOperation(assignOp, found);
+            }
+
+            @Override
+            public J.Unary visitUnary(J.Unary unary, AtomicReference<@Nullable String> found) {
+                if (unary.getOperator().isModifying() && isSharedVariable(unary.getExpression(), declared)) {
+                    found.compareAndSet(null, "`" + name(unary.getExpression()) + "`");
+                }
+                return super.visitUnary(unary, found);
+            }
+        }.visit(function, shared);
+        return shared.get();
+    }
+
+    /**
+     * Whether the expression references a field or captured variable, rather than a variable of the function.
+     */
+    private static boolean isShared(@Nullable Expression expression, Set<String> declared) {
+        if (expression instanceof J.Identifier) {
+            J.Identifier identifier = (J.Identifier) expression;
+            return identifier.getFieldType() != null && !declared.contains(identifier.getSimpleName());
+        }
+        return expression instanceof J.FieldAccess && ((J.FieldAccess) expression).getTarget() instanceof J.Identifier &&
+               "this".equals(((J.Identifier) ((J.FieldAccess) expression).getTarget()).getSimpleName());
+    }
+
+    private static boolean isSharedVariable(Expression variable, Set<String> declared) {
+        return variable instanceof J.ArrayAccess ? isShared(((J.ArrayAccess) variable).getIndexed(), declared) : isShared(variable, declared);
+    }
+
+    private static boolean isNotThreadSafe(@Nullable JavaType type) {
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        if (fq == null) {
+            return false;
+        }
+        String fqn = fq.getFullyQualifiedName();
+        if ("java.lang.StringBuilder".equals(fqn)) {
+            return true;
+        }
+        return fqn.startsWith("java.util.") && !fqn.startsWith("java.util.concurrent.") &&
+               !"java.util.Vector".equals(fqn) && !"java.util.Stack".equals(fqn) && !"java.util.Hashtable".equals(fqn) &&
+               (TypeUtils.isAssignableTo("java.util.Collection", fq) || TypeUtils.isAssignableTo("java.util.Map", fq));
+    }
+
+    private static String name(Expression expression) {
+        if (expression instanceof J.ArrayAccess) {
+            return name(((J.ArrayAccess) expression).getIndexed());
+        } else if (expression instanceof J.FieldAccess) {
+            return ((J.FieldAccess) expression).getSimpleName();
+        }
+        return expression instanceof J.Identifier ? ((J.Identifier) expression).getSimpleName() : expression.toString();
+    }
+}
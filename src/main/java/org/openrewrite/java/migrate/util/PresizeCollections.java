@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+public class PresizeCollections extends Recipe {
+    private static final String PRESIZED = "PRESIZED_CREATIONS";
+    private static final MethodMatcher COLLECTION_SIZE = new MethodMatcher("java.util.Collection size()", true);
+    private static final MethodMatcher MAP_SIZE = new MethodMatcher("java.util.Map size()", true);
+    private static final MethodMatcher MAP_KEY_SET = new MethodMatcher("java.util.Map keySet()", true);
+    private static final MethodMatcher MAP_VALUES = new MethodMatcher("java.util.Map values()", true);
+    private static final MethodMatcher MAP_ENTRY_SET = new MethodMatcher("java.util.Map entrySet()", true);
+    private static final MethodMatcher COLLECTION_ADD = new MethodMatcher("java.util.Collection add(..)", true);
+    private static final MethodMatcher MAP_PUT = new MethodMatcher("java.util.Map put(..)", true);
+
+    /**
+     * The hash based collections, which have a factory for an expected number of elements since Java 19, whereas
+     * their constructors take a capacity that is resized as soon as it is three quarters full.
+     */
+    private static final Map<String, String> EXPECTED_SIZE_FACTORIES = new HashMap<>();
+
+    static {
+        EXPECTED_SIZE_FACTORIES.put("java.util.HashMap", "HashMap.newHashMap");
+        EXPECTED_SIZE_FACTORIES.put("java.util.LinkedHashMap", "LinkedHashMap.newLinkedHashMap");
+        EXPECTED_SIZE_FACTORIES.put("java.util.HashSet", "HashSet.newHashSet");
+        EXPECTED_SIZE_FACTORIES.put("java.util.LinkedHashSet", "LinkedHashSet.newLinkedHashSet");
+    }
+
+    @Getter
+    final String displayName = "Presize collections that are filled from a source of known size";
+
+    @Getter
+    final String description = "Presize an empty `ArrayList` that is declared right before a loop over a collection or " +
+            "array, and that has an element added on every iteration, with the size of that source, so it is not resized " +
+            "and copied as it grows. On Java 19 or higher, `HashMap`, `LinkedHashMap`, `HashSet` and `LinkedHashSet` are " +
+            "presized the same way with `HashMap.newHashMap(n)` and its siblings. As the constructors of the hash based " +
+            "collections take a capacity rather than an expected number of elements, `new HashMap<>(source.size())` is " +
+            "replaced with `HashMap.newHashMap(source.size())` as well on Java 19 or higher.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesType<>("java.util.ArrayList", false),
+                        new UsesType<>("java.util.HashMap", false),
+                        new UsesType<>("java.util.LinkedHashMap", false),
+                        new UsesType<>("java.util.HashSet", false),
+                        new UsesType<>("java.util.LinkedHashSet", false)),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitBlock(J.Block block, ExecutionContext ctx) {
+                        Map<UUID, KnownSize> presized = new HashMap<>();
+                        List<Statement> statements = block.getStatements();
+                        for (int i = 0; i + 1 < statements.size(); i++) {
+                            J.NewClass creation = filledInLoop(statements.get(i), statements.get(i + 1));
+                            KnownSize size = creation == null ? null : KnownSize.iteratedBy(statements.get(i + 1));
+                            if (size != null) {
+                                presized.put(creation.getId(), size);
+                            }
+                        }
+                        if (!presized.isEmpty()) {
+                            getCursor().putMessage(PRESIZED, presized);
+                        }
+                        return super.visitBlock(block, ctx);
+                    }
+
+                    @Override
+                    public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        J j = super.visitNewClass(newClass, ctx);
+                        if (!(j instanceof J.NewClass)) {
+                            return j;
+                        }
+                        J.NewClass nc = (J.NewClass) j;
+                        JavaType.FullyQualified type = TypeUtils.asFullyQualified(nc.getType());
+                        if (type == null || nc.getBody() != null) {
+                            return nc;
+                        }
+                        String className = type.getFullyQualifiedName();
+                        boolean expectedSizeFactory = EXPECTED_SIZE_FACTORIES.containsKey(className) &&
+                                                      getCursor().firstEnclosingOrThrow(J.CompilationUnit.class).getMarkers()
+                                                              .findFirst(JavaVersion.class).filter(v -> v.getMajorVersion() >= 19).isPresent();
+
+                        Map<UUID, KnownSize> presized = getCursor().getNearestMessage(PRESIZED, Collections.emptyMap());
+                        KnownSize size = presized.get(newClass.getId());
+                        if (size == null && expectedSizeFactory && nc.getArguments().size() == 1 &&
+                            KnownSize.of(nc.getArguments().get(0)) != null) {
+                            size = KnownSize.of(nc.getArguments().get(0));
+                        }
+                        if (size == null || !isDeclaredOrAssigned(getCursor().getParentTreeCursor(), newClass)) {
+                            return nc;
+                        }
+
+                        if ("java.util.ArrayList".equals(className)) {
+                            return JavaTemplate.builder("new ArrayList<>(" + size.getCode() + ")")
+                                    .imports("java.util.ArrayList")
+                                    .build()
+                                    .apply(getCursor(), nc.getCoordinates().replace(), size.getParameter());
+                        } else if (expectedSizeFactory) {
+                            return JavaTemplate.builder(EXPECTED_SIZE_FACTORIES.get(className) + "(" + size.getCode() + ")")
+                                    .imports(className)
+                                    .build()
+                                    .apply(getCursor(), nc.getCoordinates().replace(), size.getParameter());
+                        }
+                        return nc;
+                    }
+                }
+        );
+    }
+
+    /**
+     * The empty collection that is declared by the first statement, when the second statement is a loop that adds an
+     * element to it on every iteration.
+     */
+    private static J.@Nullable NewClass filledInLoop(Statement declaration, Statement loop) {
+        if (!(declaration instanceof J.VariableDeclarations)) {
+            return null;
+        }
+        J.VariableDeclarations vd = (J.VariableDeclarations) declaration;
+        if (vd.getVariables().size() != 1 || isVar(vd.getTypeExpression()) ||
+            !(vd.getVariables().get(0).getInitializer() instanceof J.NewClass)) {
+            return null;
+        }
+        J.NewClass creation = (J.NewClass) vd.getVariables().get(0).getInitializer();
+        if (creation.getBody() != null || !(creation.getArguments().get(0) instanceof J.Empty)) {
+            return null;
+        }
+
+        Statement body = loop instanceof J.ForEachLoop ? ((J.ForEachLoop) loop).getBody() :
+                loop instanceof J.ForLoop ? ((J.ForLoop) loop).getBody() : null;
+        if (!(body instanceof J.Block)) {
+            return null;
+        }
+        JavaType.Variable collection = vd.getVariables().get(0).getVariableType();
+        for (Statement statement : ((J.Block) body).getStatements()) {
+            if (statement instanceof J.MethodInvocation) {
+                J.MethodInvocation method = (J.MethodInvocation) statement;
+                if ((COLLECTION_ADD.matches(method) || MAP_PUT.matches(method)) &&
+                    method.getSelect() instanceof J.Identifier && collection != null &&
+                    collection.equals(((J.Identifier) method.getSelect()).getFieldType())) {
+                    return creation;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether the new collection is assigned to a variable with an explicit type, which the type arguments of the
+     * factory method are inferred from. A `var` would be inferred from the explicit type arguments of the constructor.
+     */
+    private static boolean isDeclaredOrAssigned(Cursor parent, J.NewClass newClass) {
+        Object value = parent.getValue();
+        if (value instanceof J.VariableDeclarations.NamedVariable) {
+            return !isVar(parent.getParentTreeCursor().<J.VariableDeclarations>getValue().getTypeExpression());
+        }
+        return value instanceof J.Assignment && ((J.Assignment) value).getAssignment() == newClass;
+    }
+
+    private static boolean isVar(@Nullable TypeTree typeExpression) {
+        return typeExpression == null ||
+               typeExpression instanceof J.Identifier && "var".equals(((J.Identifier) typeExpression).getSimpleName());
+    }
+
+    private static boolean isVariable(@Nullable Expression expression) {
+        if (expression instanceof J.FieldAccess) {
+            return ((J.FieldAccess) expression).getName().getFieldType() != null &&
+                   (((J.FieldAccess) expression).getTarget() instanceof J.Identifier);
+        }
+        return expression instanceof J.Identifier && ((J.Identifier) expression).getFieldType() != null;
+    }
+
+    /**
+     * A size that can be read from a variable without side effects, as template code with a single parameter.
+     */
+    @Value
+    private static class KnownSize {
+        String code;
+        Expression parameter;
+
+        /**
+         * The size in {@code list.size()}, {@code map.size()} or {@code array.length}.
+         */
+        static @Nullable KnownSize of(Expression expression) {
+            if (expression instanceof J.MethodInvocation) {
+                J.MethodInvocation method = (J.MethodInvocation) expression;
+                if ((COLLECTION_SIZE.matches(method) || MAP_SIZE.matches(method)) && isVariable(method.getSelect())) {
+                    return new KnownSize("#{any(int)}", expression);
+                }
+            } else if (expression instanceof J.FieldAccess) {
+                J.FieldAccess fieldAccess = (J.FieldAccess) expression;
+                if ("length".equals(fieldAccess.getSimpleName()) && fieldAccess.getTarget().getType() instanceof JavaType.Array &&
+                    isVariable(fieldAccess.getTarget())) {
+                    return new KnownSize("#{any(int)}", expression);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * The number of iterations of a for-each loop over a collection, a map view or an array, or of a counting
+         * loop like {@code for (int i = 0; i < list.size(); i++)}.
+         */
+        static @Nullable KnownSize iteratedBy(Statement loop) {
+            if (loop instanceof J.ForEachLoop) {
+                Expression iterable = ((J.ForEachLoop) loop).getControl().getIterable();
+                if (iterable instanceof J.MethodInvocation) {
+                    J.MethodInvocation method = (J.MethodInvocation) iterable;
+                    if ((MAP_KEY_SET.matches(method) || MAP_VALUES.matches(method) || MAP_ENTRY_SET.matches(method)) &&
+                        isVariable(method.getSelect())) {
+                        return new KnownSize("#{any(java.util.Map)}.size()", method.getSelect());
+                    }
+                } else if (isVariable(iterable)) {
+                    if (iterable.getType() instanceof JavaType.Array) {
+                        return new KnownSize("#{anyArray()}.length", iterable);
+                    } else if (TypeUtils.isAssignableTo("java.util.Collection", iterable.getType())) {
+                        return new KnownSize("#{any(java.util.Collection)}.size()", iterable);
+                    }
+                }
+            } else if (loop instanceof J.ForLoop) {
+                J.ForLoop.Control control = ((J.ForLoop) loop).getControl();
+                if (control.getInit().size() != 1 || !(control.getInit().get(0) instanceof J.VariableDeclarations) ||
+                    control.getUpdate().size() != 1 || !(control.getCondition() instanceof J.Binary)) {
+                    return null;
+                }
+                J.VariableDeclarations.NamedVariable index = ((J.VariableDeclarations) control.getInit().get(0)).getVariables().get(0);
+                J.Binary condition = (J.Binary) control.getCondition();
+                Statement update = control.getUpdate().get(0);
+                if (index.getInitializer() instanceof J.Literal && Integer.valueOf(0).equals(((J.Literal) index.getInitializer()).getValue()) &&
+                    condition.getOperator() == J.Binary.Type.LessThan && isIndex(condition.getLeft(), index) &&
+                    update instanceof J.Unary && isIndex(((J.Unary) update).getExpression(), index) &&
+                    (((J.Unary) update).getOperator() == J.Unary.Type.PostIncrement ||
+                     ((J.Unary) update).getOperator() == J.Unary.Type.PreIncrement)) {
+                    return of(condition.getRight());
+                }
+            }
+            return null;
+        }
+
+        private static boolean isIndex(Expression expression, J.VariableDeclarations.NamedVariable index) {
+            return expression instanceof J.Identifier && index.getVariableType() != null &&
+                   index.getVariableType().equals(((J.Identifier) expression).getFieldType());
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+public class ReplaceLinkedList extends Recipe {
+    private static final String LINKED_LIST = "java.util.LinkedList";
+    private static final String ARRAY_LIST = "java.util.ArrayList";
+    private static final String ARRAY_DEQUE = "java.util.ArrayDeque";
+    private static final String USES = "LINKED_LIST_USES";
+
+    /**
+     * Methods that {@code ArrayList} and {@code ArrayDeque} both implement in about the same time as {@code LinkedList}.
+     */
+    private static final Set<String> COLLECTION_METHODS = new HashSet<>(Arrays.asList(
+            "add", "addAll", "clear", "contains", "containsAll", "forEach", "isEmpty", "iterator", "removeIf", "size",
+            "spliterator", "stream", "toArray", "toString"
+    ));
+
+    /**
+     * Methods of {@code List} that {@code ArrayList} implements at least as fast as {@code LinkedList}.
+     */
+    private static final Set<String> LIST_METHODS = new HashSet<>(Arrays.asList(
+            "equals", "get", "hashCode", "indexOf", "lastIndexOf", "replaceAll", "set", "sort", "subList"
+    ));
+
+    /**
+     * Methods of {@code Deque} and {@code Queue}, which {@code ArrayDeque} implements in constant time.
+     */
+    private static final Set<String> DEQUE_METHODS = new HashSet<>(Arrays.asList(
+            "addFirst", "addLast", "descendingIterator", "element", "getFirst", "getLast", "offer", "offerFirst",
+            "offerLast", "peek", "peekFirst", "peekLast", "poll", "pollFirst", "pollLast", "pop", "push", "remove",
+            "removeFirst", "removeFirstOccurrence", "removeLast", "removeLastOccurrence"
+    ));
+
+    @Getter
+    final String displayName = "Replace `LinkedList` with `ArrayList` or `ArrayDeque`";
+
+    @Getter
+    final String description = "Replace local variables and private fields that are initialized with a `new LinkedList<>()`, " +
+            "depending on how they are used. Lists that are accessed by index become an `ArrayList`, as `LinkedList#get(int)` " +
+            "walks the list and makes indexed loops take quadratic time. Lists that are only used as a queue or a stack, as in " +
+            "`addLast`, `pollFirst`, `push` and `pop`, become an `ArrayDeque`, which does not allocate a node per element. " +
+            "Lists that are used in any other way, for instance passed to other methods or modified through a " +
+            "`ListIterator`, are left as is. As `ArrayDeque` does not allow `null` elements, queues only become an `ArrayDeque` when " +
+            "every element added to them is known not to be `null`, such as a new object, a non-null literal, a primitive value " +
+            "or a value annotated as `@NonNull`.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>(LINKED_LIST, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                Map<String, Uses> uses = new HashMap<>();
+                new FindLinkedLists().visit(cu, uses);
+                if (uses.isEmpty()) {
+                    return cu;
+                }
+                new ClassifyLinkedListUses().visit(cu, uses);
+                uses.values().removeIf(u -> u.replacement() == null);
+                if (uses.isEmpty()) {
+                    return cu;
+                }
+                getCursor().putMessage(USES, uses);
+                return super.visitCompilationUnit(cu, ctx);
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                Map<String, Uses> uses = getCursor().getNearestMessageOrThrow(USES);
+                Uses use = uses.get(key(vd.getVariables().get(0).getVariableType()));
+                J.NewClass creation = use == null ? null : (J.NewClass) vd.getVariables().get(0).getInitializer();
+                String replacement = use == null ? null : use.replacement();
+                if (creation == null || replacement == null) {
+                    return vd;
+                }
+
+                JavaType.ShallowClass type = JavaType.ShallowClass.build(replacement);
+                boolean copies = !(creation.getArguments().get(0) instanceof J.Empty);
+                vd = JavaTemplate.builder("new " + type.getClassName() + "<>(" + (copies ? "#{any(java.util.Collection)}" : "") + ")")
+                        .imports(replacement)
+                        .build()
+                        .apply(getCursor(), creation.getCoordinates().replace(),
+                                copies ? new Object[]{creation.getArguments().get(0)} : new Object[0]);
+                maybeAddImport(replacement);
+                maybeRemoveImport(LINKED_LIST);
+
+                TypeTree typeExpression = vd.getTypeExpression();
+                if (TypeUtils.isOfClassType(vd.getType(), LINKED_LIST)) {
+                    J.Identifier clazz = new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(),
+                            type.getClassName(), type, null);
+                    if (typeExpression instanceof J.ParameterizedType) {
+                        J.ParameterizedType parameterized = (J.ParameterizedType) typeExpression;
+                        vd = vd.withTypeExpression(parameterized.withClazz(clazz.withPrefix(parameterized.getClazz().getPrefix())));
+                    } else if (typeExpression != null) {
+                        vd = vd.withTypeExpression(clazz.withPrefix(typeExpression.getPrefix()));
+                    }
+                }
+                return vd;
+            }
+        });
+    }
+
+    private static @Nullable String key(JavaType.@Nullable Variable variable) {
+        if (variable == null) {
+            return null;
+        } else if (variable.getOwner() instanceof JavaType.Method) {
+            JavaType.Method method = (JavaType.Method) variable.getOwner();
+            return method.getDeclaringType().getFullyQualifiedName() + "#" + method.getName() + method.getParameterTypes() +
+                   "#" + variable.getName();
+        } else if (variable.getOwner() instanceof JavaType.FullyQualified) {
+            return ((JavaType.FullyQualified) variable.getOwner()).getFullyQualifiedName() + "#" + variable.getName();
+        }
+        return null;
+    }
+
+    /**
+     * How a local variable or private field that holds a {@code LinkedList} is used.
+     */
+    private static class Uses {
+        final String declaredType;
+        boolean disqualified;
+        boolean usesList;
+        boolean usesDeque;
+        boolean mayAddNull;
+
+        Uses(String declaredType) {
+            this.declaredType = declaredType;
+        }
+
+        @Nullable
+        String replacement() {
+            if (disqualified || usesList && usesDeque) {
+                return null;
+            } else if (!usesDeque && Arrays.asList(LINKED_LIST, "java.util.List", "java.util.Collection").contains(declaredType)) {
+                return ARRAY_LIST;
+            } else if (!usesList && !mayAddNull && Arrays.asList(LINKED_LIST, "java.util.Deque", "java.util.Queue").contains(declaredType)) {
+                return ARRAY_DEQUE;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Local variables and private fields that are initialized with a {@code new LinkedList<>()}, which can only be
+     * used in this compilation unit.
+     */
+    private static class FindLinkedLists extends JavaIsoVisitor<Map<String, Uses>> {
+        @Override
+        public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, Map<String, Uses> uses) {
+            J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, uses);
+            J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+            String key = key(variable.getVariableType());
+            JavaType.FullyQualified declaredType = TypeUtils.asFullyQualified(vd.getType());
+            if (key == null || declaredType == null || !(variable.getInitializer() instanceof J.NewClass) ||
+                !TypeUtils.isOfClassType(variable.getInitializer().getType(), LINKED_LIST)) {
+                return vd;
+            }
+
+            J.NewClass creation = (J.NewClass) variable.getInitializer();
+            boolean local = variable.getVariableType().getOwner() instanceof JavaType.Method;
+            Uses use = new Uses(declaredType.getFullyQualifiedName());
+            // The copied collection may contain `null`
+            use.mayAddNull = !(creation.getArguments().get(0) instanceof J.Empty);
+            use.disqualified = vd.getVariables().size() != 1 || !local && !vd.hasModifier(J.Modifier.Type.Private) ||
+                               !vd.getLeadingAnnotations().isEmpty() || creation.getBody() != null ||
+                               creation.getArguments().size() > 1 ||
+                               // With `var` the variable would be declared as an `ArrayList<Object>`
+                               !(vd.getTypeExpression() instanceof J.ParameterizedType);
+            Uses shadowed = uses.put(key, use);
+            if (shadowed != null) {
+                // Another local variable of the same name in the same method, which cannot be told apart by its type
+                shadowed.disqualified = use.disqualified = true;
+            }
+            return vd;
+        }
+    }
+
+    /**
+     * Records which methods are called on each list, and disqualifies the lists that are used in any other way.
+     */
+    private static class ClassifyLinkedListUses extends JavaIsoVisitor<Map<String, Uses>> {
+        @Override
+        public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Map<String, Uses> uses) {
+            // Skip the name of the declaration itself
+            if (variable.getInitializer() != null) {
+                visit(variable.getInitializer(), uses, new Cursor(getCursor(), variable));
+            }
+            return variable;
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, Map<String, Uses> uses) {
+            Uses use = uses.get(key(identifier.getFieldType()));
+            if (use == null) {
+                return identifier;
+            }
+
+            Cursor parent = getCursor().getParentTreeCursor();
+            Expression reference = identifier;
+            if (parent.getValue() instanceof J.FieldAccess) {
+                J.FieldAccess fieldAccess = parent.getValue();
+                if (fieldAccess.getName() != identifier || !(fieldAccess.getTarget() instanceof J.Identifier) ||
+                    !"this".equals(((J.Identifier) fieldAccess.getTarget()).getSimpleName())) {
+                    use.disqualified = true;
+                    return identifier;
+                }
+                reference = fieldAccess;
+                parent = parent.getParentTreeCursor();
+            }
+
+            Object value = parent.getValue();
+            if (value instanceof J.ForEachLoop.Control && ((J.ForEachLoop.Control) value).getIterable() == reference) {
+                return identifier;
+            } else if (!(value instanceof J.MethodInvocation) || ((J.MethodInvocation) value).getSelect() != reference ||
+                       ((J.MethodInvocation) value).getMethodType() == null) {
+                use.disqualified = true;
+                return identifier;
+            }
+
+            J.MethodInvocation method = (J.MethodInvocation) value;
+            String name = method.getSimpleName();
+            List<JavaType> parameterTypes = method.getMethodType().getParameterTypes();
+            boolean indexed = !parameterTypes.isEmpty() && parameterTypes.get(0) == JavaType.Primitive.Int;
+            if ("remove".equals(name) && parameterTypes.size() == 1) {
+                // `remove(Object)` is the same on all of them, but `remove(int)` mostly removes the first element
+                use.disqualified |= indexed;
+            } else if (("add".equals(name) || "addAll".equals(name)) && indexed) {
+                // Inserting by index mostly inserts at the front, which shifts every element of an `ArrayList`
+                use.disqualified = true;
+            } else if (COLLECTION_METHODS.contains(name)) {
+                use.mayAddNull |= "addAll".equals(name) || "add".equals(name) && !isNonNull(method.getArguments().get(0));
+            } else if (LIST_METHODS.contains(name)) {
+                use.usesList = true;
+            } else if (DEQUE_METHODS.contains(name)) {
+                use.usesDeque = true;
+                use.mayAddNull |= name.matches("add.*|offer.*|push") && !isNonNull(method.getArguments().get(0));
+            } else {
+                // Such as `listIterator()`, which can insert in the middle of the list
+                use.disqualified = true;
+            }
+            return identifier;
+        }
+
+        private static boolean isNonNull(Expression expression) {
+            while (expression instanceof J.Parentheses) {
+                expression = (Expression) ((J.Parentheses<?>) expression).getTree();
+            }
+            if (expression instanceof J.Literal) {
+                return ((J.Literal) expression).getValue() != null;
+            } else if (expression.getType() instanceof JavaType.Primitive &&
+                       expression.getType() != JavaType.Primitive.String && expression.getType() != JavaType.Primitive.Null) {
+                // Primitive values are boxed into non-null objects
+                return true;
+            } else if (expression instanceof J.Identifier && ((J.Identifier) expression).getFieldType() != null) {
+                return isNonNullAnnotated(((J.Identifier) expression).getFieldType().getAnnotations());
+            } else if (expression instanceof J.MethodInvocation && ((J.MethodInvocation) expression).getMethodType() != null) {
+                return isNonNullAnnotated(((J.MethodInvocation) expression).getMethodType().getAnnotations());
+            }
+            return expression instanceof J.NewClass || expression instanceof J.NewArray || expression instanceof J.Lambda ||
+                   expression instanceof J.MemberReference;
+        }
+
+        private static boolean isNonNullAnnotated(List<JavaType.FullyQualified> annotations) {
+            for (JavaType.FullyQualified annotation : annotations) {
+                if ("NonNull".equals(annotation.getClassName()) || "Nonnull".equals(annotation.getClassName()) ||
+                    "NotNull".equals(annotation.getClassName())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+public class StreamAnyMatchToContains extends Recipe {
+    private static final MethodMatcher COLLECTION_STREAM = new MethodMatcher("java.util.Collection stream()", true);
+    private static final MethodMatcher ANY_MATCH = new MethodMatcher("java.util.stream.Stream anyMatch(java.util.function.Predicate)");
+    private static final MethodMatcher NONE_MATCH = new MethodMatcher("java.util.stream.Stream noneMatch(java.util.function.Predicate)");
+    private static final MethodMatcher EQUALS = new MethodMatcher("java.lang.Object equals(java.lang.Object)", true);
+    private static final MethodMatcher OBJECTS_EQUALS = new MethodMatcher("java.util.Objects equals(java.lang.Object, java.lang.Object)");
+
+    @Getter
+    final String displayName = "Use `Set#contains` instead of `stream().anyMatch(x::equals)`";
+
+    @Getter
+    final String description = "Replace `set.stream().anyMatch(x::equals)`, which compares against every element in O(n) " +
+            "time, with `set.contains(x)`, which is a hash lookup. The lambdas `e -> e.equals(x)` and " +
+            "`e -> Objects.equals(e, x)` are replaced as well, and `noneMatch` becomes `!set.contains(x)`. This is only done " +
+            "when the static type of the receiver is a `Set`, and not a `SortedSet`, whose `contains` uses the comparator " +
+            "rather than `equals`.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(
+                        new UsesMethod<>(COLLECTION_STREAM),
+                        Preconditions.or(new UsesMethod<>(ANY_MATCH), new UsesMethod<>(NONE_MATCH))),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        if (!ANY_MATCH.matches(m) && !NONE_MATCH.matches(m) || !COLLECTION_STREAM.matches(m.getSelect())) {
+                            return m;
+                        }
+                        Expression set = ((J.MethodInvocation) m.getSelect()).getSelect();
+                        if (set == null || !TypeUtils.isAssignableTo("java.util.Set", set.getType()) ||
+                            TypeUtils.isAssignableTo("java.util.SortedSet", set.getType())) {
+                            return m;
+                        }
+                        Expression element = equalTo(m.getArguments().get(0));
+                        if (element == null) {
+                            return m;
+                        }
+                        maybeRemoveImport("java.util.Objects");
+                        return JavaTemplate.apply((ANY_MATCH.matches(m) ? "" : "!") + "#{any(java.util.Set)}.contains(#{any()})",
+                                getCursor(), m.getCoordinates().replace(), set, element);
+                    }
+                }
+        );
+    }
+
+    /**
+     * The value that the predicate compares each element with, when it is {@code x::equals},
+     * {@code e -> e.equals(x)} or {@code e -> Objects.equals(e, x)}. The value must not have side effects, as the
+     * predicate evaluates it once per element.
+     */
+    private static @Nullable Expression equalTo(Expression predicate) {
+        if (predicate instanceof J.MemberReference) {
+            J.MemberReference reference = (J.MemberReference) predicate;
+            if ("equals".equals(reference.getReference().getSimpleName()) && EQUALS.matches(reference.getMethodType()) &&
+                isSideEffectFree(reference.getContaining())) {
+                return reference.getContaining();
+            }
+        } else if (predicate instanceof J.Lambda && ((J.Lambda) predicate).getParameters().getParameters().size() == 1) {
+            J.Lambda lambda = (J.Lambda) predicate;
+            J parameter = lambda.getParameters().getParameters().get(0);
+            String name = parameter instanceof J.VariableDeclarations ?
+                    ((J.VariableDeclarations) parameter).getVariables().get(0).getSimpleName() :
+                    parameter instanceof J.Identifier ? ((J.Identifier) parameter).getSimpleName() : null;
+            J body = lambda.getBody();
+            if (name == null || !(body instanceof J.MethodInvocation)) {
+                return null;
+            }
+            J.MethodInvocation call = (J.MethodInvocation) body;
+            Expression other = null;
+            if (EQUALS.matches(call) && isIdentifier(call.getSelect(), name)) {
+                other = call.getArguments().get(0);
+            } else if (OBJECTS_EQUALS.matches(call) && isIdentifier(call.getArguments().get(0), name)) {
+                other = call.getArguments().get(1);
+            } else if (OBJECTS_EQUALS.matches(call) && isIdentifier(call.getArguments().get(1), name)) {
+                other = call.getArguments().get(0);
+            }
+            if (other != null && isSideEffectFree(other) && !isIdentifier(other, name)) {
+                return other.withPrefix(Space.EMPTY);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isIdentifier(@Nullable Expression expression, String name) {
+        return expression instanceof J.Identifier && name.equals(((J.Identifier) expression).getSimpleName());
+    }
+
+    private static boolean isSideEffectFree(Expression expression) {
+        if (expression instanceof J.FieldAccess) {
+            return isSideEffectFree(((J.FieldAccess) expression).getTarget());
+        }
+        return expression instanceof J.Identifier || expression instanceof J.Literal;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+
+public class StreamCollectSizeToCount extends Recipe {
+    private static final MethodMatcher LIST_SIZE = new MethodMatcher("java.util.List size()");
+    private static final MethodMatcher STREAM_COLLECT = new MethodMatcher("java.util.stream.Stream collect(java.util.stream.Collector)");
+    private static final MethodMatcher STREAM_TO_LIST = new MethodMatcher("java.util.stream.Stream toList()");
+    private static final MethodMatcher COLLECTORS_TO_LIST = new MethodMatcher("java.util.stream.Collectors toList()");
+    private static final MethodMatcher STREAM_PEEK = new MethodMatcher("java.util.stream.Stream peek(..)");
+
+    @Getter
+    final String displayName = "Use `count()` instead of `collect(toList()).size()`";
+
+    @Getter
+    final String description = "Replace `stream.collect(Collectors.toList()).size()` and `stream.toList().size()`, which " +
+            "copy all elements into a list only to count them, with `stream.count()`. As `count()` returns a `long` " +
+            "rather than an `int`, this is only done where the size is compared. Pipelines with `peek` are left as is, as " +
+            "`count()` may skip the intermediate operations when the size of the stream is known up front.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(
+                        new UsesMethod<>(LIST_SIZE),
+                        Preconditions.or(new UsesMethod<>(COLLECTORS_TO_LIST), new UsesMethod<>(STREAM_TO_LIST))),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        Object parent = getCursor().getParentTreeCursor().getValue();
+                        if (!LIST_SIZE.matches(m) || !(parent instanceof J.Binary) ||
+                            !StreamCountToCollectionSize.isComparison(((J.Binary) parent).getOperator())) {
+                            return m;
+                        }
+                        Expression stream = collectedStream(m.getSelect());
+                        if (stream == null || hasPeek(stream)) {
+                            return m;
+                        }
+                        maybeRemoveImport("java.util.stream.Collectors");
+                        return JavaTemplate.apply("#{any(java.util.stream.Stream)}.count()",
+                                getCursor(), m.getCoordinates().replace(), stream);
+                    }
+                }
+        );
+    }
+
+    private static @Nullable Expression collectedStream(@Nullable Expression list) {
+        if (!(list instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation collect = (J.MethodInvocation) list;
+        if (STREAM_TO_LIST.matches(collect) ||
+            STREAM_COLLECT.matches(collect) && COLLECTORS_TO_LIST.matches(collect.getArguments().get(0))) {
+            return collect.getSelect();
+        }
+        return null;
+    }
+
+    private static boolean hasPeek(Expression stream) {
+        for (Expression e = stream; e instanceof J.MethodInvocation; e = ((J.MethodInvocation) e).getSelect()) {
+            if (STREAM_PEEK.matches(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
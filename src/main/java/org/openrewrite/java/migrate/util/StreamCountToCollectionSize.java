@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+public class StreamCountToCollectionSize extends Recipe {
+    private static final MethodMatcher COLLECTION_STREAM = new MethodMatcher("java.util.Collection stream()", true);
+    private static final MethodMatcher STREAM_COUNT = new MethodMatcher("java.util.stream.Stream count()");
+
+    @Getter
+    final String displayName = "Use `size()` instead of `stream().count()`";
+
+    @Getter
+    final String description = "Replace `collection.stream().count()`, which creates a stream to count the elements, with " +
+            "`collection.size()`. As `size()` returns an `int` rather than a `long`, this is only done where the count " +
+            "is compared, or assigned to or returned as a `long`.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(new UsesMethod<>(COLLECTION_STREAM), new UsesMethod<>(STREAM_COUNT)),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        if (!STREAM_COUNT.matches(m) || !COLLECTION_STREAM.matches(m.getSelect()) ||
+                            ((J.MethodInvocation) m.getSelect()).getSelect() == null ||
+                            !isWideningContext(getCursor().getParentTreeCursor(), method)) {
+                            return m;
+                        }
+                        return JavaTemplate.apply("#{any(java.util.Collection)}.size()",
+                                getCursor(), m.getCoordinates().replace(), ((J.MethodInvocation) m.getSelect()).getSelect());
+                    }
+                }
+        );
+    }
+
+    /**
+     * Whether a {@code long} expression can become an {@code int} without changing what the code does, as its value
+     * is compared, or widened again. Arithmetic is excluded, as it would overflow at a different value.
+     */
+    private static boolean isWideningContext(Cursor parent, Expression expression) {
+        Object value = parent.getValue();
+        if (value instanceof J.Binary) {
+            return isComparison(((J.Binary) value).getOperator());
+        } else if (value instanceof J.VariableDeclarations.NamedVariable) {
+            // With `var` the variable would become an `int`
+            J.VariableDeclarations declarations = parent.getParentTreeCursor().getValue();
+            return declarations.getTypeExpression() instanceof J.Primitive && isWideType(declarations.getType());
+        } else if (value instanceof J.Assignment) {
+            J.Assignment assignment = (J.Assignment) value;
+            return assignment.getAssignment() == expression && isWideType(assignment.getVariable().getType());
+        } else if (value instanceof J.Return) {
+            Object enclosing = parent.dropParentUntil(v -> v instanceof J.MethodDeclaration || v instanceof J.Lambda ||
+                                                           v == Cursor.ROOT_VALUE).getValue();
+            return enclosing instanceof J.MethodDeclaration && ((J.MethodDeclaration) enclosing).getMethodType() != null &&
+                   isWideType(((J.MethodDeclaration) enclosing).getMethodType().getReturnType());
+        }
+        return false;
+    }
+
+    static boolean isComparison(J.Binary.Type operator) {
+        switch (operator) {
+            case Equal:
+            case NotEqual:
+            case LessThan:
+            case LessThanOrEqual:
+            case GreaterThan:
+            case GreaterThanOrEqual:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isWideType(JavaType type) {
+        return type == JavaType.Primitive.Long || type == JavaType.Primitive.Float || type == JavaType.Primitive.Double;
+    }
+}
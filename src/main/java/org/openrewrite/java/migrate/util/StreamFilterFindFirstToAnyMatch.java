@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.J;
+
+public class StreamFilterFindFirstToAnyMatch extends Recipe {
+    private static final MethodMatcher FILTER = new MethodMatcher("java.util.stream.*Stream filter(..)");
+    private static final MethodMatcher FIND = new MethodMatcher("java.util.stream.*Stream find*()");
+    private static final MethodMatcher IS_PRESENT = new MethodMatcher("java.util.Optional* isPresent()");
+    private static final MethodMatcher IS_EMPTY = new MethodMatcher("java.util.Optional* isEmpty()");
+
+    @Getter
+    final String displayName = "Use `anyMatch(predicate)` instead of `filter(predicate).findFirst().isPresent()`";
+
+    @Getter
+    final String description = "Replace `stream.filter(predicate).findFirst().isPresent()` and the same with `findAny()` " +
+            "with `stream.anyMatch(predicate)`, which states the intent and does not create an `Optional`. Checking " +
+            "`isEmpty()` instead becomes `noneMatch(predicate)`.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(FIND), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J j = super.visitMethodInvocation(method, ctx);
+                if (!(j instanceof J.MethodInvocation)) {
+                    return j;
+                }
+                J.MethodInvocation m = (J.MethodInvocation) j;
+                if (!IS_PRESENT.matches(m) && !IS_EMPTY.matches(m) ||
+                    !FIND.matches(m.getSelect()) || !FILTER.matches(((J.MethodInvocation) m.getSelect()).getSelect())) {
+                    return m;
+                }
+                J.MethodInvocation filter = (J.MethodInvocation) ((J.MethodInvocation) m.getSelect()).getSelect();
+                if (filter.getSelect() == null || filter.getMethodType() == null) {
+                    return m;
+                }
+                String stream = filter.getMethodType().getDeclaringType().getFullyQualifiedName();
+                String match = IS_PRESENT.matches(m) ? "anyMatch" : "noneMatch";
+                return JavaTemplate.apply("#{any(" + stream + ")}." + match + "(#{any()})",
+                        getCursor(), m.getCoordinates().replace(), filter.getSelect(), filter.getArguments().get(0));
+            }
+        });
+    }
+}
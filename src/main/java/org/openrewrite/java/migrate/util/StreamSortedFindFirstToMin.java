@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+public class StreamSortedFindFirstToMin extends Recipe {
+    private static final MethodMatcher FIND_FIRST = new MethodMatcher("java.util.stream.Stream findFirst()");
+    private static final MethodMatcher SORTED = new MethodMatcher("java.util.stream.Stream sorted()");
+    private static final MethodMatcher SORTED_BY = new MethodMatcher("java.util.stream.Stream sorted(java.util.Comparator)");
+    private static final MethodMatcher PRIMITIVE_FIND_FIRST = new MethodMatcher("java.util.stream.*Stream findFirst()");
+    private static final MethodMatcher PRIMITIVE_SORTED = new MethodMatcher("java.util.stream.*Stream sorted()");
+    private static final MethodMatcher REVERSED = new MethodMatcher("java.util.Comparator reversed()", true);
+    private static final MethodMatcher REVERSE_ORDER = new MethodMatcher("java.util.Comparator reverseOrder()");
+    private static final MethodMatcher COLLECTIONS_REVERSE_ORDER = new MethodMatcher("java.util.Collections reverseOrder()");
+
+    @Getter
+    final String displayName = "Use `min()` instead of `sorted().findFirst()`";
+
+    @Getter
+    final String description = "Replace `stream.sorted(comparator).findFirst()`, which sorts all elements in O(n log n) " +
+            "time to pick one, with `stream.min(comparator)`, which finds the same element in a single O(n) pass. Sorting " +
+            "in reverse order becomes `max(comparator)`. Both keep the first of several equal elements, as the stable sort " +
+            "did. On an `IntStream` or `LongStream`, `sorted().findFirst()` becomes `min()`.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(PRIMITIVE_FIND_FIRST), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J j = super.visitMethodInvocation(method, ctx);
+                if (!(j instanceof J.MethodInvocation) || !(((J.MethodInvocation) j).getSelect() instanceof J.MethodInvocation)) {
+                    return j;
+                }
+                J.MethodInvocation m = (J.MethodInvocation) j;
+                J.MethodInvocation sorted = (J.MethodInvocation) m.getSelect();
+                Expression stream = sorted.getSelect();
+                if (stream == null) {
+                    return m;
+                }
+
+                if (FIND_FIRST.matches(m) && SORTED.matches(sorted) && hasComparableElements(stream)) {
+                    maybeAddImport("java.util.Comparator");
+                    return JavaTemplate.builder("#{any(java.util.stream.Stream)}.min(Comparator.naturalOrder())")
+                            .imports("java.util.Comparator")
+                            .build()
+                            .apply(getCursor(), m.getCoordinates().replace(), stream);
+                } else if (FIND_FIRST.matches(m) && SORTED_BY.matches(sorted)) {
+                    Expression comparator = sorted.getArguments().get(0);
+                    if ((REVERSE_ORDER.matches(comparator) || COLLECTIONS_REVERSE_ORDER.matches(comparator)) &&
+                        hasComparableElements(stream)) {
+                        maybeRemoveImport("java.util.Collections");
+                        maybeAddImport("java.util.Comparator");
+                        return JavaTemplate.builder("#{any(java.util.stream.Stream)}.max(Comparator.naturalOrder())")
+                                .imports("java.util.Comparator")
+                                .build()
+                                .apply(getCursor(), m.getCoordinates().replace(), stream);
+                    } else if (REVERSED.matches(comparator) && ((J.MethodInvocation) comparator).getSelect() != null) {
+                        return JavaTemplate.apply("#{any(java.util.stream.Stream)}.max(#{any(java.util.Comparator)})",
+                                getCursor(), m.getCoordinates().replace(), stream, ((J.MethodInvocation) comparator).getSelect());
+                    }
+                    return JavaTemplate.apply("#{any(java.util.stream.Stream)}.min(#{any(java.util.Comparator)})",
+                            getCursor(), m.getCoordinates().replace(), stream, comparator);
+                } else if (PRIMITIVE_FIND_FIRST.matches(m) && PRIMITIVE_SORTED.matches(sorted)) {
+                    // DoubleStream#min propagates NaN, where sorting places it last
+                    String type = sorted.getMethodType() == null ? "" : sorted.getMethodType().getDeclaringType().getFullyQualifiedName();
+                    if ("java.util.stream.IntStream".equals(type) || "java.util.stream.LongStream".equals(type)) {
+                        return JavaTemplate.apply("#{any(" + type + ")}.min()", getCursor(), m.getCoordinates().replace(), stream);
+                    }
+                }
+                return m;
+            }
+        });
+    }
+
+    /**
+     * Whether the elements of the stream are {@code Comparable}, as {@code Comparator.naturalOrder()} requires. A raw
+     * {@code sorted()} only fails at runtime when they are not, and {@code Collections.reverseOrder()} accepts any type.
+     */
+    private static boolean hasComparableElements(Expression stream) {
+        JavaType.Parameterized type = TypeUtils.asParameterized(stream.getType());
+        return type != null && type.getTypeParameters().size() == 1 &&
+               TypeUtils.isAssignableTo("java.lang.Comparable", type.getTypeParameters().get(0));
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+import static org.openrewrite.java.VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER;
+
+public class UnrollHashCodeAndEquals extends Recipe {
+    private static final MethodMatcher OBJECTS_HASH = new MethodMatcher("java.util.Objects hash(..)");
+    private static final MethodMatcher ARRAYS_HASH_CODE = new MethodMatcher("java.util.Arrays hashCode(java.lang.Object[])");
+    private static final String HASH_CODE_BUILDER = "org.apache.commons.lang3.builder.HashCodeBuilder";
+    private static final String EQUALS_BUILDER = "org.apache.commons.lang3.builder.EqualsBuilder";
+    private static final MethodMatcher TO_HASH_CODE = new MethodMatcher(HASH_CODE_BUILDER + " toHashCode()");
+    private static final MethodMatcher APPEND = new MethodMatcher(HASH_CODE_BUILDER + " append(..)");
+    private static final MethodMatcher APPEND_SUPER = new MethodMatcher(HASH_CODE_BUILDER + " appendSuper(int)");
+    private static final MethodMatcher REFLECTION_HASH_CODE = new MethodMatcher(HASH_CODE_BUILDER + " reflectionHashCode(java.lang.Object)");
+    private static final MethodMatcher REFLECTION_EQUALS = new MethodMatcher(EQUALS_BUILDER + " reflectionEquals(java.lang.Object, java.lang.Object)");
+
+    /**
+     * The static types of a field or argument that can hold an array, which the builders hash and compare by content.
+     */
+    private static final Set<String> POSSIBLE_ARRAY_TYPES = new HashSet<>(Arrays.asList(
+            "java.lang.Object", "java.lang.Cloneable", "java.io.Serializable"));
+
+    @Getter
+    final String displayName = "Unroll `Objects.hash` and reflective builders in `hashCode` and `equals`";
+
+    @Getter
+    final String description = "Replace `return Objects.hash(a, b, c)` and `return Arrays.hashCode(new Object[]{a, b, c})` " +
+            "in `hashCode()` with `int result = 31 + Objects.hashCode(a); result = 31 * result + Integer.hashCode(b); ...`, " +
+            "which computes the same value without allocating a varargs array and boxing every primitive on every call. " +
+            "Apache Commons `new HashCodeBuilder().append(a)...toHashCode()` chains are unrolled the same way with the " +
+            "constants of the builder. In final classes that extend `Object`, `HashCodeBuilder.reflectionHashCode(this)` and " +
+            "`EqualsBuilder.reflectionEquals(this, other)` are replaced with code that reads the fields directly, in the " +
+            "order that recent versions of the builders use. Arguments and fields that can hold an array are left alone, as " +
+            "the builders hash and compare those by content.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesMethod<>(OBJECTS_HASH),
+                        new UsesMethod<>(ARRAYS_HASH_CODE),
+                        new UsesMethod<>(TO_HASH_CODE),
+                        new UsesMethod<>(REFLECTION_HASH_CODE),
+                        new UsesMethod<>(REFLECTION_EQUALS)),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        J.MethodDeclaration md = (J.MethodDeclaration) super.visitMethodDeclaration(method, ctx);
+                        J.Block body = md.getBody();
+                        if (body == null || body.getStatements().isEmpty() ||
+                            !(body.getStatements().get(body.getStatements().size() - 1) instanceof J.Return)) {
+                            return md;
+                        }
+                        J.Return returned = (J.Return) body.getStatements().get(body.getStatements().size() - 1);
+                        Cursor scope = new Cursor(getCursor(), body);
+                        JavaType.Method methodType = md.getMethodType();
+                        if (methodType == null) {
+                            return md;
+                        } else if ("hashCode".equals(md.getSimpleName()) && methodType.getParameterTypes().isEmpty() &&
+                                   methodType.getReturnType() == JavaType.Primitive.Int) {
+                            Hash hash = hash(returned.getExpression(), body.getStatements().size() == 1 ? fields() : null);
+                            return hash == null ? md : md.withBody(unroll(hash, scope, returned));
+                        } else if ("equals".equals(md.getSimpleName()) && methodType.getParameterTypes().size() == 1 &&
+                                   TypeUtils.isOfClassType(methodType.getParameterTypes().get(0), "java.lang.Object") &&
+                                   body.getStatements().size() == 1 && returned.getExpression() instanceof J.MethodInvocation &&
+                                   REFLECTION_EQUALS.matches(returned.getExpression())) {
+                            List<J.VariableDeclarations.NamedVariable> fields = fields();
+                            J.MethodInvocation reflectionEquals = (J.MethodInvocation) returned.getExpression();
+                            if (fields == null || !isThis(reflectionEquals.getArguments().get(0)) ||
+                                !(reflectionEquals.getArguments().get(1) instanceof J.Identifier)) {
+                                return md;
+                            }
+                            return md.withBody(equalsByField(fields, (J.Identifier) reflectionEquals.getArguments().get(1), scope, returned));
+                        }
+                        return md;
+                    }
+
+                    /**
+                     * The instance fields of the enclosing class, or null when the reflective builders could see other
+                     * fields, or could hash or compare one of them differently.
+                     */
+                    private @Nullable List<J.VariableDeclarations.NamedVariable> fields() {
+                        J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                        if (classDecl == null || classDecl.getKind() != J.ClassDeclaration.Kind.Type.Class ||
+                            !classDecl.hasModifier(J.Modifier.Type.Final) || classDecl.getExtends() != null ||
+                            classDecl.getTypeParameters() != null && !classDecl.getTypeParameters().isEmpty()) {
+                            return null;
+                        }
+                        List<J.VariableDeclarations.NamedVariable> fields = new ArrayList<>();
+                        for (Statement statement : classDecl.getBody().getStatements()) {
+                            if (!(statement instanceof J.VariableDeclarations)) {
+                                continue;
+                            }
+                            J.VariableDeclarations field = (J.VariableDeclarations) statement;
+                            if (field.hasModifier(J.Modifier.Type.Static) || field.hasModifier(J.Modifier.Type.Transient)) {
+                                continue;
+                            }
+                            if (!field.getLeadingAnnotations().isEmpty() || mayHoldArray(field.getType())) {
+                                return null;
+                            }
+                            fields.addAll(field.getVariables());
+                        }
+                        fields.sort(Comparator.comparing(J.VariableDeclarations.NamedVariable::getSimpleName));
+                        return fields;
+                    }
+
+                    private J.Block unroll(Hash hash, Cursor scope, J.Return returned) {
+                        List<Term> terms = hash.getTerms();
+                        String first = (hash.getInitial() * hash.getMultiplier()) + " + " + terms.get(0).getCode();
+                        StringBuilder code = new StringBuilder();
+                        if (terms.size() == 1) {
+                            code.append("return ").append(first).append(';');
+                        } else {
+                            String result = VariableNameUtils.generateVariableName("result", scope, INCREMENT_NUMBER);
+                            code.append("int ").append(result).append(" = ").append(first).append(";\n");
+                            for (Term term : terms.subList(1, terms.size())) {
+                                code.append(result).append(" = ").append(hash.getMultiplier()).append(" * ").append(result)
+                                        .append(" + ").append(term.getCode()).append(";\n");
+                            }
+                            code.append("return ").append(result).append(';');
+                        }
+
+                        List<Expression> parameters = new ArrayList<>();
+                        for (Term term : terms) {
+                            if (term.getParameter() != null) {
+                                parameters.add(term.getParameter().withPrefix(Space.EMPTY));
+                            }
+                        }
+                        maybeRemoveImport("java.util.Arrays");
+                        maybeRemoveImport(HASH_CODE_BUILDER);
+                        if (code.indexOf("Objects.") >= 0) {
+                            maybeAddImport("java.util.Objects");
+                        } else {
+                            maybeRemoveImport("java.util.Objects");
+                        }
+                        return JavaTemplate.builder(code.toString())
+                                .contextSensitive()
+                                .imports("java.util.Objects")
+                                .build()
+                                .apply(scope, returned.getCoordinates().replace(), parameters.toArray());
+                    }
+
+                    private J.Block equalsByField(List<J.VariableDeclarations.NamedVariable> fields, J.Identifier other,
+                                                  Cursor scope, J.Return returned) {
+                        J.ClassDeclaration classDecl = getCursor().firstEnclosingOrThrow(J.ClassDeclaration.class);
+                        String type = classDecl.getSimpleName();
+                        String that = VariableNameUtils.generateVariableName("that", scope, INCREMENT_NUMBER);
+                        StringJoiner comparisons = new StringJoiner(" && ");
+                        for (J.VariableDeclarations.NamedVariable field : fields) {
+                            comparisons.add(equality(field.getType(), field.getSimpleName(), that + "." + field.getSimpleName()));
+                        }
+                        String code = "if (this == " + other.getSimpleName() + ") {\n" +
+                                      "return true;\n" +
+                                      "}\n" +
+                                      "if (!(" + other.getSimpleName() + " instanceof " + type + ")) {\n" +
+                                      "return false;\n" +
+                                      "}\n" +
+                                      (fields.isEmpty() ? "return true;" :
+                                              type + " " + that + " = (" + type + ") " + other.getSimpleName() + ";\n" +
+                                              "return " + comparisons + ";");
+                        maybeRemoveImport(EQUALS_BUILDER);
+                        if (code.contains("Objects.")) {
+                            maybeAddImport("java.util.Objects");
+                        }
+                        return JavaTemplate.builder(code)
+                                .contextSensitive()
+                                .imports("java.util.Objects")
+                                .build()
+                                .apply(scope, returned.getCoordinates().replace());
+                    }
+                }
+        );
+    }
+
+    /**
+     * The terms of the hash code that the expression computes, or null when it is not one that can be unrolled.
+     *
+     * @param fields the fields that a reflective hash code reads, or null when it cannot be replaced
+     */
+    private static @Nullable Hash hash(@Nullable Expression expression, @Nullable List<J.VariableDeclarations.NamedVariable> fields) {
+        if (!(expression instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation method = (J.MethodInvocation) expression;
+        if (OBJECTS_HASH.matches(method)) {
+            List<Expression> arguments = method.getArguments();
+            JavaType.Array array = arguments.size() == 1 ? TypeUtils.asArray(arguments.get(0).getType()) : null;
+            if (array != null && !(array.getElemType() instanceof JavaType.Primitive)) {
+                // The array is passed as the varargs array itself, and hashed by its elements
+                return null;
+            }
+            return elementsHash(arguments);
+        } else if (ARRAYS_HASH_CODE.matches(method) && method.getArguments().get(0) instanceof J.NewArray) {
+            J.NewArray array = (J.NewArray) method.getArguments().get(0);
+            return array.getInitializer() == null ? null : elementsHash(array.getInitializer());
+        } else if (TO_HASH_CODE.matches(method)) {
+            return builderHash(method);
+        } else if (REFLECTION_HASH_CODE.matches(method) && isThis(method.getArguments().get(0)) && fields != null &&
+                   !fields.isEmpty()) {
+            List<Term> terms = new ArrayList<>();
+            for (J.VariableDeclarations.NamedVariable field : fields) {
+                Term term = boxedHash(field.getType(), field.getSimpleName(), null);
+                if (term == null) {
+                    return null;
+                }
+                terms.add(term);
+            }
+            return new Hash(17, 37, terms);
+        }
+        return null;
+    }
+
+    /**
+     * The terms of {@code Arrays.hashCode(Object[])}, which hashes every element as a boxed object.
+     */
+    private static @Nullable Hash elementsHash(List<Expression> elements) {
+        List<Term> terms = new ArrayList<>();
+        for (Expression element : elements) {
+            if (element instanceof J.Empty) {
+                continue;
+            }
+            Term term = element.getType() == null ? null : boxedHash(element.getType(), "#{any()}", element);
+            if (term == null) {
+                return null;
+            }
+            terms.add(term);
+        }
+        return terms.isEmpty() ? null : new Hash(1, 31, terms);
+    }
+
+    /**
+     * The terms of {@code new HashCodeBuilder().append(a).append(b).toHashCode()}.
+     */
+    private static @Nullable Hash builderHash(J.MethodInvocation toHashCode) {
+        Deque<Term> terms = new ArrayDeque<>();
+        Expression select = toHashCode.getSelect();
+        while (select instanceof J.MethodInvocation) {
+            J.MethodInvocation append = (J.MethodInvocation) select;
+            Expression argument = append.getArguments().get(0);
+            Term term = null;
+            if (APPEND_SUPER.matches(append)) {
+                term = intHash(argument);
+            } else if (APPEND.matches(append) && append.getArguments().size() == 1 && append.getMethodType() != null) {
+                JavaType parameter = append.getMethodType().getParameterTypes().get(0);
+                if (parameter == JavaType.Primitive.Boolean) {
+                    term = new Term("(#{any(boolean)} ? 0 : 1)", argument);
+                } else if (parameter instanceof JavaType.Primitive || TypeUtils.isOfClassType(parameter, "java.lang.Object")) {
+                    term = argument.getType() == null ? null : boxedHash(argument.getType(), "#{any()}", argument);
+                }
+            }
+            if (term == null) {
+                return null;
+            }
+            terms.addFirst(term);
+            select = append.getSelect();
+        }
+
+        if (!(select instanceof J.NewClass) || !TypeUtils.isOfClassType(select.getType(), HASH_CODE_BUILDER) || terms.isEmpty()) {
+            return null;
+        }
+        List<Expression> constants = ((J.NewClass) select).getArguments();
+        if (constants.get(0) instanceof J.Empty) {
+            return new Hash(17, 37, new ArrayList<>(terms));
+        }
+        Integer initial = oddLiteral(constants.get(0));
+        Integer multiplier = constants.size() == 2 ? oddLiteral(constants.get(1)) : null;
+        return initial == null || multiplier == null ? null : new Hash(initial, multiplier, new ArrayList<>(terms));
+    }
+
+    /**
+     * The hash code of the value as a boxed object, which is what {@code Objects.hash} and the reflective builder use.
+     *
+     * @param code      the code that reads the value
+     * @param parameter the expression that the code is a template parameter for, if any
+     */
+    private static @Nullable Term boxedHash(@Nullable JavaType type, String code, @Nullable Expression parameter) {
+        if (type == JavaType.Primitive.Int || type == JavaType.Primitive.Short ||
+            type == JavaType.Primitive.Byte || type == JavaType.Primitive.Char) {
+            return parameter == null ? new Term(code, null) : intHash(parameter);
+        } else if (type == JavaType.Primitive.Long) {
+            return new Term("Long.hashCode(" + code.replace("#{any()}", "#{any(long)}") + ")", parameter);
+        } else if (type == JavaType.Primitive.Float) {
+            return new Term("Float.hashCode(" + code.replace("#{any()}", "#{any(float)}") + ")", parameter);
+        } else if (type == JavaType.Primitive.Double) {
+            return new Term("Double.hashCode(" + code.replace("#{any()}", "#{any(double)}") + ")", parameter);
+        } else if (type == JavaType.Primitive.Boolean) {
+            return new Term("Boolean.hashCode(" + code.replace("#{any()}", "#{any(boolean)}") + ")", parameter);
+        } else if (type instanceof JavaType.Primitive && type != JavaType.Primitive.String || mayHoldArray(type)) {
+            return null;
+        }
+        return new Term("Objects.hashCode(" + code + ")", parameter);
+    }
+
+    /**
+     * An {@code int} is its own hash code, so it is added as is, unless it needs parentheses to be.
+     */
+    private static Term intHash(Expression value) {
+        boolean operand = value instanceof J.Identifier || value instanceof J.FieldAccess || value instanceof J.Literal ||
+                          value instanceof J.MethodInvocation || value instanceof J.ArrayAccess || value instanceof J.Parentheses;
+        return new Term(operand ? "#{any(int)}" : "Integer.hashCode(#{any(int)})", value);
+    }
+
+    private static String equality(@Nullable JavaType type, String left, String right) {
+        if (type == JavaType.Primitive.Float) {
+            return "Float.floatToIntBits(" + left + ") == Float.floatToIntBits(" + right + ")";
+        } else if (type == JavaType.Primitive.Double) {
+            return "Double.doubleToLongBits(" + left + ") == Double.doubleToLongBits(" + right + ")";
+        } else if (type instanceof JavaType.Primitive && type != JavaType.Primitive.String) {
+            return left + " == " + right;
+        }
+        return "Objects.equals(" + left + ", " + right + ")";
+    }
+
+    private static boolean mayHoldArray(@Nullable JavaType type) {
+        return type == null || type instanceof JavaType.Array || type instanceof JavaType.GenericTypeVariable ||
+               type instanceof JavaType.FullyQualified &&
+               POSSIBLE_ARRAY_TYPES.contains(((JavaType.FullyQualified) type).getFullyQualifiedName());
+    }
+
+    private static boolean isThis(Expression expression) {
+        return expression instanceof J.Identifier && "this".equals(((J.Identifier) expression).getSimpleName());
+    }
+
+    private static @Nullable Integer oddLiteral(Expression expression) {
+        if (expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof Integer) {
+            int value = (Integer) ((J.Literal) expression).getValue();
+            return value % 2 != 0 ? value : null;
+        }
+        return null;
+    }
+
+    @Value
+    private static class Hash {
+        int initial;
+        int multiplier;
+        List<Term> terms;
+    }
+
+    @Value
+    private static class Term {
+        String code;
+
+        @Nullable
+        Expression parameter;
+    }
+}
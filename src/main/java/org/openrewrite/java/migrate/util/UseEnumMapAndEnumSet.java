@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+public class UseEnumMapAndEnumSet extends Recipe {
+    private static final String ENUM_MAP = "java.util.EnumMap";
+    private static final String ENUM_SET = "java.util.EnumSet";
+    private static final MethodMatcher GROUPING_BY = new MethodMatcher("java.util.stream.Collectors groupingBy(java.util.function.Function)");
+    private static final MethodMatcher GROUPING_BY_DOWNSTREAM = new MethodMatcher(
+            "java.util.stream.Collectors groupingBy(java.util.function.Function, java.util.stream.Collector)");
+    private static final MethodMatcher TO_MAP_MERGING = new MethodMatcher(
+            "java.util.stream.Collectors toMap(java.util.function.Function, java.util.function.Function, java.util.function.BinaryOperator)");
+
+    @Getter
+    final String displayName = "Use `EnumMap` and `EnumSet` for enum keys";
+
+    @Getter
+    final String description = "Replace `new HashMap<>()` and `new HashSet<>()` with `new EnumMap<>(K.class)` and " +
+            "`EnumSet.noneOf(K.class)` when the keys are enums, and the map or set is assigned to a `Map` or `Set`. The " +
+            "enum collections are backed by an array or a bit vector indexed by the ordinal of the key, so they do not hash, " +
+            "do not allocate an entry per key, and iterate in the order that the constants are declared in. " +
+            "`Collectors.groupingBy` and `Collectors.toMap` with a merge function get a `() -> new EnumMap<>(K.class)` map " +
+            "factory as well. Note that the enum collections do not accept `null` keys.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesType<>("java.util.HashMap", false),
+                        new UsesType<>("java.util.HashSet", false),
+                        new UsesMethod<>(GROUPING_BY),
+                        new UsesMethod<>(GROUPING_BY_DOWNSTREAM),
+                        new UsesMethod<>(TO_MAP_MERGING)),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        J j = super.visitNewClass(newClass, ctx);
+                        if (!(j instanceof J.NewClass)) {
+                            return j;
+                        }
+                        J.NewClass nc = (J.NewClass) j;
+                        boolean map = TypeUtils.isOfClassType(nc.getType(), "java.util.HashMap");
+                        boolean set = TypeUtils.isOfClassType(nc.getType(), "java.util.HashSet");
+                        JavaType.Parameterized type = TypeUtils.asParameterized(nc.getType());
+                        if (!map && !set || type == null || nc.getBody() != null || !isEmptyOrCapacity(nc) ||
+                            !TypeUtils.isOfClassType(targetType(getCursor().getParentTreeCursor(), newClass), map ? "java.util.Map" : "java.util.Set")) {
+                            return nc;
+                        }
+                        JavaType.FullyQualified key = enumType(type.getTypeParameters().get(0));
+                        if (key == null) {
+                            return nc;
+                        }
+
+                        maybeRemoveImport(map ? "java.util.HashMap" : "java.util.HashSet");
+                        maybeAddImport(map ? ENUM_MAP : ENUM_SET);
+                        maybeAddImport(outermost(key).getFullyQualifiedName());
+                        return JavaTemplate.builder(map ? "new EnumMap<>(" + key.getClassName() + ".class)" :
+                                        "EnumSet.noneOf(" + key.getClassName() + ".class)")
+                                .contextSensitive()
+                                .imports(map ? ENUM_MAP : ENUM_SET)
+                                .build()
+                                .apply(getCursor(), nc.getCoordinates().replace());
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        if (!GROUPING_BY.matches(m) && !GROUPING_BY_DOWNSTREAM.matches(m) && !TO_MAP_MERGING.matches(m)) {
+                            return m;
+                        }
+                        JavaType.FullyQualified key = collectedKeyType(m);
+                        if (key == null) {
+                            return m;
+                        }
+
+                        String factory = "() -> new EnumMap<>(" + key.getClassName() + ".class)";
+                        String arguments;
+                        if (GROUPING_BY.matches(m)) {
+                            arguments = "#{any()}, " + factory + ", Collectors.toList()";
+                            maybeAddImport("java.util.stream.Collectors");
+                        } else if (GROUPING_BY_DOWNSTREAM.matches(m)) {
+                            arguments = "#{any()}, " + factory + ", #{any()}";
+                        } else {
+                            arguments = "#{any()}, #{any()}, #{any()}, " + factory;
+                        }
+                        maybeAddImport(ENUM_MAP);
+                        maybeAddImport(outermost(key).getFullyQualifiedName());
+                        return JavaTemplate.builder(arguments)
+                                .contextSensitive()
+                                .imports(ENUM_MAP, "java.util.stream.Collectors")
+                                .build()
+                                .apply(getCursor(), m.getCoordinates().replaceArguments(), m.getArguments().toArray());
+                    }
+                }
+        );
+    }
+
+    private static boolean isEmptyOrCapacity(J.NewClass newClass) {
+        // The initial capacity has no meaning for an enum collection, but a collection to copy does, and so
+        // does a capacity that is computed by a method call that could have side effects
+        Expression argument = newClass.getArguments().get(0);
+        return newClass.getArguments().size() == 1 &&
+               (argument instanceof J.Empty ||
+                (argument instanceof J.Literal || argument instanceof J.Identifier) && argument.getType() == JavaType.Primitive.Int);
+    }
+
+    /**
+     * The type of the variable or method result that the new collection is assigned to.
+     */
+    private static @Nullable JavaType targetType(Cursor parent, Expression expression) {
+        Object value = parent.getValue();
+        if (value instanceof J.VariableDeclarations.NamedVariable) {
+            return ((J.VariableDeclarations) parent.getParentTreeCursor().getValue()).getType();
+        } else if (value instanceof J.Assignment && ((J.Assignment) value).getAssignment() == expression) {
+            return ((J.Assignment) value).getVariable().getType();
+        } else if (value instanceof J.Return) {
+            Object enclosing = parent.dropParentUntil(v -> v instanceof J.MethodDeclaration || v instanceof J.Lambda ||
+                                                           v == Cursor.ROOT_VALUE).getValue();
+            if (enclosing instanceof J.MethodDeclaration && ((J.MethodDeclaration) enclosing).getMethodType() != null) {
+                return ((J.MethodDeclaration) enclosing).getMethodType().getReturnType();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The key type of the map that a collector creates, which is the third type parameter of the {@code Collector}.
+     */
+    private static JavaType.@Nullable FullyQualified collectedKeyType(J.MethodInvocation collector) {
+        JavaType.Parameterized type = TypeUtils.asParameterized(collector.getType());
+        if (type == null || type.getTypeParameters().size() != 3) {
+            return null;
+        }
+        JavaType.Parameterized map = TypeUtils.asParameterized(type.getTypeParameters().get(2));
+        return map == null || map.getTypeParameters().isEmpty() ? null : enumType(map.getTypeParameters().get(0));
+    }
+
+    private static JavaType.@Nullable FullyQualified enumType(JavaType type) {
+        JavaType.FullyQualified fullyQualified = TypeUtils.asFullyQualified(type);
+        return fullyQualified != null && !(type instanceof JavaType.GenericTypeVariable) &&
+               fullyQualified.getKind() == JavaType.FullyQualified.Kind.Enum ? fullyQualified : null;
+    }
+
+    private static JavaType.FullyQualified outermost(JavaType.FullyQualified type) {
+        JavaType.FullyQualified outer = type;
+        while (outer.getOwningClass() != null) {
+            outer = outer.getOwningClass();
+        }
+        return outer;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.search.SemanticallyEqual;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.Statement;
+
+import java.util.*;
+
+import static org.openrewrite.java.VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER;
+import static org.openrewrite.java.migrate.util.MapLookups.*;
+
+public class UseMapComputeIfAbsent extends Recipe {
+    private static final String COMPUTED = "COMPUTED_IF_ABSENT";
+
+    @Getter
+    final String displayName = "Use `Map.computeIfAbsent` to create missing values";
+
+    @Getter
+    final String description = "Replace `if (!map.containsKey(key)) map.put(key, new V());` followed by `map.get(key)`, " +
+            "and `V v = map.get(key); if (v == null) { v = new V(); map.put(key, v); }`, with " +
+            "`map.computeIfAbsent(key, k -> new V())`, which looks up the key once rather than two or three times, and " +
+            "which is atomic on a `ConcurrentHashMap` where the separate calls race. Only keys that are variables or " +
+            "literals and values that are created with a constructor are replaced. As `computeIfAbsent` treats a key " +
+            "that is mapped to `null` as missing, maps that hold `null` values should not be migrated with the first form.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(PUT), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitBlock(J.Block block, ExecutionContext ctx) {
+                Map<UUID, Absent> computed = new HashMap<>();
+                Set<UUID> removed = new HashSet<>();
+                List<Statement> statements = block.getStatements();
+                for (int i = 0; i < statements.size(); i++) {
+                    Statement next = i + 1 < statements.size() ? statements.get(i + 1) : null;
+                    Absent putIfMissing = putIfMissing(statements.get(i));
+                    if (putIfMissing != null) {
+                        J.MethodInvocation get = firstGet(next, putIfMissing);
+                        if (get == null) {
+                            computed.put(statements.get(i).getId(), putIfMissing);
+                        } else {
+                            computed.put(get.getId(), putIfMissing);
+                            removed.add(statements.get(i).getId());
+                        }
+                        continue;
+                    }
+                    Absent getThenPutIfNull = getThenPutIfNull(statements.get(i), next);
+                    if (getThenPutIfNull != null) {
+                        J.VariableDeclarations declaration = (J.VariableDeclarations) statements.get(i);
+                        computed.put(declaration.getVariables().get(0).getInitializer().getId(), getThenPutIfNull);
+                        removed.add(next.getId());
+                        i++;
+                    }
+                }
+                if (computed.isEmpty()) {
+                    return super.visitBlock(block, ctx);
+                }
+
+                getCursor().putMessage(COMPUTED, computed);
+                J.Block b = (J.Block) super.visitBlock(block, ctx);
+                return b.withStatements(ListUtils.map(b.getStatements(), s -> removed.contains(s.getId()) ? null : s));
+            }
+
+            @Override
+            public J visitIf(J.If iff, ExecutionContext ctx) {
+                J j = super.visitIf(iff, ctx);
+                Absent absent = getCursor().<Map<UUID, Absent>>getNearestMessage(COMPUTED, Collections.emptyMap()).get(iff.getId());
+                return absent == null ? j : computeIfAbsent(absent, j);
+            }
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J j = super.visitMethodInvocation(method, ctx);
+                Absent absent = getCursor().<Map<UUID, Absent>>getNearestMessage(COMPUTED, Collections.emptyMap()).get(method.getId());
+                return absent == null ? j : computeIfAbsent(absent, j);
+            }
+
+            private J computeIfAbsent(Absent absent, J replaced) {
+                String key = VariableNameUtils.generateVariableName("key", getCursor(), INCREMENT_NUMBER);
+                return JavaTemplate.builder("#{any(java.util.Map)}.computeIfAbsent(#{any()}, " + key + " -> #{any()})")
+                        .contextSensitive()
+                        .build()
+                        .apply(getCursor(), replaced.getCoordinates().replace(),
+                                absent.getMap(), absent.getKey(), absent.getValue());
+            }
+        });
+    }
+
+    /**
+     * Matches {@code if (!map.containsKey(key)) map.put(key, new V());}.
+     */
+    private static @Nullable Absent putIfMissing(Statement statement) {
+        if (!(statement instanceof J.If) || ((J.If) statement).getElsePart() != null) {
+            return null;
+        }
+        J.If iff = (J.If) statement;
+        Expression condition = iff.getIfCondition().getTree();
+        if (!(condition instanceof J.Unary) || ((J.Unary) condition).getOperator() != J.Unary.Type.Not ||
+            !(((J.Unary) condition).getExpression() instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation containsKey = (J.MethodInvocation) ((J.Unary) condition).getExpression();
+        J.MethodInvocation put = onlyStatement(iff.getThenPart());
+        if (put == null || containsKey.getSelect() == null || !CONTAINS_KEY.matches(containsKey) ||
+            !isCall(put, PUT, containsKey.getSelect(), containsKey.getArguments().get(0))) {
+            return null;
+        }
+        return Absent.of(containsKey.getSelect(), containsKey.getArguments().get(0), put.getArguments().get(1));
+    }
+
+    /**
+     * Matches {@code V v = map.get(key);} followed by {@code if (v == null) { v = new V(); map.put(key, v); }}.
+     */
+    private static @Nullable Absent getThenPutIfNull(Statement statement, @Nullable Statement next) {
+        if (!(statement instanceof J.VariableDeclarations) || ((J.VariableDeclarations) statement).getVariables().size() != 1 ||
+            !(next instanceof J.If) || ((J.If) next).getElsePart() != null) {
+            return null;
+        }
+        J.VariableDeclarations.NamedVariable variable = ((J.VariableDeclarations) statement).getVariables().get(0);
+        if (!(variable.getInitializer() instanceof J.MethodInvocation) || !GET.matches((J.MethodInvocation) variable.getInitializer())) {
+            return null;
+        }
+        J.MethodInvocation get = (J.MethodInvocation) variable.getInitializer();
+        Expression condition = ((J.If) next).getIfCondition().getTree();
+        Statement then = ((J.If) next).getThenPart();
+        if (get.getSelect() == null || !isNullCheck(condition, variable.getName()) || !(then instanceof J.Block) ||
+            ((J.Block) then).getStatements().size() != 2 ||
+            !(((J.Block) then).getStatements().get(0) instanceof J.Assignment)) {
+            return null;
+        }
+        J.Assignment assignment = (J.Assignment) ((J.Block) then).getStatements().get(0);
+        Statement put = ((J.Block) then).getStatements().get(1);
+        if (!SemanticallyEqual.areEqual(assignment.getVariable(), variable.getName()) ||
+            !(put instanceof J.MethodInvocation) || !isCall((J.MethodInvocation) put, PUT, get.getSelect(), get.getArguments().get(0)) ||
+            !SemanticallyEqual.areEqual(((J.MethodInvocation) put).getArguments().get(1), variable.getName())) {
+            return null;
+        }
+        return Absent.of(get.getSelect(), get.getArguments().get(0), assignment.getAssignment());
+    }
+
+    /**
+     * The {@code map.get(key)} that the statement after a put of a missing value starts with, either as the
+     * initializer of a variable or as the target of a method call, like {@code map.get(key).add(value)}.
+     */
+    private static J.@Nullable MethodInvocation firstGet(@Nullable Statement next, Absent absent) {
+        Expression candidate = null;
+        if (next instanceof J.VariableDeclarations && ((J.VariableDeclarations) next).getVariables().size() == 1) {
+            candidate = ((J.VariableDeclarations) next).getVariables().get(0).getInitializer();
+        } else if (next instanceof J.MethodInvocation) {
+            candidate = ((J.MethodInvocation) next).getSelect();
+        }
+        return isCall(candidate, GET, absent.getMap(), absent.getKey()) ? (J.MethodInvocation) candidate : null;
+    }
+
+    private static J.@Nullable MethodInvocation onlyStatement(Statement statement) {
+        Statement only = statement;
+        if (statement instanceof J.Block) {
+            List<Statement> statements = ((J.Block) statement).getStatements();
+            only = statements.size() == 1 ? statements.get(0) : null;
+        }
+        return only instanceof J.MethodInvocation ? (J.MethodInvocation) only : null;
+    }
+
+    private static boolean isNullCheck(Expression condition, J.Identifier variable) {
+        if (!(condition instanceof J.Binary) || ((J.Binary) condition).getOperator() != J.Binary.Type.Equal) {
+            return false;
+        }
+        J.Binary binary = (J.Binary) condition;
+        return isNull(binary.getRight()) && SemanticallyEqual.areEqual(binary.getLeft(), variable) ||
+               isNull(binary.getLeft()) && SemanticallyEqual.areEqual(binary.getRight(), variable);
+    }
+
+    private static boolean isNull(Expression expression) {
+        return expression instanceof J.Literal && ((J.Literal) expression).getValue() == null &&
+               "null".equals(((J.Literal) expression).getValueSource());
+    }
+
+    @Value
+    private static class Absent {
+        Expression map;
+        Expression key;
+        Expression value;
+
+        static @Nullable Absent of(Expression map, Expression key, Expression value) {
+            return isPure(map) && isPure(key) && isCreation(value) ? new Absent(map, key, value) : null;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static org.openrewrite.java.VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER;
+import static org.openrewrite.java.migrate.util.MapLookups.GET;
+import static org.openrewrite.java.migrate.util.MapLookups.isCall;
+import static org.openrewrite.java.migrate.util.MapLookups.isPure;
+
+public class UseMapEntrySet extends Recipe {
+    private static final MethodMatcher KEY_SET = new MethodMatcher("java.util.Map keySet()", true);
+
+    @Getter
+    final String displayName = "Iterate over `entrySet()` instead of looking up every key of `keySet()`";
+
+    @Getter
+    final String description = "Replace `for (K key : map.keySet())` loops that call `map.get(key)` with a loop over " +
+            "`map.entrySet()` that reads `getKey()` and `getValue()`, which saves a hash lookup for every entry, or a " +
+            "tree search on a `TreeMap`. A loop whose body is a single method call becomes `map.forEach((key, value) -> ...)` " +
+            "instead, when that call throws no checked exceptions and all local variables it reads are effectively final. " +
+            "This also covers reverse lookups that search the keys for the one that maps to a given value. Loops that use " +
+            "the map for anything other than `get(key)` are left alone, as an entry of a concurrent map does not see " +
+            "the updates that the loop makes to the map.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(KEY_SET), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitForEachLoop(J.ForEachLoop forLoop, ExecutionContext ctx) {
+                J j = super.visitForEachLoop(forLoop, ctx);
+                if (!(j instanceof J.ForEachLoop)) {
+                    return j;
+                }
+                J.ForEachLoop loop = (J.ForEachLoop) j;
+                Expression iterable = loop.getControl().getIterable();
+                if (!(iterable instanceof J.MethodInvocation) || !KEY_SET.matches((J.MethodInvocation) iterable)) {
+                    return loop;
+                }
+                Expression map = ((J.MethodInvocation) iterable).getSelect();
+                J.VariableDeclarations.NamedVariable key = loop.getControl().getVariable().getVariables().get(0);
+                JavaType.Variable mapVariable = variable(map);
+                JavaType.Parameterized keySet = TypeUtils.asParameterized(iterable.getType());
+                if (map == null || !isPure(map) || mapVariable == null || key.getVariableType() == null || keySet == null ||
+                    UseRemoveIf.isAssigned(loop.getBody(), singleton(key.getSimpleName()))) {
+                    return loop;
+                }
+                List<J.MethodInvocation> gets = gets(loop.getBody(), map, key.getName());
+                if (gets.isEmpty() || gets.size() != references(loop.getBody(), mapVariable)) {
+                    return loop;
+                }
+
+                Set<String> imports = new TreeSet<>();
+                String keyType = typeName(keySet.getTypeParameters().get(0), imports);
+                String valueType = typeName(gets.get(0).getType(), imports);
+                if (keyType == null || valueType == null) {
+                    return loop;
+                }
+                J.MethodInvocation call = onlyCall(loop.getBody());
+                if (call != null && isLambdaBody(call, key.getVariableType())) {
+                    return forEach(loop, map, key, call);
+                }
+
+                String entry = VariableNameUtils.generateVariableName("entry", getCursor(), INCREMENT_NUMBER);
+                imports.add("java.util.Map");
+                for (String type : imports) {
+                    maybeAddImport(type);
+                }
+                J.ForEachLoop entryLoop = JavaTemplate.builder(
+                                "for (Map.Entry<" + keyType + ", " + valueType + "> " + entry + " : #{any(java.util.Map)}.entrySet()) {\n" +
+                                entry + ".getKey();\n" +
+                                entry + ".getValue();\n" +
+                                "}")
+                        .contextSensitive()
+                        .imports(imports.toArray(new String[0]))
+                        .build()
+                        .apply(getCursor(), loop.getCoordinates().replace(), map);
+                List<Statement> accessors = ((J.Block) entryLoop.getBody()).getStatements();
+                Statement body = replaceLookups(loop.getBody(), map, key.getName(),
+                        (Expression) accessors.get(0), (Expression) accessors.get(1));
+                return entryLoop.withBody(body);
+            }
+
+            private J forEach(J.ForEachLoop loop, Expression map, J.VariableDeclarations.NamedVariable key, J.MethodInvocation call) {
+                String value = VariableNameUtils.generateVariableName("value", getCursor(), INCREMENT_NUMBER);
+                J.MethodInvocation lambdaBody = (J.MethodInvocation) new JavaVisitor<Integer>() {
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                        if (isCall(method, GET, map, key.getName())) {
+                            return new J.Identifier(Tree.randomId(), method.getPrefix(), Markers.EMPTY, emptyList(),
+                                    value, method.getType(), null);
+                        }
+                        return super.visitMethodInvocation(method, p);
+                    }
+                }.visitNonNull(call, 0);
+                return JavaTemplate.builder("#{any(java.util.Map)}.forEach((" + key.getSimpleName() + ", " + value + ") -> #{any()});")
+                        .contextSensitive()
+                        .build()
+                        .apply(getCursor(), loop.getCoordinates().replace(), map, lambdaBody.withPrefix(Space.EMPTY));
+            }
+
+            /**
+             * Whether the call can move into a lambda, which cannot throw checked exceptions or read local variables
+             * that are assigned more than once.
+             */
+            private boolean isLambdaBody(J.MethodInvocation call, JavaType.Variable key) {
+                J.MethodDeclaration enclosing = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                Set<String> locals = new HashSet<>();
+                AtomicBoolean throwing = new AtomicBoolean();
+                new JavaIsoVisitor<Integer>() {
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                        if (method.getMethodType() == null || !method.getMethodType().getThrownExceptions().isEmpty()) {
+                            throwing.set(true);
+                        }
+                        return super.visitMethodInvocation(method, p);
+                    }
+
+                    @Override
+                    public J.NewClass visitNewClass(J.NewClass newClass, Integer p) {
+                        if (newClass.getConstructorType() == null || !newClass.getConstructorType().getThrownExceptions().isEmpty()) {
+                            throwing.set(true);
+                        }
+                        return super.visitNewClass(newClass, p);
+                    }
+
+                    @Override
+                    public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                        JavaType.Variable variable = identifier.getFieldType();
+                        if (variable != null && !variable.equals(key) && variable.getOwner() instanceof JavaType.Method) {
+                            locals.add(identifier.getSimpleName());
+                        }
+                        return identifier;
+                    }
+                }.visit(call, 0);
+                return enclosing != null && !throwing.get() &&
+                       (locals.isEmpty() || !UseRemoveIf.isAssigned(enclosing, locals));
+            }
+        });
+    }
+
+    private static JavaType.@Nullable Variable variable(@Nullable Expression expression) {
+        if (expression instanceof J.FieldAccess) {
+            return ((J.FieldAccess) expression).getName().getFieldType();
+        }
+        return expression instanceof J.Identifier ? ((J.Identifier) expression).getFieldType() : null;
+    }
+
+    private static List<J.MethodInvocation> gets(Statement body, Expression map, J.Identifier key) {
+        List<J.MethodInvocation> gets = new ArrayList<>();
+        new JavaIsoVisitor<List<J.MethodInvocation>>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, List<J.MethodInvocation> found) {
+                if (isCall(method, GET, map, key)) {
+                    found.add(method);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+        }.visit(body, gets);
+        return gets;
+    }
+
+    /**
+     * The number of times the body refers to the map, which has to be once for every {@code get(key)}.
+     */
+    private static int references(Statement body, JavaType.Variable map) {
+        AtomicInteger references = new AtomicInteger();
+        new JavaIsoVisitor<AtomicInteger>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicInteger count) {
+                if (map.equals(identifier.getFieldType())) {
+                    count.incrementAndGet();
+                }
+                return identifier;
+            }
+        }.visit(body, references);
+        return references.get();
+    }
+
+    private static J.@Nullable MethodInvocation onlyCall(Statement body) {
+        Statement only = body;
+        if (body instanceof J.Block) {
+            List<Statement> statements = ((J.Block) body).getStatements();
+            only = statements.size() == 1 ? statements.get(0) : null;
+        }
+        return only instanceof J.MethodInvocation ? (J.MethodInvocation) only : null;
+    }
+
+    private static Statement replaceLookups(Statement body, Expression map, J.Identifier key,
+                                            Expression getKey, Expression getValue) {
+        return (Statement) new JavaVisitor<Integer>() {
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                if (isCall(method, GET, map, key)) {
+                    return getValue.withId(Tree.randomId()).withPrefix(method.getPrefix());
+                }
+                return super.visitMethodInvocation(method, p);
+            }
+
+            @Override
+            public J visitIdentifier(J.Identifier identifier, Integer p) {
+                if (key.getFieldType() != null && key.getFieldType().equals(identifier.getFieldType())) {
+                    return getKey.withId(Tree.randomId()).withPrefix(identifier.getPrefix());
+                }
+                return identifier;
+            }
+        }.visitNonNull(body, 0);
+    }
+
+    /**
+     * The type as it is written in source, collecting the types to import, or null when it has wildcards or type
+     * variables that cannot be written as a type argument.
+     */
+    private static @Nullable String typeName(@Nullable JavaType type, Set<String> imports) {
+        if (type instanceof JavaType.Parameterized) {
+            StringJoiner parameters = new StringJoiner(", ", "<", ">");
+            for (JavaType parameter : ((JavaType.Parameterized) type).getTypeParameters()) {
+                String name = typeName(parameter, imports);
+                if (name == null) {
+                    return null;
+                }
+                parameters.add(name);
+            }
+            return typeName(((JavaType.Parameterized) type).getType(), imports) + parameters;
+        } else if (type instanceof JavaType.Class) {
+            JavaType.FullyQualified outermost = (JavaType.FullyQualified) type;
+            while (outermost.getOwningClass() != null) {
+                outermost = outermost.getOwningClass();
+            }
+            if (!"java.lang".equals(outermost.getPackageName())) {
+                imports.add(outermost.getFullyQualifiedName());
+            }
+            return ((JavaType.Class) type).getClassName();
+        } else if (type instanceof JavaType.Array) {
+            String element = typeName(((JavaType.Array) type).getElemType(), imports);
+            return element == null ? null : element + "[]";
+        } else if (type instanceof JavaType.Primitive && type != JavaType.Primitive.Null && type != JavaType.Primitive.None) {
+            return ((JavaType.Primitive) type).getKeyword();
+        }
+        return null;
+    }
+}
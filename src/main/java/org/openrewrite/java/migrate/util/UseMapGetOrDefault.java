@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import static org.openrewrite.java.migrate.util.MapLookups.*;
+
+public class UseMapGetOrDefault extends Recipe {
+
+    @Getter
+    final String displayName = "Use `Map.getOrDefault` instead of `containsKey` and `get`";
+
+    @Getter
+    final String description = "Replace `map.containsKey(key) ? map.get(key) : defaultValue` with " +
+            "`map.getOrDefault(key, defaultValue)`, which looks up the key once rather than twice, and which cannot " +
+            "return `null` on a `ConcurrentHashMap` when the key is removed between the two calls. A key that is mapped " +
+            "to `null` still returns `null`. Only keys and default values that are variables or literals are replaced, " +
+            "as the default value is now evaluated even when the key is present.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(CONTAINS_KEY), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitTernary(J.Ternary ternary, ExecutionContext ctx) {
+                J j = super.visitTernary(ternary, ctx);
+                if (!(j instanceof J.Ternary)) {
+                    return j;
+                }
+                J.Ternary t = (J.Ternary) j;
+                Expression condition = t.getCondition();
+                Expression present = t.getTruePart();
+                Expression absent = t.getFalsePart();
+                if (condition instanceof J.Unary && ((J.Unary) condition).getOperator() == J.Unary.Type.Not) {
+                    condition = ((J.Unary) condition).getExpression();
+                    present = t.getFalsePart();
+                    absent = t.getTruePart();
+                }
+                if (!(condition instanceof J.MethodInvocation) || !CONTAINS_KEY.matches((J.MethodInvocation) condition)) {
+                    return t;
+                }
+                J.MethodInvocation containsKey = (J.MethodInvocation) condition;
+                Expression map = containsKey.getSelect();
+                Expression key = containsKey.getArguments().get(0);
+                if (map == null || !isPure(map) || !isPure(key) || !isCall(present, GET, map, key) ||
+                    !isPure(absent) || !isAssignable(present.getType(), absent)) {
+                    return t;
+                }
+
+                if (absent instanceof J.Literal && ((J.Literal) absent).getValue() == null) {
+                    // The map returns null for a missing key already
+                    return present.withPrefix(t.getPrefix());
+                }
+                return JavaTemplate.builder("#{any(java.util.Map)}.getOrDefault(#{any()}, #{any()})")
+                        .contextSensitive()
+                        .build()
+                        .apply(getCursor(), t.getCoordinates().replace(), map, key, absent);
+            }
+        });
+    }
+
+    /**
+     * Whether the default value can be passed as the value type of the map, where the ternary would also have accepted
+     * a default value that is only converted to a common type with the value, like a {@code long} for an
+     * {@code Integer} value.
+     */
+    private static boolean isAssignable(@Nullable JavaType valueType, Expression defaultValue) {
+        JavaType defaultType = defaultValue.getType();
+        if (defaultType instanceof JavaType.Primitive && defaultType != JavaType.Primitive.Null) {
+            JavaType.FullyQualified boxed = TypeUtils.asFullyQualified(valueType);
+            return boxed != null && boxed.getFullyQualifiedName().equals(boxedName((JavaType.Primitive) defaultType));
+        }
+        return defaultType == JavaType.Primitive.Null || TypeUtils.isAssignableTo(valueType, defaultType);
+    }
+
+    private static String boxedName(JavaType.Primitive primitive) {
+        switch (primitive) {
+            case Int:
+                return "java.lang.Integer";
+            case Char:
+                return "java.lang.Character";
+            default:
+                String keyword = primitive.getKeyword();
+                return "java.lang." + Character.toUpperCase(keyword.charAt(0)) + keyword.substring(1);
+        }
+    }
+}
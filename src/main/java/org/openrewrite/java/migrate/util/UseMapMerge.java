@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import static org.openrewrite.java.migrate.util.MapLookups.*;
+
+public class UseMapMerge extends Recipe {
+
+    @Getter
+    final String displayName = "Use `Map.merge` to accumulate values";
+
+    @Getter
+    final String description = "Replace `map.put(key, map.getOrDefault(key, 0) + n)` with `map.merge(key, n, Integer::sum)`, " +
+            "which looks up the key once rather than twice, and which is atomic on a `ConcurrentHashMap` where the separate " +
+            "calls lose updates. `long`, `float` and `double` sums are replaced the same way. Only keys and increments " +
+            "that are variables or literals, and calls whose result is not used, are replaced.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(GET_OR_DEFAULT), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J j = super.visitMethodInvocation(method, ctx);
+                if (!(j instanceof J.MethodInvocation) || !(getCursor().getParentTreeCursor().getValue() instanceof J.Block)) {
+                    return j;
+                }
+                J.MethodInvocation put = (J.MethodInvocation) j;
+                if (!PUT.matches(put) || put.getSelect() == null || !isPure(put.getSelect()) ||
+                    !isPure(put.getArguments().get(0)) || !(put.getArguments().get(1) instanceof J.Binary)) {
+                    return put;
+                }
+                J.Binary sum = (J.Binary) put.getArguments().get(1);
+                String sumFunction = sumFunction(sum.getType());
+                if (sum.getOperator() != J.Binary.Type.Addition || sumFunction == null ||
+                    !isCall(sum.getLeft(), GET_OR_DEFAULT, put.getSelect(), put.getArguments().get(0)) ||
+                    !isZero(((J.MethodInvocation) sum.getLeft()).getArguments().get(1)) ||
+                    !isPure(sum.getRight()) || sum.getRight().getType() != sum.getType()) {
+                    return put;
+                }
+
+                return JavaTemplate.builder("#{any(java.util.Map)}.merge(#{any()}, #{any()}, " + sumFunction + ")")
+                        .contextSensitive()
+                        .build()
+                        .apply(getCursor(), put.getCoordinates().replace(),
+                                put.getSelect(), put.getArguments().get(0), sum.getRight());
+            }
+        });
+    }
+
+    private static @Nullable String sumFunction(@Nullable JavaType type) {
+        if (type == JavaType.Primitive.Int) {
+            return "Integer::sum";
+        } else if (type == JavaType.Primitive.Long) {
+            return "Long::sum";
+        } else if (type == JavaType.Primitive.Float) {
+            return "Float::sum";
+        } else if (type == JavaType.Primitive.Double) {
+            return "Double::sum";
+        }
+        return null;
+    }
+
+    private static boolean isZero(Expression expression) {
+        return expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof Number &&
+               ((Number) ((J.Literal) expression).getValue()).doubleValue() == 0;
+    }
+}
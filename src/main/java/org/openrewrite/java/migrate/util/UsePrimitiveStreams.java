@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class UsePrimitiveStreams extends Recipe {
+    private static final MethodMatcher STREAM_MAP = new MethodMatcher("java.util.stream.Stream map(java.util.function.Function)");
+    private static final MethodMatcher STREAM_REDUCE = new MethodMatcher("java.util.stream.Stream reduce(java.lang.Object, java.util.function.BinaryOperator)");
+    private static final MethodMatcher STREAM_COLLECT = new MethodMatcher("java.util.stream.Stream collect(java.util.stream.Collector)");
+    private static final MethodMatcher STREAM_MAX = new MethodMatcher("java.util.stream.Stream max(java.util.Comparator)");
+    private static final MethodMatcher STREAM_MIN = new MethodMatcher("java.util.stream.Stream min(java.util.Comparator)");
+    private static final MethodMatcher SUMMING = new MethodMatcher("java.util.stream.Collectors summing*(..)");
+    private static final MethodMatcher AVERAGING = new MethodMatcher("java.util.stream.Collectors averaging*(..)");
+    private static final MethodMatcher SUMMARIZING = new MethodMatcher("java.util.stream.Collectors summarizing*(..)");
+    private static final MethodMatcher NATURAL_ORDER = new MethodMatcher("java.util.Comparator naturalOrder()");
+    private static final MethodMatcher OPTIONAL_GET = new MethodMatcher("java.util.Optional get()");
+    private static final MethodMatcher OPTIONAL_OR_ELSE_THROW = new MethodMatcher("java.util.Optional orElseThrow()");
+    private static final MethodMatcher OPTIONAL_OR_ELSE = new MethodMatcher("java.util.Optional orElse(..)");
+    private static final MethodMatcher OPTIONAL_IS_PRESENT = new MethodMatcher("java.util.Optional isPresent()");
+
+    @Getter
+    final String displayName = "Use primitive streams instead of boxed streams";
+
+    @Getter
+    final String description = "Replace reductions over a `Stream<Integer>`, `Stream<Long>` or `Stream<Double>` with their " +
+            "equivalent on an `IntStream`, `LongStream` or `DoubleStream`, which do not allocate a wrapper object per element. " +
+            "For example `map(x -> x.getAmount()).reduce(0L, Long::sum)` becomes `mapToLong(x -> x.getAmount()).sum()`, " +
+            "`collect(Collectors.summingInt(f))` becomes `mapToInt(f).sum()`, and `max(Integer::compare).get()` becomes " +
+            "`mapToInt(Integer::intValue).max().getAsInt()`. The stream is only replaced where its result is used as a " +
+            "primitive, or assigned to a variable of the wrapper type, so that no boxed result escapes. Reductions of doubles " +
+            "through `reduce` and `max` or `min` are left as is, as a `DoubleStream` sums and compares doubles differently.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>("java.util.stream.Stream", false), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J j = super.visitMethodInvocation(method, ctx);
+                if (!(j instanceof J.MethodInvocation)) {
+                    return j;
+                }
+                J.MethodInvocation m = (J.MethodInvocation) j;
+                Expression stream = m.getSelect();
+                if (stream == null) {
+                    return m;
+                }
+
+                if (STREAM_REDUCE.matches(m)) {
+                    String kind = boxedElementKind(stream);
+                    if (kind == null || "Double".equals(kind) || !isZero(m.getArguments().get(0)) ||
+                        !isSum(m.getArguments().get(1), kind) || !isUnboxedContext(getCursor().getParentTreeCursor(), method)) {
+                        return m;
+                    }
+                    return specialize(stream, null, kind, ".sum()", m);
+                } else if (STREAM_COLLECT.matches(m) && m.getArguments().get(0) instanceof J.MethodInvocation) {
+                    J.MethodInvocation collector = (J.MethodInvocation) m.getArguments().get(0);
+                    String kind = collectorKind(collector);
+                    if (kind == null || collector.getArguments().size() != 1) {
+                        return m;
+                    }
+                    Expression mapper = collector.getArguments().get(0);
+                    if (SUMMARIZING.matches(collector)) {
+                        maybeRemoveImport("java.util.stream.Collectors");
+                        return specialize(stream, mapper, kind, ".summaryStatistics()", m);
+                    } else if (!isUnboxedContext(getCursor().getParentTreeCursor(), method)) {
+                        return m;
+                    }
+                    maybeRemoveImport("java.util.stream.Collectors");
+                    return specialize(stream, mapper, kind, SUMMING.matches(collector) ? ".sum()" : ".average().orElse(0)", m);
+                } else if (m.getSelect() instanceof J.MethodInvocation &&
+                           (STREAM_MAX.matches(m.getSelect()) || STREAM_MIN.matches(m.getSelect()))) {
+                    return specializeExtreme(method, m, (J.MethodInvocation) m.getSelect());
+                }
+                return m;
+            }
+
+            /**
+             * Replaces {@code max(comparator)} or {@code min(comparator)} along with the call on the {@code Optional}
+             * that it returns.
+             */
+            private J specializeExtreme(J.MethodInvocation original, J.MethodInvocation optionalCall, J.MethodInvocation extreme) {
+                Expression stream = extreme.getSelect();
+                String kind = stream == null ? null : boxedElementKind(stream);
+                if (stream == null || kind == null || "Double".equals(kind) ||
+                    !isNaturalOrder(extreme.getArguments().get(0), kind)) {
+                    return optionalCall;
+                }
+                String terminal = "." + extreme.getSimpleName() + "()";
+                if (OPTIONAL_IS_PRESENT.matches(optionalCall)) {
+                    return specialize(stream, null, kind, terminal + ".isPresent()", optionalCall);
+                } else if (!isUnboxedContext(getCursor().getParentTreeCursor(), original)) {
+                    return optionalCall;
+                } else if (OPTIONAL_GET.matches(optionalCall) || OPTIONAL_OR_ELSE_THROW.matches(optionalCall)) {
+                    return specialize(stream, null, kind, terminal + ".getAs" + kind + "()", optionalCall);
+                } else if (OPTIONAL_OR_ELSE.matches(optionalCall) && isPrimitive(optionalCall.getArguments().get(0).getType())) {
+                    return specialize(stream, null, kind, terminal + ".orElse(#{any(" + kind.toLowerCase(Locale.ROOT) + ")})",
+                            optionalCall, optionalCall.getArguments().get(0));
+                }
+                return optionalCall;
+            }
+
+            /**
+             * Replaces the call with a reduction on a primitive stream. When the boxed stream is created with
+             * {@code map(f)}, that becomes {@code mapToInt(f)}, and else {@code mapToInt(Integer::intValue)} is added.
+             */
+            private J specialize(Expression stream, @Nullable Expression mapper, String kind, String terminal,
+                                 J.MethodInvocation replaced, Expression... terminalParameters) {
+                List<Object> parameters = new ArrayList<>();
+                String mapperCode;
+                if (mapper != null) {
+                    mapperCode = "#{any()}";
+                    parameters.add(stream);
+                    parameters.add(mapper);
+                } else if (STREAM_MAP.matches(stream) && ((J.MethodInvocation) stream).getSelect() != null) {
+                    mapperCode = "#{any()}";
+                    parameters.add(((J.MethodInvocation) stream).getSelect());
+                    parameters.add(((J.MethodInvocation) stream).getArguments().get(0));
+                } else {
+                    mapperCode = ("Int".equals(kind) ? "Integer" : kind) + "::" + kind.toLowerCase(Locale.ROOT) + "Value";
+                    parameters.add(stream);
+                }
+                for (Expression terminalParameter : terminalParameters) {
+                    parameters.add(terminalParameter);
+                }
+                return JavaTemplate.apply("#{any(java.util.stream.Stream)}.mapTo" + kind + "(" + mapperCode + ")" + terminal,
+                        getCursor(), replaced.getCoordinates().replace(), parameters.toArray());
+            }
+        });
+    }
+
+    /**
+     * {@code Int}, {@code Long} or {@code Double} for a stream of the corresponding wrapper type.
+     */
+    private static @Nullable String boxedElementKind(Expression stream) {
+        if (!(stream.getType() instanceof JavaType.Parameterized) ||
+            !TypeUtils.isOfClassType(stream.getType(), "java.util.stream.Stream")) {
+            return null;
+        }
+        List<JavaType> typeParameters = ((JavaType.Parameterized) stream.getType()).getTypeParameters();
+        JavaType element = typeParameters.size() == 1 ? typeParameters.get(0) : null;
+        if (TypeUtils.isOfClassType(element, "java.lang.Integer")) {
+            return "Int";
+        } else if (TypeUtils.isOfClassType(element, "java.lang.Long")) {
+            return "Long";
+        } else if (TypeUtils.isOfClassType(element, "java.lang.Double")) {
+            return "Double";
+        }
+        return null;
+    }
+
+    private static @Nullable String collectorKind(J.MethodInvocation collector) {
+        if (!SUMMING.matches(collector) && !AVERAGING.matches(collector) && !SUMMARIZING.matches(collector)) {
+            return null;
+        }
+        String name = collector.getSimpleName();
+        for (String kind : new String[]{"Int", "Long", "Double"}) {
+            if (name.endsWith(kind)) {
+                return kind;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isZero(Expression expression) {
+        return expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof Number &&
+               ((Number) ((J.Literal) expression).getValue()).longValue() == 0;
+    }
+
+    /**
+     * Whether the operator is {@code Integer::sum}, or {@code (a, b) -> a + b}.
+     */
+    private static boolean isSum(Expression operator, String kind) {
+        if (operator instanceof J.MemberReference) {
+            J.MemberReference reference = (J.MemberReference) operator;
+            return "sum".equals(reference.getReference().getSimpleName()) &&
+                   TypeUtils.isOfClassType(reference.getContaining().getType(), "java.lang." + ("Int".equals(kind) ? "Integer" : kind));
+        } else if (operator instanceof J.Lambda && ((J.Lambda) operator).getBody() instanceof J.Binary) {
+            J.Lambda lambda = (J.Lambda) operator;
+            J.Binary body = (J.Binary) lambda.getBody();
+            List<J> parameters = lambda.getParameters().getParameters();
+            if (body.getOperator() != J.Binary.Type.Addition || parameters.size() != 2) {
+                return false;
+            }
+            String first = parameterName(parameters.get(0));
+            String second = parameterName(parameters.get(1));
+            String left = body.getLeft() instanceof J.Identifier ? ((J.Identifier) body.getLeft()).getSimpleName() : null;
+            String right = body.getRight() instanceof J.Identifier ? ((J.Identifier) body.getRight()).getSimpleName() : null;
+            return first != null && second != null && !first.equals(second) &&
+                   (first.equals(left) && second.equals(right) || first.equals(right) && second.equals(left));
+        }
+        return false;
+    }
+
+    private static @Nullable String parameterName(J parameter) {
+        if (parameter instanceof J.VariableDeclarations) {
+            return ((J.VariableDeclarations) parameter).getVariables().get(0).getSimpleName();
+        }
+        return parameter instanceof J.Identifier ? ((J.Identifier) parameter).getSimpleName() : null;
+    }
+
+    /**
+     * Whether the comparator orders in the natural order, as in {@code Integer::compare}.
+     */
+    private static boolean isNaturalOrder(Expression comparator, String kind) {
+        if (comparator instanceof J.MemberReference) {
+            J.MemberReference reference = (J.MemberReference) comparator;
+            String name = reference.getReference().getSimpleName();
+            return ("compare".equals(name) || "compareTo".equals(name)) &&
+                   TypeUtils.isOfClassType(reference.getContaining().getType(), "java.lang." + ("Int".equals(kind) ? "Integer" : kind));
+        }
+        return NATURAL_ORDER.matches(comparator);
+    }
+
+    private static boolean isPrimitive(@Nullable JavaType type) {
+        return type instanceof JavaType.Primitive && type != JavaType.Primitive.Null && type != JavaType.Primitive.String;
+    }
+
+    /**
+     * Whether the expression can change from a wrapper type to a primitive without changing what the code does, as
+     * the value is either used as a primitive or boxed again into the same wrapper type.
+     */
+    private static boolean isUnboxedContext(Cursor parent, Expression expression) {
+        Object value = parent.getValue();
+        if (value instanceof J.VariableDeclarations.NamedVariable) {
+            // With `var` the variable would become a primitive
+            J.VariableDeclarations declarations = parent.getParentTreeCursor().getValue();
+            return !(declarations.getTypeExpression() instanceof J.Identifier) ||
+                   !"var".equals(((J.Identifier) declarations.getTypeExpression()).getSimpleName());
+        } else if (value instanceof J.MethodInvocation) {
+            // Only arguments for primitive parameters, as the overload that is called might change otherwise
+            J.MethodInvocation method = (J.MethodInvocation) value;
+            JavaType.Method methodType = method.getMethodType();
+            int index = method.getArguments().indexOf(expression);
+            return methodType != null && index >= 0 && !methodType.hasFlags(Flag.Varargs) &&
+                   index < methodType.getParameterTypes().size() && isPrimitive(methodType.getParameterTypes().get(index));
+        } else if (value instanceof J.Binary) {
+            J.Binary binary = (J.Binary) value;
+            Expression other = binary.getLeft() == expression ? binary.getRight() : binary.getLeft();
+            switch (binary.getOperator()) {
+                case Addition:
+                    // Unless it concatenates a `String`
+                    return !TypeUtils.isString(other.getType()) && !TypeUtils.isString(binary.getType());
+                case Subtraction:
+                case Multiplication:
+                case Division:
+                case Modulo:
+                case LessThan:
+                case LessThanOrEqual:
+                case GreaterThan:
+                case GreaterThanOrEqual:
+                    return true;
+                case Equal:
+                case NotEqual:
+                    // Against another wrapper, these compare references rather than values
+                    return isPrimitive(other.getType());
+                default:
+                    return false;
+            }
+        }
+        return value instanceof J.Assignment || value instanceof J.AssignmentOperation || value instanceof J.Return;
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.search.SemanticallyEqual;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.openrewrite.java.VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER;
+
+public class UseRemoveIf extends Recipe {
+    private static final MethodMatcher HAS_NEXT = new MethodMatcher("java.util.Iterator hasNext()", true);
+    private static final MethodMatcher ITERATOR_REMOVE = new MethodMatcher("java.util.Iterator remove()", true);
+    private static final MethodMatcher LIST_SIZE = new MethodMatcher("java.util.List size()", true);
+    private static final MethodMatcher LIST_GET = new MethodMatcher("java.util.List get(int)", true);
+    private static final MethodMatcher LIST_REMOVE = new MethodMatcher("java.util.List remove(int)", true);
+
+    @Getter
+    final String displayName = "Use `removeIf` instead of removing elements in a loop";
+
+    @Getter
+    final String description = "Replace loops that remove the elements that match a condition, one at a time through " +
+            "`Iterator#remove` or `List#remove(int)`, with `Collection#removeIf`. On an `ArrayList` every single removal " +
+            "shifts all elements after it, so that the loop takes quadratic time, where `removeIf` takes linear time. " +
+            "Loops over the `entrySet()`, `keySet()` or `values()` of a map become a `removeIf` on that view. Only loops " +
+            "whose condition has no side effects, and does not refer to the collection, the iterator or the index other " +
+            "than to get the element, are replaced.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(new UsesMethod<>(ITERATOR_REMOVE), new UsesMethod<>(LIST_REMOVE)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = super.visitBlock(block, ctx);
+                        for (int i = 0; i < b.getStatements().size(); i++) {
+                            Statement statement = b.getStatements().get(i);
+                            Removal removal = null;
+                            boolean removesPrevious = false;
+                            if (statement instanceof J.WhileLoop && i > 0 && b.getStatements().get(i - 1) instanceof J.VariableDeclarations) {
+                                J.WhileLoop loop = (J.WhileLoop) statement;
+                                J.VariableDeclarations iterator = (J.VariableDeclarations) b.getStatements().get(i - 1);
+                                removal = iteratorRemoval(iterator, loop.getCondition().getTree(), loop.getBody());
+                                removesPrevious = removal != null && !isReferencedElsewhere(b, iterator, loop);
+                                if (!removesPrevious) {
+                                    removal = null;
+                                }
+                            } else if (statement instanceof J.ForLoop) {
+                                J.ForLoop.Control control = ((J.ForLoop) statement).getControl();
+                                if (control.getInit().size() == 1 && control.getInit().get(0) instanceof J.VariableDeclarations &&
+                                    control.getCondition() != null) {
+                                    J.VariableDeclarations init = (J.VariableDeclarations) control.getInit().get(0);
+                                    removal = control.getUpdate().stream().allMatch(J.Empty.class::isInstance) ?
+                                            iteratorRemoval(init, control.getCondition(), ((J.ForLoop) statement).getBody()) :
+                                            indexRemoval((J.ForLoop) statement, new Cursor(new Cursor(getCursor().getParentOrThrow(), b), statement));
+                                }
+                            }
+                            if (removal == null || !capturesEffectivelyFinalVariables(removal, b)) {
+                                continue;
+                            }
+
+                            b = JavaTemplate.apply("#{any(java.util.Collection)}.removeIf(" + removal.getParameter() + " -> #{any(boolean)});",
+                                    new Cursor(getCursor().getParentOrThrow(), b), statement.getCoordinates().replace(),
+                                    removal.getCollection(), removal.getPredicate().withPrefix(Space.EMPTY));
+                            maybeRemoveImport("java.util.Iterator");
+                            if (removesPrevious) {
+                                Statement iterator = b.getStatements().get(i - 1);
+                                int index = i;
+                                b = b.withStatements(ListUtils.map(b.getStatements(), (n, s) ->
+                                        n == index - 1 ? null : n == index ? s.withPrefix(iterator.getPrefix()) : s));
+                                i--;
+                            }
+                        }
+                        return b;
+                    }
+
+                    /**
+                     * Whether the local variables that the condition refers to are effectively final, so that the
+                     * lambda can capture them.
+                     */
+                    private boolean capturesEffectivelyFinalVariables(Removal removal, J.Block block) {
+                        Set<String> locals = new HashSet<>();
+                        new JavaIsoVisitor<Set<String>>() {
+                            @Override
+                            public J.Identifier visitIdentifier(J.Identifier identifier, Set<String> names) {
+                                if (identifier.getFieldType() != null && identifier.getFieldType().getOwner() instanceof JavaType.Method &&
+                                    !identifier.getSimpleName().equals(removal.getParameter())) {
+                                    names.add(identifier.getSimpleName());
+                                }
+                                return identifier;
+                            }
+                        }.visit(removal.getPredicate(), locals);
+                        if (locals.isEmpty()) {
+                            return true;
+                        }
+                        J.MethodDeclaration method = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                        return !isAssigned(method == null ? block : method, locals);
+                    }
+                }
+        );
+    }
+
+    /**
+     * The removal by a loop over an iterator, as in
+     * {@code while (it.hasNext()) { T x = it.next(); if (condition) { it.remove(); } }}.
+     */
+    private static @Nullable Removal iteratorRemoval(J.VariableDeclarations iteratorDeclaration, Expression condition, Statement body) {
+        if (iteratorDeclaration.getVariables().size() != 1) {
+            return null;
+        }
+        J.VariableDeclarations.NamedVariable iterator = iteratorDeclaration.getVariables().get(0);
+        Expression initializer = iterator.getInitializer();
+        if (!IteratorNext.ITERATOR_MATCHER.matches(initializer) || ((J.MethodInvocation) initializer).getSelect() == null ||
+            !HAS_NEXT.matches(condition) || !isIdentifier(((J.MethodInvocation) condition).getSelect(), iterator.getSimpleName()) ||
+            !(body instanceof J.Block) || ((J.Block) body).getStatements().size() != 2 ||
+            !(((J.Block) body).getStatements().get(0) instanceof J.VariableDeclarations) ||
+            !(((J.Block) body).getStatements().get(1) instanceof J.If)) {
+            return null;
+        }
+        J.VariableDeclarations elementDeclaration = (J.VariableDeclarations) ((J.Block) body).getStatements().get(0);
+        J.If ifStatement = (J.If) ((J.Block) body).getStatements().get(1);
+        if (elementDeclaration.getVariables().size() != 1 ||
+            !IteratorNext.NEXT_MATCHER.matches(elementDeclaration.getVariables().get(0).getInitializer()) ||
+            !isIdentifier(((J.MethodInvocation) elementDeclaration.getVariables().get(0).getInitializer()).getSelect(), iterator.getSimpleName())) {
+            return null;
+        }
+        Statement then = onlyStatement(ifStatement);
+        if (!ITERATOR_REMOVE.matches(then) || !isIdentifier(((J.MethodInvocation) then).getSelect(), iterator.getSimpleName())) {
+            return null;
+        }
+
+        Expression collection = ((J.MethodInvocation) initializer).getSelect();
+        Expression predicate = ifStatement.getIfCondition().getTree();
+        Set<String> forbidden = new HashSet<>();
+        forbidden.add(iterator.getSimpleName());
+        String root = rootName(collection);
+        if (root != null) {
+            forbidden.add(root);
+        }
+        return isSideEffectFree(predicate, forbidden) ?
+                new Removal(collection, elementDeclaration.getVariables().get(0).getSimpleName(), predicate) : null;
+    }
+
+    /**
+     * The removal by a loop over the indices of a list, either backwards, as in
+     * {@code for (int i = list.size() - 1; i >= 0; i--) { if (condition) { list.remove(i); } }}, or forwards with a
+     * decrement of the index after each removal.
+     */
+    private static @Nullable Removal indexRemoval(J.ForLoop loop, Cursor cursor) {
+        J.ForLoop.Control control = loop.getControl();
+        J.VariableDeclarations init = (J.VariableDeclarations) control.getInit().get(0);
+        if (init.getVariables().size() != 1 || init.getVariables().get(0).getInitializer() == null ||
+            control.getUpdate().size() != 1 || !(loop.getBody() instanceof J.Block)) {
+            return null;
+        }
+        String index = init.getVariables().get(0).getSimpleName();
+        Expression start = init.getVariables().get(0).getInitializer();
+        Expression condition = control.getCondition();
+        Statement update = control.getUpdate().get(0);
+        List<Statement> statements = ((J.Block) loop.getBody()).getStatements();
+        if (statements.isEmpty() || statements.size() > 2 || !(statements.get(statements.size() - 1) instanceof J.If)) {
+            return null;
+        }
+        J.If ifStatement = (J.If) statements.get(statements.size() - 1);
+        List<Statement> thens = ifStatement.getThenPart() instanceof J.Block ?
+                ((J.Block) ifStatement.getThenPart()).getStatements() : singletonList(ifStatement.getThenPart());
+        if (ifStatement.getElsePart() != null || !(condition instanceof J.Binary)) {
+            return null;
+        }
+
+        Expression list;
+        J.Binary comparison = (J.Binary) condition;
+        if (isStep(update, index, J.Unary.Type.PostDecrement, J.Unary.Type.PreDecrement) &&
+            comparison.getOperator() == J.Binary.Type.GreaterThanOrEqual && isIdentifier(comparison.getLeft(), index) &&
+            isZero(comparison.getRight()) && start instanceof J.Binary && ((J.Binary) start).getOperator() == J.Binary.Type.Subtraction &&
+            LIST_SIZE.matches(((J.Binary) start).getLeft()) && isOne(((J.Binary) start).getRight())) {
+            // Backwards, where each removal leaves the indices that are left to visit as is
+            list = ((J.MethodInvocation) ((J.Binary) start).getLeft()).getSelect();
+            if (thens.size() != 1 || !isRemoval(thens.get(0), list, index, false)) {
+                return null;
+            }
+        } else if (isStep(update, index, J.Unary.Type.PostIncrement, J.Unary.Type.PreIncrement) && isZero(start) &&
+                   comparison.getOperator() == J.Binary.Type.LessThan && isIdentifier(comparison.getLeft(), index) &&
+                   LIST_SIZE.matches(comparison.getRight())) {
+            // Forwards, where each removal is followed by a decrement, so that the next element is not skipped
+            list = ((J.MethodInvocation) comparison.getRight()).getSelect();
+            if (!(thens.size() == 1 && isRemoval(thens.get(0), list, index, true) ||
+                  thens.size() == 2 && isRemoval(thens.get(0), list, index, false) &&
+                  isStep(thens.get(1), index, J.Unary.Type.PostDecrement, J.Unary.Type.PreDecrement))) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+        if (!(list instanceof J.Identifier) && !(list instanceof J.FieldAccess && ((J.FieldAccess) list).getTarget() instanceof J.Identifier)) {
+            return null;
+        }
+
+        String parameter;
+        Expression predicate = ifStatement.getIfCondition().getTree();
+        if (statements.size() == 2) {
+            if (!(statements.get(0) instanceof J.VariableDeclarations)) {
+                return null;
+            }
+            J.VariableDeclarations element = (J.VariableDeclarations) statements.get(0);
+            if (element.getVariables().size() != 1 || !isGet(element.getVariables().get(0).getInitializer(), list, index)) {
+                return null;
+            }
+            parameter = element.getVariables().get(0).getSimpleName();
+        } else {
+            parameter = VariableNameUtils.generateVariableName("item", cursor, INCREMENT_NUMBER);
+            JavaType elementType = elementType(list.getType());
+            J.Identifier item = new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), parameter, elementType, null);
+            Expression l = list;
+            predicate = (Expression) new JavaVisitor<Integer>() {
+                @Override
+                public J visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                    return isGet(method, l, index) ? item.withPrefix(method.getPrefix()) : super.visitMethodInvocation(method, p);
+                }
+            }.visitNonNull(predicate, 0);
+        }
+
+        Set<String> forbidden = new HashSet<>();
+        forbidden.add(index);
+        String root = rootName(list);
+        if (root != null) {
+            forbidden.add(root);
+        }
+        return isSideEffectFree(predicate, forbidden) ? new Removal(list, parameter, predicate) : null;
+    }
+
+    private static @Nullable Statement onlyStatement(J.If ifStatement) {
+        if (ifStatement.getElsePart() != null) {
+            return null;
+        } else if (ifStatement.getThenPart() instanceof J.Block) {
+            List<Statement> statements = ((J.Block) ifStatement.getThenPart()).getStatements();
+            return statements.size() == 1 ? statements.get(0) : null;
+        }
+        return ifStatement.getThenPart();
+    }
+
+    /**
+     * Whether the statement is {@code list.remove(i)}, or {@code list.remove(i--)} when the index is decremented.
+     */
+    private static boolean isRemoval(Statement statement, Expression list, String index, boolean decremented) {
+        if (!LIST_REMOVE.matches(statement) || !SemanticallyEqual.areEqual(((J.MethodInvocation) statement).getSelect(), list)) {
+            return false;
+        }
+        Expression argument = ((J.MethodInvocation) statement).getArguments().get(0);
+        return decremented ?
+                argument instanceof J.Unary && ((J.Unary) argument).getOperator() == J.Unary.Type.PostDecrement &&
+                isIdentifier(((J.Unary) argument).getExpression(), index) :
+                isIdentifier(argument, index);
+    }
+
+    private static boolean isGet(@Nullable Expression expression, Expression list, String index) {
+        return LIST_GET.matches(expression) && SemanticallyEqual.areEqual(((J.MethodInvocation) expression).getSelect(), list) &&
+               isIdentifier(((J.MethodInvocation) expression).getArguments().get(0), index);
+    }
+
+    private static boolean isStep(Statement statement, String index, J.Unary.Type post, J.Unary.Type pre) {
+        return statement instanceof J.Unary && isIdentifier(((J.Unary) statement).getExpression(), index) &&
+               (((J.Unary) statement).getOperator() == post || ((J.Unary) statement).getOperator() == pre);
+    }
+
+    private static boolean isIdentifier(@Nullable Expression expression, String name) {
+        return expression instanceof J.Identifier && name.equals(((J.Identifier) expression).getSimpleName());
+    }
+
+    private static boolean isZero(@Nullable Expression expression) {
+        return expression instanceof J.Literal && Integer.valueOf(0).equals(((J.Literal) expression).getValue());
+    }
+
+    private static boolean isOne(Expression expression) {
+        return expression instanceof J.Literal && Integer.valueOf(1).equals(((J.Literal) expression).getValue());
+    }
+
+    private static @Nullable JavaType elementType(@Nullable JavaType listType) {
+        JavaType.Parameterized parameterized = TypeUtils.asParameterized(listType);
+        return parameterized == null || parameterized.getTypeParameters().size() != 1 ? null : parameterized.getTypeParameters().get(0);
+    }
+
+    /**
+     * The variable at the root of the expression, as {@code map} for {@code map.entrySet()}.
+     */
+    private static @Nullable String rootName(Expression expression) {
+        Expression e = expression;
+        while (e instanceof J.MethodInvocation || e instanceof J.FieldAccess) {
+            e = e instanceof J.MethodInvocation ? ((J.MethodInvocation) e).getSelect() : ((J.FieldAccess) e).getTarget();
+            if (e instanceof J.Identifier && "this".equals(((J.Identifier) e).getSimpleName())) {
+                return expression instanceof J.FieldAccess ? ((J.FieldAccess) expression).getSimpleName() : null;
+            }
+        }
+        return e instanceof J.Identifier ? ((J.Identifier) e).getSimpleName() : null;
+    }
+
+    /**
+     * Whether the condition neither changes state, nor refers to the given variables, as {@code removeIf} tests all
+     * elements before it removes any of them.
+     */
+    private static boolean isSideEffectFree(Expression condition, Set<String> forbidden) {
+        AtomicBoolean sideEffect = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, AtomicBoolean found) {
+                found.set(true);
+                return assignment;
+            }
+
+            @Override
+            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, AtomicBoolean found) {
+                found.set(true);
+                return assignOp;
+            }
+
+            @Override
+            public J.Unary visitUnary(J.Unary unary, AtomicBoolean found) {
+                if (unary.getOperator().isModifying()) {
+                    found.set(true);
+                }
+                return super.visitUnary(unary, found);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (ParallelStreams.MUTATING_METHODS.contains(method.getSimpleName()) || "next".equals(method.getSimpleName())) {
+                    found.set(true);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                if (forbidden.contains(identifier.getSimpleName()) && identifier.getFieldType() != null) {
+                    found.set(true);
+                }
+                return identifier;
+            }
+        }.visit(condition, sideEffect);
+        return !sideEffect.get();
+    }
+
+    static boolean isAssigned(J scope, Set<String> names) {
+        AtomicBoolean assigned = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, AtomicBoolean found) {
+                record(assignment.getVariable(), found);
+                return super.visitAssignment(assignment, found);
+            }
+
+            @Override
+            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, AtomicBoolean found) {
+                record(assignOp.getVariable(), found);
+                return super.visitAssignmentOperation(assignOp, found);
+            }
+
+            @Override
+            public J.Unary visitUnary(J.Unary unary, AtomicBoolean found) {
+                if (unary.getOperator().isModifying()) {
+                    record(unary.getExpression(), found);
+                }
+                return super.visitUnary(unary, found);
+            }
+
+            private void record(Expression variable, AtomicBoolean found) {
+                if (variable instanceof J.Identifier && names.contains(((J.Identifier) variable).getSimpleName())) {
+                    found.set(true);
+                }
+            }
+        }.visit(scope, assigned);
+        return assigned.get();
+    }
+
+    /**
+     * Whether the iterator is used other than by the loop that is replaced.
+     */
+    private static boolean isReferencedElsewhere(J.Block block, J.VariableDeclarations iteratorDeclaration, J.WhileLoop loop) {
+        String name = iteratorDeclaration.getVariables().get(0).getSimpleName();
+        AtomicBoolean referenced = new AtomicBoolean();
+        for (Statement statement : block.getStatements()) {
+            if (statement != iteratorDeclaration && statement != loop) {
+                new JavaIsoVisitor<AtomicBoolean>() {
+                    @Override
+                    public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                        if (name.equals(identifier.getSimpleName())) {
+                            found.set(true);
+                        }
+                        return identifier;
+                    }
+                }.visit(statement, referenced);
+            }
+        }
+        return referenced.get();
+    }
+
+    @Value
+    private static class Removal {
+        Expression collection;
+        String parameter;
+        Expression predicate;
+    }
+}
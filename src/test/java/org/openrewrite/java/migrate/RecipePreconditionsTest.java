@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.ScanningRecipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.RecipeIntrospectionUtils;
+import org.openrewrite.java.JavaVisitor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every imperative recipe that visits Java sources should bail out early through a cheap
+ * {@code UsesType}/{@code UsesMethod} style precondition, rather than run a full type-attributed
+ * visitor on every source file. Declarative recipes state their preconditions in YAML, and scanning
+ * recipes need to see all sources, so neither is covered here.
+ */
+class RecipePreconditionsTest {
+
+    private static final String RECIPE_ROW_PREFIX = "maven,org.openrewrite.recipe:rewrite-migrate-java,";
+
+    /**
+     * Recipes that act on the structure or formatting of any class rather than on the use of a
+     * particular API, and so have nothing to gate on.
+     */
+    private static final Set<String> ALLOW_LIST = new TreeSet<>(Arrays.asList(
+      "org.openrewrite.java.migrate.UpgradeJavaVersion",
+      "org.openrewrite.java.migrate.UseTabsOrSpaces",
+      "org.openrewrite.java.migrate.jakarta.UpdateAnnotationAttributeJavaxToJakarta",
+      "org.openrewrite.java.migrate.lombok.UseAllArgsConstructor",
+      "org.openrewrite.java.migrate.lombok.UseLombokGetter",
+      "org.openrewrite.java.migrate.lombok.UseLombokSetter",
+      "org.openrewrite.java.migrate.lombok.UseNoArgsConstructor",
+      "org.openrewrite.java.migrate.lombok.UseRequiredArgsConstructor",
+      "org.openrewrite.java.migrate.search.IsLikelyNotGenerated"
+    ));
+
+    @Test
+    void javaRecipesDeclareCheapPrecondition() throws Exception {
+        Set<String> missing = new TreeSet<>();
+        for (Recipe recipe : imperativeRecipes()) {
+            if (recipe.getVisitor() instanceof JavaVisitor && !ALLOW_LIST.contains(recipe.getName())) {
+                missing.add(recipe.getName());
+            }
+        }
+        assertThat(missing)
+          .as("Recipes without a precondition, either add `Preconditions.check(..)` or allow-list them")
+          .isEmpty();
+    }
+
+    @Test
+    void allowListOnlyContainsUngatedRecipes() throws Exception {
+        Set<String> ungated = new TreeSet<>();
+        for (Recipe recipe : imperativeRecipes()) {
+            TreeVisitor<?, ExecutionContext> visitor = recipe.getVisitor();
+            if (visitor instanceof JavaVisitor) {
+                ungated.add(recipe.getName());
+            }
+        }
+        assertThat(ungated).containsAll(ALLOW_LIST);
+    }
+
+    private static List<Recipe> imperativeRecipes() throws IOException {
+        List<Recipe> recipes = new ArrayList<>();
+        for (String recipeName : recipeNames()) {
+            Class<?> recipeClass;
+            try {
+                recipeClass = Class.forName(recipeName);
+            } catch (ClassNotFoundException e) {
+                // Declarative recipe
+                continue;
+            }
+            if (Recipe.class.isAssignableFrom(recipeClass) &&
+                !ScanningRecipe.class.isAssignableFrom(recipeClass) &&
+                !Modifier.isAbstract(recipeClass.getModifiers())) {
+                recipes.add(RecipeIntrospectionUtils.constructRecipe(recipeClass));
+            }
+        }
+        assertThat(recipes).isNotEmpty();
+        return recipes;
+    }
+
+    private static Set<String> recipeNames() throws IOException {
+        Set<String> names = new TreeSet<>();
+        try (InputStream is = requireNonNull(RecipePreconditionsTest.class.getResourceAsStream("/META-INF/rewrite/recipes.csv"));
+             BufferedReader reader = new BufferedReader(new InputStreamReader(is, UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Multi-line descriptions continue on lines that do not start with the recipe row prefix
+                if (line.startsWith(RECIPE_ROW_PREFIX)) {
+                    String remainder = line.substring(RECIPE_ROW_PREFIX.length());
+                    names.add(remainder.substring(0, remainder.indexOf(',')));
+                }
+            }
+        }
+        return names;
+    }
+}
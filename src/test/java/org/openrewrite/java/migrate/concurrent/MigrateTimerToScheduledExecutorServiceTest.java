@@ -0,0 +1,315 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+class MigrateTimerToScheduledExecutorServiceTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateTimerToScheduledExecutorService(null))
+          .allSources(s -> s.markers(javaVersion(17)));
+    }
+
+    @DocumentExample
+    @Test
+    void anonymousTask() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Timer;
+              import java.util.TimerTask;
+
+              class Heartbeat {
+                  private final Timer timer = new Timer();
+
+                  void start() {
+                      timer.scheduleAtFixedRate(new TimerTask() {
+                          @Override
+                          public void run() {
+                              beat();
+                          }
+                      }, 0, 1000);
+                  }
+
+                  void stop() {
+                      timer.cancel();
+                  }
+
+                  void beat() {
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.ScheduledThreadPoolExecutor;
+              import java.util.concurrent.TimeUnit;
+
+              class Heartbeat {
+                  private final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1);
+
+                  void start() {
+                      timer.scheduleAtFixedRate(new Runnable() {
+                          @Override
+                          public void run() {
+                              beat();
+                          }
+                      }, 0, 1000, TimeUnit.MILLISECONDS);
+                  }
+
+                  void stop() {
+                      timer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+                      timer.shutdown();
+                  }
+
+                  void beat() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void cancelledTaskSubclass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Timer;
+              import java.util.TimerTask;
+
+              class Poller {
+                  private final Timer timer = new Timer();
+                  private TimerTask task;
+
+                  void start() {
+                      task = new Poll();
+                      timer.schedule(task, 0, 500);
+                  }
+
+                  void stop() {
+                      if (task != null) {
+                          task.cancel();
+                          task = null;
+                      }
+                  }
+
+                  void shutdown() {
+                      timer.cancel();
+                  }
+
+                  private static class Poll extends TimerTask {
+                      @Override
+                      public void run() {
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.ScheduledFuture;
+              import java.util.concurrent.ScheduledThreadPoolExecutor;
+              import java.util.concurrent.TimeUnit;
+
+              class Poller {
+                  private final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1);
+                  private ScheduledFuture<?> task;
+
+                  void start() {
+                      task = timer.scheduleWithFixedDelay(new Poll(), 0, 500, TimeUnit.MILLISECONDS);
+                  }
+
+                  void stop() {
+                      if (task != null) {
+                          task.cancel(false);
+                          task = null;
+                      }
+                  }
+
+                  void shutdown() {
+                      timer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+                      timer.shutdown();
+                  }
+
+                  private static class Poll implements Runnable {
+                      @Override
+                      public void run() {
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void virtualThreads() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateTimerToScheduledExecutorService(true))
+            .allSources(s -> s.markers(javaVersion(21))),
+          //language=java
+          java(
+            """
+              import java.util.Timer;
+              import java.util.TimerTask;
+
+              class Reaper {
+                  private final Timer timer = new Timer("reaper", true);
+
+                  void reapLater() {
+                      timer.schedule(new TimerTask() {
+                          @Override
+                          public void run() {
+                          }
+                      }, 60_000);
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.ScheduledThreadPoolExecutor;
+              import java.util.concurrent.TimeUnit;
+
+              class Reaper {
+                  private final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, Thread.ofVirtual().name("reaper").factory());
+
+                  void reapLater() {
+                      timer.schedule(new Runnable() {
+                          @Override
+                          public void run() {
+                          }
+                      }, 60_000, TimeUnit.MILLISECONDS);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void daemonTimerOnJava21() {
+        rewriteRun(
+          spec -> spec.allSources(s -> s.markers(javaVersion(21))),
+          //language=java
+          java(
+            """
+              import java.util.Timer;
+
+              class Reaper {
+                  private final Timer timer = new Timer(true);
+
+                  void stop() {
+                      timer.cancel();
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+              class Reaper {
+                  private final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().daemon().factory());
+
+                  void stop() {
+                      timer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+                      timer.shutdown();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void daemonTimerBeforeJava21() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Timer;
+
+              class Reaper {
+                  private final Timer timer = new Timer(true);
+
+                  void stop() {
+                      timer.cancel();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void scheduledAtDate() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Date;
+              import java.util.Timer;
+              import java.util.TimerTask;
+
+              class Alarm {
+                  private final Timer timer = new Timer();
+
+                  void at(Date time) {
+                      timer.schedule(new TimerTask() {
+                          @Override
+                          public void run() {
+                          }
+                      }, time);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void taskCancelsItself() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Timer;
+              import java.util.TimerTask;
+
+              class Countdown {
+                  private final Timer timer = new Timer();
+                  private int remaining = 10;
+
+                  void start() {
+                      timer.schedule(new TimerTask() {
+                          @Override
+                          public void run() {
+                              if (--remaining == 0) {
+                                  cancel();
+                              }
+                          }
+                      }, 0, 1000);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseBlockingQueueForWaitNotifyTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseBlockingQueueForWaitNotify());
+    }
+
+    @DocumentExample
+    @Test
+    void boundedBuffer() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.ArrayDeque;
+              import java.util.Queue;
+
+              class BoundedBuffer<T> {
+                  private static final int CAPACITY = 16;
+                  private final Queue<T> items = new ArrayDeque<>();
+
+                  synchronized void put(T item) throws InterruptedException {
+                      while (items.size() == CAPACITY) {
+                          wait();
+                      }
+                      items.add(item);
+                      notifyAll();
+                  }
+
+                  synchronized T take() throws InterruptedException {
+                      while (items.isEmpty()) {
+                          wait();
+                      }
+                      T item = items.remove();
+                      notifyAll();
+                      return item;
+                  }
+
+                  synchronized int size() {
+                      return items.size();
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.ArrayBlockingQueue;
+              import java.util.concurrent.BlockingQueue;
+
+              class BoundedBuffer<T> {
+                  private static final int CAPACITY = 16;
+                  private final BlockingQueue<T> items = new ArrayBlockingQueue<>(CAPACITY);
+
+                  void put(T item) throws InterruptedException {
+                      items.put(item);
+                  }
+
+                  T take() throws InterruptedException {
+                      return items.take();
+                  }
+
+                  synchronized int size() {
+                      return items.size();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void unboundedBuffer() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.LinkedList;
+
+              class Jobs {
+                  private final LinkedList<Runnable> jobs = new LinkedList<>();
+
+                  public synchronized void submit(Runnable job) {
+                      jobs.addLast(job);
+                      notifyAll();
+                  }
+
+                  public synchronized Runnable next() throws InterruptedException {
+                      while (jobs.size() == 0) {
+                          wait();
+                      }
+                      notifyAll();
+                      return jobs.removeFirst();
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.BlockingQueue;
+              import java.util.concurrent.LinkedBlockingQueue;
+
+              class Jobs {
+                  private final BlockingQueue<Runnable> jobs = new LinkedBlockingQueue<>();
+
+                  public void submit(Runnable job) {
+                      jobs.add(job);
+                  }
+
+                  public Runnable next() throws InterruptedException {
+                      return jobs.take();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void capacityIsNotConstant() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.ArrayDeque;
+              import java.util.Queue;
+
+              class BoundedBuffer<T> {
+                  private final Queue<T> items = new ArrayDeque<>();
+                  private final int capacity;
+
+                  BoundedBuffer(int capacity) {
+                      this.capacity = capacity;
+                  }
+
+                  synchronized void put(T item) throws InterruptedException {
+                      while (items.size() == capacity) {
+                          wait();
+                      }
+                      items.add(item);
+                      notifyAll();
+                  }
+
+                  synchronized T take() throws InterruptedException {
+                      while (items.isEmpty()) {
+                          wait();
+                      }
+                      T item = items.remove();
+                      notifyAll();
+                      return item;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void queueUsedOtherwise() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.ArrayDeque;
+              import java.util.ArrayList;
+              import java.util.List;
+              import java.util.Queue;
+
+              class Jobs {
+                  private final Queue<Runnable> jobs = new ArrayDeque<>();
+
+                  synchronized void submit(Runnable job) {
+                      jobs.add(job);
+                      notifyAll();
+                  }
+
+                  synchronized Runnable next() throws InterruptedException {
+                      while (jobs.isEmpty()) {
+                          wait();
+                      }
+                      return jobs.poll();
+                  }
+
+                  synchronized List<Runnable> drain() {
+                      List<Runnable> drained = new ArrayList<>(jobs);
+                      jobs.clear();
+                      return drained;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
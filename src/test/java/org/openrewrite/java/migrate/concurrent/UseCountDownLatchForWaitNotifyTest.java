@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseCountDownLatchForWaitNotifyTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseCountDownLatchForWaitNotify());
+    }
+
+    @DocumentExample
+    @Test
+    void startupGate() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Startup {
+                  private boolean started;
+
+                  synchronized void awaitStarted() throws InterruptedException {
+                      while (!started) {
+                          wait();
+                      }
+                  }
+
+                  synchronized void started() {
+                      started = true;
+                      notifyAll();
+                  }
+
+                  boolean isStarted() {
+                      return started;
+                  }
+
+                  String status() {
+                      return !this.started ? "starting" : "started";
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.CountDownLatch;
+
+              class Startup {
+                  private final CountDownLatch started = new CountDownLatch(1);
+
+                  void awaitStarted() throws InterruptedException {
+                      started.await();
+                  }
+
+                  void started() {
+                      started.countDown();
+                  }
+
+                  boolean isStarted() {
+                      return started.getCount() == 0;
+                  }
+
+                  String status() {
+                      return started.getCount() != 0 ? "starting" : "started";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void flagIsReset() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Startup {
+                  private boolean started;
+
+                  synchronized void awaitStarted() throws InterruptedException {
+                      while (!started) {
+                          wait();
+                      }
+                  }
+
+                  synchronized void started() {
+                      started = true;
+                      notifyAll();
+                  }
+
+                  synchronized void stopped() {
+                      started = false;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void flagReadWhileHoldingMonitor() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Startup {
+                  private boolean started;
+                  private int pending;
+
+                  synchronized void awaitStarted() throws InterruptedException {
+                      while (!started) {
+                          wait();
+                      }
+                  }
+
+                  synchronized void started() {
+                      started = true;
+                      notifyAll();
+                  }
+
+                  synchronized void submit() {
+                      if (!started) {
+                          pending++;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void monitorUsedForOtherConditions() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Startup {
+                  private boolean started;
+                  private int running;
+
+                  synchronized void awaitStarted() throws InterruptedException {
+                      while (!started) {
+                          wait();
+                      }
+                  }
+
+                  synchronized void started() {
+                      started = true;
+                      notifyAll();
+                  }
+
+                  synchronized void awaitIdle() throws InterruptedException {
+                      while (running > 0) {
+                          wait();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
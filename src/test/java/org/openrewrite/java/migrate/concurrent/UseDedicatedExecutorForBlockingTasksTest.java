@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+class UseDedicatedExecutorForBlockingTasksTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseDedicatedExecutorForBlockingTasks(null))
+          .allSources(s -> s.markers(javaVersion(21)));
+    }
+
+    @DocumentExample
+    @Test
+    void virtualThreadsOnJava21() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.sql.Connection;
+              import java.sql.DriverManager;
+              import java.sql.SQLException;
+              import java.util.concurrent.CompletableFuture;
+
+              class Repository {
+                  private final String url = "jdbc:h2:mem:";
+
+                  CompletableFuture<Connection> connect() {
+                      return CompletableFuture.supplyAsync(() -> {
+                          try {
+                              return DriverManager.getConnection(url);
+                          } catch (SQLException e) {
+                              throw new IllegalStateException(e);
+                          }
+                      });
+                  }
+              }
+              """,
+            """
+              import java.sql.Connection;
+              import java.sql.DriverManager;
+              import java.sql.SQLException;
+              import java.util.concurrent.CompletableFuture;
+              import java.util.concurrent.ExecutorService;
+              import java.util.concurrent.Executors;
+
+              class Repository {
+                  private static final ExecutorService IO_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+                  private final String url = "jdbc:h2:mem:";
+
+                  CompletableFuture<Connection> connect() {
+                      return CompletableFuture.supplyAsync(() -> {
+                          try {
+                              return DriverManager.getConnection(url);
+                          } catch (SQLException e) {
+                              throw new IllegalStateException(e);
+                          }
+                      }, IO_EXECUTOR);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void daemonThreadPoolBeforeJava21() {
+        rewriteRun(
+          spec -> spec.allSources(s -> s.markers(javaVersion(17))),
+          //language=java
+          java(
+            """
+              import java.util.concurrent.CompletableFuture;
+
+              class Aggregator {
+                  private final CompletableFuture<String> first = new CompletableFuture<>();
+
+                  CompletableFuture<String> combine(CompletableFuture<String> second) {
+                      return second.thenApplyAsync(s -> first.join() + s);
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.CompletableFuture;
+              import java.util.concurrent.ExecutorService;
+              import java.util.concurrent.Executors;
+
+              class Aggregator {
+                  private static final ExecutorService IO_EXECUTOR = Executors.newCachedThreadPool(task -> {
+                      Thread thread = Executors.defaultThreadFactory().newThread(task);
+                      thread.setDaemon(true);
+                      return thread;
+                  });
+                  private final CompletableFuture<String> first = new CompletableFuture<>();
+
+                  CompletableFuture<String> combine(CompletableFuture<String> second) {
+                      return second.thenApplyAsync(s -> first.join() + s, IO_EXECUTOR);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void sharedExecutor() {
+        rewriteRun(
+          spec -> spec.recipe(new UseDedicatedExecutorForBlockingTasks("com.example.AppExecutors.BLOCKING_IO")),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import java.util.concurrent.ExecutorService;
+              import java.util.concurrent.Executors;
+
+              public class AppExecutors {
+                  public static final ExecutorService BLOCKING_IO = Executors.newFixedThreadPool(8);
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example.app;
+
+              import java.util.concurrent.CompletableFuture;
+
+              class Aggregator {
+                  private final CompletableFuture<String> first = new CompletableFuture<>();
+
+                  CompletableFuture<String> combine(CompletableFuture<String> second) {
+                      return second.thenApplyAsync(s -> first.join() + s);
+                  }
+              }
+              """,
+            """
+              package com.example.app;
+
+              import com.example.AppExecutors;
+
+              import java.util.concurrent.CompletableFuture;
+
+              class Aggregator {
+                  private final CompletableFuture<String> first = new CompletableFuture<>();
+
+                  CompletableFuture<String> combine(CompletableFuture<String> second) {
+                      return second.thenApplyAsync(s -> first.join() + s, AppExecutors.BLOCKING_IO);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void nonBlockingTask() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.CompletableFuture;
+
+              class Calculator {
+                  CompletableFuture<Integer> square(int x) {
+                      return CompletableFuture.supplyAsync(() -> x * x);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void explicitExecutor() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.CompletableFuture;
+              import java.util.concurrent.Executor;
+
+              class Sleeper {
+                  CompletableFuture<Void> sleep(Executor executor) {
+                      return CompletableFuture.runAsync(() -> {
+                          try {
+                              Thread.sleep(100);
+                          } catch (InterruptedException e) {
+                              Thread.currentThread().interrupt();
+                          }
+                      }, executor);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
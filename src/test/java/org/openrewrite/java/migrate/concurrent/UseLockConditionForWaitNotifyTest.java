@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseLockConditionForWaitNotifyTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseLockConditionForWaitNotify());
+    }
+
+    @DocumentExample
+    @Test
+    void mailbox() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Mailbox {
+                  private final Object lock = new Object();
+                  private String message;
+
+                  void send(String m) {
+                      synchronized (lock) {
+                          message = m;
+                          lock.notifyAll();
+                      }
+                  }
+
+                  String receive() throws InterruptedException {
+                      synchronized (lock) {
+                          while (message == null) {
+                              lock.wait();
+                          }
+                          String m = message;
+                          message = null;
+                          return m;
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.locks.Condition;
+              import java.util.concurrent.locks.Lock;
+              import java.util.concurrent.locks.ReentrantLock;
+
+              class Mailbox {
+                  private final Lock lock = new ReentrantLock();
+                  private final Condition lockCondition = lock.newCondition();
+                  private String message;
+
+                  void send(String m) {
+                      lock.lock();
+                      try {
+                          message = m;
+                          lockCondition.signalAll();
+                      } finally {
+                          lock.unlock();
+                      }
+                  }
+
+                  String receive() throws InterruptedException {
+                      lock.lock();
+                      try {
+                          while (message == null) {
+                              lockCondition.await();
+                          }
+                          String m = message;
+                          message = null;
+                          return m;
+                      } finally {
+                          lock.unlock();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void timedWait() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Poller {
+                  private static final Object LOCK = new Object();
+                  private static boolean ready;
+
+                  static void awaitReady() throws InterruptedException {
+                      synchronized (LOCK) {
+                          while (!ready) {
+                              LOCK.wait(100);
+                          }
+                      }
+                  }
+
+                  static void ready() {
+                      synchronized (LOCK) {
+                          ready = true;
+                          LOCK.notify();
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.TimeUnit;
+              import java.util.concurrent.locks.Condition;
+              import java.util.concurrent.locks.Lock;
+              import java.util.concurrent.locks.ReentrantLock;
+
+              class Poller {
+                  private static final Lock LOCK = new ReentrantLock();
+                  private static final Condition LOCK_CONDITION = LOCK.newCondition();
+                  private static boolean ready;
+
+                  static void awaitReady() throws InterruptedException {
+                      LOCK.lock();
+                      try {
+                          while (!ready) {
+                              LOCK_CONDITION.await(100, TimeUnit.MILLISECONDS);
+                          }
+                      } finally {
+                          LOCK.unlock();
+                      }
+                  }
+
+                  static void ready() {
+                      LOCK.lock();
+                      try {
+                          ready = true;
+                          LOCK_CONDITION.signal();
+                      } finally {
+                          LOCK.unlock();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void waitOutsideOfSynchronizedBlock() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Mailbox {
+                  private final Object lock = new Object();
+
+                  synchronized void receive() throws InterruptedException {
+                      lock.wait();
+                  }
+
+                  void send() {
+                      synchronized (lock) {
+                          lock.notifyAll();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void lockEscapes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.function.Consumer;
+
+              class Mailbox {
+                  private final Object lock = new Object();
+
+                  void receive(Consumer<Object> registry) throws InterruptedException {
+                      registry.accept(lock);
+                      synchronized (lock) {
+                          lock.wait();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseLongAdderForCountersTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseLongAdderForCounters());
+    }
+
+    @DocumentExample
+    @Test
+    void metricCounters() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.atomic.AtomicLong;
+
+              class Metrics {
+                  private final AtomicLong requests = new AtomicLong();
+                  private final AtomicLong maxLatency = new AtomicLong();
+
+                  void record(long latency) {
+                      requests.incrementAndGet();
+                      maxLatency.accumulateAndGet(latency, Math::max);
+                  }
+
+                  long requests() {
+                      return requests.get();
+                  }
+
+                  long drainRequests() {
+                      return requests.getAndSet(0);
+                  }
+
+                  long maxLatency() {
+                      return maxLatency.get();
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.atomic.LongAccumulator;
+              import java.util.concurrent.atomic.LongAdder;
+
+              class Metrics {
+                  private final LongAdder requests = new LongAdder();
+                  private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+
+                  void record(long latency) {
+                      requests.increment();
+                      maxLatency.accumulate(latency);
+                  }
+
+                  long requests() {
+                      return requests.sum();
+                  }
+
+                  long drainRequests() {
+                      return requests.sumThenReset();
+                  }
+
+                  long maxLatency() {
+                      return maxLatency.get();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void integerCounter() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.atomic.AtomicInteger;
+
+              class Errors {
+                  private final AtomicInteger errors = new AtomicInteger(0);
+
+                  void failed() {
+                      this.errors.getAndIncrement();
+                  }
+
+                  int errors() {
+                      return errors.get();
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.atomic.LongAdder;
+
+              class Errors {
+                  private final LongAdder errors = new LongAdder();
+
+                  void failed() {
+                      this.errors.increment();
+                  }
+
+                  int errors() {
+                      return errors.intValue();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void resultOfUpdateIsUsed() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.atomic.AtomicLong;
+
+              class Ids {
+                  private final AtomicLong ids = new AtomicLong();
+
+                  long next() {
+                      return ids.incrementAndGet();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void compareAndSetNeedsSingleValue() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.atomic.AtomicLong;
+
+              class Limiter {
+                  private final AtomicLong permits = new AtomicLong();
+
+                  void release() {
+                      permits.incrementAndGet();
+                  }
+
+                  boolean tryAcquire() {
+                      long available = permits.get();
+                      return available > 0 && permits.compareAndSet(available, available - 1);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
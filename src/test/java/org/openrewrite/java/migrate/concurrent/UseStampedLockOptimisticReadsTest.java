@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseStampedLockOptimisticReadsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseStampedLockOptimisticReads());
+    }
+
+    @DocumentExample
+    @Test
+    void optimisticRead() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+              class Point {
+                  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+                  private double x, y;
+
+                  void move(double deltaX, double deltaY) {
+                      lock.writeLock().lock();
+                      try {
+                          x += deltaX;
+                          y += deltaY;
+                      } finally {
+                          lock.writeLock().unlock();
+                      }
+                  }
+
+                  double squaredDistanceFromOrigin() {
+                      lock.readLock().lock();
+                      try {
+                          return x * x + y * y;
+                      } finally {
+                          lock.readLock().unlock();
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.locks.StampedLock;
+
+              class Point {
+                  private final StampedLock lock = new StampedLock();
+                  private double x, y;
+
+                  void move(double deltaX, double deltaY) {
+                      long stamp = lock.writeLock();
+                      try {
+                          x += deltaX;
+                          y += deltaY;
+                      } finally {
+                          lock.unlockWrite(stamp);
+                      }
+                  }
+
+                  double squaredDistanceFromOrigin() {
+                      long stamp = lock.tryOptimisticRead();
+                      double result = x * x + y * y;
+                      if (!lock.validate(stamp)) {
+                          stamp = lock.readLock();
+                          try {
+                              result = x * x + y * y;
+                          } finally {
+                              lock.unlockRead(stamp);
+                          }
+                      }
+                      return result;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void readLockForMethodCalls() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashMap;
+              import java.util.Map;
+              import java.util.concurrent.locks.ReadWriteLock;
+              import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+              class Routes {
+                  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+                  private final Map<String, String> routes = new HashMap<>();
+
+                  String route(String path) {
+                      lock.readLock().lock();
+                      try {
+                          return routes.get(path);
+                      } finally {
+                          lock.readLock().unlock();
+                      }
+                  }
+
+                  void update(String path, String target) {
+                      lock.writeLock().lock();
+                      try {
+                          routes.put(path, target);
+                      } finally {
+                          lock.writeLock().unlock();
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.HashMap;
+              import java.util.Map;
+              import java.util.concurrent.locks.StampedLock;
+
+              class Routes {
+                  private final StampedLock lock = new StampedLock();
+                  private final Map<String, String> routes = new HashMap<>();
+
+                  String route(String path) {
+                      long stamp = lock.readLock();
+                      try {
+                          return routes.get(path);
+                      } finally {
+                          lock.unlockRead(stamp);
+                      }
+                  }
+
+                  void update(String path, String target) {
+                      long stamp = lock.writeLock();
+                      try {
+                          routes.put(path, target);
+                      } finally {
+                          lock.unlockWrite(stamp);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportReentrantUse() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+              class Counter {
+                  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+                  private int count;
+
+                  int get() {
+                      lock.readLock().lock();
+                      try {
+                          return count;
+                      } finally {
+                          lock.readLock().unlock();
+                      }
+                  }
+
+                  int incrementAndGet() {
+                      lock.writeLock().lock();
+                      try {
+                          count++;
+                          return get();
+                      } finally {
+                          lock.writeLock().unlock();
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+              class Counter {
+                  /*~~(`StampedLock` is not reentrant, and this lock is acquired while it is already held)~~>*/private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+                  private int count;
+
+                  int get() {
+                      lock.readLock().lock();
+                      try {
+                          return count;
+                      } finally {
+                          lock.readLock().unlock();
+                      }
+                  }
+
+                  int incrementAndGet() {
+                      lock.writeLock().lock();
+                      try {
+                          count++;
+                          return get();
+                      } finally {
+                          lock.writeLock().unlock();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportCondition() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.locks.Condition;
+              import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+              class Gate {
+                  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+                  private final Condition opened = lock.writeLock().newCondition();
+              }
+              """,
+            """
+              import java.util.concurrent.locks.Condition;
+              import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+              class Gate {
+                  /*~~(`StampedLock` does not support `Condition`s)~~>*/private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+                  private final Condition opened = lock.writeLock().newCondition();
+              }
+              """
+          )
+        );
+    }
+}
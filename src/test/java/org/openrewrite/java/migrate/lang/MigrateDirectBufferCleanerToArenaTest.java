@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.junit.jupiter.api.condition.JRE.JAVA_22;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+@EnabledForJreRange(min = JAVA_22)
+class MigrateDirectBufferCleanerToArenaTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .allSources(src -> src.markers(javaVersion(22)))
+          .recipe(new MigrateDirectBufferCleanerToArena());
+    }
+
+    @DocumentExample
+    @Test
+    void invokeCleaner() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              import java.io.IOException;
+              import java.nio.ByteBuffer;
+              import java.nio.channels.FileChannel;
+
+              class A {
+                  int read(FileChannel channel, Unsafe unsafe) throws IOException {
+                      ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+                      try {
+                          return channel.read(buffer);
+                      } finally {
+                          unsafe.invokeCleaner(buffer);
+                      }
+                  }
+              }
+              """,
+            """
+              import sun.misc.Unsafe;
+
+              import java.io.IOException;
+              import java.lang.foreign.Arena;
+              import java.nio.ByteBuffer;
+              import java.nio.channels.FileChannel;
+
+              class A {
+                  int read(FileChannel channel, Unsafe unsafe) throws IOException {
+                      try (Arena arena = Arena.ofConfined()) {
+                          ByteBuffer buffer = arena.allocate(4096).asByteBuffer();
+                          return channel.read(buffer);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void directBufferCleaner() {
+        rewriteRun(
+          // `sun.nio.ch` is not exported, so the cast is not fully type attributed
+          spec -> spec.typeValidationOptions(TypeValidation.none()),
+          //language=java
+          java(
+            """
+              import sun.nio.ch.DirectBuffer;
+
+              import java.io.IOException;
+              import java.nio.ByteBuffer;
+              import java.nio.channels.FileChannel;
+
+              class A {
+                  void write(FileChannel channel, byte[] bytes) throws IOException {
+                      ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+                      try {
+                          buffer.put(bytes).flip();
+                          channel.write(buffer);
+                      } finally {
+                          ((DirectBuffer) buffer).cleaner().clean();
+                      }
+                  }
+              }
+              """,
+            """
+              import java.io.IOException;
+              import java.lang.foreign.Arena;
+              import java.nio.ByteBuffer;
+              import java.nio.channels.FileChannel;
+
+              class A {
+                  void write(FileChannel channel, byte[] bytes) throws IOException {
+                      try (Arena arena = Arena.ofConfined()) {
+                          ByteBuffer buffer = arena.allocate(bytes.length).asByteBuffer();
+                          buffer.put(bytes).flip();
+                          channel.write(buffer);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void capturedByLambda() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              import java.nio.ByteBuffer;
+              import java.util.concurrent.CompletableFuture;
+
+              class A {
+                  void fill(Unsafe unsafe) {
+                      ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+                      try {
+                          CompletableFuture.runAsync(() -> buffer.putLong(0, 1L)).join();
+                      } finally {
+                          unsafe.invokeCleaner(buffer);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void passedToOtherMethod() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              import java.nio.ByteBuffer;
+              import java.util.concurrent.BlockingQueue;
+
+              class A {
+                  void hand(BlockingQueue<ByteBuffer> queue, Unsafe unsafe) throws InterruptedException {
+                      ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+                      try {
+                          queue.put(buffer);
+                      } finally {
+                          unsafe.invokeCleaner(buffer);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+class MigrateFinalizeToCleanerTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .allSources(src -> src.markers(javaVersion(11)))
+          .recipe(new MigrateFinalizeToCleaner());
+    }
+
+    @DocumentExample
+    @Test
+    void finalizeCallsClose() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class NativeBuffer implements AutoCloseable {
+                  private final long address;
+
+                  NativeBuffer(long size) {
+                      address = allocate(size);
+                  }
+
+                  @Override
+                  public void close() {
+                      free(address);
+                  }
+
+                  @Override
+                  protected void finalize() throws Throwable {
+                      try {
+                          close();
+                      } finally {
+                          super.finalize();
+                      }
+                  }
+
+                  private static native long allocate(long size);
+
+                  private static native void free(long address);
+              }
+              """,
+            """
+              import java.lang.ref.Cleaner;
+
+              class NativeBuffer implements AutoCloseable {
+                  private static final Cleaner CLEANER = Cleaner.create();
+                  private final long address;
+                  private final Cleaner.Cleanable cleanable;
+
+                  NativeBuffer(long size) {
+                      address = allocate(size);
+                      cleanable = CLEANER.register(this, new State(address));
+                  }
+
+                  @Override
+                  public void close() {
+                      cleanable.clean();
+                  }
+
+                  private static native long allocate(long size);
+
+                  private static native void free(long address);
+
+                  private static class State implements Runnable {
+                      private final long address;
+
+                      State(long address) {
+                          this.address = address;
+                      }
+
+                      @Override
+                      public void run() {
+                          free(address);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void finalizeDuplicatesClose() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.BlockingQueue;
+              import java.util.concurrent.LinkedBlockingQueue;
+
+              class PooledBuffer implements AutoCloseable {
+                  private static final BlockingQueue<byte[]> POOL = new LinkedBlockingQueue<>();
+
+                  private final byte[] buffer = new byte[8192];
+
+                  @Override
+                  public void close() {
+                      POOL.offer(buffer);
+                  }
+
+                  @Override
+                  protected void finalize() {
+                      POOL.offer(buffer);
+                  }
+              }
+              """,
+            """
+              import java.lang.ref.Cleaner;
+              import java.util.concurrent.BlockingQueue;
+              import java.util.concurrent.LinkedBlockingQueue;
+
+              class PooledBuffer implements AutoCloseable {
+                  private static final Cleaner CLEANER = Cleaner.create();
+                  private static final BlockingQueue<byte[]> POOL = new LinkedBlockingQueue<>();
+
+                  private final byte[] buffer = new byte[8192];
+                  private final Cleaner.Cleanable cleanable = CLEANER.register(this, new State(buffer));
+
+                  @Override
+                  public void close() {
+                      cleanable.clean();
+                  }
+
+                  private static class State implements Runnable {
+                      private final byte[] buffer;
+
+                      State(byte[] buffer) {
+                          this.buffer = buffer;
+                      }
+
+                      @Override
+                      public void run() {
+                          POOL.offer(buffer);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void cleanupNeedsInstance() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Connection implements AutoCloseable {
+                  private final long handle = 1L;
+
+                  @Override
+                  public void close() {
+                      disconnect();
+                  }
+
+                  @Override
+                  protected void finalize() {
+                      close();
+                  }
+
+                  void disconnect() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void cleanupUsesMutableField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Handle implements AutoCloseable {
+                  private long handle = open();
+
+                  @Override
+                  public void close() {
+                      release(handle);
+                  }
+
+                  @Override
+                  protected void finalize() {
+                      close();
+                  }
+
+                  private static native long open();
+
+                  private static native void release(long handle);
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void innerClassCanNotDeclareStaticMembers() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Pool {
+                  class Lease implements AutoCloseable {
+                      private final long handle = acquire();
+
+                      @Override
+                      public void close() {
+                          release(handle);
+                      }
+
+                      @Override
+                      protected void finalize() {
+                          close();
+                      }
+                  }
+
+                  private static native long acquire();
+
+                  private static native void release(long handle);
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void stateNameInScope() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.lang.Thread.State;
+
+              class Worker implements AutoCloseable {
+                  private final long handle = open();
+                  private final State initial = State.NEW;
+
+                  @Override
+                  public void close() {
+                      release(handle);
+                  }
+
+                  @Override
+                  protected void finalize() {
+                      close();
+                  }
+
+                  private static native long open();
+
+                  private static native void release(long handle);
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+class MigrateUnsafeFieldOffsetToVarHandleTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .allSources(src -> src.markers(javaVersion(11)))
+          .recipe(new MigrateUnsafeFieldOffsetToVarHandle());
+    }
+
+    @DocumentExample
+    @Test
+    void primitiveField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              import java.lang.reflect.Field;
+
+              class Counter {
+                  private static final Unsafe UNSAFE;
+                  private static final long VALUE_OFFSET;
+
+                  static {
+                      try {
+                          Field theUnsafe = Unsafe.class.getDeclaredField("theUnsafe");
+                          theUnsafe.setAccessible(true);
+                          UNSAFE = (Unsafe) theUnsafe.get(null);
+                          VALUE_OFFSET = UNSAFE.objectFieldOffset(Counter.class.getDeclaredField("value"));
+                      } catch (Exception e) {
+                          throw new ExceptionInInitializerError(e);
+                      }
+                  }
+
+                  private volatile long value;
+
+                  boolean compareAndSet(long expected, long update) {
+                      return UNSAFE.compareAndSwapLong(this, VALUE_OFFSET, expected, update);
+                  }
+
+                  long incrementAndGet() {
+                      return UNSAFE.getAndAddLong(this, VALUE_OFFSET, 1L) + 1L;
+                  }
+
+                  long get() {
+                      return UNSAFE.getLongVolatile(this, VALUE_OFFSET);
+                  }
+
+                  void lazySet(long newValue) {
+                      UNSAFE.putOrderedLong(this, VALUE_OFFSET, newValue);
+                  }
+              }
+              """,
+            """
+              import sun.misc.Unsafe;
+
+              import java.lang.invoke.MethodHandles;
+              import java.lang.invoke.VarHandle;
+              import java.lang.reflect.Field;
+
+              class Counter {
+                  private static final Unsafe UNSAFE;
+                  private static final VarHandle VALUE_OFFSET;
+
+                  static {
+                      try {
+                          Field theUnsafe = Unsafe.class.getDeclaredField("theUnsafe");
+                          theUnsafe.setAccessible(true);
+                          UNSAFE = (Unsafe) theUnsafe.get(null);
+                          VALUE_OFFSET = MethodHandles.lookup().findVarHandle(Counter.class, "value", long.class);
+                      } catch (Exception e) {
+                          throw new ExceptionInInitializerError(e);
+                      }
+                  }
+
+                  private volatile long value;
+
+                  boolean compareAndSet(long expected, long update) {
+                      return VALUE_OFFSET.compareAndSet(this, expected, update);
+                  }
+
+                  long incrementAndGet() {
+                      return (long) VALUE_OFFSET.getAndAdd(this, 1L) + 1L;
+                  }
+
+                  long get() {
+                      return (long) VALUE_OFFSET.getVolatile(this);
+                  }
+
+                  void lazySet(long newValue) {
+                      VALUE_OFFSET.setRelease(this, newValue);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void referenceField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              class Stack {
+                  static class Node {
+                      Node next;
+                  }
+
+                  private static final Unsafe UNSAFE = unsafe();
+                  private static final long HEAD_OFFSET;
+
+                  static {
+                      try {
+                          HEAD_OFFSET = UNSAFE.objectFieldOffset(Stack.class.getDeclaredField("head"));
+                      } catch (ReflectiveOperationException e) {
+                          throw new ExceptionInInitializerError(e);
+                      }
+                  }
+
+                  private volatile Node head;
+
+                  boolean push(Node expected, Node node) {
+                      return UNSAFE.compareAndSwapObject(this, HEAD_OFFSET, expected, node);
+                  }
+
+                  Node top() {
+                      return (Node) UNSAFE.getObjectVolatile(this, HEAD_OFFSET);
+                  }
+
+                  private static Unsafe unsafe() {
+                      return null;
+                  }
+              }
+              """,
+            """
+              import sun.misc.Unsafe;
+
+              import java.lang.invoke.MethodHandles;
+              import java.lang.invoke.VarHandle;
+
+              class Stack {
+                  static class Node {
+                      Node next;
+                  }
+
+                  private static final Unsafe UNSAFE = unsafe();
+                  private static final VarHandle HEAD_OFFSET;
+
+                  static {
+                      try {
+                          HEAD_OFFSET = MethodHandles.lookup().findVarHandle(Stack.class, "head", Stack.Node.class);
+                      } catch (ReflectiveOperationException e) {
+                          throw new ExceptionInInitializerError(e);
+                      }
+                  }
+
+                  private volatile Node head;
+
+                  boolean push(Node expected, Node node) {
+                      return HEAD_OFFSET.compareAndSet(this, expected, node);
+                  }
+
+                  Node top() {
+                      return (Node) HEAD_OFFSET.getVolatile(this);
+                  }
+
+                  private static Unsafe unsafe() {
+                      return null;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void discardedResult() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              class Counter {
+                  private static final Unsafe UNSAFE = unsafe();
+                  private static final long VALUE_OFFSET;
+
+                  static {
+                      try {
+                          VALUE_OFFSET = UNSAFE.objectFieldOffset(Counter.class.getDeclaredField("value"));
+                      } catch (ReflectiveOperationException e) {
+                          throw new ExceptionInInitializerError(e);
+                      }
+                  }
+
+                  private volatile int value;
+
+                  void increment() {
+                      UNSAFE.getAndAddInt(this, VALUE_OFFSET, 1);
+                  }
+
+                  void reset() {
+                      if (value > 0) UNSAFE.getAndSetInt(this, VALUE_OFFSET, 0);
+                  }
+
+                  Runnable incrementer() {
+                      return () -> UNSAFE.getAndAddInt(this, VALUE_OFFSET, 1);
+                  }
+
+                  private static Unsafe unsafe() {
+                      return null;
+                  }
+              }
+              """,
+            """
+              import sun.misc.Unsafe;
+
+              import java.lang.invoke.MethodHandles;
+              import java.lang.invoke.VarHandle;
+
+              class Counter {
+                  private static final Unsafe UNSAFE = unsafe();
+                  private static final VarHandle VALUE_OFFSET;
+
+                  static {
+                      try {
+                          VALUE_OFFSET = MethodHandles.lookup().findVarHandle(Counter.class, "value", int.class);
+                      } catch (ReflectiveOperationException e) {
+                          throw new ExceptionInInitializerError(e);
+                      }
+                  }
+
+                  private volatile int value;
+
+                  void increment() {
+                      VALUE_OFFSET.getAndAdd(this, 1);
+                  }
+
+                  void reset() {
+                      if (value > 0) VALUE_OFFSET.getAndSet(this, 0);
+                  }
+
+                  Runnable incrementer() {
+                      return () -> VALUE_OFFSET.getAndAdd(this, 1);
+                  }
+
+                  private static Unsafe unsafe() {
+                      return null;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void catchDoesNotHandleIllegalAccessException() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              class Counter {
+                  private static final Unsafe UNSAFE = unsafe();
+                  private static final long VALUE_OFFSET;
+
+                  static {
+                      try {
+                          VALUE_OFFSET = UNSAFE.objectFieldOffset(Counter.class.getDeclaredField("value"));
+                      } catch (NoSuchFieldException e) {
+                          throw new ExceptionInInitializerError(e);
+                      }
+                  }
+
+                  private volatile int value;
+
+                  boolean compareAndSet(int expected, int update) {
+                      return UNSAFE.compareAndSwapInt(this, VALUE_OFFSET, expected, update);
+                  }
+
+                  private static Unsafe unsafe() {
+                      return null;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void offsetUsedOtherwise() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              class Counter {
+                  private static final Unsafe UNSAFE = unsafe();
+                  private static final long VALUE_OFFSET;
+
+                  static {
+                      try {
+                          VALUE_OFFSET = UNSAFE.objectFieldOffset(Counter.class.getDeclaredField("value"));
+                      } catch (Exception e) {
+                          throw new ExceptionInInitializerError(e);
+                      }
+                  }
+
+                  private volatile int value;
+
+                  boolean compareAndSet(int expected, int update) {
+                      return UNSAFE.compareAndSwapInt(this, VALUE_OFFSET, expected, update);
+                  }
+
+                  long offset() {
+                      return VALUE_OFFSET;
+                  }
+
+                  private static Unsafe unsafe() {
+                      return null;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void finalField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              class Snapshot {
+                  private static final Unsafe UNSAFE = unsafe();
+                  private static final long VALUE_OFFSET;
+
+                  static {
+                      try {
+                          VALUE_OFFSET = UNSAFE.objectFieldOffset(Snapshot.class.getDeclaredField("value"));
+                      } catch (Exception e) {
+                          throw new ExceptionInInitializerError(e);
+                      }
+                  }
+
+                  private final long value = 0L;
+
+                  void restore(long value) {
+                      UNSAFE.putLongVolatile(this, VALUE_OFFSET, value);
+                  }
+
+                  private static Unsafe unsafe() {
+                      return null;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.lang;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.junit.jupiter.api.condition.JRE.JAVA_22;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+@EnabledForJreRange(min = JAVA_22)
+class MigrateUnsafeOffHeapMemoryToMemorySegmentTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .allSources(src -> src.markers(javaVersion(22)))
+          .recipe(new MigrateUnsafeOffHeapMemoryToMemorySegment());
+    }
+
+    @DocumentExample
+    @Test
+    void scopedAllocation() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              class A {
+                  long sum(Unsafe unsafe) {
+                      long address = unsafe.allocateMemory(16);
+                      try {
+                          unsafe.putLong(address, 1L);
+                          unsafe.putLong(address + 8, 2L);
+                          return unsafe.getLong(address) + unsafe.getLong(address + 8);
+                      } finally {
+                          unsafe.freeMemory(address);
+                      }
+                  }
+              }
+              """,
+            """
+              import sun.misc.Unsafe;
+
+              import java.lang.foreign.Arena;
+              import java.lang.foreign.MemorySegment;
+              import java.lang.foreign.ValueLayout;
+
+              class A {
+                  long sum(Unsafe unsafe) {
+                      try (Arena arena = Arena.ofConfined()) {
+                          MemorySegment address = arena.allocate(16);
+                          address.set(ValueLayout.JAVA_LONG_UNALIGNED, 0L, 1L);
+                          address.set(ValueLayout.JAVA_LONG_UNALIGNED, 8, 2L);
+                          return address.get(ValueLayout.JAVA_LONG_UNALIGNED, 0L) + address.get(ValueLayout.JAVA_LONG_UNALIGNED, 8);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void addressEscapes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              class A {
+                  void fill(Unsafe unsafe) {
+                      long address = unsafe.allocateMemory(16);
+                      try {
+                          unsafe.setMemory(address, 16, (byte) 0);
+                          consume(address);
+                      } finally {
+                          unsafe.freeMemory(address);
+                      }
+                  }
+
+                  void consume(long address) {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void addressCapturedByLambda() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              import java.util.concurrent.ExecutorService;
+
+              class A {
+                  void fill(Unsafe unsafe, ExecutorService executor) throws Exception {
+                      long address = unsafe.allocateMemory(8);
+                      try {
+                          executor.submit(() -> unsafe.putLong(address, 1L)).get();
+                      } finally {
+                          unsafe.freeMemory(address);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void freedOutsideFinally() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              class A {
+                  long read(Unsafe unsafe) {
+                      long address = unsafe.allocateMemory(8);
+                      unsafe.putLong(address, 1L);
+                      long value = unsafe.getLong(address);
+                      unsafe.freeMemory(address);
+                      return value;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class FindBlockingTasksOnCommonPoolTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindBlockingTasksOnCommonPool());
+    }
+
+    @DocumentExample
+    @Test
+    void blockingTasks() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.io.IOException;
+              import java.io.UncheckedIOException;
+              import java.nio.file.Files;
+              import java.nio.file.Path;
+              import java.util.concurrent.BlockingQueue;
+              import java.util.concurrent.CompletableFuture;
+
+              class Loader {
+                  CompletableFuture<String> load(Path path) {
+                      return CompletableFuture.supplyAsync(() -> {
+                          try {
+                              return new String(Files.readAllBytes(path));
+                          } catch (IOException e) {
+                              throw new UncheckedIOException(e);
+                          }
+                      });
+                  }
+
+                  CompletableFuture<Void> handle(BlockingQueue<Runnable> queue, CompletableFuture<Runnable> next) {
+                      return next.thenAcceptAsync(queue::add);
+                  }
+              }
+              """,
+            """
+              import java.io.IOException;
+              import java.io.UncheckedIOException;
+              import java.nio.file.Files;
+              import java.nio.file.Path;
+              import java.util.concurrent.BlockingQueue;
+              import java.util.concurrent.CompletableFuture;
+
+              class Loader {
+                  CompletableFuture<String> load(Path path) {
+                      return /*~~(Blocks a thread of the common pool on `Files#readAllBytes`)~~>*/CompletableFuture.supplyAsync(() -> {
+                          try {
+                              return new String(Files.readAllBytes(path));
+                          } catch (IOException e) {
+                              throw new UncheckedIOException(e);
+                          }
+                      });
+                  }
+
+                  CompletableFuture<Void> handle(BlockingQueue<Runnable> queue, CompletableFuture<Runnable> next) {
+                      return next.thenAcceptAsync(queue::add);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void inMemoryStreams() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.io.StringWriter;
+              import java.util.concurrent.CompletableFuture;
+
+              class Renderer {
+                  CompletableFuture<String> render(String name) {
+                      return CompletableFuture.supplyAsync(() -> {
+                          StringWriter writer = new StringWriter();
+                          writer.write("Hello, " + name);
+                          return writer.toString();
+                      });
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.migrate.table.JniBindings;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
+
+class FindJniBindingsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindJniBindings());
+    }
+
+    @DocumentExample
+    @Test
+    void nativeMethods() {
+        rewriteRun(
+          spec -> spec.dataTable(JniBindings.Row.class, rows -> assertThat(rows)
+            .extracting(JniBindings.Row::getClassName, JniBindings.Row::getSignature, JniBindings.Row::getLibrary)
+            .containsExactly(
+              tuple("com.example.Zlib", "long crc32(long, java.nio.ByteBuffer, int)", "z"),
+              tuple("com.example.Zlib", "int[] sizes(java.lang.String)", "z")
+            )),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import java.nio.ByteBuffer;
+
+              class Zlib {
+                  static {
+                      System.loadLibrary("z");
+                  }
+
+                  static native long crc32(long crc, ByteBuffer buffer, int length);
+
+                  native int[] sizes(String name);
+
+                  int size(String name) {
+                      return sizes(name).length;
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import java.nio.ByteBuffer;
+
+              class Zlib {
+                  static {
+                      System.loadLibrary("z");
+                  }
+
+                  /*~~>*/static native long crc32(long crc, ByteBuffer buffer, int length);
+
+                  /*~~>*/native int[] sizes(String name);
+
+                  int size(String name) {
+                      return sizes(name).length;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noNativeMethods() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class A {
+                  static {
+                      System.loadLibrary("z");
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.migrate.table.SunMiscUnsafeUses;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
+
+class FindSunMiscUnsafeUsageTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindSunMiscUnsafeUsage());
+    }
+
+    @DocumentExample
+    @Test
+    void reportsReplacement() {
+        rewriteRun(
+          spec -> spec.dataTable(SunMiscUnsafeUses.Row.class, rows -> assertThat(rows)
+            .extracting(SunMiscUnsafeUses.Row::getMethodName, SunMiscUnsafeUses.Row::getReplacement)
+            .containsExactly(
+              tuple("getLong", "java.lang.foreign.MemorySegment"),
+              tuple("compareAndSwapInt", "java.lang.invoke.VarHandle"),
+              tuple("fullFence", "java.lang.invoke.VarHandle#fullFence")
+            )),
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              class A {
+                  long read(Unsafe unsafe, long address) {
+                      return unsafe.getLong(address);
+                  }
+
+                  boolean cas(Unsafe unsafe, Object o, long offset) {
+                      return unsafe.compareAndSwapInt(o, offset, 0, 1);
+                  }
+
+                  void fence(Unsafe unsafe) {
+                      unsafe.fullFence();
+                  }
+              }
+              """,
+            """
+              import sun.misc.Unsafe;
+
+              class A {
+                  long read(Unsafe unsafe, long address) {
+                      return /*~~(java.lang.foreign.MemorySegment)~~>*/unsafe.getLong(address);
+                  }
+
+                  boolean cas(Unsafe unsafe, Object o, long offset) {
+                      return /*~~(java.lang.invoke.VarHandle)~~>*/unsafe.compareAndSwapInt(o, offset, 0, 1);
+                  }
+
+                  void fence(Unsafe unsafe) {
+                      /*~~(java.lang.invoke.VarHandle#fullFence)~~>*/unsafe.fullFence();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
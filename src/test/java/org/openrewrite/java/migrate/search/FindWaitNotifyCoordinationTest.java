@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class FindWaitNotifyCoordinationTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindWaitNotifyCoordination());
+    }
+
+    @DocumentExample
+    @Test
+    void reportsWaitAndNotify() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Counter {
+                  private int count;
+
+                  synchronized void awaitZero() throws InterruptedException {
+                      while (count > 0) {
+                          wait();
+                      }
+                  }
+
+                  synchronized void awaitChange() throws InterruptedException {
+                      wait(1000);
+                  }
+
+                  synchronized void decrement() {
+                      count--;
+                      notify();
+                  }
+              }
+              """,
+            """
+              class Counter {
+                  private int count;
+
+                  synchronized void awaitZero() throws InterruptedException {
+                      while (count > 0) {
+                          /*~~(Use `Condition#await()`, `BlockingQueue#take()` or `CountDownLatch#await()`)~~>*/wait();
+                      }
+                  }
+
+                  synchronized void awaitChange() throws InterruptedException {
+                      /*~~(Waits without re-checking its condition in a loop)~~>*/wait(1000);
+                  }
+
+                  synchronized void decrement() {
+                      count--;
+                      /*~~(Wakes up an arbitrary waiting thread, use `Condition#signal()` per condition)~~>*/notify();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noCoordination() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Counter {
+                  private int count;
+
+                  synchronized void increment() {
+                      count++;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
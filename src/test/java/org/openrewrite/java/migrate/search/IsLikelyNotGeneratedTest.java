@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class IsLikelyNotGeneratedTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new IsLikelyNotGenerated(null));
+    }
+
+    @DocumentExample
+    @Test
+    void handWrittenSource() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class A {
+                  String greeting = "hello";
+              }
+              """,
+            """
+              /*~~>*/class A {
+                  String greeting = "hello";
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void generatedAnnotation() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import javax.annotation.processing.Generated;
+
+              @Generated("xjc")
+              class A {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void generatedHeaderComment() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              // Generated by the protocol buffer compiler.  DO NOT EDIT!
+              class A {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void generatedSourcesDirectory() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class A {
+              }
+              """,
+            spec -> spec.path("target/generated-sources/annotations/A.java")
+          ),
+          //language=java
+          java(
+            """
+              class B {
+              }
+              """,
+            spec -> spec.path("build/generated/sources/antlr/main/B.java")
+          )
+        );
+    }
+
+    @Test
+    void exceedsNodeCount() {
+        rewriteRun(
+          spec -> spec.recipe(new IsLikelyNotGenerated(5)),
+          //language=java
+          java(
+            """
+              class A {
+                  int a = 1;
+                  int b = 2;
+                  int c = 3;
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.migrate.table.JavaVersionMigrationPlan;
+import org.openrewrite.java.migrate.table.RecipeCostEstimates;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+class PlanJavaMigrationTest implements RewriteTest {
+
+    @Test
+    void planWithoutEstimate() {
+        rewriteRun(
+          spec -> spec.recipe(new PlanJavaMigration(null))
+            .allSources(s -> s.markers(javaVersion(17)))
+            .dataTable(JavaVersionMigrationPlan.Row.class, rows -> assertThat(rows)
+              .singleElement()
+              .satisfies(row -> {
+                  assertThat(row.isHasJava()).isTrue();
+                  assertThat(row.getMajorVersionSourceCompatibility()).isEqualTo(17);
+              })),
+          //language=java
+          java(
+            """
+              class A {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void estimateOnlyEvaluatesPreconditions() {
+        rewriteRun(
+          spec -> spec.recipe(new PlanJavaMigration("org.openrewrite.java.migrate.util.UseEnumSetOf"))
+            .allSources(s -> s.markers(javaVersion(17)))
+            .dataTable(RecipeCostEstimates.Row.class, rows -> assertThat(rows)
+              .singleElement()
+              .satisfies(row -> {
+                  assertThat(row.getRecipeName()).isEqualTo("org.openrewrite.java.migrate.util.UseEnumSetOf");
+                  assertThat(row.isHasPrecondition()).isTrue();
+                  assertThat(row.getSourceFiles()).isEqualTo(1);
+                  assertThat(row.getEstimatedEffortSeconds()).isEqualTo(120);
+              })),
+          //language=java
+          java(
+            """
+              import java.util.Set;
+              import java.util.concurrent.TimeUnit;
+
+              class A {
+                  Set<TimeUnit> units = Set.of(TimeUnit.SECONDS, TimeUnit.MINUTES);
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              class B {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void estimateDeclarativeRecipeWithPreconditions() {
+        rewriteRun(
+          spec -> spec.recipe(new PlanJavaMigration("org.openrewrite.java.migrate.lang.MigrateSunMiscUnsafeMemoryAccess"))
+            .allSources(s -> s.markers(javaVersion(17)))
+            .dataTable(RecipeCostEstimates.Row.class, rows -> assertThat(rows)
+              .extracting(RecipeCostEstimates.Row::getRecipeName, RecipeCostEstimates.Row::isHasPrecondition,
+                RecipeCostEstimates.Row::getSourceFiles)
+              .containsExactly(
+                // The composite is a singleton, and the recipes that need Java 22 do not apply to Java 17
+                tuple("org.openrewrite.java.migrate.lang.MigrateUnsafeFieldOffsetToVarHandle", true, 1),
+                tuple("org.openrewrite.java.migrate.lang.MigrateUnsafeOffHeapMemoryToMemorySegment", true, 0),
+                tuple("org.openrewrite.java.migrate.lang.MigrateDirectBufferCleanerToArena", true, 0)
+              )),
+          //language=java
+          java(
+            """
+              import sun.misc.Unsafe;
+
+              class Counter {
+                  private static final Unsafe UNSAFE = null;
+                  private static final long VALUE_OFFSET;
+
+                  static {
+                      try {
+                          VALUE_OFFSET = UNSAFE.objectFieldOffset(Counter.class.getDeclaredField("value"));
+                      } catch (Exception e) {
+                          throw new ExceptionInInitializerError(e);
+                      }
+                  }
+
+                  private volatile long value;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              class B {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void estimateRecipeMustExist() {
+        assertThat(new PlanJavaMigration("org.openrewrite.java.migrate.DoesNotExist")
+          .validate(new InMemoryExecutionContext()).isInvalid()).isTrue();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.migrate.table.ParallelStreamUses;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
+
+class FindParallelStreamsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindParallelStreams());
+    }
+
+    @DocumentExample
+    @Test
+    void classifiesParallelStreams() {
+        rewriteRun(
+          spec -> spec.dataTable(ParallelStreamUses.Row.class, rows -> assertThat(rows)
+            .extracting(ParallelStreamUses.Row::getSourceType, ParallelStreamUses.Row::getVerdict)
+            .containsExactly(
+              tuple("List.of", "UNPROFITABLE"),
+              tuple("java.util.List", "UNSAFE"),
+              tuple("java.util.List", "BLOCKING"),
+              tuple("java.util.List", "REVIEW")
+            )),
+          //language=java
+          java(
+            """
+              import java.nio.file.Files;
+              import java.nio.file.Path;
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Reports {
+                  int total() {
+                      return List.of(1, 2, 3).parallelStream().mapToInt(i -> i).sum();
+                  }
+
+                  List<String> names(List<String> users) {
+                      List<String> names = new ArrayList<>();
+                      users.parallelStream().map(String::trim).forEach(names::add);
+                      return names;
+                  }
+
+                  boolean allExist(List<Path> paths) {
+                      return paths.parallelStream().allMatch(p -> Files.exists(p));
+                  }
+
+                  long count(List<String> lines) {
+                      return lines.stream().parallel().filter(String::isEmpty).count();
+                  }
+              }
+              """,
+            """
+              import java.nio.file.Files;
+              import java.nio.file.Path;
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Reports {
+                  int total() {
+                      return /*~~(`List.of` has only 3 elements)~~>*/List.of(1, 2, 3).parallelStream().mapToInt(i -> i).sum();
+                  }
+
+                  List<String> names(List<String> users) {
+                      List<String> names = new ArrayList<>();
+                      /*~~(Mutates `names` from several threads)~~>*/users.parallelStream().map(String::trim).forEach(names::add);
+                      return names;
+                  }
+
+                  boolean allExist(List<Path> paths) {
+                      return /*~~(Blocks a thread of the common pool on `Files#exists`)~~>*/paths.parallelStream().allMatch(p -> Files.exists(p));
+                  }
+
+                  long count(List<String> lines) {
+                      return /*~~(Only profitable on large sources of `java.util.List`)~~>*/lines.stream().parallel().filter(String::isEmpty).count();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void sequentialStreams() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Reports {
+                  int total(List<Integer> amounts) {
+                      return amounts.stream().mapToInt(i -> i).sum();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
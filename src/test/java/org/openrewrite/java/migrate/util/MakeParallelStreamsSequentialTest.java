@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class MakeParallelStreamsSequentialTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MakeParallelStreamsSequential());
+    }
+
+    @DocumentExample
+    @Test
+    void sharedArrayList() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Users {
+                  List<String> names(List<String> users) {
+                      List<String> names = new ArrayList<>();
+                      users.parallelStream().map(String::trim).forEach(names::add);
+                      return names;
+                  }
+              }
+              """,
+            """
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Users {
+                  List<String> names(List<String> users) {
+                      List<String> names = new ArrayList<>();
+                      users.stream().map(String::trim).forEach(names::add);
+                      return names;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void smallAndPoorlySplittingSources() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.LinkedList;
+              import java.util.stream.IntStream;
+              import java.util.stream.Stream;
+
+              class Numbers {
+                  int sum() {
+                      return IntStream.range(0, 100)
+                        .parallel()
+                        .sum();
+                  }
+
+                  long powers() {
+                      return Stream.iterate(1L, x -> x * 2).limit(20).parallel().count();
+                  }
+
+                  long positives(LinkedList<Integer> numbers) {
+                      return numbers.parallelStream().filter(n -> n > 0).count();
+                  }
+              }
+              """,
+            """
+              import java.util.LinkedList;
+              import java.util.stream.IntStream;
+              import java.util.stream.Stream;
+
+              class Numbers {
+                  int sum() {
+                      return IntStream.range(0, 100)
+                        .sum();
+                  }
+
+                  long powers() {
+                      return Stream.iterate(1L, x -> x * 2).limit(20).count();
+                  }
+
+                  long positives(LinkedList<Integer> numbers) {
+                      return numbers.stream().filter(n -> n > 0).count();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void blockingOrLargeSources() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.nio.file.Files;
+              import java.nio.file.Path;
+              import java.util.List;
+              import java.util.stream.IntStream;
+
+              class Checks {
+                  boolean allExist(List<Path> paths) {
+                      return paths.parallelStream().allMatch(p -> Files.exists(p));
+                  }
+
+                  long primes() {
+                      return IntStream.rangeClosed(2, 10_000_000).parallel().filter(Checks::isPrime).count();
+                  }
+
+                  static boolean isPrime(int n) {
+                      return IntStream.rangeClosed(2, (int) Math.sqrt(n)).noneMatch(d -> n % d == 0);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void smallSourceWithExpensiveFunctions() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.stream.IntStream;
+
+              class Renderer {
+                  void renderTiles() {
+                      IntStream.range(0, 8).parallel().forEach(i -> renderTile(i));
+                  }
+
+                  void renderTile(int tile) {
+                  }
+              }
+              """
+          )
+        );
+    }
+}
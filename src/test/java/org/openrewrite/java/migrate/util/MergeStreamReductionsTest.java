@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+class MergeStreamReductionsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MergeStreamReductions())
+          .allSources(s -> s.markers(javaVersion(17)));
+    }
+
+    @DocumentExample
+    @Test
+    void minMaxSumAndCount() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Report {
+                  record Order(int quantity) {
+                  }
+
+                  String summarize(List<Order> orders) {
+                      int min = orders.stream().mapToInt(Order::quantity).min().orElse(0);
+                      int max = orders.stream().mapToInt(Order::quantity).max().orElse(0);
+                      int total = orders.stream().mapToInt(Order::quantity).sum();
+                      long count = orders.stream().count();
+                      return min + ".." + max + ": " + total + " in " + count;
+                  }
+              }
+              """,
+            """
+              import java.util.IntSummaryStatistics;
+              import java.util.List;
+
+              class Report {
+                  record Order(int quantity) {
+                  }
+
+                  String summarize(List<Order> orders) {
+                      IntSummaryStatistics ordersStatistics = orders.stream().mapToInt(Order::quantity).summaryStatistics();
+                      int min = ordersStatistics.getCount() == 0 ? 0 : ordersStatistics.getMin();
+                      int max = ordersStatistics.getCount() == 0 ? 0 : ordersStatistics.getMax();
+                      int total = (int) ordersStatistics.getSum();
+                      long count = ordersStatistics.getCount();
+                      return min + ".." + max + ": " + total + " in " + count;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void filteredSumAndAverage() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Report {
+                  double[] sizes(List<String> lines) {
+                      long sum = lines.stream().filter(l -> !l.isEmpty()).mapToLong(String::length).sum();
+                      double average = lines.stream().filter(l -> !l.isEmpty()).mapToLong(String::length).average().orElse(0);
+                      return new double[]{sum, average};
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+              import java.util.LongSummaryStatistics;
+
+              class Report {
+                  double[] sizes(List<String> lines) {
+                      LongSummaryStatistics linesStatistics = lines.stream().filter(l -> !l.isEmpty()).mapToLong(String::length).summaryStatistics();
+                      long sum = linesStatistics.getSum();
+                      double average = linesStatistics.getAverage();
+                      return new double[]{sum, average};
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void teeingOnJava12() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+              import java.util.Map;
+              import java.util.stream.Collectors;
+
+              class Report {
+                  void index(List<String> words) {
+                      Map<Integer, List<String>> byLength = words.stream().collect(Collectors.groupingBy(String::length));
+                      String joined = words.stream().collect(Collectors.joining(","));
+                  }
+              }
+              """,
+            """
+              import java.util.AbstractMap;
+              import java.util.List;
+              import java.util.Map;
+              import java.util.stream.Collectors;
+
+              class Report {
+                  void index(List<String> words) {
+                      Map.Entry<Map<Integer, List<String>>, String> byLengthAndJoined = words.stream().collect(Collectors.teeing(Collectors.groupingBy(String::length), Collectors.joining(","), AbstractMap.SimpleImmutableEntry::new));
+                      Map<Integer, List<String>> byLength = byLengthAndJoined.getKey();
+                      String joined = byLengthAndJoined.getValue();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noTeeingBeforeJava12() {
+        rewriteRun(
+          spec -> spec.allSources(s -> s.markers(javaVersion(11))),
+          //language=java
+          java(
+            """
+              import java.util.List;
+              import java.util.Map;
+              import java.util.stream.Collectors;
+
+              class Report {
+                  void index(List<String> words) {
+                      Map<Integer, List<String>> byLength = words.stream().collect(Collectors.groupingBy(String::length));
+                      String joined = words.stream().collect(Collectors.joining(","));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void throwsOnEmptyStream() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Report {
+                  int range(List<Integer> values) {
+                      int min = values.stream().mapToInt(Integer::intValue).min().getAsInt();
+                      int max = values.stream().mapToInt(Integer::intValue).max().getAsInt();
+                      return max - min;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void differentSourcesOrMappers() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Report {
+                  int sums(List<String> a, List<String> b) {
+                      int first = a.stream().mapToInt(String::length).sum();
+                      int second = b.stream().mapToInt(String::length).sum();
+                      int hashes = b.stream().mapToInt(String::hashCode).sum();
+                      return first + second + hashes;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void sourceModifiedInBetween() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Report {
+                  int sums(List<String> words) {
+                      int before = words.stream().mapToInt(String::length).sum();
+                      words.add("more");
+                      int after = words.stream().mapToInt(String::length).sum();
+                      return after - before;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
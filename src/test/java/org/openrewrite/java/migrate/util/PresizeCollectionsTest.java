@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+class PresizeCollectionsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new PresizeCollections());
+    }
+
+    @DocumentExample
+    @Test
+    void listFilledFromCollection() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.ArrayList;
+              import java.util.Collection;
+              import java.util.List;
+
+              class Test {
+                  List<String> names(Collection<Integer> ids) {
+                      List<String> names = new ArrayList<>();
+                      for (Integer id : ids) {
+                          names.add("#" + id);
+                      }
+                      return names;
+                  }
+              }
+              """,
+            """
+              import java.util.ArrayList;
+              import java.util.Collection;
+              import java.util.List;
+
+              class Test {
+                  List<String> names(Collection<Integer> ids) {
+                      List<String> names = new ArrayList<>(ids.size());
+                      for (Integer id : ids) {
+                          names.add("#" + id);
+                      }
+                      return names;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void listFilledFromArrayByIndex() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Test {
+                  List<Integer> lengths(String[] words) {
+                      List<Integer> lengths = new ArrayList<>();
+                      for (int i = 0; i < words.length; i++) {
+                          lengths.add(words[i].length());
+                      }
+                      return lengths;
+                  }
+              }
+              """,
+            """
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Test {
+                  List<Integer> lengths(String[] words) {
+                      List<Integer> lengths = new ArrayList<>(words.length);
+                      for (int i = 0; i < words.length; i++) {
+                          lengths.add(words[i].length());
+                      }
+                      return lengths;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void mapFilledFromMapOnJava21() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashMap;
+              import java.util.Map;
+
+              class Test {
+                  Map<String, Integer> inverse(Map<Integer, String> names) {
+                      Map<String, Integer> inverse = new HashMap<>();
+                      for (Map.Entry<Integer, String> entry : names.entrySet()) {
+                          inverse.put(entry.getValue(), entry.getKey());
+                      }
+                      return inverse;
+                  }
+              }
+              """,
+            """
+              import java.util.HashMap;
+              import java.util.Map;
+
+              class Test {
+                  Map<String, Integer> inverse(Map<Integer, String> names) {
+                      Map<String, Integer> inverse = HashMap.newHashMap(names.size());
+                      for (Map.Entry<Integer, String> entry : names.entrySet()) {
+                          inverse.put(entry.getValue(), entry.getKey());
+                      }
+                      return inverse;
+                  }
+              }
+              """,
+            spec -> spec.markers(javaVersion(21))
+          )
+        );
+    }
+
+    @Test
+    void capacityToExpectedSizeOnJava21() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashSet;
+              import java.util.List;
+              import java.util.Set;
+
+              class Test {
+                  Set<String> unique(List<String> names) {
+                      Set<String> unique = new HashSet<>(names.size());
+                      unique.addAll(names);
+                      return unique;
+                  }
+              }
+              """,
+            """
+              import java.util.HashSet;
+              import java.util.List;
+              import java.util.Set;
+
+              class Test {
+                  Set<String> unique(List<String> names) {
+                      Set<String> unique = HashSet.newHashSet(names.size());
+                      unique.addAll(names);
+                      return unique;
+                  }
+              }
+              """,
+            spec -> spec.markers(javaVersion(21))
+          )
+        );
+    }
+
+    @Test
+    void noChangeToVarWithCapacity() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashMap;
+              import java.util.List;
+
+              class Test {
+                  int count(List<String> names) {
+                      var lengths = new HashMap<String, Integer>(names.size());
+                      for (String name : names) {
+                          lengths.merge(name, 1, Integer::sum);
+                      }
+                      return lengths.size();
+                  }
+              }
+              """,
+            spec -> spec.markers(javaVersion(21))
+          )
+        );
+    }
+
+    @Test
+    void noChangeToHashMapBeforeJava19() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashMap;
+              import java.util.List;
+              import java.util.Map;
+
+              class Test {
+                  Map<String, Integer> lengths(List<String> names) {
+                      Map<String, Integer> lengths = new HashMap<>(names.size());
+                      for (String name : names) {
+                          lengths.put(name, name.length());
+                      }
+                      return lengths;
+                  }
+              }
+              """,
+            spec -> spec.markers(javaVersion(17))
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenAddIsConditional() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Test {
+                  List<String> nonEmpty(List<String> names) {
+                      List<String> nonEmpty = new ArrayList<>();
+                      for (String name : names) {
+                          if (!name.isEmpty()) {
+                              nonEmpty.add(name);
+                          }
+                      }
+                      return nonEmpty;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenLoopIsNotAdjacent() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Test {
+                  List<String> copy(List<String> names) {
+                      List<String> copy = new ArrayList<>();
+                      copy.add("first");
+                      for (String name : names) {
+                          copy.add(name);
+                      }
+                      return copy;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ReplaceLinkedListTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ReplaceLinkedList());
+    }
+
+    @DocumentExample
+    @Test
+    void indexedList() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.LinkedList;
+              import java.util.List;
+
+              class Report {
+                  int total(List<Integer> values) {
+                      List<Integer> copy = new LinkedList<>(values);
+                      int total = 0;
+                      for (int i = 0; i < copy.size(); i++) {
+                          total += copy.get(i);
+                      }
+                      return total;
+                  }
+              }
+              """,
+            """
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Report {
+                  int total(List<Integer> values) {
+                      List<Integer> copy = new ArrayList<>(values);
+                      int total = 0;
+                      for (int i = 0; i < copy.size(); i++) {
+                          total += copy.get(i);
+                      }
+                      return total;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void queueField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.LinkedList;
+
+              class Scheduler {
+                  private final LinkedList<Runnable> pending = new LinkedList<>();
+
+                  void submit(Runnable task) {
+                      pending.addLast(task);
+                  }
+
+                  void runAll() {
+                      while (!pending.isEmpty()) {
+                          pending.pollFirst().run();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void queueOfNewObjects() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.LinkedList;
+
+              class Scheduler {
+                  private final LinkedList<Thread> pending = new LinkedList<>();
+
+                  void submit(Runnable task) {
+                      pending.addLast(new Thread(task));
+                  }
+
+                  void startAll() {
+                      while (!pending.isEmpty()) {
+                          pending.pollFirst().start();
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.ArrayDeque;
+
+              class Scheduler {
+                  private final ArrayDeque<Thread> pending = new ArrayDeque<>();
+
+                  void submit(Runnable task) {
+                      pending.addLast(new Thread(task));
+                  }
+
+                  void startAll() {
+                      while (!pending.isEmpty()) {
+                          pending.pollFirst().start();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void queueCopiedFromCollection() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Collection;
+              import java.util.Deque;
+              import java.util.LinkedList;
+
+              class Worklist {
+                  String first(Collection<String> items) {
+                      Deque<String> work = new LinkedList<>(items);
+                      return work.pollFirst();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void stack() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Deque;
+              import java.util.LinkedList;
+
+              class Parser {
+                  int depth(String text) {
+                      Deque<Character> open = new LinkedList<>();
+                      for (char c : text.toCharArray()) {
+                          if (c == '(') {
+                              open.push(c);
+                          } else if (c == ')') {
+                              open.pop();
+                          }
+                      }
+                      return open.size();
+                  }
+              }
+              """,
+            """
+              import java.util.ArrayDeque;
+              import java.util.Deque;
+
+              class Parser {
+                  int depth(String text) {
+                      Deque<Character> open = new ArrayDeque<>();
+                      for (char c : text.toCharArray()) {
+                          if (c == '(') {
+                              open.push(c);
+                          } else if (c == ')') {
+                              open.pop();
+                          }
+                      }
+                      return open.size();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void listIteratorInsertion() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.LinkedList;
+              import java.util.List;
+              import java.util.ListIterator;
+
+              class Editor {
+                  void duplicate(List<String> source) {
+                      LinkedList<String> lines = new LinkedList<>(source);
+                      for (ListIterator<String> it = lines.listIterator(); it.hasNext(); ) {
+                          it.add(it.next());
+                      }
+                      lines.get(0);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void indexedInsertion() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.LinkedList;
+              import java.util.List;
+
+              class History {
+                  String newest(List<String> events) {
+                      LinkedList<String> history = new LinkedList<>();
+                      for (String event : events) {
+                          history.add(0, event);
+                      }
+                      history.addAll(0, events);
+                      return history.get(0);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void indexedAndQueue() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.LinkedList;
+
+              class Window {
+                  private final LinkedList<Integer> values = new LinkedList<>();
+
+                  int slide(int value) {
+                      values.addLast(value);
+                      values.removeFirst();
+                      return values.get(values.size() / 2);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void escapes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.LinkedList;
+              import java.util.List;
+
+              class Registry {
+                  final List<String> names = new LinkedList<>();
+
+                  List<String> build() {
+                      List<String> result = new LinkedList<>();
+                      result.add("a");
+                      return result;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void queueOfNulls() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.LinkedList;
+              import java.util.Queue;
+
+              class Signals {
+                  private final Queue<String> signals = new LinkedList<>();
+
+                  void stop() {
+                      signals.offer(null);
+                  }
+
+                  String next() {
+                      return signals.poll();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
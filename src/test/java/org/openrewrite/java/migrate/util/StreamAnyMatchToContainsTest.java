@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class StreamAnyMatchToContainsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new StreamAnyMatchToContains());
+    }
+
+    @DocumentExample
+    @Test
+    void anyMatchEquals() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashSet;
+
+              class Roles {
+                  boolean isAdmin(HashSet<String> roles, String admin) {
+                      return roles.stream().anyMatch(admin::equals);
+                  }
+              }
+              """,
+            """
+              import java.util.HashSet;
+
+              class Roles {
+                  boolean isAdmin(HashSet<String> roles, String admin) {
+                      return roles.contains(admin);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void lambdas() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Objects;
+              import java.util.Set;
+
+              class Roles {
+                  static final String ADMIN = "admin";
+
+                  boolean isAdmin(Set<String> roles) {
+                      return roles.stream().anyMatch(r -> r.equals(ADMIN));
+                  }
+
+                  boolean isGuest(Set<String> roles, String guest) {
+                      return roles.stream().noneMatch(r -> Objects.equals(guest, r));
+                  }
+              }
+              """,
+            """
+              import java.util.Set;
+
+              class Roles {
+                  static final String ADMIN = "admin";
+
+                  boolean isAdmin(Set<String> roles) {
+                      return roles.contains(ADMIN);
+                  }
+
+                  boolean isGuest(Set<String> roles, String guest) {
+                      return !roles.contains(guest);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void notAHashedSet() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+              import java.util.TreeSet;
+
+              class Roles {
+                  boolean inList(List<String> roles, String admin) {
+                      return roles.stream().anyMatch(admin::equals);
+                  }
+
+                  boolean inSortedSet(TreeSet<String> roles, String admin) {
+                      return roles.stream().anyMatch(admin::equals);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void comparedWithComputedValue() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Set;
+
+              class Roles {
+                  boolean isAdmin(Set<String> roles) {
+                      return roles.stream().anyMatch(r -> r.equals(admin()));
+                  }
+
+                  String admin() {
+                      return "admin";
+                  }
+              }
+              """
+          )
+        );
+    }
+}
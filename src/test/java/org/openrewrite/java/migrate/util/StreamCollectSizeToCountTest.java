@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class StreamCollectSizeToCountTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new StreamCollectSizeToCount());
+    }
+
+    @DocumentExample
+    @Test
+    void collectToListSize() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class Names {
+                  boolean hasBlanks(List<String> names) {
+                      return names.stream().filter(String::isBlank).collect(Collectors.toList()).size() > 0;
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+
+              class Names {
+                  boolean hasBlanks(List<String> names) {
+                      return names.stream().filter(String::isBlank).count() > 0;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void streamToListSize() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Names {
+                  boolean single(List<String> names) {
+                      return names.stream().distinct().toList().size() == 1;
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+
+              class Names {
+                  boolean single(List<String> names) {
+                      return names.stream().distinct().count() == 1;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void sizeNotCompared() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class Names {
+                  int blanks(List<String> names) {
+                      return names.stream().filter(String::isBlank).collect(Collectors.toList()).size();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void peekedPipeline() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Names {
+                  boolean any(List<String> names) {
+                      return names.stream().peek(System.out::println).toList().size() > 0;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class StreamCountToCollectionSizeTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new StreamCountToCollectionSize());
+    }
+
+    @DocumentExample
+    @Test
+    void comparedCount() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Names {
+                  boolean many(List<String> names) {
+                      return names.stream().count() > 10;
+                  }
+
+                  long count(List<String> names) {
+                      long count = names.stream().count();
+                      return count;
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+
+              class Names {
+                  boolean many(List<String> names) {
+                      return names.size() > 10;
+                  }
+
+                  long count(List<String> names) {
+                      long count = names.size();
+                      return count;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void returnedCount() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Set;
+
+              class Names {
+                  long count(Set<String> names) {
+                      return names.stream().count();
+                  }
+              }
+              """,
+            """
+              import java.util.Set;
+
+              class Names {
+                  long count(Set<String> names) {
+                      return names.size();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void countMustStayLong() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Names {
+                  Long boxed(List<String> names) {
+                      return names.stream().count();
+                  }
+
+                  long scaled(List<String> names) {
+                      return names.stream().count() * Integer.MAX_VALUE;
+                  }
+
+                  void inferred(List<String> names) {
+                      var count = names.stream().count();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void filteredCount() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Names {
+                  long blank(List<String> names) {
+                      return names.stream().filter(String::isBlank).count();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class StreamFilterFindFirstToAnyMatchTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new StreamFilterFindFirstToAnyMatch());
+    }
+
+    @DocumentExample
+    @Test
+    void filterFindFirstIsPresent() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Names {
+                  boolean hasBlank(List<String> names) {
+                      return names.stream().filter(String::isBlank).findFirst().isPresent();
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+
+              class Names {
+                  boolean hasBlank(List<String> names) {
+                      return names.stream().anyMatch(String::isBlank);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void findAnyIsEmpty() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.stream.IntStream;
+
+              class Numbers {
+                  boolean allPositive(IntStream numbers) {
+                      return numbers.filter(n -> n <= 0).findAny().isEmpty();
+                  }
+              }
+              """,
+            """
+              import java.util.stream.IntStream;
+
+              class Numbers {
+                  boolean allPositive(IntStream numbers) {
+                      return numbers.noneMatch(n -> n <= 0);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void findFirstValueUsed() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Names {
+                  String firstBlank(List<String> names) {
+                      return names.stream().filter(String::isBlank).findFirst().orElse(null);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
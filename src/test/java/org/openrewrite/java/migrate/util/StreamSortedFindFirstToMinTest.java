@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class StreamSortedFindFirstToMinTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new StreamSortedFindFirstToMin());
+    }
+
+    @DocumentExample
+    @Test
+    void sortedWithComparator() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Comparator;
+              import java.util.List;
+              import java.util.Optional;
+
+              class Orders {
+                  record Order(long createdAt) {
+                  }
+
+                  Optional<Order> oldest(List<Order> orders) {
+                      return orders.stream().sorted(Comparator.comparingLong(Order::createdAt)).findFirst();
+                  }
+
+                  Optional<Order> newest(List<Order> orders) {
+                      return orders.stream().sorted(Comparator.comparingLong(Order::createdAt).reversed()).findFirst();
+                  }
+              }
+              """,
+            """
+              import java.util.Comparator;
+              import java.util.List;
+              import java.util.Optional;
+
+              class Orders {
+                  record Order(long createdAt) {
+                  }
+
+                  Optional<Order> oldest(List<Order> orders) {
+                      return orders.stream().min(Comparator.comparingLong(Order::createdAt));
+                  }
+
+                  Optional<Order> newest(List<Order> orders) {
+                      return orders.stream().max(Comparator.comparingLong(Order::createdAt));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void naturalOrder() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Collections;
+              import java.util.List;
+
+              class Names {
+                  String first(List<String> names) {
+                      return names.stream().sorted().findFirst().orElse("");
+                  }
+
+                  String last(List<String> names) {
+                      return names.stream().sorted(Collections.reverseOrder()).findFirst().orElse("");
+                  }
+              }
+              """,
+            """
+              import java.util.Comparator;
+              import java.util.List;
+
+              class Names {
+                  String first(List<String> names) {
+                      return names.stream().min(Comparator.naturalOrder()).orElse("");
+                  }
+
+                  String last(List<String> names) {
+                      return names.stream().max(Comparator.naturalOrder()).orElse("");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void primitiveStreams() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.stream.DoubleStream;
+              import java.util.stream.IntStream;
+
+              class Numbers {
+                  int smallest(IntStream numbers) {
+                      return numbers.sorted().findFirst().orElse(0);
+                  }
+
+                  double smallest(DoubleStream numbers) {
+                      return numbers.sorted().findFirst().orElse(0);
+                  }
+              }
+              """,
+            """
+              import java.util.stream.DoubleStream;
+              import java.util.stream.IntStream;
+
+              class Numbers {
+                  int smallest(IntStream numbers) {
+                      return numbers.min().orElse(0);
+                  }
+
+                  double smallest(DoubleStream numbers) {
+                      return numbers.sorted().findFirst().orElse(0);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void sortedAndCollected() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class Names {
+                  List<String> sorted(List<String> names) {
+                      return names.stream().sorted().collect(Collectors.toList());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void elementsNotComparable() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Collections;
+              import java.util.List;
+              import java.util.Optional;
+
+              class Shapes {
+                  interface Shape {
+                  }
+
+                  Optional<Shape> first(List<Shape> shapes) {
+                      return shapes.stream().sorted().findFirst();
+                  }
+
+                  Optional<Shape> last(List<Shape> shapes) {
+                      return shapes.stream().sorted(Collections.reverseOrder()).findFirst();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
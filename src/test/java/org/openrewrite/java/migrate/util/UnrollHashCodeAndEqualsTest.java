@@ -0,0 +1,346 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UnrollHashCodeAndEqualsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new UnrollHashCodeAndEquals())
+          .parser(
+            //language=java
+            JavaParser.fromJavaVersion().dependsOn(
+              """
+                package org.apache.commons.lang3.builder;
+
+                public class HashCodeBuilder {
+                    public HashCodeBuilder() {}
+                    public HashCodeBuilder(int initialOddNumber, int multiplierOddNumber) {}
+                    public static int reflectionHashCode(Object object) { return 0; }
+                    public HashCodeBuilder append(boolean value) { return this; }
+                    public HashCodeBuilder append(int value) { return this; }
+                    public HashCodeBuilder append(long value) { return this; }
+                    public HashCodeBuilder append(Object object) { return this; }
+                    public HashCodeBuilder append(int[] array) { return this; }
+                    public HashCodeBuilder appendSuper(int superHashCode) { return this; }
+                    public int toHashCode() { return 0; }
+                }
+                """,
+              """
+                package org.apache.commons.lang3.builder;
+
+                public class EqualsBuilder {
+                    public static boolean reflectionEquals(Object lhs, Object rhs) { return false; }
+                }
+                """
+            )
+          );
+    }
+
+    @DocumentExample
+    @Test
+    void objectsHash() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Objects;
+
+              class Point {
+                  String label;
+                  int x;
+                  long y;
+                  boolean visible;
+
+                  @Override
+                  public int hashCode() {
+                      return Objects.hash(label, x, y, visible);
+                  }
+              }
+              """,
+            """
+              import java.util.Objects;
+
+              class Point {
+                  String label;
+                  int x;
+                  long y;
+                  boolean visible;
+
+                  @Override
+                  public int hashCode() {
+                      int result = 31 + Objects.hashCode(label);
+                      result = 31 * result + x;
+                      result = 31 * result + Long.hashCode(y);
+                      result = 31 * result + Boolean.hashCode(visible);
+                      return result;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void arraysHashCodeOfNewArray() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Arrays;
+
+              class Range {
+                  double low;
+                  double high;
+
+                  @Override
+                  public int hashCode() {
+                      return Arrays.hashCode(new Object[]{low, high});
+                  }
+              }
+              """,
+            """
+              class Range {
+                  double low;
+                  double high;
+
+                  @Override
+                  public int hashCode() {
+                      int result = 31 + Double.hashCode(low);
+                      result = 31 * result + Double.hashCode(high);
+                      return result;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void singleValue() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Objects;
+
+              class Name {
+                  String value;
+
+                  @Override
+                  public int hashCode() {
+                      return Objects.hash(value);
+                  }
+              }
+              """,
+            """
+              import java.util.Objects;
+
+              class Name {
+                  String value;
+
+                  @Override
+                  public int hashCode() {
+                      return 31 + Objects.hashCode(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void hashCodeBuilderChain() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+              class Account {
+                  String owner;
+                  int number;
+                  boolean closed;
+
+                  @Override
+                  public int hashCode() {
+                      return new HashCodeBuilder(17, 37).appendSuper(super.hashCode()).append(owner).append(number).append(closed).toHashCode();
+                  }
+              }
+              """,
+            """
+              import java.util.Objects;
+
+              class Account {
+                  String owner;
+                  int number;
+                  boolean closed;
+
+                  @Override
+                  public int hashCode() {
+                      int result = 629 + super.hashCode();
+                      result = 37 * result + Objects.hashCode(owner);
+                      result = 37 * result + number;
+                      result = 37 * result + (closed ? 0 : 1);
+                      return result;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reflectionBuilders() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.builder.EqualsBuilder;
+              import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+              final class Money {
+                  private static final String DEFAULT_CURRENCY = "EUR";
+                  private final String currency;
+                  private final long cents;
+                  private transient String formatted;
+
+                  Money(String currency, long cents) {
+                      this.currency = currency;
+                      this.cents = cents;
+                  }
+
+                  @Override
+                  public boolean equals(Object obj) {
+                      return EqualsBuilder.reflectionEquals(this, obj);
+                  }
+
+                  @Override
+                  public int hashCode() {
+                      return HashCodeBuilder.reflectionHashCode(this);
+                  }
+              }
+              """,
+            """
+              import java.util.Objects;
+
+              final class Money {
+                  private static final String DEFAULT_CURRENCY = "EUR";
+                  private final String currency;
+                  private final long cents;
+                  private transient String formatted;
+
+                  Money(String currency, long cents) {
+                      this.currency = currency;
+                      this.cents = cents;
+                  }
+
+                  @Override
+                  public boolean equals(Object obj) {
+                      if (this == obj) {
+                          return true;
+                      }
+                      if (!(obj instanceof Money)) {
+                          return false;
+                      }
+                      Money that = (Money) obj;
+                      return cents == that.cents && Objects.equals(currency, that.currency);
+                  }
+
+                  @Override
+                  public int hashCode() {
+                      int result = 629 + Long.hashCode(cents);
+                      result = 37 * result + Objects.hashCode(currency);
+                      return result;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForVarargsArray() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Objects;
+
+              class Key {
+                  Object[] parts;
+
+                  @Override
+                  public int hashCode() {
+                      return Objects.hash(parts);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForReflectionInNonFinalClass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+              class Money {
+                  private String currency;
+
+                  @Override
+                  public int hashCode() {
+                      return HashCodeBuilder.reflectionHashCode(this);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForBuilderArrayAppend() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+              class Samples {
+                  int[] values;
+
+                  @Override
+                  public int hashCode() {
+                      return new HashCodeBuilder().append(values).toHashCode();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseEnumMapAndEnumSetTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseEnumMapAndEnumSet());
+    }
+
+    @DocumentExample
+    @Test
+    void hashMapWithEnumKey() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashMap;
+              import java.util.Map;
+              import java.util.concurrent.TimeUnit;
+
+              class Test {
+                  Map<TimeUnit, Long> totals = new HashMap<>();
+              }
+              """,
+            """
+              import java.util.EnumMap;
+              import java.util.Map;
+              import java.util.concurrent.TimeUnit;
+
+              class Test {
+                  Map<TimeUnit, Long> totals = new EnumMap<>(TimeUnit.class);
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void hashSetWithEnumElements() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashSet;
+              import java.util.Set;
+              import java.util.concurrent.TimeUnit;
+
+              class Test {
+                  Set<TimeUnit> units() {
+                      Set<TimeUnit> units;
+                      units = new HashSet<>(4);
+                      return units;
+                  }
+              }
+              """,
+            """
+              import java.util.EnumSet;
+              import java.util.Set;
+              import java.util.concurrent.TimeUnit;
+
+              class Test {
+                  Set<TimeUnit> units() {
+                      Set<TimeUnit> units;
+                      units = EnumSet.noneOf(TimeUnit.class);
+                      return units;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void returnedMap() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashMap;
+              import java.util.Map;
+              import java.util.concurrent.TimeUnit;
+
+              class Test {
+                  Map<TimeUnit, String> names() {
+                      return new HashMap<TimeUnit, String>();
+                  }
+              }
+              """,
+            """
+              import java.util.EnumMap;
+              import java.util.Map;
+              import java.util.concurrent.TimeUnit;
+
+              class Test {
+                  Map<TimeUnit, String> names() {
+                      return new EnumMap<>(TimeUnit.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void groupingBy() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+              import java.util.Map;
+              import java.util.concurrent.TimeUnit;
+              import java.util.stream.Collectors;
+
+              class Test {
+                  Map<TimeUnit, List<String>> byUnit(List<String> names) {
+                      return names.stream().collect(Collectors.groupingBy(TimeUnit::valueOf));
+                  }
+
+                  Map<TimeUnit, Long> countByUnit(List<String> names) {
+                      return names.stream().collect(Collectors.groupingBy(TimeUnit::valueOf, Collectors.counting()));
+                  }
+              }
+              """,
+            """
+              import java.util.EnumMap;
+              import java.util.List;
+              import java.util.Map;
+              import java.util.concurrent.TimeUnit;
+              import java.util.stream.Collectors;
+
+              class Test {
+                  Map<TimeUnit, List<String>> byUnit(List<String> names) {
+                      return names.stream().collect(Collectors.groupingBy(TimeUnit::valueOf, () -> new EnumMap<>(TimeUnit.class), Collectors.toList()));
+                  }
+
+                  Map<TimeUnit, Long> countByUnit(List<String> names) {
+                      return names.stream().collect(Collectors.groupingBy(TimeUnit::valueOf, () -> new EnumMap<>(TimeUnit.class), Collectors.counting()));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void toMapWithMergeFunction() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+              import java.util.Map;
+              import java.util.concurrent.TimeUnit;
+              import java.util.stream.Collectors;
+
+              class Test {
+                  Map<TimeUnit, Integer> lengths(List<String> names) {
+                      return names.stream().collect(Collectors.toMap(TimeUnit::valueOf, String::length, Integer::sum));
+                  }
+              }
+              """,
+            """
+              import java.util.EnumMap;
+              import java.util.List;
+              import java.util.Map;
+              import java.util.concurrent.TimeUnit;
+              import java.util.stream.Collectors;
+
+              class Test {
+                  Map<TimeUnit, Integer> lengths(List<String> names) {
+                      return names.stream().collect(Collectors.toMap(TimeUnit::valueOf, String::length, Integer::sum, () -> new EnumMap<>(TimeUnit.class)));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForNonEnumKeys() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashMap;
+              import java.util.Map;
+
+              class Test {
+                  Map<String, Long> totals = new HashMap<>();
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenDeclaredAsHashMap() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashMap;
+              import java.util.concurrent.TimeUnit;
+
+              class Test {
+                  HashMap<TimeUnit, Long> totals = new HashMap<>();
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForCopyConstructor() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashMap;
+              import java.util.Map;
+              import java.util.concurrent.TimeUnit;
+
+              class Test {
+                  Map<TimeUnit, Long> copy(Map<TimeUnit, Long> totals) {
+                      Map<TimeUnit, Long> copy = new HashMap<>(totals);
+                      return copy;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForToMapWithoutMergeFunction() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+              import java.util.Map;
+              import java.util.concurrent.TimeUnit;
+              import java.util.stream.Collectors;
+
+              class Test {
+                  Map<TimeUnit, Integer> lengths(List<String> names) {
+                      return names.stream().collect(Collectors.toMap(TimeUnit::valueOf, String::length));
+                  }
+              }
+              """
+          )
+        );
+    }
+}
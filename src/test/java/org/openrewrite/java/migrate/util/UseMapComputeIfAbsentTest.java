@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseMapComputeIfAbsentTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseMapComputeIfAbsent());
+    }
+
+    @DocumentExample
+    @Test
+    void putIfMissingThenGet() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.ArrayList;
+              import java.util.List;
+              import java.util.Map;
+
+              class Test {
+                  void add(Map<String, List<Integer>> index, String word, int line) {
+                      if (!index.containsKey(word)) {
+                          index.put(word, new ArrayList<>());
+                      }
+                      index.get(word).add(line);
+                  }
+              }
+              """,
+            """
+              import java.util.ArrayList;
+              import java.util.List;
+              import java.util.Map;
+
+              class Test {
+                  void add(Map<String, List<Integer>> index, String word, int line) {
+                      index.computeIfAbsent(word, key -> new ArrayList<>()).add(line);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void getThenPutIfNull() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashSet;
+              import java.util.Map;
+              import java.util.Set;
+
+              class Test {
+                  void add(Map<String, Set<String>> graph, String from, String to) {
+                      Set<String> edges = graph.get(from);
+                      if (edges == null) {
+                          edges = new HashSet<>();
+                          graph.put(from, edges);
+                      }
+                      edges.add(to);
+                  }
+              }
+              """,
+            """
+              import java.util.HashSet;
+              import java.util.Map;
+              import java.util.Set;
+
+              class Test {
+                  void add(Map<String, Set<String>> graph, String from, String to) {
+                      Set<String> edges = graph.computeIfAbsent(from, key -> new HashSet<>());
+                      edges.add(to);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void putIfMissingAlone() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.ConcurrentHashMap;
+              import java.util.concurrent.atomic.AtomicLong;
+
+              class Test {
+                  void register(ConcurrentHashMap<String, AtomicLong> counters, String key) {
+                      if (!counters.containsKey(key))
+                          counters.put(key, new AtomicLong());
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.ConcurrentHashMap;
+              import java.util.concurrent.atomic.AtomicLong;
+
+              class Test {
+                  void register(ConcurrentHashMap<String, AtomicLong> counters, String key) {
+                      counters.computeIfAbsent(key, key1 -> new AtomicLong());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForValueThatIsNotCreated() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+              import java.util.Map;
+
+              class Test {
+                  void add(Map<String, List<Integer>> index, String word, List<Integer> lines) {
+                      if (!index.containsKey(word)) {
+                          index.put(word, lines);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForKeyWithSideEffects() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.ArrayList;
+              import java.util.Iterator;
+              import java.util.List;
+              import java.util.Map;
+
+              class Test {
+                  void add(Map<String, List<Integer>> index, Iterator<String> words) {
+                      if (!index.containsKey(words.next())) {
+                          index.put(words.next(), new ArrayList<>());
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
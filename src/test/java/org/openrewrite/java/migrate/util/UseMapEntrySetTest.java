@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseMapEntrySetTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseMapEntrySet());
+    }
+
+    @DocumentExample
+    @Test
+    void keySetWithGet() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  long total(Map<String, Integer> stock) {
+                      long total = 0;
+                      for (String item : stock.keySet()) {
+                          if (!item.isEmpty()) {
+                              total += stock.get(item);
+                          }
+                      }
+                      return total;
+                  }
+              }
+              """,
+            """
+              import java.util.Map;
+
+              class Test {
+                  long total(Map<String, Integer> stock) {
+                      long total = 0;
+                      for (Map.Entry<String, Integer> entry : stock.entrySet()) {
+                          if (!entry.getKey().isEmpty()) {
+                              total += entry.getValue();
+                          }
+                      }
+                      return total;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void singleCallBecomesForEach() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+              import java.util.TreeMap;
+
+              class Test {
+                  void print(TreeMap<String, Integer> stock) {
+                      for (String item : stock.keySet()) {
+                          System.out.println(item + ": " + stock.get(item));
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.Map;
+              import java.util.TreeMap;
+
+              class Test {
+                  void print(TreeMap<String, Integer> stock) {
+                      stock.forEach((item, value) -> System.out.println(item + ": " + value));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reverseLookup() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+              import java.util.Map;
+
+              class Test {
+                  String owner(Map<String, List<String>> owners, String file) {
+                      for (String name : owners.keySet()) {
+                          if (owners.get(name).contains(file)) {
+                              return name;
+                          }
+                      }
+                      return null;
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+              import java.util.Map;
+
+              class Test {
+                  String owner(Map<String, List<String>> owners, String file) {
+                      for (Map.Entry<String, List<String>> entry : owners.entrySet()) {
+                          if (entry.getValue().contains(file)) {
+                              return entry.getKey();
+                          }
+                      }
+                      return null;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void entrySetWhenLocalIsReassigned() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  void print(Map<String, Integer> stock, String prefix) {
+                      prefix = prefix.trim();
+                      for (String item : stock.keySet()) {
+                          System.out.println(prefix + item + stock.get(item));
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.Map;
+
+              class Test {
+                  void print(Map<String, Integer> stock, String prefix) {
+                      prefix = prefix.trim();
+                      for (Map.Entry<String, Integer> entry : stock.entrySet()) {
+                          System.out.println(prefix + entry.getKey() + entry.getValue());
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenMapIsUpdated() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  void restock(Map<String, Integer> stock) {
+                      for (String item : stock.keySet()) {
+                          if (stock.get(item) < 10) {
+                              stock.put(item, 100);
+                          }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWithoutGet() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  void print(Map<String, Integer> stock) {
+                      for (String item : stock.keySet()) {
+                          System.out.println(item);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
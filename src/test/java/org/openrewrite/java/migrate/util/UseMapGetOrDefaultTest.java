@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseMapGetOrDefaultTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseMapGetOrDefault());
+    }
+
+    @DocumentExample
+    @Test
+    void containsKeyThenGet() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  String label(Map<String, String> labels, String key) {
+                      return labels.containsKey(key) ? labels.get(key) : "unknown";
+                  }
+              }
+              """,
+            """
+              import java.util.Map;
+
+              class Test {
+                  String label(Map<String, String> labels, String key) {
+                      return labels.getOrDefault(key, "unknown");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void negatedCondition() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  int limit(Map<String, Integer> limits, String user, int fallback) {
+                      return !limits.containsKey(user) ? fallback : limits.get(user);
+                  }
+              }
+              """,
+            """
+              import java.util.Map;
+
+              class Test {
+                  int limit(Map<String, Integer> limits, String user, int fallback) {
+                      return limits.getOrDefault(user, fallback);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void nullDefaultIsGet() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  String label(Map<String, String> labels, String key) {
+                      return labels.containsKey(key) ? labels.get(key) : null;
+                  }
+              }
+              """,
+            """
+              import java.util.Map;
+
+              class Test {
+                  String label(Map<String, String> labels, String key) {
+                      return labels.get(key);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForComputedDefault() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  String label(Map<String, String> labels, String key) {
+                      return labels.containsKey(key) ? labels.get(key) : key.toUpperCase();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForWideningDefault() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  long limit(Map<String, Integer> limits, String user, long fallback) {
+                      return limits.containsKey(user) ? limits.get(user) : fallback;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
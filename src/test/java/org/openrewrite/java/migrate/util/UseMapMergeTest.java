@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseMapMergeTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseMapMerge());
+    }
+
+    @DocumentExample
+    @Test
+    void countWithGetOrDefault() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  void count(Map<String, Integer> counts, String word) {
+                      counts.put(word, counts.getOrDefault(word, 0) + 1);
+                  }
+              }
+              """,
+            """
+              import java.util.Map;
+
+              class Test {
+                  void count(Map<String, Integer> counts, String word) {
+                      counts.merge(word, 1, Integer::sum);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void longTotal() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.ConcurrentHashMap;
+
+              class Test {
+                  void add(ConcurrentHashMap<String, Long> totals, String account, long amount) {
+                      totals.put(account, totals.getOrDefault(account, 0L) + amount);
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.ConcurrentHashMap;
+
+              class Test {
+                  void add(ConcurrentHashMap<String, Long> totals, String account, long amount) {
+                      totals.merge(account, amount, Long::sum);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenResultIsUsed() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  Integer count(Map<String, Integer> counts, String word) {
+                      return counts.put(word, counts.getOrDefault(word, 0) + 1);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForNonZeroDefault() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  void count(Map<String, Integer> counts, String word) {
+                      counts.put(word, counts.getOrDefault(word, 1) + 1);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForDifferentKey() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Map;
+
+              class Test {
+                  void move(Map<String, Integer> counts, String from, String to) {
+                      counts.put(to, counts.getOrDefault(from, 0) + 1);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UsePrimitiveStreamsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UsePrimitiveStreams());
+    }
+
+    @DocumentExample
+    @Test
+    void reduceToSum() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Invoice {
+                  record Line(long amount) {
+                  }
+
+                  long total(List<Line> lines) {
+                      return lines.stream().map(x -> x.amount()).reduce(0L, Long::sum);
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+
+              class Invoice {
+                  record Line(long amount) {
+                  }
+
+                  long total(List<Line> lines) {
+                      return lines.stream().mapToLong(x -> x.amount()).sum();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void collectors() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.IntSummaryStatistics;
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class Stats {
+                  int sum(List<String> words) {
+                      return words.stream().collect(Collectors.summingInt(String::length));
+                  }
+
+                  double average(List<String> words) {
+                      return words.stream().collect(Collectors.averagingInt(String::length));
+                  }
+
+                  IntSummaryStatistics statistics(List<String> words) {
+                      return words.stream().collect(Collectors.summarizingInt(String::length));
+                  }
+              }
+              """,
+            """
+              import java.util.IntSummaryStatistics;
+              import java.util.List;
+
+              class Stats {
+                  int sum(List<String> words) {
+                      return words.stream().mapToInt(String::length).sum();
+                  }
+
+                  double average(List<String> words) {
+                      return words.stream().mapToInt(String::length).average().orElse(0);
+                  }
+
+                  IntSummaryStatistics statistics(List<String> words) {
+                      return words.stream().mapToInt(String::length).summaryStatistics();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void maxOfBoxedStream() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Scores {
+                  int best(List<Integer> scores) {
+                      int best = scores.stream().max(Integer::compare).get();
+                      return best;
+                  }
+
+                  int worst(List<Integer> scores) {
+                      return scores.stream().min(Integer::compareTo).orElse(0);
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+
+              class Scores {
+                  int best(List<Integer> scores) {
+                      int best = scores.stream().mapToInt(Integer::intValue).max().getAsInt();
+                      return best;
+                  }
+
+                  int worst(List<Integer> scores) {
+                      return scores.stream().mapToInt(Integer::intValue).min().orElse(0);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void boxedResultEscapes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Scores {
+                  boolean remove(List<Integer> scores, List<Integer> deltas) {
+                      return scores.remove(deltas.stream().reduce(0, Integer::sum));
+                  }
+
+                  String describe(List<Integer> scores) {
+                      return scores.stream().reduce(0, Integer::sum).toString();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void comparedToWrapperOrConcatenated() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Scores {
+                  boolean sameTotal(List<Integer> scores, Integer expected) {
+                      return scores.stream().reduce(0, Integer::sum) == expected;
+                  }
+
+                  String describe(List<Integer> scores) {
+                      return "Total: " + scores.stream().reduce(0, Integer::sum);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void doubleSum() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Prices {
+                  double total(List<Double> prices) {
+                      return prices.stream().reduce(0.0, Double::sum);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
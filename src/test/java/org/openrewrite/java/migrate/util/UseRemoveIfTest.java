@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.migrate.util;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseRemoveIfTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseRemoveIf());
+    }
+
+    @DocumentExample
+    @Test
+    void iteratorRemove() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Iterator;
+              import java.util.List;
+
+              class Batch {
+                  void dropBlank(List<String> lines) {
+                      Iterator<String> it = lines.iterator();
+                      while (it.hasNext()) {
+                          String line = it.next();
+                          if (line.isBlank()) {
+                              it.remove();
+                          }
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+
+              class Batch {
+                  void dropBlank(List<String> lines) {
+                      lines.removeIf(line -> line.isBlank());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void entrySetInForLoop() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Iterator;
+              import java.util.Map;
+
+              class Cache {
+                  void evict(Map<String, Long> expiries, long now) {
+                      for (Iterator<Map.Entry<String, Long>> it = expiries.entrySet().iterator(); it.hasNext(); ) {
+                          Map.Entry<String, Long> entry = it.next();
+                          if (entry.getValue() < now) {
+                              it.remove();
+                          }
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.Map;
+
+              class Cache {
+                  void evict(Map<String, Long> expiries, long now) {
+                      expiries.entrySet().removeIf(entry -> entry.getValue() < now);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void backwardsIndexLoop() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Batch {
+                  void dropNegative(List<Integer> values) {
+                      for (int i = values.size() - 1; i >= 0; i--) {
+                          if (values.get(i) < 0) {
+                              values.remove(i);
+                          }
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+
+              class Batch {
+                  void dropNegative(List<Integer> values) {
+                      values.removeIf(item -> item < 0);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void forwardsIndexLoopWithDecrement() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Batch {
+                  void dropEmpty(List<String> lines) {
+                      for (int i = 0; i < lines.size(); i++) {
+                          String line = lines.get(i);
+                          if (line.isEmpty()) {
+                              lines.remove(i--);
+                          }
+                      }
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+
+              class Batch {
+                  void dropEmpty(List<String> lines) {
+                      lines.removeIf(line -> line.isEmpty());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void forwardsIndexLoopSkipsElements() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.List;
+
+              class Batch {
+                  void dropEmpty(List<String> lines) {
+                      for (int i = 0; i < lines.size(); i++) {
+                          if (lines.get(i).isEmpty()) {
+                              lines.remove(i);
+                          }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void conditionWithSideEffects() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Iterator;
+              import java.util.List;
+
+              class Batch {
+                  void moveBlank(List<String> lines, List<String> blank) {
+                      Iterator<String> it = lines.iterator();
+                      while (it.hasNext()) {
+                          String line = it.next();
+                          if (line.isBlank() && blank.add(line)) {
+                              it.remove();
+                          }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void conditionReadsCollection() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Iterator;
+              import java.util.List;
+
+              class Batch {
+                  void dropDuplicates(List<String> lines) {
+                      Iterator<String> it = lines.iterator();
+                      while (it.hasNext()) {
+                          String line = it.next();
+                          if (lines.indexOf(line) != lines.lastIndexOf(line)) {
+                              it.remove();
+                          }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void iteratorUsedAfterLoop() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Iterator;
+              import java.util.List;
+
+              class Batch {
+                  boolean dropBlank(List<String> lines) {
+                      Iterator<String> it = lines.iterator();
+                      while (it.hasNext()) {
+                          String line = it.next();
+                          if (line.isBlank()) {
+                              it.remove();
+                          }
+                      }
+                      return it.hasNext();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void capturedVariableIsReassigned() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Iterator;
+              import java.util.List;
+
+              class Batch {
+                  void dropShort(List<String> lines, int min) {
+                      min = Math.max(min, 1);
+                      Iterator<String> it = lines.iterator();
+                      while (it.hasNext()) {
+                          String line = it.next();
+                          if (line.length() < min) {
+                              it.remove();
+                          }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}